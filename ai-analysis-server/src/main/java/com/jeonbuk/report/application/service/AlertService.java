@@ -1,7 +1,7 @@
 package com.jeonbuk.report.application.service;
 
-import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
 import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterDto;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterStreamingClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -27,7 +28,10 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class AlertService {
 
-    private final OpenRouterApiClient openRouterApiClient;
+    // 우선순위 결정에 사용하는 AI 응답 필드 (도착하면 나머지 생성은 기다리지 않음)
+    private static final Set<String> AI_ANALYSIS_FIELDS = Set.of("urgency_score");
+
+    private final OpenRouterStreamingClient openRouterStreamingClient;
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     /**
@@ -94,26 +98,33 @@ public class AlertService {
     }
 
     /**
-     * AI 분석으로 결과 개선 (비동기, 무거운 작업)
+     * AI 분석으로 결과 개선 (비동기, 논블로킹 스트리밍)
+     * 필요한 필드가 도착하면 응답 생성 완료를 기다리지 않고 바로 반영합니다.
      */
     private CompletableFuture<AlertAnalysisResult> enhanceWithAiAnalysis(AlertAnalysisResult result) {
         log.debug("🤖 AI 분석 강화 시작");
 
-        if (!openRouterApiClient.isApiAvailable()) {
+        if (!openRouterStreamingClient.isAvailable()) {
             log.warn("⚠️ OpenRouter API 사용 불가 - 기본 분석 결과 사용");
             result.setAiAnalysisAvailable(false);
             return CompletableFuture.completedFuture(result);
         }
 
-        String systemPrompt = createAlertAnalysisPrompt();
-        String userPrompt = createUserPromptForAlert(result.getOriginalRequest());
+        List<OpenRouterDto.Message> messages = List.of(
+                OpenRouterDto.Message.system(createAlertAnalysisPrompt()),
+                OpenRouterDto.Message.user(createUserPromptForAlert(result.getOriginalRequest())));
 
-        return openRouterApiClient
-                .chatCompletionAsync(systemPrompt, userPrompt)
-                .thenApply(aiResponse -> {
+        return openRouterStreamingClient
+                .streamJsonFields(messages, AI_ANALYSIS_FIELDS)
+                .toFuture()
+                .thenApply(streamed -> {
                     try {
-                        // AI 응답 파싱 및 결과 업데이트
-                        parseAiAnalysisResponse(result, aiResponse);
+                        // AI 응답 파싱 및 결과 업데이트 (JSON을 읽지 못한 경우 원문 기반 분석)
+                        if (streamed.fields().get("urgency_score") instanceof Number urgencyScore) {
+                            result.setUrgencyScore(urgencyScore.doubleValue());
+                        } else {
+                            parseAiAnalysisResponse(result, streamed.rawText());
+                        }
                         result.setAiAnalysisAvailable(true);
                         log.debug("✅ AI 분석 완료 - 향상된 긴급도: {}", result.getUrgencyScore());
                     } catch (Exception e) {
@@ -0,0 +1,150 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.dto.kafka.AnalysisRequestMessage;
+import com.jeonbuk.report.dto.kafka.AnalysisResultMessage;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine.BatchResult;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
+import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Kafka로 수신한 AI 분석 요청 배치 처리
+ *
+ * - IMAGE: Roboflow 모델별로 묶어 배치 추론 엔진에서 실행 (엔진의 동시성·속도 제한 공유)
+ * - TEXT: OpenRouter 텍스트 분석을 동시에 실행
+ * - 항목별 실패는 success=false 결과로 변환하여 배치 전체가 실패하지 않도록 함
+ *
+ * 결과는 입력 순서대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class AnalysisBatchProcessor {
+
+    private final RoboflowApiClient roboflowApiClient;
+    private final OpenRouterApiClient openRouterApiClient;
+    private final BatchInferenceEngine batchEngine;
+    private final String defaultModelId;
+
+    public AnalysisBatchProcessor(
+            RoboflowApiClient roboflowApiClient,
+            OpenRouterApiClient openRouterApiClient,
+            @Qualifier("roboflowBatchEngine") BatchInferenceEngine batchEngine,
+            @Value("${app.kafka.consumer.default-model-id:jeonbuk-reports/1}") String defaultModelId) {
+        this.roboflowApiClient = roboflowApiClient;
+        this.openRouterApiClient = openRouterApiClient;
+        this.batchEngine = batchEngine;
+        this.defaultModelId = defaultModelId;
+    }
+
+    /**
+     * 요청 배치 처리 (모든 항목이 끝날 때까지 대기)
+     *
+     * @return 입력과 같은 순서의 결과 목록
+     */
+    public List<AnalysisResultMessage> process(List<AnalysisRequestMessage> requests) {
+        AnalysisResultMessage[] results = new AnalysisResultMessage[requests.size()];
+        Map<String, List<Integer>> imageGroups = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            AnalysisRequestMessage request = requests.get(i);
+            if (request.isImageRequest() && request.getImageData() != null) {
+                imageGroups.computeIfAbsent(resolveModelId(request), model -> new ArrayList<>()).add(i);
+            } else if (request.isTextRequest() && request.getText() != null) {
+                int index = i;
+                pending.add(analyzeText(request).thenAccept(result -> results[index] = result));
+            } else {
+                results[i] = failure(request, null, "지원하지 않거나 분석 대상이 없는 요청입니다", System.nanoTime());
+            }
+        }
+
+        imageGroups.forEach((modelId, indexes) -> {
+            List<AnalysisRequestMessage> group = indexes.stream().map(requests::get).toList();
+            pending.add(batchEngine.submitAsync(group,
+                        request -> analyzeImage(request, modelId),
+                        (request, error) -> failure(request, modelId, rootMessage(error), System.nanoTime()),
+                        null)
+                    .thenAccept(batch -> store(batch, indexes, results)));
+            log.debug("🧩 모델별 이미지 그룹 - {}: {}건", modelId, group.size());
+        });
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 엔진 작업 스레드에서 join()으로 기다리지 않도록 API 클라이언트의 비동기 결과를 그대로 조합
+     */
+    private CompletableFuture<AnalysisResultMessage> analyzeImage(AnalysisRequestMessage request, String modelId) {
+        long start = System.nanoTime();
+        return roboflowApiClient.analyzeImageAsync(request.getImageData(), modelId)
+                .thenApply(analysis -> analysis.isSuccess()
+                        ? baseResult(request, modelId, start).success(true).result(analysis).build()
+                        : failure(request, modelId, analysis.getErrorMessage(), start));
+    }
+
+    private CompletableFuture<AnalysisResultMessage> analyzeText(AnalysisRequestMessage request) {
+        long start = System.nanoTime();
+        CompletableFuture<String> analysis;
+        try {
+            analysis = openRouterApiClient.analyzeTextAsync(request.getText());
+        } catch (RuntimeException e) {
+            analysis = CompletableFuture.failedFuture(e);
+        }
+        return analysis.handle((text, error) -> error != null
+                ? failure(request, null, rootMessage(error), start)
+                : baseResult(request, null, start).success(true).result(text).build());
+    }
+
+    private String resolveModelId(AnalysisRequestMessage request) {
+        String modelId = request.getModelId();
+        return modelId == null || modelId.isBlank() ? defaultModelId : modelId;
+    }
+
+    private static void store(BatchResult<AnalysisResultMessage> batch, List<Integer> indexes,
+                              AnalysisResultMessage[] results) {
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = batch.results().get(i);
+        }
+    }
+
+    private static AnalysisResultMessage failure(AnalysisRequestMessage request, String modelId,
+                                                 String errorMessage, long startNanos) {
+        return baseResult(request, modelId, startNanos)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    private static AnalysisResultMessage.AnalysisResultMessageBuilder baseResult(
+            AnalysisRequestMessage request, String modelId, long startNanos) {
+        return AnalysisResultMessage.builder()
+                .requestId(request.getRequestId())
+                .reportId(request.getReportId())
+                .analysisType(request.getAnalysisType())
+                .modelId(modelId)
+                .processedAt(Instant.now().toString())
+                .processingTimeMs((System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
@@ -1,6 +1,7 @@
 package com.jeonbuk.report.application.service;
 
-import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterDto;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterStreamingClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -13,6 +14,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import javax.imageio.ImageIO;
@@ -31,7 +33,10 @@ import javax.imageio.ImageIO;
 @RequiredArgsConstructor
 public class ImageAnalysisService {
 
-    private final OpenRouterApiClient openRouterApiClient;
+    // 심각도가 도착하면 나머지 생성(설명문 등)은 기다리지 않음
+    private static final Set<String> AI_ANALYSIS_FIELDS = Set.of("severity_level");
+
+    private final OpenRouterStreamingClient openRouterStreamingClient;
     private final Executor imageProcessingExecutor;
     private final Executor heavyTaskExecutor;
 
@@ -199,12 +204,12 @@ public class ImageAnalysisService {
     }
 
     /**
-     * AI 분석 수행 (비동기, I/O 집약적)
+     * AI 분석 수행 (비동기, 논블로킹 스트리밍)
      */
     private CompletableFuture<ImageAnalysisResult> performAiAnalysisAsync(ImageAnalysisResult result) {
         log.debug("🤖 AI 분석 시작 - {}", result.getFileName());
 
-        if (!openRouterApiClient.isApiAvailable()) {
+        if (!openRouterStreamingClient.isAvailable()) {
             log.warn("⚠️ AI API 사용 불가 - 기본 분석만 수행");
             result.setAiAnalysisAvailable(false);
             return CompletableFuture.completedFuture(result);
@@ -212,11 +217,18 @@ public class ImageAnalysisService {
 
         String analysisPrompt = createImageAnalysisPrompt(result);
 
-        return openRouterApiClient
-                .chatCompletionAsync(analysisPrompt)
-                .thenApply(aiResponse -> {
+        return openRouterStreamingClient
+                .streamJsonFields(List.of(OpenRouterDto.Message.user(analysisPrompt)), AI_ANALYSIS_FIELDS)
+                .toFuture()
+                .thenApply(streamed -> {
                     try {
-                        parseAiAnalysisResponse(result, aiResponse);
+                        // JSON을 읽지 못한 경우 원문 기반 키워드 분석
+                        if (streamed.fields().get("severity_level") instanceof String severityLevel) {
+                            result.setSeverityLevel(severityLevel.toUpperCase());
+                            result.setAiAnalysisText(streamed.rawText());
+                        } else {
+                            parseAiAnalysisResponse(result, streamed.rawText());
+                        }
                         result.setAiAnalysisAvailable(true);
                         log.debug("✅ AI 분석 완료 - {}", result.getFileName());
                     } catch (Exception e) {
@@ -2,6 +2,9 @@ package com.jeonbuk.report.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
@@ -14,14 +17,15 @@ import org.springframework.web.client.RestTemplate;
 public class RestClientConfig {
     
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(CloseableHttpClient pooledHttpClient) {
         RestTemplate restTemplate = new RestTemplate();
         
-        // Configure timeout settings
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(30000); // 30 seconds
-        factory.setConnectionRequestTimeout(30000); // 30 seconds
+        // Shared keep-alive connection pool; timeouts are configured in HttpClientConfig (app.http-client.*)
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
         
+        // Request bodies are streamed straight to the connection (chunked when the
+        // length is unknown). Do not wrap this factory with BufferingClientHttpRequestFactory
+        // or add interceptors, which would copy multipart uploads into memory.
         restTemplate.setRequestFactory(factory);
         return restTemplate;
     }
@@ -30,6 +34,9 @@ public class RestClientConfig {
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        // java.time types (LocalDateTime in responses, Instant in analysis jobs) as ISO-8601 strings
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
 }
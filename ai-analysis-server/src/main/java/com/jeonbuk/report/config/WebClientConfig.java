@@ -0,0 +1,65 @@
+package com.jeonbuk.report.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 WebClient 설정
+ *
+ * OpenRouter 스트리밍 호출은 응답 생성 내내 스레드를 점유하지 않도록 Reactor Netty를 사용합니다.
+ * - 연결 풀: keep-alive 연결 재사용, 유휴/수명 초과 연결은 백그라운드에서 정리
+ * - 프로토콜: 상류가 지원하면 HTTP/2 (하나의 연결에서 여러 스트림 다중화)
+ * - 대기 상한: 풀이 가득 차면 pendingAcquireMaxCount까지만 대기 후 실패
+ * - 읽기 타임아웃: 토큰 간 간격 기준 (전체 생성 시간이 아님)
+ */
+@Slf4j
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openRouterConnectionProvider(
+            @Value("${app.openrouter.stream.max-connections:100}") int maxConnections,
+            @Value("${app.openrouter.stream.pending-acquire-max:500}") int pendingAcquireMax,
+            @Value("${app.openrouter.stream.pending-acquire-timeout:PT10S}") Duration pendingAcquireTimeout,
+            @Value("${app.openrouter.stream.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${app.openrouter.stream.max-life-time:PT5M}") Duration maxLifeTime) {
+        log.info("🔗 OpenRouter 연결 풀 초기화 - 최대 연결: {}, 대기 상한: {}", maxConnections, pendingAcquireMax);
+        return ConnectionProvider.builder("openrouter")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public WebClient openRouterWebClient(
+            ConnectionProvider openRouterConnectionProvider,
+            @Value("${app.openrouter.api.base-url:https://openrouter.ai/api/v1}") String baseUrl,
+            @Value("${app.openrouter.stream.connect-timeout:PT10S}") Duration connectTimeout,
+            @Value("${app.openrouter.stream.read-timeout:PT30S}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(openRouterConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                // TLS ALPN으로 HTTP/2를 협상하고, 지원하지 않으면 HTTP/1.1 keep-alive 사용
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .keepAlive(true);
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.jeonbuk.report.dto.kafka;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 분석 요청 메시지 (ai-analysis-events 토픽)
+ *
+ * main-api-server의 KafkaProducerService.sendAiAnalysisRequest가 발행하는 형식이며,
+ * 같은 토픽의 결과 이벤트 등 analysisType이 없는 메시지는 요청이 아니므로 건너뜁니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AnalysisRequestMessage {
+
+    public static final String TYPE_IMAGE = "IMAGE";
+    public static final String TYPE_TEXT = "TEXT";
+
+    /**
+     * 요청 ID (결과 메시지와 연결)
+     */
+    private String requestId;
+
+    /**
+     * 신고 ID (메시지 키, 같은 신고의 요청은 같은 파티션에서 순서대로 처리)
+     */
+    private String reportId;
+
+    /**
+     * 분석 유형 (IMAGE | TEXT)
+     */
+    private String analysisType;
+
+    /**
+     * Roboflow 모델 ID (없으면 기본 모델)
+     */
+    private String modelId;
+
+    /**
+     * 분석할 이미지 (URL 또는 base64)
+     */
+    @JsonAlias({"image", "imageUrl"})
+    private String imageData;
+
+    /**
+     * 분석할 텍스트
+     */
+    @JsonAlias({"description", "content"})
+    private String text;
+
+    public boolean isImageRequest() {
+        return TYPE_IMAGE.equalsIgnoreCase(analysisType);
+    }
+
+    public boolean isTextRequest() {
+        return TYPE_TEXT.equalsIgnoreCase(analysisType);
+    }
+}
@@ -0,0 +1,48 @@
+package com.jeonbuk.report.dto.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 분석 결과 메시지 (analysis_results 토픽)
+ * 실패한 항목도 success=false로 발행하여 요청 측이 결과를 기다리지 않도록 합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AnalysisResultMessage {
+
+    private String requestId;
+
+    private String reportId;
+
+    private String analysisType;
+
+    /**
+     * 이미지 분석에 사용한 Roboflow 모델 ID
+     */
+    private String modelId;
+
+    private boolean success;
+
+    /**
+     * 분석 결과 (IMAGE: Roboflow 검출 결과, TEXT: 모델 응답 원문)
+     */
+    private Object result;
+
+    private String errorMessage;
+
+    /**
+     * 처리 완료 시각 (ISO-8601)
+     */
+    private String processedAt;
+
+    private long processingTimeMs;
+}
@@ -0,0 +1,290 @@
+package com.jeonbuk.report.infrastructure.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 동시성·속도 제한 배치 추론 엔진
+ *
+ * 블로킹 외부 추론 호출을 전용 스레드 풀에서 실행합니다.
+ * 이미 비동기인 작업(submitAsync)은 풀을 거치지 않고 동시성·속도 제한만 적용합니다.
+ * - 동시 실행 수 제한: 엔진 전체에서 공유되는 세마포어 (여러 배치가 동시에 들어와도 상한 유지)
+ * - 속도 제한: 토큰 버킷으로 외부 API 쿼터에 맞춤
+ * - 백프레셔: 허가와 토큰은 작업 제출 전 디스패치 스레드가 획득하므로 작업 스레드는 대기하지 않음
+ * - 결과 순서: 입력 인덱스 위치에 저장하여 입력 순서 그대로 반환
+ * - 스트리밍: 각 항목이 끝나는 즉시 BatchListener로 전달 (리스너가 반환할 때까지 허가를 유지하므로
+ *   느린 리스너는 거부·실패 대신 다음 항목 디스패치를 늦춤)
+ *
+ * 메트릭:
+ * - batch.inference.item.duration: 항목별 지연 시간 (p50/p95)
+ * - batch.inference.batch.duration: 배치 전체 소요 시간
+ * - batch.inference.throughput: 배치별 처리량 (items/s)
+ * - batch.inference.in_flight: 현재 실행 중인 항목 수
+ */
+@Slf4j
+public class BatchInferenceEngine {
+
+    private final String name;
+    private final Executor executor;
+    private final Semaphore concurrencyLimit;
+    private final int maxConcurrency;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    private final Timer itemTimer;
+    private final Timer batchTimer;
+    private final DistributionSummary throughputSummary;
+
+    public BatchInferenceEngine(String name, Executor executor, int maxConcurrency,
+                                TokenBucketRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.concurrencyLimit = new Semaphore(maxConcurrency, true);
+        this.rateLimiter = rateLimiter;
+
+        this.itemTimer = Timer.builder("batch.inference.item.duration")
+            .tag("engine", name)
+            .publishPercentiles(0.5, 0.95)
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("batch.inference.batch.duration")
+            .tag("engine", name)
+            .register(meterRegistry);
+        this.throughputSummary = DistributionSummary.builder("batch.inference.throughput")
+            .tag("engine", name)
+            .baseUnit("items/s")
+            .register(meterRegistry);
+        Gauge.builder("batch.inference.in_flight", this, BatchInferenceEngine::inFlight)
+            .tag("engine", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 배치 실행 (완료까지 호출 스레드에서 디스패치하며 대기)
+     *
+     * @param inputs   입력 목록
+     * @param task     항목별 추론 작업 (전용 풀에서 실행)
+     * @param fallback 작업 예외 시 대체 결과 생성
+     * @param listener 항목 완료 시 호출 (완료 순서), null 가능
+     */
+    public <T, R> BatchResult<R> execute(List<T> inputs, Function<T, R> task,
+                                         BiFunction<T, Throwable, R> fallback, BatchListener<R> listener) {
+        return dispatch(inputs, input -> CompletableFuture.supplyAsync(() -> task.apply(input), executor),
+            fallback, listener);
+    }
+
+    /**
+     * 배치 비동기 실행
+     * 디스패치 대기는 가상 스레드에서 수행하여 요청 스레드나 공용 풀을 점유하지 않음
+     */
+    public <T, R> CompletableFuture<BatchResult<R>> submit(List<T> inputs, Function<T, R> task,
+                                                            BiFunction<T, Throwable, R> fallback,
+                                                            BatchListener<R> listener) {
+        return startDispatcher(() -> execute(inputs, task, fallback, listener));
+    }
+
+    /**
+     * 이미 비동기인 항목 작업(예: 자체 I/O 실행자를 쓰는 API 클라이언트)의 배치 비동기 실행
+     * 엔진은 동시성·속도 제한만 적용하고 작업을 전용 풀로 옮기지 않으므로,
+     * 작업 스레드가 다른 실행자의 결과를 join()으로 기다리며 슬롯을 점유하지 않음
+     *
+     * @param task 항목별 비동기 작업 (디스패치 스레드에서 시작만 하고 완료 시 허가 반환)
+     */
+    public <T, R> CompletableFuture<BatchResult<R>> submitAsync(List<T> inputs,
+                                                                 Function<T, CompletableFuture<R>> task,
+                                                                 BiFunction<T, Throwable, R> fallback,
+                                                                 BatchListener<R> listener) {
+        return startDispatcher(() -> dispatch(inputs, task, fallback, listener));
+    }
+
+    public int inFlight() {
+        return maxConcurrency - concurrencyLimit.availablePermits();
+    }
+
+    private <R> CompletableFuture<BatchResult<R>> startDispatcher(Supplier<BatchResult<R>> batch) {
+        CompletableFuture<BatchResult<R>> future = new CompletableFuture<>();
+        Thread.ofVirtual().name("batch-dispatch-" + name).start(() -> {
+            try {
+                future.complete(batch.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 허가와 토큰을 획득하며 항목을 시작하고 모든 항목이 끝날 때까지 대기
+     */
+    private <T, R> BatchResult<R> dispatch(List<T> inputs, Function<T, CompletableFuture<R>> task,
+                                           BiFunction<T, Throwable, R> fallback, BatchListener<R> listener) {
+        int size = inputs.size();
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(size);
+        long[] latencies = new long[size];
+        CountDownLatch completed = new CountDownLatch(size);
+        long startNanos = System.nanoTime();
+
+        int dispatched = 0;
+        try {
+            for (; dispatched < size; dispatched++) {
+                concurrencyLimit.acquire();
+                try {
+                    rateLimiter.acquire();
+                } catch (InterruptedException e) {
+                    concurrencyLimit.release();
+                    throw e;
+                }
+
+                int index = dispatched;
+                T input = inputs.get(index);
+                long itemStart = System.nanoTime();
+                CompletableFuture<R> item;
+                try {
+                    item = task.apply(input);
+                } catch (RuntimeException e) {
+                    // RejectedExecutionException 포함: 실패 결과로 처리
+                    item = CompletableFuture.failedFuture(e);
+                }
+                item.whenComplete((result, error) -> finishItem(index, input, result, error, itemStart,
+                    fallback, listener, results, latencies, completed));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("⚠️ 배치 디스패치 중단 - {}: {}/{} 항목 미실행", name, size - dispatched, size);
+            for (int index = dispatched; index < size; index++) {
+                complete(index, fallback.apply(inputs.get(index), e), 0L, false, listener,
+                    results, latencies, completed);
+            }
+        }
+
+        awaitUninterruptibly(completed);
+
+        BatchStats stats = buildStats(size, System.nanoTime() - startNanos, latencies);
+        batchTimer.record(stats.elapsedMillis(), TimeUnit.MILLISECONDS);
+        throughputSummary.record(stats.throughputPerSecond());
+
+        log.info("📊 배치 추론 완료 - {}: {}개, {}ms, p50 {}ms, p95 {}ms, {} items/s",
+            name, size, stats.elapsedMillis(), stats.p50Millis(), stats.p95Millis(),
+            String.format("%.2f", stats.throughputPerSecond()));
+
+        Object[] ordered = new Object[size];
+        for (int i = 0; i < size; i++) {
+            ordered[i] = results.get(i);
+        }
+        @SuppressWarnings("unchecked")
+        List<R> orderedResults = (List<R>) Arrays.asList(ordered);
+        return new BatchResult<>(orderedResults, stats);
+    }
+
+    private <T, R> void finishItem(int index, T input, R result, Throwable error, long itemStart,
+                                   BiFunction<T, Throwable, R> fallback, BatchListener<R> listener,
+                                   AtomicReferenceArray<R> results, long[] latencies, CountDownLatch completed) {
+        R value = error == null ? result : fallback.apply(input, unwrap(error));
+        long latency = System.nanoTime() - itemStart;
+        itemTimer.record(latency, TimeUnit.NANOSECONDS);
+        complete(index, value, latency, true, listener, results, latencies, completed);
+    }
+
+    /**
+     * @param releasePermit 리스너가 끝난 뒤 허가 반환 여부. 먼저 반환하면 느린 리스너(예: SSE 클라이언트)가
+     *                      작업 스레드를 붙잡은 사이 다음 항목이 제출되어 풀 큐가 넘치고 거부된 항목이 실패로 처리됨
+     */
+    private <R> void complete(int index, R result, long latencyNanos, boolean releasePermit,
+                              BatchListener<R> listener, AtomicReferenceArray<R> results, long[] latencies,
+                              CountDownLatch completed) {
+        results.set(index, result);
+        latencies[index] = latencyNanos;
+        try {
+            if (listener != null) {
+                listener.onResult(index, result);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 배치 결과 리스너 오류 - {} [{}]: {}", name, index, e.getMessage());
+        } finally {
+            if (releasePermit) {
+                concurrencyLimit.release();
+            }
+            completed.countDown();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static BatchStats buildStats(int size, long elapsedNanos, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        double throughput = elapsedNanos > 0 ? size / (elapsedNanos / 1_000_000_000.0) : 0.0;
+        return new BatchStats(size, elapsedMillis,
+            TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.5)),
+            TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.95)),
+            throughput);
+    }
+
+    /**
+     * 최근접 순위 백분위수
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 항목 완료 콜백 (완료 순서대로 호출, 여러 스레드에서 호출될 수 있음)
+     */
+    @FunctionalInterface
+    public interface BatchListener<R> {
+        void onResult(int index, R result);
+    }
+
+    /**
+     * 배치 결과
+     *
+     * @param results 입력 순서와 동일한 결과 목록
+     * @param stats   배치 통계
+     */
+    public record BatchResult<R>(List<R> results, BatchStats stats) {
+    }
+
+    /**
+     * 배치 통계
+     */
+    public record BatchStats(int total, long elapsedMillis, long p50Millis, long p95Millis,
+                             double throughputPerSecond) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.jeonbuk.report.infrastructure.batch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 속도 제한기
+ * 
+ * 초당 permitsPerSecond 개의 토큰이 채워지며 최대 burst 개까지 모아둘 수 있습니다.
+ * 외부 API 쿼터(예: Roboflow 초당 요청 수)에 맞춰 호출 속도를 제한하는 데 사용합니다.
+ * 토큰이 부족하면 호출 스레드가 다음 토큰이 채워질 때까지 대기합니다.
+ */
+public class TokenBucketRateLimiter {
+    
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+    
+    private double availableTokens;
+    private long lastRefillNanos;
+    
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+    
+    /**
+     * 시계 주입 (테스트용)
+     */
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.availableTokens = this.burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+    
+    /**
+     * 토큰 1개 획득 (필요 시 대기)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryReserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+    
+    /**
+     * 대기 없이 토큰 1개 획득 시도
+     */
+    public boolean tryAcquire() {
+        return tryReserve() == 0;
+    }
+    
+    /**
+     * 토큰이 있으면 차감하고 0을, 없으면 다음 토큰까지 남은 나노초를 반환
+     */
+    private synchronized long tryReserve() {
+        refill();
+        if (availableTokens >= 1) {
+            availableTokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - availableTokens) / permitsPerNano));
+    }
+    
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        availableTokens = Math.min(burst, availableTokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jeonbuk.report.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상류(upstream)별 동시 실행 수 제한 실행자
+ *
+ * 공유 I/O 실행자(가상 스레드 또는 플랫폼 스레드) 위에서 작업을 실행하되,
+ * 세마포어로 동시에 상류를 호출하는 작업 수를 maxConcurrency 이하로 제한합니다.
+ * 허가를 기다리는 작업은 가상 스레드에서 파킹되므로 플랫폼 스레드를 점유하지 않습니다.
+ *
+ * 대기 작업이 maxQueued를 넘으면 RejectedExecutionException으로 거부합니다.
+ *
+ * 메트릭 (tag upstream):
+ * - ai.io.in_flight: 실행 중인 작업 수
+ * - ai.io.pending: 제출되었지만 끝나지 않은 작업 수 (대기 + 실행)
+ * - ai.io.queue.wait: 허가 대기 시간
+ */
+@Slf4j
+public class ConcurrencyLimitedExecutor implements Executor {
+
+    private final String upstream;
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final int maxPending;
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer queueWait;
+
+    public ConcurrencyLimitedExecutor(String upstream, Executor delegate, int maxConcurrency, int maxQueued,
+                                      MeterRegistry meterRegistry) {
+        this.upstream = upstream;
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxConcurrency + maxQueued;
+        this.permits = new Semaphore(maxConcurrency, true);
+
+        this.queueWait = Timer.builder("ai.io.queue.wait")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        Gauge.builder("ai.io.in_flight", this, ConcurrencyLimitedExecutor::inFlight)
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        Gauge.builder("ai.io.pending", pending, AtomicInteger::get)
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            log.warn("⚠️ {} I/O 실행자 포화 - 작업 거부됨 (대기+실행 {} 초과)", upstream, maxPending);
+            throw new RejectedExecutionException(upstream + " I/O executor is saturated");
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            delegate.execute(() -> {
+                try {
+                    permits.acquireUninterruptibly();
+                    try {
+                        queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int pending() {
+        return pending.get();
+    }
+}
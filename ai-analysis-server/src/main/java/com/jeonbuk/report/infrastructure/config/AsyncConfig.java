@@ -1,6 +1,12 @@
 package com.jeonbuk.report.infrastructure.config;
 
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine;
+import com.jeonbuk.report.infrastructure.batch.TokenBucketRateLimiter;
+import com.jeonbuk.report.infrastructure.concurrent.ConcurrencyLimitedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
@@ -8,6 +14,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -16,7 +24,8 @@ import java.util.concurrent.ThreadPoolExecutor;
  * UI 스레드 블로킹 방지를 위한 다양한 스레드 풀 설정:
  * - 알림 처리용 스레드 풀
  * - 카프카 발행용 스레드 풀
- * - AI API 호출용 스레드 풀
+ * - AI API I/O 공용 실행자 (가상 스레드) + 상류별 동시 실행 제한
+ * - Roboflow 배치 추론용 스레드 풀
  * - 일반 비동기 작업용 스레드 풀
  */
 @Slf4j
@@ -76,8 +85,8 @@ public class AsyncConfig {
         executor.setAwaitTerminationSeconds(30);
         executor.setWaitForTasksToCompleteOnShutdown(true);
 
-        // 거부된 작업은 큐에 추가 시도
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        // 큐가 가득 차면 호출 스레드에서 발행 (오래된 이벤트를 조용히 버리지 않도록)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
         executor.initialize();
 
@@ -88,35 +97,112 @@ public class AsyncConfig {
     }
 
     /**
-     * AI API 호출 전용 스레드 풀
-     * 외부 API 호출의 긴 대기 시간을 고려한 설정
+     * 외부 AI API I/O 공용 실행자
+     * VIRTUAL: 작업마다 가상 스레드 생성 (블로킹 HTTP 호출 대기 중 캐리어 스레드 반환)
+     * PLATFORM: 플랫폼 스레드 풀 (가상 스레드 문제 발생 시 대체용)
+     *
+     * 동시 실행 수는 상류별 ConcurrencyLimitedExecutor가 제한합니다.
+     */
+    @Bean(name = "aiIoThreadExecutor", destroyMethod = "close")
+    public ExecutorService aiIoThreadExecutor(
+            @Value("${app.io-executor.mode:VIRTUAL}") IoExecutorMode mode) {
+        ExecutorService executor = switch (mode) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("AiIo-", 0).factory());
+            // 상류별 대기 상한이 전체 작업 수를 제한하므로 풀 자체는 제한하지 않음
+            case PLATFORM -> Executors.newCachedThreadPool(
+                    Thread.ofPlatform().name("AiIo-", 0).daemon(true).factory());
+        };
+
+        log.info("🧵 AI I/O 실행자 초기화 완료 - 모드: {}", mode);
+
+        return executor;
+    }
+
+    /**
+     * AI API 호출 전용 실행자 (비동기 분석 작업)
+     * 외부 API 호출의 긴 대기 시간을 고려하여 공용 I/O 실행자 위에서 동시 실행 수만 제한
+     * 대기 작업이 가득 차면 RejectedExecutionException
      */
     @Bean("aiApiExecutor")
-    public Executor aiApiExecutor() {
+    public Executor aiApiExecutor(
+            @Qualifier("aiIoThreadExecutor") ExecutorService aiIoThreadExecutor,
+            @Value("${app.io-executor.ai-api.max-concurrency:10}") int maxConcurrency,
+            @Value("${app.io-executor.ai-api.max-queued:50}") int maxQueued,
+            MeterRegistry meterRegistry) {
+        log.info("🤖 AI API 실행자 초기화 완료 - 동시 실행: {}, 대기: {}", maxConcurrency, maxQueued);
+        return new ConcurrencyLimitedExecutor("ai-api", aiIoThreadExecutor, maxConcurrency, maxQueued,
+                meterRegistry);
+    }
+
+    /**
+     * Roboflow API 클라이언트 비동기 호출용 실행자
+     */
+    @Bean("roboflowIoExecutor")
+    public Executor roboflowIoExecutor(
+            @Qualifier("aiIoThreadExecutor") ExecutorService aiIoThreadExecutor,
+            @Value("${app.io-executor.roboflow.max-concurrency:16}") int maxConcurrency,
+            @Value("${app.io-executor.roboflow.max-queued:200}") int maxQueued,
+            MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitedExecutor("roboflow", aiIoThreadExecutor, maxConcurrency, maxQueued,
+                meterRegistry);
+    }
+
+    /**
+     * OpenRouter API 클라이언트 비동기 호출용 실행자
+     */
+    @Bean("openRouterIoExecutor")
+    public Executor openRouterIoExecutor(
+            @Qualifier("aiIoThreadExecutor") ExecutorService aiIoThreadExecutor,
+            @Value("${app.io-executor.openrouter.max-concurrency:8}") int maxConcurrency,
+            @Value("${app.io-executor.openrouter.max-queued:100}") int maxQueued,
+            MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitedExecutor("openrouter", aiIoThreadExecutor, maxConcurrency, maxQueued,
+                meterRegistry);
+    }
+
+    /**
+     * Roboflow 배치 추론 전용 스레드 풀
+     * 동시 실행 수는 BatchInferenceEngine의 세마포어가 제한하므로 풀 크기도 같은 값으로 고정
+     */
+    @Bean("roboflowBatchExecutor")
+    public ThreadPoolTaskExecutor roboflowBatchExecutor(
+            @Value("${roboflow.batch.max-concurrency:4}") int maxConcurrency) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-        // 외부 API 호출이므로 적당한 수의 스레드
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("AiApi-");
-        executor.setAwaitTerminationSeconds(90); // API 응답 대기 시간 고려
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        // 허가 반환 직후 다음 제출과 겹치는 짧은 구간만 흡수
+        executor.setQueueCapacity(maxConcurrency);
+        executor.setThreadNamePrefix("RoboflowBatch-");
+        executor.setAwaitTerminationSeconds(90);
         executor.setWaitForTasksToCompleteOnShutdown(true);
 
-        // 외부 API 오류 시 무시하지 않고 로깅
-        executor.setRejectedExecutionHandler((runnable, executor1) -> {
-            log.warn("⚠️ AI API 스레드 풀 포화 - 작업 거부됨");
-            throw new java.util.concurrent.RejectedExecutionException("AI API thread pool is full");
-        });
+        // 공용 풀이나 요청 스레드로 넘기지 않고 엔진이 실패 결과로 처리
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 
         executor.initialize();
 
-        log.info("🤖 AI API 스레드 풀 초기화 완료 - 코어: {}, 최대: {}",
-                executor.getCorePoolSize(), executor.getMaxPoolSize());
+        log.info("📦 Roboflow 배치 추론 스레드 풀 초기화 완료 - 동시 실행: {}", maxConcurrency);
 
         return executor;
     }
 
+    /**
+     * Roboflow 배치 추론 엔진
+     * 속도 제한은 Roboflow 쿼터(초당 요청 수)에 맞춰 설정
+     */
+    @Bean
+    public BatchInferenceEngine roboflowBatchEngine(
+            @Qualifier("roboflowBatchExecutor") ThreadPoolTaskExecutor roboflowBatchExecutor,
+            @Value("${roboflow.batch.max-concurrency:4}") int maxConcurrency,
+            @Value("${roboflow.batch.rate-limit.permits-per-second:5}") double permitsPerSecond,
+            @Value("${roboflow.batch.rate-limit.burst:5}") int burst,
+            MeterRegistry meterRegistry) {
+        return new BatchInferenceEngine("roboflow", roboflowBatchExecutor, maxConcurrency,
+                new TokenBucketRateLimiter(permitsPerSecond, burst), meterRegistry);
+    }
+
     /**
      * 일반 비동기 작업용 스레드 풀
      * 파일 처리, 이미지 처리 등 무거운 작업용
@@ -191,6 +277,13 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * AI I/O 실행자 스레드 모드
+     */
+    public enum IoExecutorMode {
+        VIRTUAL, PLATFORM
+    }
+
     /**
      * 스레드 풀 모니터링을 위한 빈
      */
@@ -0,0 +1,78 @@
+package com.jeonbuk.report.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.jeonbuk.report.infrastructure.kafka.AnalysisResultPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+
+/**
+ * AI 분석 요청 Kafka 컨슈머 설정
+ *
+ * - 배치 리스너: poll 단위로 받아 모델별로 묶어 처리 (max-poll-records가 배치 상한)
+ * - 동시성: 서버당 컨슈머 스레드 수, 그룹 전체 컨슈머 수는 요청 토픽 파티션 수가 상한
+ * - 오프셋: 배치 처리와 결과 발행이 끝난 뒤 커밋 (AckMode.BATCH)
+ * - 오류: 일시적 오류는 고정 간격 재시도 후 DLT로, 읽을 수 없는 메시지는 재시도 없이 DLT로
+ */
+@Slf4j
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String ANALYSIS_CONTAINER_FACTORY = "analysisBatchListenerContainerFactory";
+
+    @Bean(ANALYSIS_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> analysisBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            AnalysisResultPublisher resultPublisher,
+            @Value("${app.kafka.consumer.concurrency:3}") int concurrency,
+            @Value("${app.kafka.topics.analysis-requests-dlt:ai-analysis-events.DLT}") String deadLetterTopic,
+            @Value("${app.kafka.consumer.retry.interval:PT2S}") Duration retryInterval,
+            @Value("${app.kafka.consumer.retry.max-attempts:3}") int maxAttempts) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        // 파티션 -1: 원본 파티션과 무관하게 키 기준으로 분배 (DLT 파티션 수가 달라도 발행 가능)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(resultPublisher.operations(),
+                (record, exception) -> new TopicPartition(deadLetterTopic, -1));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer,
+                new FixedBackOff(retryInterval.toMillis(), Math.max(0, maxAttempts - 1)));
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        factory.setCommonErrorHandler(errorHandler);
+
+        log.info("📥 AI 분석 요청 컨슈머 설정 - 동시성: {}, DLT: {}", concurrency, deadLetterTopic);
+        return factory;
+    }
+
+    /**
+     * 요청/결과/DLT 토픽 선언 (이미 있으면 파티션 수를 늘리기만 하고 줄이지 않음)
+     */
+    @Bean
+    public KafkaAdmin.NewTopics analysisTopics(
+            @Value("${app.kafka.topics.analysis-requests:ai-analysis-events}") String requestsTopic,
+            @Value("${app.kafka.topics.analysis-results:analysis_results}") String resultsTopic,
+            @Value("${app.kafka.topics.analysis-requests-dlt:ai-analysis-events.DLT}") String deadLetterTopic,
+            @Value("${app.kafka.topics.partitions:12}") int partitions,
+            @Value("${app.kafka.topics.replicas:1}") int replicas) {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(requestsTopic).partitions(partitions).replicas(replicas).build(),
+                TopicBuilder.name(resultsTopic).partitions(partitions).replicas(replicas).build(),
+                TopicBuilder.name(deadLetterTopic).partitions(1).replicas(replicas).build());
+    }
+}
@@ -2,6 +2,7 @@ package com.jeonbuk.report.infrastructure.external.openrouter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.retry.annotation.Backoff;
@@ -17,7 +18,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 /**
  * OpenRouter AI API 클라이언트
@@ -25,7 +25,7 @@ import java.util.concurrent.Executors;
  * 멀티스레딩 지원:
  * - 비동기 API 호출을 위한 CompletableFuture 사용
  * - UI 스레드 블로킹 방지
- * - 백그라운드 스레드풀에서 실행
+ * - 공용 I/O 실행자(가상 스레드)에서 실행, OpenRouter 동시 호출 수 제한
  */
 @Slf4j
 @Service
@@ -35,8 +35,8 @@ public class OpenRouterApiClient {
     private static final String CHAT_COMPLETIONS_ENDPOINT = "/chat/completions";
     private static final String DEFAULT_MODEL = "qwen/qwen2.5-vl-72b-instruct:free";
     
-    // 백그라운드 스레드 풀 (UI 스레드 블로킹 방지)
-    private final Executor executor = Executors.newFixedThreadPool(4);
+    // 공용 I/O 실행자 (가상 스레드, 상류별 동시 실행 제한)
+    private final Executor executor;
     
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
@@ -45,10 +45,12 @@ public class OpenRouterApiClient {
     public OpenRouterApiClient(
             RestTemplate restTemplate,
             ObjectMapper objectMapper,
-            @Value("${openrouter.api.key:#{null}}") String apiKey) {
+            @Value("${openrouter.api.key:#{null}}") String apiKey,
+            @Qualifier("openRouterIoExecutor") Executor executor) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
+        this.executor = executor;
         
         if (apiKey == null || apiKey.trim().isEmpty()) {
             log.warn("OpenRouter API key is not configured. Some features may not work.");
@@ -0,0 +1,273 @@
+package com.jeonbuk.report.infrastructure.external.openrouter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.resilience.CircuitBreaker;
+import com.jeonbuk.report.infrastructure.resilience.ResiliencePolicy;
+import com.jeonbuk.report.infrastructure.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OpenRouter 논블로킹 스트리밍 클라이언트
+ *
+ * /chat/completions를 stream=true로 호출하여 SSE로 도착하는 토큰 조각을 바로 전달합니다.
+ * 응답 생성 중에는 스레드를 점유하지 않으므로 코어당 동시 요청 수가 늘어나고,
+ * streamJsonFields()는 필요한 필드가 완성되는 즉시 스트림을 취소하여 나머지 생성을 기다리지 않습니다.
+ *
+ * 복원력:
+ * - "openrouter" 서킷 브레이커/재시도 예산 사용 (ResilienceRegistry 공유)
+ * - 첫 토큰 이전의 일시적 오류만 재시도 (이미 전달한 조각이 중복되지 않도록)
+ * - 느린 호출 판정은 전체 생성 시간이 아닌 첫 토큰까지의 시간 기준
+ *
+ * 메트릭:
+ * - openrouter.stream.first_token: 첫 토큰까지의 시간
+ * - openrouter.stream.fields: 필요한 필드가 모두 도착하기까지의 시간
+ * - openrouter.stream.early_cancel: 필드 확보 후 생성 도중 취소한 스트림 수
+ */
+@Slf4j
+@Service
+public class OpenRouterStreamingClient {
+
+    private static final String CHAT_COMPLETIONS_ENDPOINT = "/chat/completions";
+    private static final String DONE_MARKER = "[DONE]";
+    private static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final ResiliencePolicy resiliencePolicy;
+    private final String apiKey;
+    private final String model;
+
+    private final Timer firstTokenTimer;
+    private final Timer fieldsTimer;
+    private final Counter earlyCancelCounter;
+
+    public OpenRouterStreamingClient(
+            @Qualifier("openRouterWebClient") WebClient webClient,
+            ObjectMapper objectMapper,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${openrouter.api.key:#{null}}") String apiKey,
+            @Value("${app.openrouter.api.model:qwen/qwen2.5-vl-72b-instruct:free}") String model) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.resiliencePolicy = resilienceRegistry.policy("openrouter");
+        this.apiKey = apiKey;
+        this.model = model;
+
+        this.firstTokenTimer = Timer.builder("openrouter.stream.first_token")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.fieldsTimer = Timer.builder("openrouter.stream.fields")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.earlyCancelCounter = Counter.builder("openrouter.stream.early_cancel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 가능 여부 (API 키 설정 + 서킷 브레이커가 OPEN이 아님)
+     * 실제 요청을 보내지 않으므로 요청 경로에서 호출해도 지연이 없습니다.
+     */
+    public boolean isAvailable() {
+        return apiKey != null && !apiKey.isBlank()
+                && resiliencePolicy.getCircuitBreaker().getState() != CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * 채팅 완성 스트리밍 - 생성되는 텍스트 조각(delta)을 순서대로 전달
+     */
+    public Flux<String> streamChatCompletion(List<OpenRouterDto.Message> messages) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return Flux.error(new OpenRouterException("OpenRouter API key is not configured"));
+        }
+
+        OpenRouterDto.ChatCompletionRequest request = new OpenRouterDto.ChatCompletionRequest();
+        request.setModel(model);
+        request.setMessages(messages);
+        request.setTemperature(0.7);
+        request.setMaxTokens(1000);
+        request.setStream(true);
+
+        return Flux.defer(() -> {
+            resiliencePolicy.getRetryBudget().recordRequest();
+            AtomicBoolean emitted = new AtomicBoolean();
+            return Flux.defer(() -> attempt(request))
+                    .doOnNext(delta -> emitted.set(true))
+                    .retryWhen(Retry.backoff(MAX_ATTEMPTS - 1, INITIAL_BACKOFF)
+                            .jitter(0.2)
+                            .filter(e -> !emitted.get() && isTransient(e)
+                                    && resiliencePolicy.getRetryBudget().tryAcquireRetry())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        });
+    }
+
+    /**
+     * 스트리밍 응답에서 JSON 필드를 증분 파싱
+     * requiredFields가 모두 도착하거나 최상위 객체가 닫히면 즉시 스트림을 취소합니다.
+     *
+     * JSON을 찾지 못했거나 문법 오류인 경우 fields는 비어 있고 rawText로 대체 처리할 수 있습니다.
+     */
+    public Mono<StreamedFields> streamJsonFields(List<OpenRouterDto.Message> messages, Set<String> requiredFields) {
+        return Mono.defer(() -> {
+            IncrementalJsonFieldReader reader = new IncrementalJsonFieldReader();
+            long start = System.nanoTime();
+            AtomicBoolean satisfied = new AtomicBoolean();
+
+            return streamChatCompletion(messages)
+                    .takeUntil(delta -> {
+                        reader.feed(delta);
+                        if (reader.containsAll(requiredFields)) {
+                            satisfied.set(true);
+                            return true;
+                        }
+                        return reader.isComplete();
+                    })
+                    .then(Mono.fromSupplier(() -> {
+                        if (satisfied.get()) {
+                            fieldsTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            if (!reader.isComplete()) {
+                                earlyCancelCounter.increment();
+                            }
+                        }
+                        return new StreamedFields(Collections.unmodifiableMap(new LinkedHashMap<>(reader.fields())),
+                                reader.rawText(), reader.isComplete());
+                    }));
+        });
+    }
+
+    private Flux<String> attempt(OpenRouterDto.ChatCompletionRequest request) {
+        CircuitBreaker circuitBreaker = resiliencePolicy.getCircuitBreaker();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return Flux.error(new OpenRouterException("OpenRouter API temporarily unavailable: circuit open", 503,
+                    CIRCUIT_OPEN, "circuit_open"));
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean();
+
+        return webClient.post()
+                .uri(CHAT_COMPLETIONS_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    headers.setBearerAuth(apiKey);
+                    headers.set("HTTP-Referer", "https://jeonbuk-report-platform.com");
+                    headers.set("X-Title", "전북 신고 플랫폼");
+                })
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> new OpenRouterException(
+                                "OpenRouter streaming error: " + response.statusCode() + " " + body,
+                                response.statusCode().value())))
+                .bodyToFlux(SSE_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !DONE_MARKER.equals(data.trim()))
+                .mapNotNull(this::extractDelta)
+                .doOnNext(delta -> {
+                    // 첫 토큰 도착 시점에 성공으로 기록 (긴 생성이 느린 호출로 집계되지 않도록)
+                    if (recorded.compareAndSet(false, true)) {
+                        long elapsed = System.nanoTime() - start;
+                        firstTokenTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        circuitBreaker.onSuccess(elapsed);
+                    }
+                })
+                .doOnError(e -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        if (isTransient(e)) {
+                            circuitBreaker.onError(System.nanoTime() - start);
+                        } else {
+                            circuitBreaker.onIgnored();
+                        }
+                    }
+                    log.warn("⚠️ OpenRouter 스트리밍 실패: {}", e.getMessage());
+                })
+                .doFinally(signal -> {
+                    // 토큰 없이 끝나거나 취소된 경우에도 HALF_OPEN 허가를 반환
+                    if (recorded.compareAndSet(false, true)) {
+                        circuitBreaker.onIgnored();
+                    }
+                });
+    }
+
+    /**
+     * SSE data의 choices[0].delta.content 추출 (빈 조각과 처리 중 알림은 무시)
+     */
+    private String extractDelta(String data) {
+        try {
+            JsonNode root = objectMapper.readTree(data);
+            JsonNode error = root.path("error");
+            if (!error.isMissingNode()) {
+                throw new OpenRouterException("OpenRouter streaming error: " + error.path("message").asText(),
+                        error.path("code").asInt(500));
+            }
+            JsonNode content = root.path("choices").path(0).path("delta").path("content");
+            return content.isTextual() && !content.asText().isEmpty() ? content.asText() : null;
+        } catch (OpenRouterException e) {
+            throw e;
+        } catch (Exception e) {
+            log.debug("OpenRouter 스트림 조각 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재시도 및 브레이커 실패 집계 대상 오류 (레이트 리밋, 5xx, 네트워크 오류)
+     */
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientRequestException || e instanceof TimeoutException || e instanceof IOException) {
+            return true;
+        }
+        if (e instanceof OpenRouterException openRouterException) {
+            if (CIRCUIT_OPEN.equals(openRouterException.getErrorCode())) {
+                return false;
+            }
+            return openRouterException.isRetryable()
+                    || (openRouterException.getStatusCode() >= 500 && "http_error".equals(openRouterException.getErrorType()));
+        }
+        return false;
+    }
+
+    /**
+     * 증분 파싱 결과
+     *
+     * @param fields   값이 완성된 최상위 필드
+     * @param rawText  수신한 응답 원문 (필드 확보 후 취소한 경우 그 시점까지)
+     * @param complete 최상위 JSON 객체가 닫혔는지 여부
+     */
+    public record StreamedFields(Map<String, Object> fields, String rawText, boolean complete) {
+    }
+}
@@ -3,6 +3,7 @@ package com.jeonbuk.report.infrastructure.external.roboflow;
 import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowDto.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.retry.annotation.Backoff;
@@ -18,7 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -27,7 +27,7 @@ import java.util.stream.Collectors;
  * 멀티스레딩 지원:
  * - 비동기 API 호출을 위한 CompletableFuture 사용
  * - UI 스레드 블로킹 방지
- * - 백그라운드 스레드풀에서 실행
+ * - 공용 I/O 실행자(가상 스레드)에서 실행, Roboflow 동시 호출 수 제한
  */
 @Slf4j
 @Service
@@ -35,8 +35,8 @@ public class RoboflowApiClient {
 
     private static final String DETECT_ENDPOINT = "https://detect.roboflow.com/";
     
-    // 백그라운드 스레드 풀 (UI 스레드 블로킹 방지)
-    private final Executor executor = Executors.newFixedThreadPool(4);
+    // 공용 I/O 실행자 (가상 스레드, 상류별 동시 실행 제한)
+    private final Executor executor;
     
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
@@ -47,11 +47,13 @@ public class RoboflowApiClient {
             RestTemplate restTemplate,
             ObjectMapper objectMapper,
             @Value("${app.roboflow.api-key:#{null}}") String apiKey,
-            @Value("${app.roboflow.workspace-url:#{null}}") String workspaceUrl) {
+            @Value("${app.roboflow.workspace-url:#{null}}") String workspaceUrl,
+            @Qualifier("roboflowIoExecutor") Executor executor) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.workspaceUrl = workspaceUrl;
+        this.executor = executor;
         
         if (apiKey == null || apiKey.trim().isEmpty()) {
             log.warn("Roboflow API key is not configured. Some features may not work.");
@@ -78,17 +80,17 @@ public class RoboflowApiClient {
     /**
      * 비동기 배치 이미지 분석
      * 여러 이미지를 병렬로 처리합니다.
+     * 개별 분석 완료를 조합하므로 실행자 슬롯을 잡은 채 다른 작업을 기다리지 않습니다.
      */
     public CompletableFuture<List<RoboflowAnalysisResult>> analyzeBatchAsync(List<String> imageDataList, String modelId) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<CompletableFuture<RoboflowAnalysisResult>> futures = imageDataList.stream()
-                    .map(imageData -> analyzeImageAsync(imageData, modelId))
-                    .collect(Collectors.toList());
+        List<CompletableFuture<RoboflowAnalysisResult>> futures = imageDataList.stream()
+                .map(imageData -> analyzeImageAsync(imageData, modelId))
+                .collect(Collectors.toList());
 
-            return futures.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toList());
-        }, executor);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.jeonbuk.report.infrastructure.job;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * 비동기 분석 작업 스냅샷 (불변)
+ *
+ * 결과는 응답 직렬화 형태(JsonNode)로 보관하여 로컬/Redis 어느 계층에서 읽어도 같은 JSON을 반환합니다.
+ *
+ * @param jobId        작업 ID
+ * @param status       작업 상태
+ * @param result       분석 결과 (DONE/FAILED 시)
+ * @param errorMessage 실패 사유 (FAILED 시)
+ * @param createdAt    작업 생성 시각
+ * @param updatedAt    마지막 상태 변경 시각
+ */
+public record AnalysisJob(
+        String jobId,
+        AnalysisJobStatus status,
+        JsonNode result,
+        String errorMessage,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    public static AnalysisJob queued(String jobId) {
+        Instant now = Instant.now();
+        return new AnalysisJob(jobId, AnalysisJobStatus.QUEUED, null, null, now, now);
+    }
+
+    public AnalysisJob running() {
+        return new AnalysisJob(jobId, AnalysisJobStatus.RUNNING, null, null, createdAt, Instant.now());
+    }
+
+    public AnalysisJob done(JsonNode result) {
+        return new AnalysisJob(jobId, AnalysisJobStatus.DONE, result, null, createdAt, Instant.now());
+    }
+
+    public AnalysisJob failed(JsonNode result, String errorMessage) {
+        return new AnalysisJob(jobId, AnalysisJobStatus.FAILED, result, errorMessage, createdAt, Instant.now());
+    }
+}
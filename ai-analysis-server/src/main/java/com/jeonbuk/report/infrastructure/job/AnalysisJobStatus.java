@@ -0,0 +1,18 @@
+package com.jeonbuk.report.infrastructure.job;
+
+/**
+ * 비동기 분석 작업 상태
+ */
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 완료 상태 여부
+     */
+    public boolean isTerminal() {
+        return this == DONE || this == FAILED;
+    }
+}
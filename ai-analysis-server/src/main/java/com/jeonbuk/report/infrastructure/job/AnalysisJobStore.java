@@ -0,0 +1,272 @@
+package com.jeonbuk.report.infrastructure.job;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 분석 작업 저장소
+ *
+ * - 로컬 계층: 최대 개수 + TTL로 제한된 저장소. 상태가 바뀔 때마다 끝으로 이동하므로
+ *   맨 앞 항목이 항상 가장 먼저 만료되며, 쓰기 시 앞에서부터 만료 항목을 정리합니다.
+ * - Redis 계층 (선택): 모든 상태 변경을 기록하여 다른 레플리카에서도 상태 조회 가능
+ * - 완료 통지: awaitCompletion()이 완료 상태에서 끝나는 future를 반환 (SSE/롱폴링용)
+ *   다른 레플리카에서 실행 중인 작업은 Redis를 주기적으로 확인하여 통지합니다.
+ *
+ * Redis 오류는 로컬 계층만으로 동작하도록 무시합니다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobStore {
+
+    private static final String KEY_PREFIX = "ai_analysis:job:";
+    private static final long REMOTE_POLL_INTERVAL_MS = 500;
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LinkedHashMap<String, LocalEntry> jobs = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<AnalysisJob>> waiters = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<AnalysisJob>> remoteWaiters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService remotePoller;
+
+    public AnalysisJobStore(
+            @Value("${app.jobs.max-entries:10000}") int maxEntries,
+            @Value("${app.jobs.ttl:PT1H}") Duration ttl,
+            @Value("${app.jobs.redis-enabled:true}") boolean redisEnabled,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.redisTemplate = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        // 다른 버전 레플리카가 기록한 필드가 있어도 읽을 수 있도록 알 수 없는 속성 무시
+        this.objectMapper = objectMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        if (this.redisTemplate != null) {
+            this.remotePoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AnalysisJobRemotePoll");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.remotePoller.scheduleWithFixedDelay(this::pollRemoteWaiters,
+                    REMOTE_POLL_INTERVAL_MS, REMOTE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } else {
+            this.remotePoller = null;
+        }
+
+        Gauge.builder("analysis.jobs.size", this, AnalysisJobStore::size)
+                .register(meterRegistry);
+
+        log.info("🗂️ 분석 작업 저장소 초기화 - 최대 {}개, TTL {}, Redis: {}",
+                maxEntries, ttl, this.redisTemplate != null);
+    }
+
+    /**
+     * 새 작업 생성 (QUEUED)
+     */
+    public AnalysisJob create() {
+        AnalysisJob job = AnalysisJob.queued(UUID.randomUUID().toString());
+        save(job);
+        return job;
+    }
+
+    public void markRunning(String jobId) {
+        find(jobId).ifPresent(job -> save(job.running()));
+    }
+
+    public void complete(String jobId, Object result) {
+        find(jobId).ifPresent(job -> save(job.done(toTree(result))));
+    }
+
+    public void fail(String jobId, Object result, String errorMessage) {
+        find(jobId).ifPresent(job -> save(job.failed(toTree(result), errorMessage)));
+    }
+
+    /**
+     * 작업 조회 (로컬 → Redis)
+     */
+    public Optional<AnalysisJob> find(String jobId) {
+        synchronized (this) {
+            LocalEntry entry = jobs.get(jobId);
+            if (entry != null) {
+                if (!entry.isExpired()) {
+                    return Optional.of(entry.job());
+                }
+                jobs.remove(jobId);
+            }
+        }
+        return findShared(jobId);
+    }
+
+    /**
+     * 작업이 완료 상태(DONE/FAILED)가 되면 끝나는 future
+     * 이미 완료된 작업은 즉시 끝나며, 작업이 없으면 empty
+     *
+     * 반환된 future는 호출자별 복사본이므로 orTimeout 등을 적용해도 다른 대기자에 영향이 없습니다.
+     */
+    public Optional<CompletableFuture<AnalysisJob>> awaitCompletion(String jobId) {
+        Optional<AnalysisJob> current = find(jobId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        if (current.get().status().isTerminal()) {
+            return Optional.of(CompletableFuture.completedFuture(current.get()));
+        }
+
+        boolean local;
+        synchronized (this) {
+            local = jobs.containsKey(jobId);
+        }
+        Map<String, CompletableFuture<AnalysisJob>> registry = local ? waiters : remoteWaiters;
+        CompletableFuture<AnalysisJob> shared = registry.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+
+        // 등록 직전에 완료된 경우 통지를 놓치지 않도록 다시 확인
+        find(jobId).filter(job -> job.status().isTerminal()).ifPresent(job -> {
+            registry.remove(jobId, shared);
+            shared.complete(job);
+        });
+        return Optional.of(shared.copy());
+    }
+
+    public synchronized int size() {
+        return jobs.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (remotePoller != null) {
+            remotePoller.shutdownNow();
+        }
+    }
+
+    // === 로컬 계층 ===
+
+    private void save(AnalysisJob job) {
+        synchronized (this) {
+            // 상태 변경 시 끝으로 옮겨 만료 순서를 삽입 순서와 일치시킴
+            jobs.remove(job.jobId());
+            jobs.put(job.jobId(), new LocalEntry(job, System.nanoTime() + ttl.toNanos()));
+            purgeExpiredAndOverflow();
+        }
+        saveShared(job);
+
+        if (job.status().isTerminal()) {
+            CompletableFuture<AnalysisJob> waiter = waiters.remove(job.jobId());
+            if (waiter != null) {
+                waiter.complete(job);
+            }
+        }
+    }
+
+    private void purgeExpiredAndOverflow() {
+        Iterator<Map.Entry<String, LocalEntry>> iterator = jobs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, LocalEntry> eldest = iterator.next();
+            if (jobs.size() > maxEntries || eldest.getValue().isExpired()) {
+                iterator.remove();
+                failWaiter(eldest.getKey(), waiters);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private JsonNode toTree(Object result) {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return objectMapper.valueToTree(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 분석 결과 직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void failWaiter(String jobId, Map<String, CompletableFuture<AnalysisJob>> registry) {
+        CompletableFuture<AnalysisJob> waiter = registry.remove(jobId);
+        if (waiter != null) {
+            waiter.completeExceptionally(new IllegalStateException("작업이 만료되었습니다: " + jobId));
+        }
+    }
+
+    // === Redis 공유 계층 ===
+
+    private Optional<AnalysisJob> findShared(String jobId) {
+        if (redisTemplate == null) {
+            return Optional.empty();
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+            if (json != null) {
+                return Optional.of(objectMapper.readValue(json, AnalysisJob.class));
+            }
+        } catch (Exception e) {
+            log.debug("분석 작업 Redis 조회 실패 - {}: {}", jobId, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private void saveShared(AnalysisJob job) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + job.jobId(), objectMapper.writeValueAsString(job), ttl);
+        } catch (Exception e) {
+            log.debug("분석 작업 Redis 저장 실패 - {}: {}", job.jobId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 레플리카에서 실행 중인 작업의 완료 확인
+     */
+    private void pollRemoteWaiters() {
+        for (String jobId : remoteWaiters.keySet()) {
+            try {
+                Optional<AnalysisJob> job = findShared(jobId);
+                if (job.isEmpty()) {
+                    failWaiter(jobId, remoteWaiters);
+                } else if (job.get().status().isTerminal()) {
+                    CompletableFuture<AnalysisJob> waiter = remoteWaiters.remove(jobId);
+                    if (waiter != null) {
+                        waiter.complete(job.get());
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("원격 작업 상태 확인 실패 - {}: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    private record LocalEntry(AnalysisJob job, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.jeonbuk.report.infrastructure.job;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * 요청 종료 후에도 사용할 수 있도록 메모리에 한 번 읽어둔 MultipartFile
+ *
+ * 요청 스레드가 반환되면 Tomcat이 업로드 임시 파일을 삭제하므로,
+ * 백그라운드 작업에 넘기는 이미지는 이 클래스로 감싸서 전달합니다.
+ * getResource()는 같은 버퍼를 복사 없이 스트리밍합니다.
+ */
+public class BufferedMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final byte[] content;
+
+    private BufferedMultipartFile(String name, String originalFilename, String contentType, byte[] content) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    public static BufferedMultipartFile of(MultipartFile source) throws IOException {
+        if (source instanceof BufferedMultipartFile buffered) {
+            return buffered;
+        }
+        return new BufferedMultipartFile(source.getName(), source.getOriginalFilename(),
+                source.getContentType(), source.getBytes());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public Resource getResource() {
+        return new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return originalFilename;
+            }
+        };
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), content);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jeonbuk.report.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+/**
+ * Kafka 메시지용 ObjectMapper
+ *
+ * REST 응답은 snake_case지만 Kafka 메시지 형식은 main-api-server(Spring Kafka JsonSerializer 기본 설정)와
+ * 같은 camelCase를 사용합니다.
+ */
+final class AnalysisMessageMapper {
+
+    private AnalysisMessageMapper() {
+    }
+
+    static ObjectMapper wireMapper(ObjectMapper objectMapper) {
+        return objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE);
+    }
+}
@@ -0,0 +1,119 @@
+package com.jeonbuk.report.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.AnalysisBatchProcessor;
+import com.jeonbuk.report.dto.kafka.AnalysisRequestMessage;
+import com.jeonbuk.report.dto.kafka.AnalysisResultMessage;
+import com.jeonbuk.report.infrastructure.config.KafkaConsumerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 분석 요청 배치 리스너
+ *
+ * ai-analysis-events 토픽을 배치로 소비하여 분석하고 결과를 analysis_results 토픽에 발행합니다.
+ * 파티션은 컨슈머 그룹 안에서 나뉘므로 서버 복제본을 늘리면 분석 처리량이 수평 확장됩니다.
+ *
+ * 처리 보장 (at-least-once):
+ * - 결과 발행이 브로커에 확인된 뒤에 리스너가 반환하고, 그 후에 오프셋이 커밋됨
+ * - 역직렬화할 수 없는 메시지는 앞선 메시지를 처리한 뒤 BatchListenerFailedException으로 지목하여
+ *   해당 메시지만 DLT로 보내고 나머지는 다시 전달받음
+ * - 결과 발행 실패 시 배치 전체를 재시도 (결과 메시지는 requestId로 중복 제거 가능)
+ *
+ * 메트릭:
+ * - ai.analysis.consumer.batch.size: 수신 배치 크기
+ * - ai.analysis.consumer.results (outcome=success|failure): 발행한 결과 수
+ * - ai.analysis.consumer.skipped: 요청이 아닌 메시지 수 (같은 토픽의 결과 이벤트, 툼스톤 등)
+ */
+@Slf4j
+@Component
+public class AnalysisRequestListener {
+
+    private final AnalysisBatchProcessor batchProcessor;
+    private final AnalysisResultPublisher resultPublisher;
+    private final ObjectMapper wireMapper;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter skippedCounter;
+
+    public AnalysisRequestListener(
+            AnalysisBatchProcessor batchProcessor,
+            AnalysisResultPublisher resultPublisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.batchProcessor = batchProcessor;
+        this.resultPublisher = resultPublisher;
+        this.wireMapper = AnalysisMessageMapper.wireMapper(objectMapper);
+
+        this.batchSizeSummary = DistributionSummary.builder("ai.analysis.consumer.batch.size")
+                .register(meterRegistry);
+        this.successCounter = Counter.builder("ai.analysis.consumer.results")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("ai.analysis.consumer.results")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("ai.analysis.consumer.skipped")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            id = "${app.kafka.consumer.listener-id:ai-analysis-requests}",
+            topics = "${app.kafka.topics.analysis-requests:ai-analysis-events}",
+            containerFactory = KafkaConsumerConfig.ANALYSIS_CONTAINER_FACTORY)
+    public void onRequests(List<ConsumerRecord<String, String>> records) {
+        batchSizeSummary.record(records.size());
+
+        List<AnalysisRequestMessage> requests = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).value() == null) {
+                skippedCounter.increment();
+                continue;
+            }
+            AnalysisRequestMessage request;
+            try {
+                request = wireMapper.readValue(records.get(i).value(), AnalysisRequestMessage.class);
+            } catch (JsonProcessingException e) {
+                // 앞선 요청은 처리·발행한 뒤 잘못된 메시지만 DLT로 보냄
+                handle(requests);
+                throw new BatchListenerFailedException("Unreadable analysis request", e, records.get(i));
+            }
+            if (request.getAnalysisType() == null) {
+                skippedCounter.increment();
+                continue;
+            }
+            if (request.getReportId() == null) {
+                request.setReportId(records.get(i).key());
+            }
+            requests.add(request);
+        }
+
+        handle(requests);
+    }
+
+    private void handle(List<AnalysisRequestMessage> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<AnalysisResultMessage> results = batchProcessor.process(requests);
+        resultPublisher.publishAll(results);
+
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        successCounter.increment(results.size() - failed);
+        failureCounter.increment(failed);
+        log.info("📨 AI 분석 결과 발행 - {}건 (실패 {}건)", results.size(), failed);
+    }
+}
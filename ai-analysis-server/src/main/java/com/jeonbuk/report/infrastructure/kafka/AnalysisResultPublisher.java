@@ -0,0 +1,103 @@
+package com.jeonbuk.report.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.dto.kafka.AnalysisResultMessage;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 분석 결과 발행기
+ *
+ * 결과 메시지와 DLT 메시지는 이미 JSON 문자열이므로 문자열 직렬화 전용 프로듀서로 전송합니다.
+ * (기본 KafkaTemplate의 JsonSerializer로 보내면 문자열이 한 번 더 인용되어 감싸짐)
+ * 전송은 멱등 프로듀서(acks=all)로 하여 재시도 시 중복 기록을 막습니다.
+ */
+@Component
+public class AnalysisResultPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper wireMapper;
+    private final String resultsTopic;
+    private final Duration sendTimeout;
+
+    public AnalysisResultPublisher(
+            ProducerFactory<?, ?> producerFactory,
+            ObjectMapper objectMapper,
+            @Value("${app.kafka.topics.analysis-results:analysis_results}") String resultsTopic,
+            @Value("${app.kafka.consumer.result-send-timeout:PT30S}") Duration sendTimeout) {
+        this.wireMapper = AnalysisMessageMapper.wireMapper(objectMapper);
+        this.resultsTopic = resultsTopic;
+        this.sendTimeout = sendTimeout;
+
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        overrides.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        overrides.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        overrides.put(ProducerConfig.ACKS_CONFIG, "all");
+        @SuppressWarnings("unchecked")
+        ProducerFactory<String, String> stringProducerFactory = (ProducerFactory<String, String>) producerFactory;
+        this.kafkaTemplate = new KafkaTemplate<>(stringProducerFactory, overrides);
+    }
+
+    /**
+     * 결과를 신고 ID 키로 발행하고 브로커 확인까지 대기
+     * 실패하면 예외를 던져 호출한 리스너의 배치가 재시도되도록 함 (오프셋 미커밋)
+     */
+    public void publishAll(List<AnalysisResultMessage> results) {
+        List<CompletableFuture<?>> sends = new ArrayList<>(results.size());
+        for (AnalysisResultMessage result : results) {
+            sends.add(kafkaTemplate.send(resultsTopic, result.getReportId(), toJson(result)));
+        }
+
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture<?>[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing analysis results", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish analysis results to " + resultsTopic, e);
+        }
+    }
+
+    /**
+     * DLT 발행용 (원본 메시지 문자열을 그대로 전송)
+     */
+    public KafkaOperations<String, String> operations() {
+        return kafkaTemplate;
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        // 오버라이드 설정으로 만든 전용 프로듀서 팩토리는 빈이 아니므로 직접 종료
+        if (kafkaTemplate.getProducerFactory() instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private String toJson(AnalysisResultMessage result) {
+        try {
+            return wireMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize analysis result " + result.getRequestId(), e);
+        }
+    }
+}
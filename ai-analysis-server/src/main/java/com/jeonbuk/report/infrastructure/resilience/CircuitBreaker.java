@@ -0,0 +1,184 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 슬라이딩 윈도우 실패율 기반 서킷 브레이커 (락 없음)
+ *
+ * - CLOSED: 윈도우 내 호출이 minimumCalls 이상이고 실패율(느린 호출 포함)이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출 거부
+ * - HALF_OPEN: 최대 halfOpenProbes 개의 시험 호출만 허용.
+ *   모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 타임아웃 직후 대기 중이던 모든 스레드가 동시에 몰리지 않도록 HALF_OPEN 허가 수를 제한합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final SlidingWindowCounter window;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAtNanos = new AtomicLong();
+    private final AtomicLong halfOpenedAtNanos = new AtomicLong();
+    private final AtomicInteger probesIssued = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    public CircuitBreaker(String name, ResilienceProperties properties) {
+        this.name = name;
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.minimumCalls = properties.minimumCalls();
+        this.slowCallNanos = properties.slowCallDuration().toNanos();
+        this.openNanos = properties.openDuration().toNanos();
+        this.halfOpenProbes = properties.halfOpenProbes();
+        this.window = new SlidingWindowCounter(properties.window().toNanos(), properties.windowBuckets(), 2);
+    }
+
+    /**
+     * 호출 허가 획득 시도
+     * 허가를 받은 호출은 반드시 onSuccess/onError/onIgnored 중 하나로 결과를 기록해야 합니다.
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            State current = state.get();
+            switch (current) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos.get() < openNanos) {
+                        rejectedCalls.incrementAndGet();
+                        return false;
+                    }
+                    if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                        probesIssued.set(0);
+                        probesSucceeded.set(0);
+                        halfOpenedAtNanos.set(System.nanoTime());
+                        log.info("🔌 서킷 브레이커 HALF_OPEN - {}: 시험 호출 {}개 허용", name, halfOpenProbes);
+                    }
+                    continue;
+                case HALF_OPEN:
+                    // 한도 안에서만 증가시켜 onIgnored가 반환한 슬롯을 다시 쓸 수 있게 함
+                    int issued = probesIssued.get();
+                    if (issued < halfOpenProbes) {
+                        if (probesIssued.compareAndSet(issued, issued + 1)) {
+                            return true;
+                        }
+                        continue;
+                    }
+                    // 결과를 기록하지 않은 시험 호출 때문에 HALF_OPEN에 머무르지 않도록 일정 시간 후 시험 재개
+                    if (System.nanoTime() - halfOpenedAtNanos.get() > openNanos) {
+                        openedAtNanos.set(System.nanoTime() - openNanos);
+                        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+                        continue;
+                    }
+                    rejectedCalls.incrementAndGet();
+                    return false;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        if (durationNanos > slowCallNanos) {
+            // 응답은 왔지만 느린 호출은 상류 과부하 신호로 간주
+            onError(durationNanos);
+            return;
+        }
+        window.increment(SUCCESS);
+        if (state.get() == State.HALF_OPEN && probesSucceeded.incrementAndGet() >= halfOpenProbes) {
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                window.reset();
+                log.info("✅ 서킷 브레이커 CLOSED - {}", name);
+            }
+        }
+    }
+
+    public void onError(long durationNanos) {
+        window.increment(FAILURE);
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            transitionToOpen(State.HALF_OPEN, "시험 호출 실패");
+        } else if (current == State.CLOSED) {
+            long[] sums = window.sums();
+            long calls = sums[SUCCESS] + sums[FAILURE];
+            if (calls >= minimumCalls && failureRate(sums) >= failureRateThreshold) {
+                transitionToOpen(State.CLOSED, String.format("실패율 %.1f%%", failureRate(sums)));
+            }
+        }
+    }
+
+    /**
+     * 성공/실패 어느 쪽으로도 기록하지 않고 허가만 반환 (예: 클라이언트 오류, 결과 없이 취소된 호출)
+     * HALF_OPEN이면 시험 호출 슬롯을 돌려주어 다른 호출이 시험할 수 있게 합니다.
+     * 상류 상태를 알려주지 않는 결과이므로 CLOSED 전환 조건(시험 성공 수)에는 반영하지 않습니다.
+     */
+    public void onIgnored() {
+        if (state.get() == State.HALF_OPEN) {
+            probesIssued.updateAndGet(issued -> issued > 0 ? issued - 1 : 0);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Snapshot snapshot() {
+        long[] sums = window.sums();
+        State current = state.get();
+        Duration remainingOpen = current == State.OPEN
+                ? Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - openedAtNanos.get())))
+                : Duration.ZERO;
+        return new Snapshot(name, current, sums[SUCCESS] + sums[FAILURE], sums[FAILURE],
+                failureRate(sums), rejectedCalls.get(), remainingOpen.toMillis());
+    }
+
+    private void transitionToOpen(State from, String reason) {
+        // OPEN 전환을 본 스레드가 이전 시각을 읽지 않도록 시각을 먼저 기록
+        openedAtNanos.set(System.nanoTime());
+        if (state.compareAndSet(from, State.OPEN)) {
+            log.warn("⚡ 서킷 브레이커 OPEN - {}: {} ({}ms 동안 호출 차단)", name, reason,
+                    Duration.ofNanos(openNanos).toMillis());
+        }
+    }
+
+    private static double failureRate(long[] sums) {
+        long calls = sums[SUCCESS] + sums[FAILURE];
+        return calls == 0 ? 0.0 : sums[FAILURE] * 100.0 / calls;
+    }
+
+    /**
+     * 브레이커 상태 스냅샷 (Actuator 노출용)
+     */
+    public record Snapshot(
+            String name,
+            State state,
+            long windowCalls,
+            long windowFailures,
+            double failureRate,
+            long rejectedCalls,
+            long remainingOpenMillis) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 서킷 브레이커 상태 Actuator 엔드포인트
+ *
+ * - GET /actuator/circuitbreakers: 전체 정책 상태
+ * - GET /actuator/circuitbreakers/{name}: 단일 정책 상태
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakerEndpoint {
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    public CircuitBreakerEndpoint(ResilienceRegistry resilienceRegistry) {
+        this.resilienceRegistry = resilienceRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, PolicyState> circuitBreakers() {
+        Map<String, PolicyState> states = new TreeMap<>();
+        for (ResiliencePolicy policy : resilienceRegistry.getPolicies()) {
+            states.put(policy.getName(), PolicyState.of(policy));
+        }
+        return states;
+    }
+
+    @ReadOperation
+    public PolicyState circuitBreaker(@Selector String name) {
+        return resilienceRegistry.find(name).map(PolicyState::of).orElse(null);
+    }
+
+    /**
+     * 정책 상태 (브레이커 + 재시도 예산)
+     */
+    public record PolicyState(CircuitBreaker.Snapshot circuitBreaker, RetryBudget.Snapshot retryBudget) {
+
+        static PolicyState of(ResiliencePolicy policy) {
+            return new PolicyState(policy.getCircuitBreaker().snapshot(), policy.getRetryBudget().snapshot());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 엔드포인트별 복원력 정책 레지스트리
+ *
+ * 정책은 이름(예: "roboflow", "openrouter")으로 처음 요청될 때 생성되며 모든 호출자가 공유합니다.
+ * 상태는 Actuator(/actuator/circuitbreakers)와 Micrometer 게이지로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class ResilienceRegistry {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ResiliencePolicy> policies = new ConcurrentHashMap<>();
+
+    public ResilienceRegistry(
+            @Value("${app.resilience.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${app.resilience.minimum-calls:10}") int minimumCalls,
+            @Value("${app.resilience.slow-call-duration:PT20S}") Duration slowCallDuration,
+            @Value("${app.resilience.window:PT30S}") Duration window,
+            @Value("${app.resilience.window-buckets:10}") int windowBuckets,
+            @Value("${app.resilience.open-duration:PT30S}") Duration openDuration,
+            @Value("${app.resilience.half-open-probes:3}") int halfOpenProbes,
+            @Value("${app.resilience.retry-budget.ratio:0.2}") double retryRatio,
+            @Value("${app.resilience.retry-budget.min-retries-per-window:10}") int minRetriesPerWindow,
+            MeterRegistry meterRegistry) {
+        this.properties = new ResilienceProperties(failureRateThreshold, minimumCalls, slowCallDuration,
+                window, windowBuckets, openDuration, halfOpenProbes, retryRatio, minRetriesPerWindow);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ResiliencePolicy policy(String name) {
+        return policies.computeIfAbsent(name, this::createPolicy);
+    }
+
+    public Collection<ResiliencePolicy> getPolicies() {
+        return policies.values();
+    }
+
+    public Optional<ResiliencePolicy> find(String name) {
+        return Optional.ofNullable(policies.get(name));
+    }
+
+    private ResiliencePolicy createPolicy(String name) {
+        ResiliencePolicy policy = new ResiliencePolicy(name, properties);
+        CircuitBreaker breaker = policy.getCircuitBreaker();
+
+        Gauge.builder("resilience.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.circuit.failure.rate", breaker, b -> b.snapshot().failureRate())
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("resilience.circuit.rejected", breaker, b -> b.snapshot().rejectedCalls())
+                .tag("name", name)
+                .register(meterRegistry);
+
+        log.info("🛡️ 복원력 정책 생성 - {}: 실패율 {}%, 최소 호출 {}, OPEN {}, 시험 호출 {}, 재시도 비율 {}",
+                name, properties.failureRateThreshold(), properties.minimumCalls(),
+                properties.openDuration(), properties.halfOpenProbes(), properties.retryRatio());
+        return policy;
+    }
+}
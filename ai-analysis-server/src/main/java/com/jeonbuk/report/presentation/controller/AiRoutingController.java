@@ -4,6 +4,7 @@ import com.jeonbuk.report.application.service.AiRoutingService;
 import com.jeonbuk.report.application.service.IntegratedAiAgentService.InputData;
 import com.jeonbuk.report.dto.AIAnalysisRequest;
 import com.jeonbuk.report.dto.AIAnalysisResponse;
+import com.jeonbuk.report.infrastructure.job.AnalysisJob;
 import com.jeonbuk.report.service.RoboflowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,13 +15,17 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AI 분석 및 라우팅 컨트롤러
@@ -38,6 +43,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class AiRoutingController {
 
+    private static final int MAX_STREAMING_BATCH_SIZE = 50;
+    private static final int MAX_STATUS_WAIT_SECONDS = 60;
+    private static final long JOB_EVENTS_TIMEOUT_SECONDS = 5 * 60;
+    private static final long STREAMING_BATCH_TIMEOUT_MS = 10 * 60 * 1000L;
+
     private final AiRoutingService aiRoutingService;
     private final RoboflowService roboflowService;
 
@@ -323,26 +333,16 @@ public class AiRoutingController {
         try {
             validateImageFile(image);
 
-            // 비동기 처리 시작
-            String jobId = java.util.UUID.randomUUID().toString();
-
-            CompletableFuture.runAsync(() -> {
-                try {
-                    AIAnalysisRequest request = AIAnalysisRequest.builder()
-                            .image(image)
-                            .confidence(confidence)
-                            .overlap(overlap)
-                            .jobId(jobId)
-                            .build();
-
-                    roboflowService.analyzeImageAsync(request);
-                } catch (Exception e) {
-                    log.error("❌ 비동기 AI 분석 실패 (Job ID: {}): {}", jobId, e.getMessage(), e);
-                }
-            });
+            AIAnalysisRequest request = AIAnalysisRequest.builder()
+                    .image(image)
+                    .confidence(confidence)
+                    .overlap(overlap)
+                    .build();
 
-            log.info("🔄 비동기 AI 분석 시작 - Job ID: {}", jobId);
-            return ResponseEntity.accepted().body(jobId);
+            AnalysisJob job = roboflowService.submitAnalysisJob(request);
+
+            log.info("🔄 비동기 AI 분석 시작 - Job ID: {}", job.jobId());
+            return ResponseEntity.accepted().body(job.jobId());
 
         } catch (Exception e) {
             log.error("❌ 비동기 AI 분석 요청 실패: {}", e.getMessage(), e);
@@ -352,19 +352,63 @@ public class AiRoutingController {
 
     /**
      * 비동기 작업 상태 조회
+     * wait(초)를 지정하면 작업이 끝나거나 시간이 지날 때까지 응답을 보류 (롱폴링)
      */
-    @Operation(summary = "분석 작업 상태 조회", description = "비동기 분석 작업의 진행 상태를 조회합니다.")
+    @Operation(summary = "분석 작업 상태 조회", description = "비동기 분석 작업의 진행 상태를 조회합니다. wait 지정 시 완료까지 대기합니다.")
     @GetMapping("/analyze/status/{jobId}")
-    public ResponseEntity<AIAnalysisResponse> getAnalysisStatus(
-            @Parameter(description = "작업 ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable String jobId) {
+    public CompletableFuture<ResponseEntity<AnalysisJob>> getAnalysisStatus(
+            @Parameter(description = "작업 ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable String jobId,
+            @Parameter(description = "완료 대기 시간 (초, 최대 60)") @RequestParam(value = "wait", defaultValue = "0") @Min(0) @Max(60) int waitSeconds) {
+
+        Optional<AnalysisJob> current = roboflowService.getAnalysisJob(jobId);
+        if (current.isEmpty()) {
+            log.warn("❌ 작업 상태 조회 실패 - 작업 없음 (Job ID: {})", jobId);
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        if (waitSeconds <= 0 || current.get().status().isTerminal()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(current.get()));
+        }
 
-        try {
-            AIAnalysisResponse response = roboflowService.getAnalysisResult(jobId);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("❌ 작업 상태 조회 실패 (Job ID: {}): {}", jobId, e.getMessage());
+        return roboflowService.awaitAnalysisJob(jobId)
+                .map(future -> future
+                        .orTimeout(Math.min(waitSeconds, MAX_STATUS_WAIT_SECONDS), TimeUnit.SECONDS)
+                        .thenApply(ResponseEntity::ok)
+                        .exceptionally(ex -> roboflowService.getAnalysisJob(jobId)
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.notFound().build())))
+                .orElseGet(() -> CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * 비동기 작업 완료 통지 (SSE)
+     * 현재 상태를 "status" 이벤트로 즉시 보내고, 완료 시 "completed" 이벤트 후 연결 종료
+     */
+    @Operation(summary = "분석 작업 완료 구독", description = "비동기 분석 작업의 완료를 SSE로 통지받습니다.")
+    @GetMapping(value = "/analyze/status/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeAnalysisStatus(
+            @Parameter(description = "작업 ID", required = true) @PathVariable String jobId) {
+
+        Optional<AnalysisJob> current = roboflowService.getAnalysisJob(jobId);
+        Optional<CompletableFuture<AnalysisJob>> completion = roboflowService.awaitAnalysisJob(jobId);
+        if (current.isEmpty() || completion.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(JOB_EVENTS_TIMEOUT_SECONDS));
+        sendEvent(emitter, "status", current.get());
+
+        completion.get()
+                .orTimeout(JOB_EVENTS_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .whenComplete((job, error) -> {
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    sendEvent(emitter, "completed", job);
+                    emitter.complete();
+                });
+
+        return ResponseEntity.ok(emitter);
     }
 
     /**
@@ -403,6 +447,66 @@ public class AiRoutingController {
         }
     }
 
+    /**
+     * 배치 이미지 분석 (SSE 스트리밍)
+     * 이미지별 결과를 분석이 끝나는 즉시 "result" 이벤트로 보내고, 마지막에 "summary" 이벤트로 배치 통계 전송
+     */
+    @Operation(summary = "배치 이미지 분석 (스트리밍)", description = "여러 이미지를 일괄 분석하고 결과를 완료 순서대로 스트리밍합니다.")
+    @PostMapping(value = "/analyze/batch-images/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> analyzeBatchImagesStream(
+            @Parameter(description = "분석할 이미지 파일들", required = true) @RequestParam("images") MultipartFile[] images,
+            @RequestParam(value = "confidence", defaultValue = "50") Integer confidence,
+            @RequestParam(value = "overlap", defaultValue = "30") Integer overlap) {
+
+        log.info("📦 스트리밍 배치 AI 분석 요청 - 이미지 수: {}", images.length);
+
+        if (images.length > MAX_STREAMING_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body("한 번에 최대 " + MAX_STREAMING_BATCH_SIZE + "개 이미지까지 처리 가능합니다.");
+        }
+
+        try {
+            for (MultipartFile image : images) {
+                validateImageFile(image);
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(e.getMessage());
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAMING_BATCH_TIMEOUT_MS);
+
+        roboflowService.analyzeBatchImagesStreaming(images, confidence, overlap, (index, result) -> {
+                    Map<String, Object> event = new HashMap<>();
+                    event.put("index", index);
+                    event.put("result", result);
+                    sendEvent(emitter, "result", event);
+                })
+                .whenComplete((batch, error) -> {
+                    if (error != null) {
+                        log.error("❌ 스트리밍 배치 AI 분석 실패: {}", error.getMessage(), error);
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    sendEvent(emitter, "summary", batch.stats());
+                    emitter.complete();
+                });
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            // 여러 배치 스레드에서 호출되므로 이벤트 단위로 직렬화
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (클라이언트 연결 종료): {}", e.getMessage());
+        }
+    }
+
     /**
      * 테스트 시나리오별 AI 분석
      */
@@ -1,5 +1,6 @@
 package com.jeonbuk.report.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeonbuk.report.dto.AIAnalysisRequest;
@@ -8,21 +9,38 @@ import com.jeonbuk.report.dto.AIAnalysisResponse.DetectedObjectDto;
 import com.jeonbuk.report.dto.AIAnalysisResponse.BoundingBoxDto;
 import com.jeonbuk.report.domain.entity.ReportCategory;
 import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine.BatchListener;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine.BatchResult;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine.BatchStats;
+import com.jeonbuk.report.infrastructure.job.AnalysisJob;
+import com.jeonbuk.report.infrastructure.job.AnalysisJobStore;
+import com.jeonbuk.report.infrastructure.job.BufferedMultipartFile;
+import com.jeonbuk.report.infrastructure.resilience.CallNotPermittedException;
+import com.jeonbuk.report.infrastructure.resilience.ResiliencePolicy;
+import com.jeonbuk.report.infrastructure.resilience.ResilienceRegistry;
 import com.jeonbuk.report.repository.ReportCategoryRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -51,9 +69,11 @@ public class RoboflowService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final ReportCategoryRepository reportCategoryRepository;
+    private final BatchInferenceEngine batchEngine;
     
-    // 비동기 작업 결과 저장소 (실제 환경에서는 Redis 등 사용)
-    private final Map<String, AIAnalysisResponse> asyncResults = new ConcurrentHashMap<>();
+    private final AnalysisJobStore jobStore;
+    private final Executor aiApiExecutor;
+    private final ResiliencePolicy resiliencePolicy;
     
     // 한국어 클래스명 매핑 - 전북지역 인프라 문제 중심
     private final Map<String, String> koreanClassNames = Map.ofEntries(
@@ -119,11 +139,8 @@ public class RoboflowService {
         Map.entry("damaged_fence", "낮음")
     );
     
-    // Circuit breaker for API failures
-    private volatile boolean circuitBreakerOpen = false;
-    private volatile long lastFailureTime = 0;
-    private static final long CIRCUIT_BREAKER_TIMEOUT = 60000; // 1 minute
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofSeconds(1);
     
     // Performance metrics
     private final Map<String, Long> performanceMetrics = new ConcurrentHashMap<>();
@@ -135,10 +152,19 @@ public class RoboflowService {
     @Value("${roboflow.timeout.read:60000}")
     private int readTimeout;
     
-    public RoboflowService(RestTemplate restTemplate, ObjectMapper objectMapper, ReportCategoryRepository reportCategoryRepository) {
+    public RoboflowService(RestTemplate restTemplate, ObjectMapper objectMapper,
+                           ReportCategoryRepository reportCategoryRepository,
+                           BatchInferenceEngine batchEngine,
+                           AnalysisJobStore jobStore,
+                           @Qualifier("aiApiExecutor") Executor aiApiExecutor,
+                           ResilienceRegistry resilienceRegistry) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.reportCategoryRepository = reportCategoryRepository;
+        this.batchEngine = batchEngine;
+        this.jobStore = jobStore;
+        this.aiApiExecutor = aiApiExecutor;
+        this.resiliencePolicy = resilienceRegistry.policy("roboflow");
     }
     
     /**
@@ -148,12 +174,6 @@ public class RoboflowService {
         long startTime = System.currentTimeMillis();
         
         try {
-            // Circuit breaker 확인
-            if (isCircuitBreakerOpen()) {
-                log.warn("⚡ Circuit breaker가 열려있어 요청을 거부합니다");
-                return buildErrorResponse("서비스 일시 중단 중입니다. 잠시 후 다시 시도해주세요.", 0L);
-            }
-            
             validateConfiguration();
             validateRequest(request);
             
@@ -161,124 +181,153 @@ public class RoboflowService {
                 request.getImage().getOriginalFilename(), 
                 request.getImage().getSize());
             
-            // 재시도 로직으로 API 호출
+            // 서킷 브레이커 + 재시도 예산을 거쳐 API 호출
             AIAnalysisResponse response = executeWithRetry(request, startTime);
             
-            // 성공 시 circuit breaker 리셋
-            resetCircuitBreaker();
-            
             // 성능 메트릭 기록
             recordPerformanceMetrics("analyze_image", System.currentTimeMillis() - startTime);
             
             return response;
             
+        } catch (CallNotPermittedException e) {
+            log.warn("⚡ Circuit breaker가 열려있어 요청을 거부합니다");
+            return buildErrorResponse("서비스 일시 중단 중입니다. 잠시 후 다시 시도해주세요.", 0L);
+            
         } catch (Exception e) {
             long processingTime = System.currentTimeMillis() - startTime;
             log.error("❌ 이미지 분석 최종 실패", e);
             
-            // Circuit breaker 트리거
-            triggerCircuitBreaker();
-            
             return buildErrorResponse("분석 중 오류가 발생했습니다: " + e.getMessage(), processingTime);
         }
     }
     
     /**
      * 재시도 로직을 포함한 API 호출 실행
+     * 
+     * 각 시도는 서킷 브레이커 허가를 받아야 하며, 재시도는 재시도 예산 안에서만 수행합니다.
+     * 네트워크 오류, 5xx, 429만 상류 장애로 집계하고 재시도합니다.
      */
-    private AIAnalysisResponse executeWithRetry(AIAnalysisRequest request, long startTime) throws Exception {
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+    private AIAnalysisResponse executeWithRetry(AIAnalysisRequest request, long startTime) {
+        // 요청은 한 번만 구성하여 모든 재시도에서 재사용
+        String url = buildApiUrl(request.getConfidence(), request.getOverlap());
+        HttpEntity<MultiValueMap<String, Object>> requestEntity = buildMultipartRequest(request.getImage());
+        
+        return resiliencePolicy.execute(() -> {
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                url, requestEntity, String.class);
+            
+            long processingTime = System.currentTimeMillis() - startTime;
+            
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("API 응답 오류: " + response.getStatusCode());
+            }
             try {
-                log.debug("🔄 API 호출 시도 {}/{}", attempt, MAX_RETRY_ATTEMPTS);
-                
-                String url = buildApiUrl(request.getConfidence(), request.getOverlap());
-                
-                // HTTP 요청 구성
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-                headers.set("User-Agent", "Jeonbuk-FieldReport/2.0.1");
-                
-                MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-                body.add("file", new ByteArrayResource(request.getImage().getBytes()) {
-                    @Override
-                    public String getFilename() {
-                        return request.getImage().getOriginalFilename();
-                    }
-                });
-                
-                HttpEntity<MultiValueMap<String, Object>> requestEntity = 
-                    new HttpEntity<>(body, headers);
-                
-                // API 호출
-                ResponseEntity<String> response = restTemplate.postForEntity(
-                    url, requestEntity, String.class);
-                
-                long processingTime = System.currentTimeMillis() - startTime;
-                
-                if (response.getStatusCode().is2xxSuccessful()) {
-                    JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-                    log.info("✅ API 호출 성공 (시도 {}/{})", attempt, MAX_RETRY_ATTEMPTS);
-                    return buildSuccessResponse(jsonResponse, processingTime, request.getJobId());
-                } else {
-                    throw new RuntimeException("API 응답 오류: " + response.getStatusCode());
-                }
-                
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("⚠️ API 호출 실패 (시도 {}/{}): {}", attempt, MAX_RETRY_ATTEMPTS, e.getMessage());
-                
-                // 마지막 시도가 아니면 잠시 대기
-                if (attempt < MAX_RETRY_ATTEMPTS) {
-                    try {
-                        Thread.sleep(1000 * attempt); // 지수 백오프
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("분석이 중단되었습니다", ie);
-                    }
-                }
+                JsonNode jsonResponse = objectMapper.readTree(response.getBody());
+                log.info("✅ API 호출 성공");
+                return buildSuccessResponse(jsonResponse, processingTime, request.getJobId());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("API 응답 파싱 실패: " + e.getOriginalMessage(), e);
             }
+        }, MAX_RETRY_ATTEMPTS, INITIAL_RETRY_BACKOFF, RoboflowService::isTransientFailure);
+    }
+    
+    private static boolean isTransientFailure(Throwable e) {
+        return e instanceof ResourceAccessException
+            || e instanceof HttpServerErrorException
+            || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+    
+    /**
+     * 스트리밍 multipart 요청 구성
+     * 
+     * 이미지 바이트를 힙에 복사하지 않고 MultipartFile의 Resource를 그대로 파트로 사용합니다.
+     * 전송 시마다 Tomcat 임시 파일(또는 메모리 파트)에서 8KB 단위로 읽어 요청 스트림에 바로 쓰며,
+     * 재시도 시에도 같은 Resource를 다시 열어 읽으므로 추가 복사가 없습니다.
+     * 길이를 알 수 없는 multipart 본문은 HttpComponents 팩토리에서 chunked 전송됩니다.
+     */
+    private HttpEntity<MultiValueMap<String, Object>> buildMultipartRequest(MultipartFile image) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.set("User-Agent", "Jeonbuk-FieldReport/2.0.1");
+        
+        HttpHeaders partHeaders = new HttpHeaders();
+        if (image.getContentType() != null) {
+            partHeaders.setContentType(MediaType.parseMediaType(image.getContentType()));
         }
         
-        throw new RuntimeException("최대 재시도 횟수 초과", lastException);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new HttpEntity<>(image.getResource(), partHeaders));
+        
+        return new HttpEntity<>(body, headers);
     }
     
     /**
-     * 이미지 AI 분석 (비동기)
+     * 이미지 AI 분석 작업 제출 (비동기)
+     * 
+     * 요청이 끝나면 업로드 임시 파일이 삭제되므로 이미지를 한 번 메모리에 읽어 작업에 넘깁니다.
+     * 작업은 AI API 전용 스레드 풀에서 실행되며, 풀이 포화되면 즉시 FAILED로 기록됩니다.
      */
-    public void analyzeImageAsync(AIAnalysisRequest request) {
+    public AnalysisJob submitAnalysisJob(AIAnalysisRequest request) throws IOException {
+        AIAnalysisRequest detached = AIAnalysisRequest.builder()
+            .image(BufferedMultipartFile.of(request.getImage()))
+            .confidence(request.getConfidence())
+            .overlap(request.getOverlap())
+            .metadata(request.getMetadata())
+            .build();
+        
+        AnalysisJob job = jobStore.create();
+        detached.setJobId(job.jobId());
+        
+        try {
+            aiApiExecutor.execute(() -> runAnalysisJob(detached));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 비동기 분석 거부 - Job ID: {}: {}", job.jobId(), e.getMessage());
+            jobStore.fail(job.jobId(), null, "분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        log.info("🔄 비동기 분석 등록 - Job ID: {}", job.jobId());
+        return job;
+    }
+    
+    private void runAnalysisJob(AIAnalysisRequest request) {
         String jobId = request.getJobId();
         
         try {
             log.info("🔄 비동기 분석 시작 - Job ID: {}", jobId);
+            jobStore.markRunning(jobId);
             
             AIAnalysisResponse result = analyzeImage(request);
             result.setJobId(jobId);
             
-            // 결과 저장 (실제 환경에서는 Redis 등 사용)
-            asyncResults.put(jobId, result);
-            
-            log.info("✅ 비동기 분석 완료 - Job ID: {}", jobId);
+            if (Boolean.TRUE.equals(result.getSuccess())) {
+                jobStore.complete(jobId, result);
+                log.info("✅ 비동기 분석 완료 - Job ID: {}", jobId);
+            } else {
+                jobStore.fail(jobId, result, result.getErrorMessage());
+                log.warn("⚠️ 비동기 분석 실패 - Job ID: {}: {}", jobId, result.getErrorMessage());
+            }
             
         } catch (Exception e) {
             log.error("❌ 비동기 분석 실패 - Job ID: {}", jobId, e);
             
             AIAnalysisResponse errorResult = buildErrorResponse(e.getMessage(), 0L);
             errorResult.setJobId(jobId);
-            asyncResults.put(jobId, errorResult);
+            jobStore.fail(jobId, errorResult, e.getMessage());
         }
     }
     
     /**
-     * 비동기 분석 결과 조회
+     * 비동기 분석 작업 조회
      */
-    public AIAnalysisResponse getAnalysisResult(String jobId) {
-        AIAnalysisResponse result = asyncResults.get(jobId);
-        if (result == null) {
-            throw new RuntimeException("작업을 찾을 수 없습니다: " + jobId);
-        }
-        return result;
+    public Optional<AnalysisJob> getAnalysisJob(String jobId) {
+        return jobStore.find(jobId);
+    }
+    
+    /**
+     * 비동기 분석 작업 완료 대기 (SSE/롱폴링용)
+     */
+    public Optional<CompletableFuture<AnalysisJob>> awaitAnalysisJob(String jobId) {
+        return jobStore.awaitCompletion(jobId);
     }
     
     /**
@@ -317,7 +366,7 @@ public class RoboflowService {
     }
     
     /**
-     * 배치 이미지 분석 - 향상된 병렬 처리 및 진행률 추적
+     * 배치 이미지 분석 - 동시성·속도 제한 배치 엔진 사용, 입력 순서대로 결과 반환
      */
     public List<AIAnalysisResponse> analyzeBatchImages(
             MultipartFile[] images, Integer confidence, Integer overlap) {
@@ -327,57 +376,87 @@ public class RoboflowService {
             return Collections.emptyList();
         }
         
-        long startTime = System.currentTimeMillis();
         log.info("📦 배치 분석 시작 - {} 개 이미지, 신뢰도: {}%, 겹침: {}%", 
             images.length, confidence, overlap);
         
-        List<AIAnalysisResponse> results = Collections.synchronizedList(new ArrayList<>());
-        
-        // 병렬 처리를 위한 스트림 사용
-        Arrays.stream(images)
-            .parallel()
-            .forEach(image -> {
-                try {
-                    long imageStartTime = System.currentTimeMillis();
-                    
-                    AIAnalysisRequest request = AIAnalysisRequest.builder()
-                        .image(image)
-                        .confidence(confidence)
-                        .overlap(overlap)
-                        .build();
-                    
-                    AIAnalysisResponse result = analyzeImage(request);
-                    result.setProcessingTime(System.currentTimeMillis() - imageStartTime);
-                    results.add(result);
-                    
-                    log.debug("✅ 배치 분석 완료 - 파일: {}, 감지: {}개", 
-                        image.getOriginalFilename(), 
-                        result.getDetections() != null ? result.getDetections().size() : 0);
-                    
-                } catch (Exception e) {
-                    log.error("❌ 배치 분석 중 오류 - 파일: {}", 
-                        image.getOriginalFilename(), e);
-                    
-                    AIAnalysisResponse errorResult = buildErrorResponse(
-                        "파일 분석 실패: " + e.getMessage(), 0L);
-                    errorResult.setJobId("batch_error_" + System.currentTimeMillis());
-                    results.add(errorResult);
+        BatchResult<AIAnalysisResponse> batch = batchEngine.execute(
+            Arrays.asList(images),
+            image -> analyzeBatchItem(image, confidence, overlap),
+            this::buildBatchErrorResponse,
+            null);
+        
+        recordBatchMetrics(batch);
+        return batch.results();
+    }
+    
+    /**
+     * 배치 이미지 분석 (스트리밍) - 각 이미지 분석이 끝나는 즉시 listener로 전달
+     * 
+     * @param listener 완료 순서대로 (입력 인덱스, 결과)를 받는 콜백
+     * @return 입력 순서대로 정렬된 전체 결과와 배치 통계
+     */
+    public CompletableFuture<BatchResult<AIAnalysisResponse>> analyzeBatchImagesStreaming(
+            MultipartFile[] images, Integer confidence, Integer overlap,
+            BatchListener<AIAnalysisResponse> listener) {
+        
+        log.info("📦 스트리밍 배치 분석 시작 - {} 개 이미지, 신뢰도: {}%, 겹침: {}%", 
+            images.length, confidence, overlap);
+        
+        return batchEngine.submit(
+                Arrays.asList(images),
+                image -> analyzeBatchItem(image, confidence, overlap),
+                this::buildBatchErrorResponse,
+                listener)
+            .whenComplete((batch, error) -> {
+                if (batch != null) {
+                    recordBatchMetrics(batch);
                 }
             });
+    }
+    
+    private AIAnalysisResponse analyzeBatchItem(MultipartFile image, Integer confidence, Integer overlap) {
+        long imageStartTime = System.currentTimeMillis();
         
-        long totalTime = System.currentTimeMillis() - startTime;
-        long successCount = results.stream()
-            .mapToLong(r -> r.getSuccess() ? 1 : 0)
-            .sum();
+        AIAnalysisRequest request = AIAnalysisRequest.builder()
+            .image(image)
+            .confidence(confidence)
+            .overlap(overlap)
+            .build();
         
-        log.info("📊 배치 분석 완료 - 성공: {}/{}, 총 소요시간: {}ms", 
-            successCount, images.length, totalTime);
+        AIAnalysisResponse result = analyzeImage(request);
+        result.setProcessingTime(System.currentTimeMillis() - imageStartTime);
         
-        // 성능 메트릭 기록
-        recordPerformanceMetrics("batch_analysis", totalTime);
-        recordPerformanceMetrics("batch_success_rate", (successCount * 100) / images.length);
+        log.debug("✅ 배치 분석 완료 - 파일: {}, 감지: {}개", 
+            image.getOriginalFilename(), 
+            result.getDetections() != null ? result.getDetections().size() : 0);
         
-        return results;
+        return result;
+    }
+    
+    private AIAnalysisResponse buildBatchErrorResponse(MultipartFile image, Throwable error) {
+        log.error("❌ 배치 분석 중 오류 - 파일: {}", image.getOriginalFilename(), error);
+        
+        AIAnalysisResponse errorResult = buildErrorResponse(
+            "파일 분석 실패: " + error.getMessage(), 0L);
+        errorResult.setJobId("batch_error_" + System.currentTimeMillis());
+        return errorResult;
+    }
+    
+    private void recordBatchMetrics(BatchResult<AIAnalysisResponse> batch) {
+        BatchStats stats = batch.stats();
+        long successCount = batch.results().stream()
+            .filter(r -> Boolean.TRUE.equals(r.getSuccess()))
+            .count();
+        
+        log.info("📊 배치 분석 완료 - 성공: {}/{}, 총 소요시간: {}ms, p50: {}ms, p95: {}ms", 
+            successCount, stats.total(), stats.elapsedMillis(), stats.p50Millis(), stats.p95Millis());
+        
+        // 성능 메트릭 기록
+        recordPerformanceMetrics("batch_analysis", stats.elapsedMillis());
+        recordPerformanceMetrics("batch_success_rate", (successCount * 100) / stats.total());
+        performanceMetrics.put("batch_item_p50_duration", stats.p50Millis());
+        performanceMetrics.put("batch_item_p95_duration", stats.p95Millis());
+        performanceMetrics.put("batch_throughput_per_minute", Math.round(stats.throughputPerSecond() * 60));
     }
     
     /**
@@ -747,43 +826,6 @@ public class RoboflowService {
         }
     }
     
-    /**
-     * Circuit breaker 상태 확인
-     */
-    private boolean isCircuitBreakerOpen() {
-        if (!circuitBreakerOpen) {
-            return false;
-        }
-        
-        // 타임아웃 후 half-open 상태로 전환
-        if (System.currentTimeMillis() - lastFailureTime > CIRCUIT_BREAKER_TIMEOUT) {
-            log.info("🔄 Circuit breaker half-open 상태로 전환");
-            circuitBreakerOpen = false;
-        }
-        
-        return circuitBreakerOpen;
-    }
-    
-    /**
-     * Circuit breaker 트리거
-     */
-    private void triggerCircuitBreaker() {
-        circuitBreakerOpen = true;
-        lastFailureTime = System.currentTimeMillis();
-        log.warn("⚡ Circuit breaker 활성화 - {} 후 재시도 가능", 
-            CIRCUIT_BREAKER_TIMEOUT / 1000 + "초");
-    }
-    
-    /**
-     * Circuit breaker 리셋
-     */
-    private void resetCircuitBreaker() {
-        if (circuitBreakerOpen) {
-            circuitBreakerOpen = false;
-            log.info("✅ Circuit breaker 정상 상태로 복구");
-        }
-    }
-    
     /**
      * 성능 메트릭 기록
      */
@@ -805,10 +847,11 @@ public class RoboflowService {
      */
     public Map<String, Object> getPerformanceMetrics() {
         Map<String, Object> metrics = new HashMap<>();
-        metrics.put("circuit_breaker_status", circuitBreakerOpen ? "OPEN" : "CLOSED");
-        metrics.put("last_failure_time", lastFailureTime);
+        metrics.put("circuit_breaker_status", resiliencePolicy.getCircuitBreaker().getState().name());
+        metrics.put("circuit_breaker", resiliencePolicy.getCircuitBreaker().snapshot());
+        metrics.put("retry_budget", resiliencePolicy.getRetryBudget().snapshot());
         metrics.put("performance_data", new HashMap<>(performanceMetrics));
-        metrics.put("async_jobs_count", asyncResults.size());
+        metrics.put("async_jobs_count", jobStore.size());
         return metrics;
     }
 }
@@ -0,0 +1,206 @@
+package com.jeonbuk.report.infrastructure.batch;
+
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine.BatchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 추론 엔진 테스트
+ *
+ * 운영 설정(AsyncConfig.roboflowBatchExecutor)과 같이 풀 크기와 큐 용량을
+ * 동시 실행 상한과 같게 두고 AbortPolicy로 거부하도록 구성합니다.
+ */
+class BatchInferenceEngineTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+
+    private ThreadPoolExecutor pool;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchInferenceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ThreadPoolExecutor(MAX_CONCURRENCY, MAX_CONCURRENCY, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_CONCURRENCY), new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new BatchInferenceEngine("test", pool, MAX_CONCURRENCY,
+                new TokenBucketRateLimiter(1_000, 1_000), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("완료 순서와 관계없이 결과는 입력 순서로 반환된다")
+    void execute_OutOfOrderCompletion_ShouldKeepInputOrder() {
+        List<Integer> inputs = List.of(40, 5, 25, 1, 10);
+
+        BatchResult<String> batch = engine.execute(inputs,
+                delay -> {
+                    sleep(delay);
+                    return "done-" + delay;
+                },
+                (delay, error) -> "failed-" + delay,
+                null);
+
+        assertThat(batch.results()).containsExactly("done-40", "done-5", "done-25", "done-1", "done-10");
+        assertThat(batch.stats().total()).isEqualTo(5);
+        assertThat(engine.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 리스너가 있어도 항목이 거부되어 실패로 처리되지 않는다")
+    void execute_SlowListener_ShouldNotOverflowPoolQueue() {
+        List<Integer> inputs = IntStream.range(0, 12).boxed().toList();
+        AtomicInteger inFlightDuringCallback = new AtomicInteger(Integer.MAX_VALUE);
+
+        BatchResult<String> batch = engine.execute(inputs,
+                index -> "ok-" + index,
+                (index, error) -> "failed-" + index,
+                (index, result) -> {
+                    inFlightDuringCallback.accumulateAndGet(engine.inFlight(), Math::min);
+                    sleep(20);
+                });
+
+        assertThat(batch.results()).allMatch(result -> result.startsWith("ok-"));
+        // 콜백이 끝날 때까지 허가를 유지하므로 콜백 중 실행 수는 최소 1
+        assertThat(inFlightDuringCallback.get()).isGreaterThanOrEqualTo(1);
+        assertThat(engine.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업 예외는 대체 결과로 바뀌고 나머지 항목은 계속 처리된다")
+    void execute_TaskThrows_ShouldUseFallbackForThatItem() {
+        BatchResult<String> batch = engine.execute(List.of(1, 2, 3),
+                value -> {
+                    if (value == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return "ok-" + value;
+                },
+                (value, error) -> "failed-" + value + ":" + error.getMessage(),
+                null);
+
+        assertThat(batch.results()).containsExactly("ok-1", "failed-2:boom", "ok-3");
+    }
+
+    @Test
+    @DisplayName("리스너 예외는 배치 결과에 영향을 주지 않는다")
+    void execute_ListenerThrows_ShouldStillCompleteBatch() {
+        AtomicInteger callbacks = new AtomicInteger();
+
+        BatchResult<String> batch = engine.execute(List.of(1, 2, 3),
+                value -> "ok-" + value,
+                (value, error) -> "failed-" + value,
+                (index, result) -> {
+                    callbacks.incrementAndGet();
+                    throw new IllegalStateException("listener failed");
+                });
+
+        assertThat(batch.results()).containsExactly("ok-1", "ok-2", "ok-3");
+        assertThat(callbacks.get()).isEqualTo(3);
+        assertThat(engine.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행자가 거부하면 대체 결과를 쓰고 허가를 반환한다")
+    void execute_RejectedByExecutor_ShouldFallbackAndReleasePermit() {
+        BatchInferenceEngine rejecting = new BatchInferenceEngine("rejecting",
+                command -> {
+                    throw new RejectedExecutionException("full");
+                },
+                MAX_CONCURRENCY, new TokenBucketRateLimiter(1_000, 1_000), meterRegistry);
+
+        BatchResult<String> batch = rejecting.execute(List.of(1, 2, 3),
+                value -> "ok-" + value,
+                (value, error) -> "rejected-" + value,
+                null);
+
+        assertThat(batch.results()).containsExactly("rejected-1", "rejected-2", "rejected-3");
+        assertThat(rejecting.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 제출은 배치 결과로 완료된다")
+    void submit_ShouldCompleteWithOrderedResults() throws Exception {
+        BatchResult<String> batch = engine.submit(List.of(3, 1, 2),
+                        value -> "ok-" + value,
+                        (value, error) -> "failed-" + value,
+                        null)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(batch.results()).containsExactly("ok-3", "ok-1", "ok-2");
+    }
+
+    @Test
+    @DisplayName("비동기 작업 배치는 엔진 풀을 거치지 않고 동시 실행 상한을 지킨다")
+    void submitAsync_AsyncTasks_ShouldBypassPoolAndRespectLimit() throws Exception {
+        BatchInferenceEngine asyncOnly = new BatchInferenceEngine("async",
+                command -> {
+                    throw new RejectedExecutionException("engine pool must not be used");
+                },
+                MAX_CONCURRENCY, new TokenBucketRateLimiter(1_000, 1_000), meterRegistry);
+        ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try {
+            BatchResult<String> batch = asyncOnly.submitAsync(IntStream.range(0, 8).boxed().toList(),
+                            value -> CompletableFuture.supplyAsync(() -> {
+                                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                sleep(20);
+                                running.decrementAndGet();
+                                if (value == 5) {
+                                    throw new IllegalStateException("upstream down");
+                                }
+                                return "ok-" + value;
+                            }, io),
+                            (value, error) -> "failed-" + value + ":" + error.getMessage(),
+                            null)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(batch.results()).containsExactly("ok-0", "ok-1", "ok-2", "ok-3", "ok-4",
+                    "failed-5:upstream down", "ok-6", "ok-7");
+            assertThat(peak.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+            assertThat(asyncOnly.inFlight()).isZero();
+        } finally {
+            io.close();
+        }
+    }
+
+    @Test
+    @DisplayName("백분위수는 최근접 순위로 계산한다")
+    void percentile_ShouldUseNearestRank() {
+        long[] sorted = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+        assertThat(BatchInferenceEngine.percentile(sorted, 0.5)).isEqualTo(50);
+        assertThat(BatchInferenceEngine.percentile(sorted, 0.95)).isEqualTo(100);
+        assertThat(BatchInferenceEngine.percentile(new long[0], 0.5)).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.jeonbuk.report.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토큰 버킷 속도 제한기 테스트 (주입한 시계로 시간 경과를 제어)
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("처음에는 burst 개수만큼 즉시 획득하고 이후에는 거부한다")
+    void tryAcquire_InitialBurst_ShouldAllowBurstThenReject() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 3, clock::get);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("경과 시간에 비례해 토큰이 다시 채워진다")
+    void tryAcquire_AfterElapsedTime_ShouldRefillAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1, clock::get);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        // 초당 5개 → 토큰 1개에 200ms
+        advance(150);
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        advance(50);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst 개수까지만 쌓인다")
+    void tryAcquire_LongIdle_ShouldCapAtBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        advance(60_000);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("acquire는 토큰이 채워질 때까지 대기한 뒤 반환한다")
+    void acquire_EmptyBucket_ShouldWaitForNextToken() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 1);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 초당 20개 → 다음 토큰까지 약 50ms
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("초당 허가 수가 0 이하이면 생성할 수 없다")
+    void constructor_NonPositiveRate_ShouldThrow() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
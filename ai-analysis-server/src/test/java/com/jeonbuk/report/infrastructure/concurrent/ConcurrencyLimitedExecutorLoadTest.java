@@ -0,0 +1,149 @@
+package com.jeonbuk.report.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가상 스레드 I/O 실행자 부하 테스트
+ *
+ * 외부 AI API 호출을 고정 지연(sleep)으로 흉내 내고,
+ * 동시 실행 상한을 늘릴 때 처리량이 비례해서 늘어나는지 확인합니다.
+ */
+class ConcurrencyLimitedExecutorLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitedExecutorLoadTest.class);
+    private static final long UPSTREAM_LATENCY_MS = 50;
+    private static final int CALLS_PER_ROUND = 256;
+
+    private ExecutorService virtualThreads;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualThreads.close();
+    }
+
+    @Test
+    @DisplayName("동시 실행 상한이 커질수록 블로킹 AI 호출 처리량이 늘어난다")
+    void execute_HigherConcurrency_ShouldScaleThroughput() throws Exception {
+        Map<Integer, Double> throughputByConcurrency = new LinkedHashMap<>();
+        for (int concurrency : new int[]{4, 16, 64}) {
+            ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor("load-" + concurrency,
+                    virtualThreads, concurrency, CALLS_PER_ROUND, meterRegistry);
+            throughputByConcurrency.put(concurrency, measureThroughput(executor, CALLS_PER_ROUND));
+        }
+
+        throughputByConcurrency.forEach((concurrency, throughput) ->
+                log.info("동시 실행 {} → {} calls/s", concurrency, String.format("%.1f", throughput)));
+
+        // 이론값: concurrency / 지연(50ms) = 80, 320, 1280 calls/s
+        assertThat(throughputByConcurrency.get(16)).isGreaterThan(throughputByConcurrency.get(4) * 2.5);
+        assertThat(throughputByConcurrency.get(64)).isGreaterThan(throughputByConcurrency.get(16) * 2.5);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수는 상한을 넘지 않는다")
+    void execute_ManyTasks_ShouldNeverExceedLimit() throws Exception {
+        int limit = 8;
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor("bounded", virtualThreads,
+                limit, 200, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(peak.get()).isEqualTo(limit);
+        // 작업의 future는 task.run() 안에서 완료되고 허가 반납/대기 수 감소는 그 뒤에 일어나므로 잠시 기다림
+        assertThat(waitUntil(() -> executor.pending() == 0 && executor.inFlight() == 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 상한을 넘는 작업은 거부한다")
+    void execute_OverQueueCapacity_ShouldReject() throws Exception {
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor("saturated", virtualThreads,
+                1, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+    }
+
+    private static double measureThroughput(ConcurrencyLimitedExecutor executor, int calls) throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(calls);
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            futures.add(CompletableFuture.runAsync(() -> sleep(UPSTREAM_LATENCY_MS), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).get(60, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return calls / elapsedSeconds;
+    }
+
+    // 최대 1초 동안 조건 확인
+    private static boolean waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            sleep(5);
+        }
+        return true;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
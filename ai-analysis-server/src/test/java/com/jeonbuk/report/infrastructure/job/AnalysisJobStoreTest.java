@@ -0,0 +1,162 @@
+package com.jeonbuk.report.infrastructure.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 분석 작업 저장소 테스트 (로컬 계층만 사용)
+ */
+class AnalysisJobStoreTest {
+
+    private AnalysisJobStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업은 QUEUED → RUNNING → DONE 순서로 상태가 바뀌고 결과를 보관한다")
+    void complete_ShouldStoreResultAsDone() {
+        store = newStore(10, Duration.ofMinutes(1));
+        AnalysisJob job = store.create();
+        assertThat(job.status()).isEqualTo(AnalysisJobStatus.QUEUED);
+
+        store.markRunning(job.jobId());
+        assertThat(store.find(job.jobId())).get()
+                .extracting(AnalysisJob::status).isEqualTo(AnalysisJobStatus.RUNNING);
+
+        store.complete(job.jobId(), Map.of("detections", 3));
+        AnalysisJob done = store.find(job.jobId()).orElseThrow();
+        assertThat(done.status()).isEqualTo(AnalysisJobStatus.DONE);
+        assertThat(done.result().get("detections").asInt()).isEqualTo(3);
+        assertThat(done.createdAt()).isEqualTo(job.createdAt());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 작업은 조회되지 않고 로컬 계층에서 제거된다")
+    void find_AfterTtl_ShouldExpireJob() throws InterruptedException {
+        store = newStore(10, Duration.ofMillis(50));
+        AnalysisJob job = store.create();
+        assertThat(store.find(job.jobId())).isPresent();
+
+        Thread.sleep(100);
+
+        assertThat(store.find(job.jobId())).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 작업에 대한 상태 변경은 무시된다")
+    void complete_ExpiredJob_ShouldBeIgnored() throws InterruptedException {
+        store = newStore(10, Duration.ofMillis(50));
+        AnalysisJob job = store.create();
+
+        Thread.sleep(100);
+        store.complete(job.jobId(), Map.of("detections", 1));
+
+        assertThat(store.find(job.jobId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래된 작업부터 제거된다")
+    void create_OverMaxEntries_ShouldEvictOldest() {
+        store = newStore(2, Duration.ofMinutes(1));
+        AnalysisJob first = store.create();
+        AnalysisJob second = store.create();
+        AnalysisJob third = store.create();
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find(first.jobId())).isEmpty();
+        assertThat(store.find(second.jobId())).isPresent();
+        assertThat(store.find(third.jobId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("완료 대기 future는 작업이 끝나면 완료 상태로 끝난다")
+    void awaitCompletion_RunningJob_ShouldCompleteWhenJobFinishes() throws Exception {
+        store = newStore(10, Duration.ofMinutes(1));
+        AnalysisJob job = store.create();
+        store.markRunning(job.jobId());
+
+        CompletableFuture<AnalysisJob> completion = store.awaitCompletion(job.jobId()).orElseThrow();
+        assertThat(completion).isNotDone();
+
+        store.fail(job.jobId(), null, "모델 오류");
+
+        AnalysisJob failed = completion.get(1, TimeUnit.SECONDS);
+        assertThat(failed.status()).isEqualTo(AnalysisJobStatus.FAILED);
+        assertThat(failed.errorMessage()).isEqualTo("모델 오류");
+    }
+
+    @Test
+    @DisplayName("대기자별 future는 독립적이어서 한 대기자의 타임아웃이 다른 대기자에 영향을 주지 않는다")
+    void awaitCompletion_TimeoutOnOneWaiter_ShouldNotAffectOthers() throws Exception {
+        store = newStore(10, Duration.ofMinutes(1));
+        AnalysisJob job = store.create();
+
+        CompletableFuture<AnalysisJob> impatient = store.awaitCompletion(job.jobId()).orElseThrow()
+                .orTimeout(10, TimeUnit.MILLISECONDS);
+        CompletableFuture<AnalysisJob> patient = store.awaitCompletion(job.jobId()).orElseThrow();
+
+        assertThatThrownBy(() -> impatient.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        store.complete(job.jobId(), Map.of("detections", 0));
+        assertThat(patient.get(1, TimeUnit.SECONDS).status()).isEqualTo(AnalysisJobStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업은 즉시 완료된 future를, 없는 작업은 empty를 반환한다")
+    void awaitCompletion_TerminalOrUnknownJob() {
+        store = newStore(10, Duration.ofMinutes(1));
+        AnalysisJob job = store.create();
+        store.complete(job.jobId(), Map.of());
+
+        Optional<CompletableFuture<AnalysisJob>> done = store.awaitCompletion(job.jobId());
+        assertThat(done).isPresent();
+        assertThat(done.get()).isCompleted();
+        assertThat(store.awaitCompletion("unknown-job")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업이 용량 초과로 제거되면 대기자는 예외로 끝난다")
+    void awaitCompletion_EvictedJob_ShouldFailWaiter() {
+        store = newStore(1, Duration.ofMinutes(1));
+        AnalysisJob job = store.create();
+        CompletableFuture<AnalysisJob> completion = store.awaitCompletion(job.jobId()).orElseThrow();
+
+        store.create();
+
+        assertThatThrownBy(() -> completion.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static AnalysisJobStore newStore(int maxEntries, Duration ttl) {
+        return new AnalysisJobStore(maxEntries, ttl, false,
+                new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,239 @@
+package com.jeonbuk.report.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.AnalysisBatchProcessor;
+import com.jeonbuk.report.infrastructure.batch.BatchInferenceEngine;
+import com.jeonbuk.report.infrastructure.batch.TokenBucketRateLimiter;
+import com.jeonbuk.report.infrastructure.config.KafkaConsumerConfig;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
+import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowApiClient;
+import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowDto.RoboflowAnalysisResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 분석 요청 컨슈머 파이프라인 테스트 (임베디드 Kafka)
+ *
+ * 요청 토픽 → 배치 리스너 → 모델별 분석 → 결과 토픽 / DLT 흐름을 실제 브로커로 확인합니다.
+ * 외부 AI API만 목으로 대체합니다.
+ */
+@SpringBootTest(
+        classes = {
+                KafkaConsumerConfig.class,
+                AnalysisRequestListener.class,
+                AnalysisResultPublisher.class,
+                AnalysisBatchProcessor.class,
+                AnalysisRequestListenerTest.TestConfig.class
+        },
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "spring.kafka.consumer.group-id=ai-analysis-workers-test",
+                "spring.kafka.consumer.auto-offset-reset=earliest",
+                "spring.kafka.consumer.enable-auto-commit=false",
+                "spring.kafka.consumer.key-deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                "spring.kafka.consumer.value-deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                "app.kafka.topics.partitions=3",
+                "app.kafka.consumer.concurrency=2",
+                "app.kafka.consumer.default-model-id=default-model/1",
+                "app.kafka.consumer.retry.interval=PT0.1S"
+        })
+@ImportAutoConfiguration(KafkaAutoConfiguration.class)
+@EmbeddedKafka(partitions = 3)
+class AnalysisRequestListenerTest {
+
+    private static final String REQUESTS_TOPIC = "ai-analysis-events";
+    private static final String RESULTS_TOPIC = "analysis_results";
+    private static final String DLT_TOPIC = "ai-analysis-events.DLT";
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RoboflowApiClient roboflowApiClient;
+
+    @MockBean
+    private OpenRouterApiClient openRouterApiClient;
+
+    private KafkaTemplate<String, String> requestTemplate;
+    private Consumer<String, String> resultConsumer;
+    private final List<ConsumerRecord<String, String>> bufferedRecords = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        requestTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("result-reader-" + System.nanoTime(), "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        resultConsumer = new DefaultKafkaConsumerFactory<String, String>(consumerProps).createConsumer();
+        resultConsumer.subscribe(List.of(RESULTS_TOPIC, DLT_TOPIC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resultConsumer.close();
+        requestTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("이미지 요청은 모델별로 묶어 분석하고, 항목별 실패도 결과 토픽에 발행한다")
+    void groupsImagesPerModelAndPublishesResults() throws Exception {
+        when(roboflowApiClient.analyzeImageAsync(anyString(), anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(new RoboflowAnalysisResult(
+                        invocation.getArgument(1), Collections.emptyList(), 0.9, "10ms", true, null)));
+        when(roboflowApiClient.analyzeImageAsync(eq("img-broken"), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("upstream 500")));
+        when(openRouterApiClient.analyzeTextAsync("도로 파손 신고"))
+                .thenReturn(CompletableFuture.completedFuture("{\"category\":\"road\"}"));
+
+        send("101", "{\"requestId\":\"g-1\",\"reportId\":101,\"analysisType\":\"IMAGE\",\"modelId\":\"pothole/2\",\"imageUrl\":\"img-a\"}");
+        send("102", "{\"requestId\":\"g-2\",\"reportId\":102,\"analysisType\":\"IMAGE\",\"imageData\":\"img-b\"}");
+        send("103", "{\"requestId\":\"g-3\",\"reportId\":103,\"analysisType\":\"IMAGE\",\"modelId\":\"pothole/2\",\"imageData\":\"img-broken\"}");
+        send("104", "{\"requestId\":\"g-4\",\"reportId\":104,\"analysisType\":\"TEXT\",\"description\":\"도로 파손 신고\"}");
+        // 같은 토픽의 결과 이벤트 (analysisType 없음) 는 건너뜀
+        send("105", "{\"eventType\":\"ANALYSIS_COMPLETED\",\"entityId\":105}");
+
+        Map<String, JsonNode> results = awaitResults(RESULTS_TOPIC, Set.of("g-1", "g-2", "g-3", "g-4"));
+
+        assertThat(results.get("g-1").path("success").asBoolean()).isTrue();
+        assertThat(results.get("g-1").path("reportId").asText()).isEqualTo("101");
+        assertThat(results.get("g-1").path("modelId").asText()).isEqualTo("pothole/2");
+        assertThat(results.get("g-2").path("modelId").asText()).isEqualTo("default-model/1");
+        assertThat(results.get("g-2").path("result").path("averageConfidence").asDouble()).isEqualTo(0.9);
+        assertThat(results.get("g-3").path("success").asBoolean()).isFalse();
+        assertThat(results.get("g-3").path("errorMessage").asText()).contains("upstream 500");
+        assertThat(results.get("g-4").path("result").asText()).contains("road");
+
+        verify(roboflowApiClient).analyzeImageAsync("img-a", "pothole/2");
+        verify(roboflowApiClient).analyzeImageAsync("img-b", "default-model/1");
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 DLT로 보내고 나머지 요청은 계속 처리한다")
+    void routesUnreadableMessageToDeadLetterTopic() throws Exception {
+        when(openRouterApiClient.analyzeTextAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture("ok"));
+
+        send("201", "{\"requestId\":\"d-1\",\"reportId\":201,\"analysisType\":\"TEXT\",\"text\":\"첫 번째\"}");
+        send("202", "{not-json");
+        send("203", "{\"requestId\":\"d-3\",\"reportId\":203,\"analysisType\":\"TEXT\",\"text\":\"세 번째\"}");
+
+        Map<String, JsonNode> results = awaitResults(RESULTS_TOPIC, Set.of("d-1", "d-3"));
+        assertThat(results).containsKeys("d-1", "d-3");
+
+        ConsumerRecord<String, String> deadLetter = awaitRecord(DLT_TOPIC, "202");
+        assertThat(deadLetter.value()).isEqualTo("{not-json");
+        verify(roboflowApiClient, never()).analyzeImageAsync(any(), any());
+    }
+
+    private void send(String key, String payload) throws Exception {
+        requestTemplate.send(REQUESTS_TOPIC, key, payload).get(10, TimeUnit.SECONDS);
+    }
+
+    private Map<String, JsonNode> awaitResults(String topic, Set<String> requestIds) throws Exception {
+        Map<String, JsonNode> results = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!results.keySet().containsAll(requestIds) && System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : resultConsumer.poll(Duration.ofMillis(200))) {
+                if (topic.equals(record.topic())) {
+                    JsonNode result = objectMapper.readTree(record.value());
+                    if (requestIds.contains(result.path("requestId").asText())) {
+                        results.put(result.path("requestId").asText(), result);
+                    }
+                } else {
+                    bufferedRecords.add(record);
+                }
+            }
+        }
+        assertThat(results.keySet()).containsExactlyInAnyOrderElementsOf(requestIds);
+        return results;
+    }
+
+    private ConsumerRecord<String, String> awaitRecord(String topic, String key) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : bufferedRecords) {
+                if (topic.equals(record.topic()) && key.equals(record.key())) {
+                    return record;
+                }
+            }
+            resultConsumer.poll(Duration.ofMillis(200)).forEach(bufferedRecords::add);
+        }
+        throw new AssertionError("No record with key " + key + " on " + topic);
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        ExecutorService roboflowBatchExecutor() {
+            return Executors.newFixedThreadPool(4);
+        }
+
+        @Bean
+        BatchInferenceEngine roboflowBatchEngine(ExecutorService roboflowBatchExecutor, MeterRegistry meterRegistry) {
+            return new BatchInferenceEngine("roboflow", roboflowBatchExecutor, 4,
+                    new TokenBucketRateLimiter(1000, 100), meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.jeonbuk.report.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jeonbuk.report.application.service.AiRoutingService;
+import com.jeonbuk.report.infrastructure.job.AnalysisJob;
+import com.jeonbuk.report.infrastructure.job.AnalysisJobStore;
+import com.jeonbuk.report.service.RoboflowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 분석 작업 상태 조회 엔드포인트 테스트 (롱폴링, SSE)
+ *
+ * RoboflowService의 작업 조회는 실제 AnalysisJobStore로 위임합니다.
+ */
+class AiRoutingControllerJobStatusTest {
+
+    private AnalysisJobStore jobStore;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 최대 1개: 새 작업 생성으로 대기 중인 작업이 밀려나는 경우를 재현
+        jobStore = new AnalysisJobStore(1, Duration.ofMinutes(1), false,
+                new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new SimpleMeterRegistry());
+        RoboflowService roboflowService = mock(RoboflowService.class);
+        when(roboflowService.getAnalysisJob(anyString()))
+                .thenAnswer(invocation -> jobStore.find(invocation.getArgument(0)));
+        when(roboflowService.awaitAnalysisJob(anyString()))
+                .thenAnswer(invocation -> jobStore.awaitCompletion(invocation.getArgument(0)));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AiRoutingController(mock(AiRoutingService.class), roboflowService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobStore.shutdown();
+    }
+
+    @Test
+    @DisplayName("wait 없이 조회하면 현재 상태를 즉시 반환한다")
+    void getAnalysisStatus_WithoutWait_ShouldReturnCurrentState() throws Exception {
+        AnalysisJob job = jobStore.create();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}", job.jobId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("없는 작업은 404를 반환한다")
+    void getAnalysisStatus_UnknownJob_ShouldReturnNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}", "unknown").param("wait", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("롱폴링은 대기 시간이 지나면 진행 중 상태를 반환한다")
+    void getAnalysisStatus_LongPollTimeout_ShouldReturnPendingState() throws Exception {
+        AnalysisJob job = jobStore.create();
+        jobStore.markRunning(job.jobId());
+        long start = System.nanoTime();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}", job.jobId()).param("wait", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("롱폴링은 작업이 끝나는 즉시 완료 상태로 응답한다")
+    void getAnalysisStatus_LongPollWakeUp_ShouldReturnAsSoonAsJobCompletes() throws Exception {
+        AnalysisJob job = jobStore.create();
+        long start = System.nanoTime();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}", job.jobId()).param("wait", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        CompletableFuture.runAsync(() -> jobStore.complete(job.jobId(), Map.of("detections", 2)),
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.result.detections").value(2));
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("SSE는 현재 상태를 보낸 뒤 완료 이벤트를 보내고 연결을 종료한다")
+    void subscribeAnalysisStatus_JobCompletes_ShouldSendStatusThenCompleted() throws Exception {
+        AnalysisJob job = jobStore.create();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}/events", job.jobId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        jobStore.complete(job.jobId(), Map.of("detections", 1));
+        result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:status", "event:completed");
+        assertThat(body.indexOf("event:status")).isLessThan(body.indexOf("event:completed"));
+        assertThat(body).contains("\"DONE\"");
+    }
+
+    @Test
+    @DisplayName("SSE 대기 중 작업이 사라지면 오류로 연결을 종료한다")
+    void subscribeAnalysisStatus_JobEvicted_ShouldCompleteWithError() throws Exception {
+        AnalysisJob job = jobStore.create();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}/events", job.jobId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        jobStore.create();
+
+        Object asyncResult = result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+        assertThat(asyncResult).isInstanceOf(Throwable.class);
+        assertThat((Throwable) asyncResult).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(result.getResponse().getContentAsString())
+                .contains("event:status")
+                .doesNotContain("event:completed");
+    }
+
+    @Test
+    @DisplayName("없는 작업은 SSE 구독 시 404를 반환한다")
+    void subscribeAnalysisStatus_UnknownJob_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/ai/analyze/status/{jobId}/events", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
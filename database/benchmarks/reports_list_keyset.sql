@@ -0,0 +1,69 @@
+-- Reports List Keyset Benchmark
+-- GET /reports (OFFSET) 와 GET /reports/list (키셋) 목록 쿼리 실행 계획 비교 (신고서 100만 건)
+--
+-- 실행: psql -d <db> -f database/benchmarks/reports_list_keyset.sql
+-- schema.sql 과 migrations/reports_list_keyset.sql 적용 후 실행하며, 데이터는 마지막에 ROLLBACK 됨
+-- 확인할 항목: 키셋 쿼리는 idx_reports_list_keyset 의 Index Cond 로 created_at 상한을 사용하고
+--              깊은 페이지에서도 읽는 버퍼 수가 첫 페이지와 비슷해야 함
+
+\timing on
+
+BEGIN;
+
+INSERT INTO users (id, email, name)
+VALUES ('00000000-0000-0000-0000-00000000b001', 'keyset-bench@example.com', 'keyset-bench');
+
+-- 같은 created_at 값이 여러 행에 걸치도록 초 단위로 잘라 id 타이브레이커까지 검증
+INSERT INTO reports (user_id, title, description, category_id, status_id, created_at)
+SELECT '00000000-0000-0000-0000-00000000b001',
+       '벤치마크 신고 ' || n,
+       '키셋 페이지네이션 벤치마크 데이터',
+       (SELECT min(id) FROM categories),
+       (SELECT min(id) FROM statuses),
+       date_trunc('second', now() - (n * interval '700 milliseconds'))
+FROM generate_series(1, 1000000) AS n;
+
+ANALYZE reports;
+
+-- 1) 첫 페이지 (findLatestSummaries, LIMIT size + 1)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.title, r.priority, s.name, s.color, c.name, r.address, r.latitude, r.longitude, u.name, r.created_at
+FROM reports r
+LEFT JOIN statuses s ON s.id = r.status_id
+LEFT JOIN categories c ON c.id = r.category_id
+LEFT JOIN users u ON u.id = r.user_id
+WHERE r.deleted_at IS NULL
+ORDER BY r.created_at DESC, r.id DESC
+LIMIT 21;
+
+-- 2) 깊은 페이지 - 기존 OFFSET 방식 (50만 번째 행부터)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.title, r.priority, s.name, s.color, c.name, r.address, r.latitude, r.longitude, u.name, r.created_at
+FROM reports r
+LEFT JOIN statuses s ON s.id = r.status_id
+LEFT JOIN categories c ON c.id = r.category_id
+LEFT JOIN users u ON u.id = r.user_id
+WHERE r.deleted_at IS NULL
+ORDER BY r.created_at DESC, r.id DESC
+OFFSET 500000 LIMIT 20;
+
+-- 3) 깊은 페이지 - 키셋 방식 (findSummariesBefore, 같은 위치의 커서)
+SELECT created_at AS cursor_created_at, id AS cursor_id
+FROM reports
+WHERE deleted_at IS NULL
+ORDER BY created_at DESC, id DESC
+OFFSET 499999 LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.title, r.priority, s.name, s.color, c.name, r.address, r.latitude, r.longitude, u.name, r.created_at
+FROM reports r
+LEFT JOIN statuses s ON s.id = r.status_id
+LEFT JOIN categories c ON c.id = r.category_id
+LEFT JOIN users u ON u.id = r.user_id
+WHERE r.deleted_at IS NULL
+  AND r.created_at <= :'cursor_created_at'
+  AND (r.created_at < :'cursor_created_at' OR (r.created_at = :'cursor_created_at' AND r.id < :'cursor_id'))
+ORDER BY r.created_at DESC, r.id DESC
+LIMIT 21;
+
+ROLLBACK;
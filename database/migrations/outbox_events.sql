@@ -0,0 +1,20 @@
+-- Outbox Events Migration
+-- 트랜잭셔널 아웃박스 (업무 데이터와 같은 트랜잭션에 저장, 릴레이가 카프카로 발행)
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(200) NOT NULL,
+    message_key VARCHAR(200),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    next_attempt_at TIMESTAMP, -- 발행 실패 후 다음 재시도 시각 (NULL이면 바로 발행 대상)
+    dead_at TIMESTAMP          -- 재시도로 해결되지 않는 오류로 격리(dead-letter)된 시각
+);
+
+-- 발행 대기 이벤트 조회 (id 순)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events(published_at, id);
+-- 키별 순서 확인 (같은 토픽/키의 앞선 발행 대기 이벤트 조회)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_key ON outbox_events(topic, message_key, id);
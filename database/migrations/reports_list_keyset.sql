@@ -0,0 +1,5 @@
+-- Reports List Keyset Migration
+-- 신고서 목록 키셋 페이지네이션 인덱스 ((created_at, id) 내림차순, 소프트 삭제 제외)
+-- CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 단독으로 실행
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reports_list_keyset ON reports(created_at DESC, id DESC) WHERE deleted_at IS NULL;
@@ -0,0 +1,10 @@
+-- Reports Search Bigram Migration
+-- 짧은 검색어용 pg_bigm GIN 인덱스 (reports_search_text.sql 적용 후 실행, pg_bigm 패키지 설치 필요)
+-- 트라이그램은 3자 이상이어야 만들어지므로 두 글자 한글 검색어의 LIKE '%도로%' 는 pg_trgm 인덱스를
+-- 전체 스캔하게 됨. pg_bigm 은 같은 LIKE 조건을 2-gram으로 처리하므로 쿼리 변경 없이
+-- 플래너가 짧은 검색어에는 이 인덱스를, 긴 검색어에는 트라이그램 인덱스를 고름
+-- CONCURRENTLY 인덱스는 트랜잭션 블록 안에서 실행할 수 없으므로 단독으로 실행
+
+CREATE EXTENSION IF NOT EXISTS pg_bigm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reports_search_bigm ON reports USING GIN(search_text gin_bigm_ops) WHERE deleted_at IS NULL;
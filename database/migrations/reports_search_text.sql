@@ -0,0 +1,13 @@
+-- Reports Search Text Migration
+-- 신고서 검색용 생성 컬럼(제목 + 주소 + 설명 소문자)과 pg_trgm GIN 인덱스
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 한가한 시간에 실행하고,
+-- CONCURRENTLY 인덱스는 트랜잭션 블록 안에서 실행할 수 없으므로 단독으로 실행
+-- 1~2자 검색어(예: 두 글자 한글 '도로')는 트라이그램이 없어 이 인덱스로 좁혀지지 않음 → reports_search_bigm.sql
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE reports ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(coalesce(title, '') || ' ' || coalesce(address, '') || ' ' || coalesce(description, ''))
+) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reports_search_trgm ON reports USING GIN(search_text gin_trgm_ops) WHERE deleted_at IS NULL;
@@ -0,0 +1,6 @@
+-- Users Access Changed At Migration
+-- 역할/활성 상태 변경 시각 (이 시각 이전에 발급된 액세스 토큰은 클레임 대신 사용자 정보로 인증)
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS access_changed_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_users_access_changed_at ON users(access_changed_at) WHERE access_changed_at IS NOT NULL;
@@ -4,6 +4,7 @@
 -- 확장 모듈 활성화
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 CREATE EXTENSION IF NOT EXISTS "postgis";
+CREATE EXTENSION IF NOT EXISTS "pg_trgm";
 
 -- 사용자 테이블
 CREATE TABLE users (
@@ -24,6 +25,8 @@ CREATE TABLE users (
     is_active BOOLEAN DEFAULT true,
     email_verified BOOLEAN DEFAULT false,
     last_login TIMESTAMP WITH TIME ZONE,
+    -- 역할/활성 상태 변경 시각 (이 시각 이전에 발급된 액세스 토큰은 클레임 대신 사용자 정보로 인증)
+    access_changed_at TIMESTAMP,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     
@@ -96,6 +99,11 @@ CREATE TABLE reports (
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP WITH TIME ZONE, -- 소프트 삭제
     
+    -- 검색 (제목 + 주소 + 설명 소문자, pg_trgm GIN 인덱스 대상)
+    search_text TEXT GENERATED ALWAYS AS (
+        lower(coalesce(title, '') || ' ' || coalesce(address, '') || ' ' || coalesce(description, ''))
+    ) STORED,
+    
     -- 인덱스를 위한 제약조건
     CONSTRAINT valid_coordinates CHECK (
         (latitude IS NULL AND longitude IS NULL) OR 
@@ -220,6 +228,7 @@ CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_oauth ON users(oauth_provider, oauth_id);
 CREATE INDEX idx_users_role ON users(role);
 CREATE INDEX idx_users_active ON users(is_active);
+CREATE INDEX idx_users_access_changed_at ON users(access_changed_at) WHERE access_changed_at IS NOT NULL;
 
 CREATE INDEX idx_reports_user_id ON reports(user_id);
 CREATE INDEX idx_reports_category ON reports(category_id);
@@ -231,6 +240,9 @@ CREATE INDEX idx_reports_updated_at ON reports(updated_at);
 CREATE INDEX idx_reports_manager ON reports(manager_id);
 CREATE INDEX idx_reports_complex_subject ON reports(is_complex_subject);
 CREATE INDEX idx_reports_soft_delete ON reports(deleted_at) WHERE deleted_at IS NULL;
+CREATE INDEX idx_reports_list_keyset ON reports(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_reports_search_trgm ON reports USING GIN(search_text gin_trgm_ops) WHERE deleted_at IS NULL;
+-- 1~2자 검색어(두 글자 한글 등)용 pg_bigm 인덱스는 확장 설치 후 migrations/reports_search_bigm.sql 로 추가
 
 CREATE INDEX idx_report_files_report_id ON report_files(report_id);
 CREATE INDEX idx_report_files_type ON report_files(file_type);
@@ -1,98 +1,58 @@
 package com.jbreport.platform.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.outbox.TransactionalOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
-import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 카프카 이벤트 발행 - 직접 전송하지 않고 트랜잭셔널 아웃박스에 저장
+ * 호출자의 트랜잭션(예: 신고 저장)과 함께 커밋되며, 실제 발행은 OutboxRelay가 일괄 처리
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaProducerService {
     
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final TransactionalOutbox transactionalOutbox;
     
     private static final String REPORT_TOPIC = "report-events";
     private static final String AI_ANALYSIS_TOPIC = "ai-analysis-events";
     private static final String ALERT_TOPIC = "alert-events";
     
     public void sendReportEvent(String eventType, Long reportId, Map<String, Object> data) {
-        try {
-            Map<String, Object> event = createEvent(eventType, reportId, data);
-            String message = objectMapper.writeValueAsString(event);
-            
-            kafkaTemplate.send(REPORT_TOPIC, String.valueOf(reportId), message)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to send report event: {} - {}", eventType, reportId, ex);
-                    } else {
-                        log.debug("Report event sent successfully: {} - {}", eventType, reportId);
-                    }
-                });
-                
-        } catch (Exception e) {
-            log.error("Error sending report event", e);
-        }
+        Map<String, Object> event = createEvent(eventType, reportId, data);
+        transactionalOutbox.append(REPORT_TOPIC, String.valueOf(reportId), event);
+        log.debug("Report event queued: {} - {}", eventType, reportId);
     }
     
     public void sendAiAnalysisRequest(Long reportId, String analysisType, Map<String, Object> data) {
-        try {
-            Map<String, Object> request = new HashMap<>();
-            request.put("reportId", reportId);
-            request.put("analysisType", analysisType);
-            request.put("requestId", UUID.randomUUID().toString());
-            request.put("timestamp", LocalDateTime.now().toString());
-            request.putAll(data);
-            
-            String message = objectMapper.writeValueAsString(request);
-            
-            kafkaTemplate.send(AI_ANALYSIS_TOPIC, String.valueOf(reportId), message)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to send AI analysis request", ex);
-                    } else {
-                        log.info("AI analysis request sent: {} for report {}", analysisType, reportId);
-                    }
-                });
-                
-        } catch (Exception e) {
-            log.error("Error sending AI analysis request", e);
-        }
+        Map<String, Object> request = new HashMap<>();
+        request.put("reportId", reportId);
+        request.put("analysisType", analysisType);
+        request.put("requestId", UUID.randomUUID().toString());
+        request.put("timestamp", LocalDateTime.now().toString());
+        request.putAll(data);
+        
+        transactionalOutbox.append(AI_ANALYSIS_TOPIC, String.valueOf(reportId), request);
+        log.info("AI analysis request queued: {} for report {}", analysisType, reportId);
     }
     
     public void sendAiAnalysisResult(String eventType, Long reportId, Map<String, Object> result) {
-        try {
-            Map<String, Object> event = createEvent(eventType, reportId, result);
-            String message = objectMapper.writeValueAsString(event);
-            
-            kafkaTemplate.send(AI_ANALYSIS_TOPIC, String.valueOf(reportId), message);
-            log.info("AI analysis result sent for report {}", reportId);
-            
-        } catch (Exception e) {
-            log.error("Error sending AI analysis result", e);
-        }
+        Map<String, Object> event = createEvent(eventType, reportId, result);
+        transactionalOutbox.append(AI_ANALYSIS_TOPIC, String.valueOf(reportId), event);
+        log.info("AI analysis result queued for report {}", reportId);
     }
     
     public void sendAlertEvent(String eventType, Long alertId, Map<String, Object> data) {
-        try {
-            Map<String, Object> event = createEvent(eventType, alertId, data);
-            String message = objectMapper.writeValueAsString(event);
-            
-            kafkaTemplate.send(ALERT_TOPIC, String.valueOf(alertId), message);
-            log.debug("Alert event sent: {} - {}", eventType, alertId);
-            
-        } catch (Exception e) {
-            log.error("Error sending alert event", e);
-        }
+        Map<String, Object> event = createEvent(eventType, alertId, data);
+        transactionalOutbox.append(ALERT_TOPIC, String.valueOf(alertId), event);
+        log.debug("Alert event queued: {} - {}", eventType, alertId);
     }
     
     private Map<String, Object> createEvent(String eventType, Long entityId, Map<String, Object> data) {
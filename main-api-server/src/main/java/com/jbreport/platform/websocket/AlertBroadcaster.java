@@ -0,0 +1,120 @@
+package com.jbreport.platform.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 WebSocket 전송 엔진
+ *
+ * 메시지는 호출자가 한 번만 직렬화한 TextMessage를 모든 세션에 그대로 보냅니다.
+ * 브로드캐스트는 세션 저장소의 스트라이프마다 작업 하나로 나눠 고정 크기 스레드 풀에서 병렬 처리합니다.
+ * 세션은 세션별 전송 대기열로 감싸져 있어 브로드캐스트 스레드는 대기열에 넣기만 하고 소켓 쓰기를 기다리지 않으므로,
+ * 느린 클라이언트가 있어도 스레드나 같은 스트라이프의 다른 세션이 묶이지 않습니다.
+ * 버퍼 한도를 넘긴 세션은 닫고 저장소에서 제거합니다.
+ * 브로드캐스트 대기열이 가득 차면 호출 스레드를 막지 않고 해당 스트라이프 전송을 버리고 집계합니다
+ * (websocket.alerts.dropped, reason=queue-full).
+ * 브로드캐스트 간 순서는 보장하지 않으며, 알림 메시지의 timestamp로 정렬합니다.
+ */
+@Component
+@Slf4j
+public class AlertBroadcaster implements DisposableBean {
+    
+    private final AlertSessionRegistry sessionRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Counter droppedQueueFull;
+    
+    public AlertBroadcaster(
+            AlertSessionRegistry sessionRegistry,
+            @Value("${app.websocket.alerts.broadcast-threads:8}") int threads,
+            @Value("${app.websocket.alerts.broadcast-queue-capacity:1024}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.sessionRegistry = sessionRegistry;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("alert-broadcast-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.droppedQueueFull = meterRegistry.counter("websocket.alerts.dropped", "reason", "queue-full");
+    }
+    
+    /**
+     * 사용자의 모든 세션 전송 대기열에 추가 (소켓 쓰기를 기다리지 않음)
+     */
+    public void sendToUser(Long userId, TextMessage message) {
+        Collection<WebSocketSession> sessions = sessionRegistry.sessionsOf(userId);
+        if (sessions.isEmpty()) {
+            log.debug("No active session for user {}", userId);
+            return;
+        }
+        sendAll(new ArrayList<>(sessions), message);
+    }
+    
+    /**
+     * 모든 세션에 전송 (비동기)
+     *
+     * @return 전송 대기열에 넣은 세션 수 (모든 스트라이프 처리가 끝나면 완료, 버린 스트라이프는 0)
+     */
+    public CompletableFuture<Integer> broadcast(TextMessage message) {
+        int stripeCount = sessionRegistry.stripeCount();
+        List<CompletableFuture<Integer>> stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            int stripe = i;
+            try {
+                stripes.add(CompletableFuture.supplyAsync(
+                        () -> sendAll(sessionRegistry.stripeSessions(stripe), message), executor));
+            } catch (RejectedExecutionException e) {
+                // 호출 스레드에서 대신 전송하지 않음: 알림 생산자가 막히지 않도록 버리고 집계
+                droppedQueueFull.increment();
+                stripes.add(CompletableFuture.completedFuture(0));
+            }
+        }
+        return CompletableFuture.allOf(stripes.toArray(CompletableFuture[]::new))
+                .thenApply(done -> stripes.stream().mapToInt(CompletableFuture::join).sum());
+    }
+    
+    private int sendAll(List<WebSocketSession> sessions, TextMessage message) {
+        int sent = 0;
+        for (WebSocketSession session : sessions) {
+            if (send(session, message)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+    
+    private boolean send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            sessionRegistry.unregister(session.getId());
+            return false;
+        }
+        try {
+            // 전송 대기열에 넣기만 함, 버퍼 한도를 넘긴 세션은 대기열이 닫고 저장소에서 제거
+            session.sendMessage(message);
+            return true;
+        } catch (Exception e) {
+            log.debug("Alert not queued for session {}: {}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,188 @@
+package com.jbreport.platform.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 WebSocket 세션 저장소 (사용자별 다중 세션, 스트라이프 분할)
+ *
+ * 세션은 세션별 전송 대기열(QueuedAlertSession)로 감싸 저장하므로 여러 스레드에서 동시에 보내도 안전하고,
+ * 보내는 스레드는 소켓 쓰기를 기다리지 않습니다. 실제 전송은 세션마다 하나씩, 전송 스레드 풀 또는 컨테이너
+ * 비동기 전송으로 처리합니다. 전송 스레드는 writer-threads까지 필요할 때만 늘어나므로 블로킹 전송에 막힌
+ * 세션이 있어도 다른 세션 전송은 계속됩니다.
+ * 전송이 send-time-limit을 넘긴 세션은 감시 작업이, 미전송 버퍼가 한도를 넘은 세션은 전송 시점에 종료합니다.
+ * 세션 닫기는 별도 스레드 풀에서 처리하므로 전송 스레드가 모두 막혀 있어도 멈춘 세션을 닫을 수 있습니다.
+ * 사용자는 userId 해시로 스트라이프에 나뉘며, 브로드캐스트는 스트라이프 단위로 병렬 처리합니다.
+ *
+ * 메트릭: websocket.alerts.sessions.closed (reason: buffer-limit, send-timeout, send-error)
+ */
+@Component
+public class AlertSessionRegistry implements DisposableBean {
+    
+    private final Stripe[] stripes;
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+    private final long sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+    private final ThreadPoolExecutor writer;
+    private final ThreadPoolExecutor closer;
+    private final MeterRegistry meterRegistry;
+    
+    public AlertSessionRegistry(
+            @Value("${app.websocket.alerts.stripes:64}") int stripeCount,
+            @Value("${app.websocket.alerts.send-time-limit:PT5S}") Duration sendTimeLimit,
+            @Value("${app.websocket.alerts.buffer-size-limit:524288}") int bufferSizeLimit,
+            @Value("${app.websocket.alerts.writer-threads:64}") int writerThreads,
+            MeterRegistry meterRegistry) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.sendTimeLimitMillis = sendTimeLimit.toMillis();
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.meterRegistry = meterRegistry;
+        // 코어 = 최대이고 유휴 스레드는 종료되므로, 전송할 세션이 있을 때만 writer-threads까지 늘어남
+        this.writer = new ThreadPoolExecutor(writerThreads, writerThreads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("alert-session-writer-"));
+        this.writer.allowCoreThreadTimeOut(true);
+        // 닫기는 전송 스레드와 분리: 블로킹 전송에 막힌 세션은 최대 writer-threads개이므로 같은 수면 닫기가 밀리지 않음
+        this.closer = new ThreadPoolExecutor(writerThreads, writerThreads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("alert-session-closer-"));
+        this.closer.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * 세션 등록
+     *
+     * @return 동시 전송에 안전한 세션 (이후 이 세션으로 전송)
+     */
+    public WebSocketSession register(Long userId, WebSocketSession session) {
+        QueuedAlertSession decorated = new QueuedAlertSession(session, writer, closer, sendTimeLimitMillis,
+                bufferSizeLimit, this::onAborted);
+        registrations.put(session.getId(), new Registration(userId, decorated));
+        stripeOf(userId).users.compute(userId, (id, sessions) -> {
+            Set<WebSocketSession> target = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            target.add(decorated);
+            return target;
+        });
+        return decorated;
+    }
+    
+    /**
+     * 세션 해제 (중복 호출 가능)
+     *
+     * @return 세션의 사용자 ID, 등록되지 않은 세션이면 null
+     */
+    public Long unregister(String sessionId) {
+        Registration registration = registrations.remove(sessionId);
+        if (registration == null) {
+            return null;
+        }
+        registration.session().discard();
+        stripeOf(registration.userId()).users.computeIfPresent(registration.userId(), (id, sessions) -> {
+            sessions.remove(registration.session());
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return registration.userId();
+    }
+    
+    /**
+     * 등록된 세션 (동시 전송에 안전한 세션), 없으면 null
+     */
+    public WebSocketSession find(String sessionId) {
+        Registration registration = registrations.get(sessionId);
+        return registration != null ? registration.session() : null;
+    }
+    
+    public Collection<WebSocketSession> sessionsOf(Long userId) {
+        Set<WebSocketSession> sessions = stripeOf(userId).users.get(userId);
+        return sessions != null ? sessions : List.of();
+    }
+    
+    public boolean isUserConnected(Long userId) {
+        return sessionsOf(userId).stream().anyMatch(WebSocketSession::isOpen);
+    }
+    
+    public int sessionCount() {
+        return registrations.size();
+    }
+    
+    /**
+     * 전송이 send-time-limit을 넘긴 세션 종료 (블로킹 전송에 막힌 세션 정리)
+     *
+     * @return 종료한 세션 수
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.alerts.stall-check-interval:PT1S}")
+    public int closeStalledSessions() {
+        long now = System.nanoTime();
+        int closed = 0;
+        for (Registration registration : registrations.values()) {
+            if (registration.session().isStalled(now)) {
+                registration.session().abort("send-timeout");
+                closed++;
+            }
+        }
+        return closed;
+    }
+    
+    @Override
+    public void destroy() {
+        writer.shutdown();
+        closer.shutdown();
+    }
+    
+    int stripeCount() {
+        return stripes.length;
+    }
+    
+    int stripeIndex(Long userId) {
+        // 연속된 ID가 고르게 퍼지도록 섞은 뒤 나눔
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) stripes.length);
+    }
+    
+    /**
+     * 스트라이프 하나에 속한 세션 목록 (브로드캐스트 시점 스냅샷)
+     */
+    List<WebSocketSession> stripeSessions(int index) {
+        List<WebSocketSession> sessions = new ArrayList<>();
+        for (Set<WebSocketSession> userSessions : stripes[index].users.values()) {
+            sessions.addAll(userSessions);
+        }
+        return sessions;
+    }
+    
+    private void onAborted(QueuedAlertSession session, String reason) {
+        unregister(session.getId());
+        meterRegistry.counter("websocket.alerts.sessions.closed", "reason", reason).increment();
+    }
+    
+    private Stripe stripeOf(Long userId) {
+        return stripes[stripeIndex(userId)];
+    }
+    
+    private static final class Stripe {
+        private final Map<Long, Set<WebSocketSession>> users = new ConcurrentHashMap<>();
+    }
+    
+    private record Registration(Long userId, QueuedAlertSession session) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.jbreport.platform.websocket;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jbreport.platform.dto.AlertDTO;
 import lombok.RequiredArgsConstructor;
@@ -12,16 +13,19 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 알림 WebSocket 핸들러
+ * 세션 관리는 AlertSessionRegistry, 알림 전송은 AlertBroadcaster가 담당 (알림당 직렬화 1회)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AlertWebSocketHandler extends TextWebSocketHandler {
     
     private final ObjectMapper objectMapper;
-    private final Map<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
-    private final Map<String, Long> sessionToUser = new ConcurrentHashMap<>();
+    private final AlertSessionRegistry sessionRegistry;
+    private final AlertBroadcaster broadcaster;
     
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -30,8 +34,7 @@ public class AlertWebSocketHandler extends TextWebSocketHandler {
         // Extract user ID from session attributes or query parameters
         Long userId = extractUserId(session);
         if (userId != null) {
-            userSessions.put(userId, session);
-            sessionToUser.put(session.getId(), userId);
+            sessionRegistry.register(userId, session);
             
             // Send connection success message
             sendMessage(session, Map.of(
@@ -75,10 +78,7 @@ public class AlertWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         log.info("WebSocket connection closed: {} - {}", session.getId(), status);
         
-        Long userId = sessionToUser.remove(session.getId());
-        if (userId != null) {
-            userSessions.remove(userId);
-        }
+        sessionRegistry.unregister(session.getId());
     }
     
     @Override
@@ -92,36 +92,39 @@ public class AlertWebSocketHandler extends TextWebSocketHandler {
     }
     
     public void sendAlertToUser(Long userId, AlertDTO alert) {
-        WebSocketSession session = userSessions.get(userId);
-        if (session != null && session.isOpen()) {
-            try {
-                Map<String, Object> message = Map.of(
-                    "type", "ALERT",
-                    "data", alert,
-                    "timestamp", System.currentTimeMillis()
-                );
-                sendMessage(session, message);
-                log.info("Alert sent to user {}: {}", userId, alert.getTitle());
-            } catch (Exception e) {
-                log.error("Failed to send alert to user {}", userId, e);
-                handleSessionError(session);
-            }
-        } else {
-            log.debug("No active session for user {}", userId);
+        TextMessage message = alertMessage(alert);
+        if (message != null) {
+            broadcaster.sendToUser(userId, message);
+            log.info("Alert sent to user {}: {}", userId, alert.getTitle());
         }
     }
     
     public void broadcastAlert(AlertDTO alert, String role) {
-        userSessions.forEach((userId, session) -> {
-            if (session.isOpen()) {
-                try {
-                    // Check if user has the required role (would need to implement role checking)
-                    sendAlertToUser(userId, alert);
-                } catch (Exception e) {
-                    log.error("Failed to broadcast alert to user {}", userId, e);
+        // Check if user has the required role (would need to implement role checking)
+        TextMessage message = alertMessage(alert);
+        if (message != null) {
+            broadcaster.broadcast(message).whenComplete((sent, e) -> {
+                if (e != null) {
+                    log.error("Failed to broadcast alert {}", alert.getId(), e);
+                } else {
+                    log.info("Alert broadcast to {} sessions: {}", sent, alert.getTitle());
                 }
-            }
-        });
+            });
+        }
+    }
+    
+    // Serialized once and shared by every recipient session
+    private TextMessage alertMessage(AlertDTO alert) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(Map.of(
+                "type", "ALERT",
+                "data", alert,
+                "timestamp", System.currentTimeMillis()
+            )));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize alert {}", alert.getId(), e);
+            return null;
+        }
     }
     
     private Long extractUserId(WebSocketSession session) {
@@ -151,7 +154,9 @@ public class AlertWebSocketHandler extends TextWebSocketHandler {
     
     private void sendMessage(WebSocketSession session, Map<String, Object> message) throws IOException {
         String json = objectMapper.writeValueAsString(message);
-        session.sendMessage(new TextMessage(json));
+        // Send through the registered (concurrent-safe) session so replies never overlap with alert sends
+        WebSocketSession registered = sessionRegistry.find(session.getId());
+        (registered != null ? registered : session).sendMessage(new TextMessage(json));
     }
     
     private void sendError(WebSocketSession session, String error) {
@@ -171,25 +176,11 @@ public class AlertWebSocketHandler extends TextWebSocketHandler {
         log.info("Subscription request from session {}: {}", session.getId(), data);
     }
     
-    private void handleSessionError(WebSocketSession session) {
-        try {
-            session.close(CloseStatus.SERVER_ERROR);
-        } catch (IOException e) {
-            log.error("Failed to close session", e);
-        }
-        
-        Long userId = sessionToUser.remove(session.getId());
-        if (userId != null) {
-            userSessions.remove(userId);
-        }
-    }
-    
     public int getActiveConnections() {
-        return userSessions.size();
+        return sessionRegistry.sessionCount();
     }
     
     public boolean isUserConnected(Long userId) {
-        WebSocketSession session = userSessions.get(userId);
-        return session != null && session.isOpen();
+        return sessionRegistry.isUserConnected(userId);
     }
 }
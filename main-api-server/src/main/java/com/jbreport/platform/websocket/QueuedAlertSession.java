@@ -0,0 +1,201 @@
+package com.jbreport.platform.websocket;
+
+import jakarta.websocket.RemoteEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션별 전송 대기열이 있는 알림 세션
+ *
+ * sendMessage는 메시지를 대기열에 넣고 바로 반환하므로 호출 스레드는 소켓 쓰기를 기다리지 않습니다.
+ * 대기열은 세션마다 한 번에 하나씩 전송합니다.
+ * - 표준 WebSocket 세션: 컨테이너 비동기 전송 (send-time-limit 타임아웃), 전송 중에 스레드를 점유하지 않음
+ * - 그 외 (SockJS 등): 전송 스레드 풀에서 블로킹 전송, send-time-limit을 넘긴 세션은 저장소 감시 작업이 종료
+ * 미전송 버퍼가 한도를 넘거나 전송에 실패하면 세션을 종료하고 저장소에 알립니다.
+ */
+@Slf4j
+class QueuedAlertSession extends WebSocketSessionDecorator {
+    
+    /**
+     * 세션 종료 통지 (사유: buffer-limit, send-timeout, send-error)
+     */
+    interface AbortListener {
+        void onAborted(QueuedAlertSession session, String reason);
+    }
+    
+    private final Executor writer;
+    private final Executor closer;
+    private final long sendTimeLimitNanos;
+    private final int bufferSizeLimit;
+    private final AbortListener abortListener;
+    private final RemoteEndpoint.Async asyncRemote;
+    
+    private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedBytes = new AtomicInteger();
+    // 전송 작업이 예약/진행 중인지 (세션당 하나만)
+    private final AtomicBoolean sending = new AtomicBoolean();
+    // 진행 중인 전송의 시작 시각 (nanoTime, 0이면 전송 중 아님)
+    private volatile long sendStartedAt;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
+    QueuedAlertSession(WebSocketSession delegate, Executor writer, Executor closer, long sendTimeLimitMillis,
+                       int bufferSizeLimit, AbortListener abortListener) {
+        super(delegate);
+        this.writer = writer;
+        this.closer = closer;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.abortListener = abortListener;
+        this.asyncRemote = asyncRemoteOf(delegate, sendTimeLimitMillis);
+    }
+    
+    /**
+     * 전송 대기열에 추가 (블로킹 없음)
+     *
+     * @throws SessionLimitExceededException 이미 종료되었거나 미전송 버퍼 한도를 넘은 경우
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (closed.get()) {
+            throw new SessionLimitExceededException("Session " + getId() + " is closed", CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        queue.add(message);
+        if (bufferedBytes.addAndGet(message.getPayloadLength()) > bufferSizeLimit) {
+            abort("buffer-limit");
+            throw new SessionLimitExceededException("Buffer size " + bufferSizeLimit + " bytes exceeded for session "
+                    + getId(), CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        if (sending.compareAndSet(false, true)) {
+            writer.execute(this::sendNext);
+        }
+    }
+    
+    @Override
+    public boolean isOpen() {
+        return !closed.get() && super.isOpen();
+    }
+    
+    /**
+     * 진행 중인 전송이 send-time-limit을 넘겼는지
+     */
+    boolean isStalled(long nowNanos) {
+        long started = sendStartedAt;
+        return started != 0 && nowNanos - started > sendTimeLimitNanos;
+    }
+    
+    int bufferedBytes() {
+        return bufferedBytes.get();
+    }
+    
+    /**
+     * 대기 중인 메시지를 버리고 세션 종료 (저장소에 통지)
+     */
+    void abort(String reason) {
+        if (discard()) {
+            log.warn("Closing alert session {}: {}", getId(), reason);
+            abortListener.onAborted(this, reason);
+            // 블로킹 전송 중인 세션은 close도 막힐 수 있으므로 호출 스레드 대신 닫기 전용 실행자에서 닫음
+            // (전송 스레드가 모두 막힌 세션에 묶여 있어도 닫기는 진행됨)
+            closer.execute(() -> {
+                try {
+                    getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (Exception e) {
+                    log.debug("Failed to close alert session {}", getId(), e);
+                }
+            });
+        }
+    }
+    
+    /**
+     * 대기 중인 메시지를 버리고 이후 전송을 받지 않음 (연결 종료 후 정리용)
+     *
+     * @return 이번 호출로 종료되었으면 true
+     */
+    boolean discard() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        bufferedBytes.set(0);
+        return true;
+    }
+    
+    // 대기열에서 하나씩 전송 (비동기 전송은 완료 콜백에서 다음 전송을 예약)
+    private void sendNext() {
+        while (!closed.get()) {
+            WebSocketMessage<?> message = queue.poll();
+            if (message == null) {
+                sending.set(false);
+                // 비운 직후 들어온 메시지는 이 작업이 이어서 전송
+                if (queue.isEmpty() || !sending.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            
+            sendStartedAt = System.nanoTime();
+            if (asyncRemote != null && message instanceof TextMessage text) {
+                try {
+                    asyncRemote.sendText(text.getPayload(), result -> {
+                        if (completed(message, result.getException())) {
+                            writer.execute(this::sendNext);
+                        }
+                    });
+                    return;
+                } catch (Exception e) {
+                    completed(message, e);
+                    continue;
+                }
+            }
+            
+            Throwable error = null;
+            try {
+                getDelegate().sendMessage(message);
+            } catch (Exception e) {
+                error = e;
+            }
+            completed(message, error);
+        }
+        sending.set(false);
+    }
+    
+    // 전송 완료 처리, 계속 전송할 수 있으면 true
+    private boolean completed(WebSocketMessage<?> message, Throwable error) {
+        sendStartedAt = 0;
+        bufferedBytes.addAndGet(-message.getPayloadLength());
+        if (error != null) {
+            log.debug("Alert send failed for session {}: {}", getId(), error.getMessage());
+            abort("send-error");
+            return false;
+        }
+        if (closed.get()) {
+            sending.set(false);
+            return false;
+        }
+        return true;
+    }
+    
+    // SockJS 세션은 프레이밍이 필요하므로 표준 WebSocket 세션에만 컨테이너 비동기 전송 사용
+    private static RemoteEndpoint.Async asyncRemoteOf(WebSocketSession session, long sendTimeLimitMillis) {
+        if (!(session instanceof StandardWebSocketSession standard)) {
+            return null;
+        }
+        jakarta.websocket.Session nativeSession = standard.getNativeSession();
+        RemoteEndpoint.Async async = nativeSession.getAsyncRemote();
+        async.setSendTimeout(sendTimeLimitMillis);
+        return async;
+    }
+}
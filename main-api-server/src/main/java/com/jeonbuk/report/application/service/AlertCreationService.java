@@ -192,10 +192,13 @@ public class AlertCreationService {
     
     /**
      * 시스템 점검 알림 생성 (모든 사용자)
+     * 사용자 엔티티를 로딩하지 않고 활성 사용자 ID에 대해 JDBC 배치로 일괄 저장
+     *
+     * @return 생성된 알림 수
      */
-    public List<Alert> createSystemMaintenanceAlert(String maintenanceTitle, String maintenanceDetails, 
-                                                   LocalDateTime maintenanceStart, LocalDateTime maintenanceEnd) {
-        List<User> allUsers = userRepository.findByIsActiveTrue();
+    public int createSystemMaintenanceAlert(String maintenanceTitle, String maintenanceDetails, 
+                                            LocalDateTime maintenanceStart, LocalDateTime maintenanceEnd) {
+        List<UUID> userIds = userRepository.findActiveUserIds();
         
         String title = "시스템 점검 안내";
         String content = String.format("""
@@ -214,20 +217,17 @@ public class AlertCreationService {
             LocalDateTime.now()
         );
         
-        return allUsers.stream()
-                .map(user -> {
-                    Alert alert = alertEntityService.createExpiringAlert(
-                        user,
-                        AlertType.MAINTENANCE,
-                        title,
-                        content,
-                        AlertSeverity.HIGH,
-                        maintenanceEnd.plusHours(1) // 점검 종료 1시간 후 만료
-                    );
-                    log.debug("Created maintenance alert for user {}", user.getId());
-                    return alert;
-                })
-                .toList();
+        int created = alertEntityService.createBroadcastAlerts(
+            userIds,
+            AlertType.MAINTENANCE,
+            title,
+            content,
+            AlertSeverity.HIGH,
+            maintenanceEnd.plusHours(1) // 점검 종료 1시간 후 만료
+        );
+        
+        log.info("Created {} maintenance alerts: {}", created, maintenanceTitle);
+        return created;
     }
     
     /**
@@ -313,10 +313,12 @@ public class AlertCreationService {
     
     /**
      * 성능 이슈 알림 생성 (관리자용)
+     *
+     * @return 생성된 알림 수
      */
-    public List<Alert> createPerformanceIssueAlert(String issueType, String metrics, AlertSeverity severity) {
+    public int createPerformanceIssueAlert(String issueType, String metrics, AlertSeverity severity) {
         // 관리자 권한을 가진 사용자들에게만 알림 생성
-        List<User> adminUsers = userRepository.findByRoleAndIsActiveTrue(User.UserRole.ADMIN);
+        List<UUID> adminIds = userRepository.findActiveUserIdsByRole(User.UserRole.ADMIN);
         
         String title = "시스템 성능 이슈 감지";
         String content = String.format("""
@@ -331,19 +333,17 @@ public class AlertCreationService {
             LocalDateTime.now()
         );
         
-        return adminUsers.stream()
-                .map(admin -> {
-                    Alert alert = alertEntityService.createAlert(
-                        admin,
-                        AlertType.PERFORMANCE_ISSUE,
-                        title,
-                        content,
-                        severity
-                    );
-                    log.warn("Created performance issue alert for admin {}: {}", admin.getId(), issueType);
-                    return alert;
-                })
-                .toList();
+        int created = alertEntityService.createBroadcastAlerts(
+            adminIds,
+            AlertType.PERFORMANCE_ISSUE,
+            title,
+            content,
+            severity,
+            null
+        );
+        
+        log.warn("Created {} performance issue alerts for admins: {}", created, issueType);
+        return created;
     }
     
     // === 유틸리티 메서드들 ===
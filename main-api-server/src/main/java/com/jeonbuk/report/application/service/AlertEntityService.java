@@ -11,9 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +31,7 @@ import java.util.UUID;
 public class AlertEntityService {
     
     private final AlertRepository alertRepository;
+    private final AlertRetentionService alertRetentionService;
     
     /**
      * 새 알림 생성
@@ -92,6 +95,22 @@ public class AlertEntityService {
         return savedAlert;
     }
     
+    /**
+     * 동일한 알림을 여러 사용자에게 일괄 생성 (시스템 점검, 성능 이슈 등)
+     * 사용자마다 엔티티를 저장하지 않고 JDBC 배치 INSERT로 처리
+     *
+     * @param expiresAt 만료 시간 (없으면 null)
+     * @return 생성된 알림 수
+     */
+    @Transactional
+    public int createBroadcastAlerts(Collection<UUID> userIds, AlertType type, String title, String content,
+                                     AlertSeverity severity, LocalDateTime expiresAt) {
+        int created = alertRepository.bulkInsertAlerts(userIds, type, title, content, severity, expiresAt);
+        log.info("Created {} broadcast alerts of type: {}", created, type);
+        
+        return created;
+    }
+    
     /**
      * 알림 조회
      */
@@ -189,30 +208,28 @@ public class AlertEntityService {
     
     /**
      * 만료된 알림 정리
+     * 청크 단위 삭제는 AlertRetentionService가 청크마다 별도 트랜잭션으로 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupExpiredAlerts() {
-        List<Alert> expiredAlerts = alertRepository.findExpiredAlerts();
-        if (!expiredAlerts.isEmpty()) {
-            alertRepository.deleteAll(expiredAlerts);
-            log.info("Cleaned up {} expired alerts", expiredAlerts.size());
+        int deleted = alertRetentionService.purgeExpiredAlerts(LocalDateTime.now(), Integer.MAX_VALUE);
+        if (deleted > 0) {
+            log.info("Cleaned up {} expired alerts", deleted);
         }
-        return expiredAlerts.size();
+        return deleted;
     }
     
     /**
      * 오래된 해결된 알림 정리 (예: 30일 이전)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupOldResolvedAlerts(int daysOld) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        List<Alert> oldResolvedAlerts = alertRepository.findResolvedAlertsBefore(cutoffDate);
-        if (!oldResolvedAlerts.isEmpty()) {
-            alertRepository.deleteAll(oldResolvedAlerts);
-            log.info("Cleaned up {} old resolved alerts (older than {} days)", 
-                    oldResolvedAlerts.size(), daysOld);
+        int deleted = alertRetentionService.purgeResolvedAlerts(cutoffDate, Integer.MAX_VALUE);
+        if (deleted > 0) {
+            log.info("Cleaned up {} old resolved alerts (older than {} days)", deleted, daysOld);
         }
-        return oldResolvedAlerts.size();
+        return deleted;
     }
     
     /**
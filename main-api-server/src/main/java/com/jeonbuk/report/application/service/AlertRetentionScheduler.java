@@ -0,0 +1,67 @@
+package com.jeonbuk.report.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 알림 보존 정책 주기 실행
+ * 여러 인스턴스가 같은 시각에 삭제를 시작하지 않도록 매 실행마다 간격에 무작위 지연(jitter)을 더함
+ * 실행당 상한에 도달하면 남은 알림을 위해 다음 실행을 짧은 간격으로 앞당김
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.alert.retention", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AlertRetentionScheduler {
+
+    private final TaskScheduler taskScheduler;
+    private final AlertRetentionService alertRetentionService;
+    private final Duration interval;
+    private final Duration jitter;
+    private final Duration backlogInterval;
+
+    public AlertRetentionScheduler(
+            TaskScheduler taskScheduler,
+            AlertRetentionService alertRetentionService,
+            @Value("${app.alert.retention.interval:PT15M}") Duration interval,
+            @Value("${app.alert.retention.jitter:PT2M}") Duration jitter,
+            @Value("${app.alert.retention.backlog-interval:PT1M}") Duration backlogInterval) {
+        this.taskScheduler = taskScheduler;
+        this.alertRetentionService = alertRetentionService;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.backlogInterval = backlogInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Alert retention scheduled every {} (jitter up to {})", interval, jitter);
+        scheduleNext(interval);
+    }
+
+    private void run() {
+        Duration next = interval;
+        try {
+            if (alertRetentionService.runRetention().capped()) {
+                next = backlogInterval;
+            }
+        } catch (Exception e) {
+            log.error("Alert retention run failed", e);
+        } finally {
+            scheduleNext(next);
+        }
+    }
+
+    private void scheduleNext(Duration delay) {
+        long jitterMillis = jitter.toMillis() > 0 ? ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1) : 0;
+        taskScheduler.schedule(this::run, Instant.now().plus(delay).plusMillis(jitterMillis));
+    }
+}
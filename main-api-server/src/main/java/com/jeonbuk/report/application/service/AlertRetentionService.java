@@ -0,0 +1,206 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.repository.AlertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 보존 정책 서비스
+ * 만료된 알림과 보존 기간이 지난 해결 알림을 청크 단위로 삭제
+ *
+ * - 엔티티를 로딩하지 않고 id 키셋 페이지네이션으로 ID만 조회
+ * - 청크마다 짧은 트랜잭션으로 DELETE ... WHERE id IN (선택적으로 보관 테이블에 요약 복사)
+ * - 실행당 삭제 건수 상한, 청크 사이 휴지로 운영 트래픽과 경합 완화
+ *
+ * 메트릭:
+ * - alert.retention.deleted (reason=expired|resolved): 삭제한 알림 수
+ * - alert.retention.archived: 보관 테이블에 복사한 알림 수
+ * - alert.retention.run: 실행 시간
+ * - alert.retention.rows_per_second: 마지막 실행의 처리율
+ */
+@Service
+@Slf4j
+public class AlertRetentionService {
+
+    private static final String REASON_EXPIRED = "expired";
+    private static final String REASON_RESOLVED = "resolved";
+
+    private final AlertRepository alertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRowsPerRun;
+    private final Duration chunkPause;
+    private final Duration resolvedRetention;
+    private final boolean archiveEnabled;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+    private final Counter expiredDeletedCounter;
+    private final Counter resolvedDeletedCounter;
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    public AlertRetentionService(
+            AlertRepository alertRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.alert.retention.chunk-size:500}") int chunkSize,
+            @Value("${app.alert.retention.max-rows-per-run:50000}") int maxRowsPerRun,
+            @Value("${app.alert.retention.chunk-pause:PT0.05S}") Duration chunkPause,
+            @Value("${app.alert.retention.resolved-retention:P30D}") Duration resolvedRetention,
+            @Value("${app.alert.retention.archive.enabled:false}") boolean archiveEnabled) {
+        this.alertRepository = alertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxRowsPerRun = maxRowsPerRun;
+        this.chunkPause = chunkPause;
+        this.resolvedRetention = resolvedRetention;
+        this.archiveEnabled = archiveEnabled;
+
+        this.expiredDeletedCounter = Counter.builder("alert.retention.deleted")
+                .tag("reason", REASON_EXPIRED)
+                .register(meterRegistry);
+        this.resolvedDeletedCounter = Counter.builder("alert.retention.deleted")
+                .tag("reason", REASON_RESOLVED)
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("alert.retention.archived")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("alert.retention.run")
+                .register(meterRegistry);
+        Gauge.builder("alert.retention.rows_per_second", lastRowsPerSecond, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보존 정책 1회 실행 (만료 알림 → 해결 알림 순, 두 종류 합산으로 상한 적용)
+     * 이미 실행 중이면 건너뜀
+     */
+    public RetentionResult runRetention() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Alert retention already running, skipping");
+            return new RetentionResult(0, 0, Duration.ZERO, false);
+        }
+
+        long start = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = purgeExpiredAlerts(now, maxRowsPerRun);
+            int resolved = purgeResolvedAlerts(now.minus(resolvedRetention), maxRowsPerRun - expired);
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            runTimer.record(elapsed);
+            int total = expired + resolved;
+            lastRowsPerSecond.set(total * 1000L / Math.max(1, elapsed.toMillis()));
+            boolean capped = total >= maxRowsPerRun;
+
+            if (total > 0) {
+                log.info("Alert retention removed {} expired, {} resolved alerts in {} ms ({} rows/s){}",
+                        expired, resolved, elapsed.toMillis(), lastRowsPerSecond.get(),
+                        capped ? " - per-run cap reached" : "");
+            }
+            return new RetentionResult(expired, resolved, elapsed, capped);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 만료된 알림 삭제
+     *
+     * @return 삭제된 알림 수
+     */
+    public int purgeExpiredAlerts(LocalDateTime now, int maxRows) {
+        int deleted = purge(maxRows, (afterId, limit) ->
+                alertRepository.findExpiredAlertIds(now, afterId, PageRequest.of(0, limit)));
+        expiredDeletedCounter.increment(deleted);
+        return deleted;
+    }
+
+    /**
+     * cutoffDate 이전에 해결된 알림 삭제
+     *
+     * @return 삭제된 알림 수
+     */
+    public int purgeResolvedAlerts(LocalDateTime cutoffDate, int maxRows) {
+        int deleted = purge(maxRows, (afterId, limit) ->
+                alertRepository.findResolvedAlertIdsBefore(cutoffDate, afterId, PageRequest.of(0, limit)));
+        resolvedDeletedCounter.increment(deleted);
+        return deleted;
+    }
+
+    private int purge(int maxRows, IdChunkQuery query) {
+        int total = 0;
+        // UUID 문자열은 모두 ""보다 크므로 첫 청크는 처음부터 조회
+        String afterId = "";
+
+        while (total < maxRows) {
+            int limit = Math.min(chunkSize, maxRows - total);
+            List<String> ids = query.next(afterId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> {
+                if (archiveEnabled) {
+                    archivedCounter.increment(alertRepository.archiveByIdIn(ids, LocalDateTime.now()));
+                }
+                return alertRepository.deleteByIdIn(ids);
+            });
+            total += deleted != null ? deleted : 0;
+            afterId = ids.get(ids.size() - 1);
+
+            if (ids.size() < limit || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 청크 사이 휴지 (인터럽트되면 false - 종료 중이므로 남은 작업은 다음 실행으로)
+     */
+    private boolean pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdChunkQuery {
+        List<String> next(String afterId, int limit);
+    }
+
+    /**
+     * 보존 정책 실행 결과
+     *
+     * @param capped 실행당 상한에 도달하여 남은 알림이 있을 수 있음
+     */
+    public record RetentionResult(int expiredDeleted, int resolvedDeleted, Duration elapsed, boolean capped) {
+
+        public int totalDeleted() {
+            return expiredDeleted + resolvedDeleted;
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.jeonbuk.report.application.service;
 
-import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
 import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterDto;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterStreamingClient;
+import com.jeonbuk.report.infrastructure.outbox.TransactionalOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
 
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -29,8 +30,12 @@ import java.util.concurrent.atomic.AtomicLong;
 @RequiredArgsConstructor
 public class AlertService {
 
-  private final OpenRouterApiClient openRouterApiClient;
-  private final KafkaTemplate<String, Object> kafkaTemplate;
+  // 우선순위 결정과 분석 노트에 사용하는 AI 응답 필드 (모두 도착하면 나머지 생성은 기다리지 않음)
+  private static final Set<String> AI_ANALYSIS_FIELDS = Set.of(
+      "urgency_score", "category", "recommended_action", "estimated_impact");
+
+  private final OpenRouterStreamingClient openRouterStreamingClient;
+  private final TransactionalOutbox transactionalOutbox;
 
   // Statistics tracking
   private final AtomicLong totalProcessed = new AtomicLong(0);
@@ -54,8 +59,8 @@ public class AlertService {
         .thenCompose(this::enhanceWithAiAnalysis)
         .thenApply(this::determineAlertPriority)
         .thenApply(result -> {
-          // 카프카로 알림 이벤트 발송 (비동기)
-          sendAlertToKafkaAsync(result);
+          // 아웃박스에 알림 이벤트 저장 (OutboxRelay가 카프카로 일괄 발행)
+          publishAlertEvent(result);
           
           // Statistics update
           long processingTime = System.currentTimeMillis() - startTime;
@@ -70,7 +75,7 @@ public class AlertService {
             log.error("❌ 알림 처리 실패 - ID: {}", request.getId(), throwable);
             failedProcessing.incrementAndGet();
             // 실패한 알림도 카프카로 전송 (에러 추적용)
-            sendFailedAlertToKafka(request, throwable);
+            publishFailedAlertEvent(request, throwable);
           } else {
             log.info("✅ 알림 처리 완료 - ID: {}, 우선순위: {}",
                 request.getId(), result.getPriority());
@@ -114,26 +119,33 @@ public class AlertService {
   }
 
   /**
-   * AI 분석으로 결과 개선 (비동기, 무거운 작업)
+   * AI 분석으로 결과 개선 (비동기, 논블로킹 스트리밍)
+   * 필요한 필드가 모두 도착하면 응답 생성 완료를 기다리지 않고 바로 반영합니다.
    */
   private CompletableFuture<AlertAnalysisResult> enhanceWithAiAnalysis(AlertAnalysisResult result) {
     log.debug("🤖 AI 분석 강화 시작");
 
-    if (!openRouterApiClient.isApiAvailable()) {
+    if (!openRouterStreamingClient.isAvailable()) {
       log.warn("⚠️ OpenRouter API 사용 불가 - 기본 분석 결과 사용");
       result.setAiAnalysisAvailable(false);
       return CompletableFuture.completedFuture(result);
     }
 
-    String systemPrompt = createAlertAnalysisPrompt();
-    String userPrompt = createUserPromptForAlert(result.getOriginalRequest());
+    List<OpenRouterDto.Message> messages = List.of(
+        OpenRouterDto.Message.system(createAlertAnalysisPrompt()),
+        OpenRouterDto.Message.user(createUserPromptForAlert(result.getOriginalRequest())));
 
-    return openRouterApiClient
-        .chatCompletionAsync(systemPrompt, userPrompt)
-        .thenApply(aiResponse -> {
+    return openRouterStreamingClient
+        .streamJsonFields(messages, AI_ANALYSIS_FIELDS)
+        .toFuture()
+        .thenApply(streamed -> {
           try {
-            // AI 응답 파싱 및 결과 업데이트
-            parseAiAnalysisResponse(result, aiResponse);
+            // AI 응답 파싱 및 결과 업데이트 (JSON을 읽지 못한 경우 원문 기반 분석)
+            if (streamed.fields().isEmpty()) {
+              parseAiAnalysisResponse(result, streamed.rawText());
+            } else {
+              applyAiAnalysisData(result, streamed.fields());
+            }
             result.setAiAnalysisAvailable(true);
             log.debug("✅ AI 분석 완료 - 향상된 긴급도: {}", result.getUrgencyScore());
           } catch (Exception e) {
@@ -185,10 +197,9 @@ public class AlertService {
   }
 
   /**
-   * 카프카로 알림 이벤트 전송 (비동기)
+   * 알림 이벤트를 아웃박스에 저장 (발행은 OutboxRelay가 담당하므로 유실/폐기 없음)
    */
-  @Async("kafkaPublishingExecutor")
-  public void sendAlertToKafkaAsync(AlertAnalysisResult result) {
+  public void publishAlertEvent(AlertAnalysisResult result) {
     try {
       Map<String, Object> alertEvent = Map.of(
           "eventType", "ALERT_PROCESSED",
@@ -202,18 +213,18 @@ public class AlertService {
               result.getAnalysisStartTime(),
               result.getAnalysisEndTime()).toMillis());
 
-      kafkaTemplate.send("alert-events", result.getId(), alertEvent);
-      log.debug("📤 카프카 알림 이벤트 전송 완료 - ID: {}", result.getId());
+      transactionalOutbox.append("alert-events", result.getId(), alertEvent);
+      log.debug("📤 알림 이벤트 아웃박스 저장 완료 - ID: {}", result.getId());
 
     } catch (Exception e) {
-      log.error("❌ 카프카 알림 이벤트 전송 실패 - ID: {}", result.getId(), e);
+      log.error("❌ 알림 이벤트 아웃박스 저장 실패 - ID: {}", result.getId(), e);
     }
   }
 
   /**
-   * 실패한 알림 카프카 전송
+   * 실패한 알림 이벤트 아웃박스 저장
    */
-  private void sendFailedAlertToKafka(AlertRequest request, Throwable error) {
+  private void publishFailedAlertEvent(AlertRequest request, Throwable error) {
     try {
       Map<String, Object> errorEvent = Map.of(
           "eventType", "ALERT_PROCESSING_FAILED",
@@ -222,11 +233,11 @@ public class AlertService {
           "errorType", error.getClass().getSimpleName(),
           "failedAt", LocalDateTime.now().toString());
 
-      kafkaTemplate.send("alert-errors", request.getId(), errorEvent);
-      log.debug("📤 카프카 에러 이벤트 전송 완료 - ID: {}", request.getId());
+      transactionalOutbox.append("alert-errors", request.getId(), errorEvent);
+      log.debug("📤 에러 이벤트 아웃박스 저장 완료 - ID: {}", request.getId());
 
     } catch (Exception e) {
-      log.error("❌ 카프카 에러 이벤트 전송 실패 - ID: {}", request.getId(), e);
+      log.error("❌ 에러 이벤트 아웃박스 저장 실패 - ID: {}", request.getId(), e);
     }
   }
 
@@ -351,25 +362,7 @@ public class AlertService {
       Map<String, Object> analysisData = objectMapper.readValue(jsonContent, Map.class);
       
       // AI 분석 결과로 기존 결과 업데이트
-      if (analysisData.containsKey("urgency_score")) {
-        Number urgencyScore = (Number) analysisData.get("urgency_score");
-        result.setUrgencyScore(urgencyScore.doubleValue());
-      }
-      
-      if (analysisData.containsKey("category")) {
-        result.setCategory((String) analysisData.get("category"));
-      }
-      
-      if (analysisData.containsKey("recommended_action")) {
-        result.addAnalysisNote("권장조치: " + analysisData.get("recommended_action"));
-      }
-      
-      if (analysisData.containsKey("estimated_impact")) {
-        result.addAnalysisNote("예상영향: " + analysisData.get("estimated_impact"));
-      }
-      
-      log.debug("AI 분석 파싱 완료 - 긴급도: {}, 카테고리: {}", 
-          result.getUrgencyScore(), result.getCategory());
+      applyAiAnalysisData(result, analysisData);
           
     } catch (Exception e) {
       log.warn("AI 응답 JSON 파싱 실패, 기본 키워드 분석 사용: {}", e.getMessage());
@@ -388,6 +381,28 @@ public class AlertService {
     }
   }
 
+  private void applyAiAnalysisData(AlertAnalysisResult result, Map<String, Object> analysisData) {
+    if (analysisData.containsKey("urgency_score")) {
+      Number urgencyScore = (Number) analysisData.get("urgency_score");
+      result.setUrgencyScore(urgencyScore.doubleValue());
+    }
+    
+    if (analysisData.containsKey("category")) {
+      result.setCategory((String) analysisData.get("category"));
+    }
+    
+    if (analysisData.containsKey("recommended_action")) {
+      result.addAnalysisNote("권장조치: " + analysisData.get("recommended_action"));
+    }
+    
+    if (analysisData.containsKey("estimated_impact")) {
+      result.addAnalysisNote("예상영향: " + analysisData.get("estimated_impact"));
+    }
+    
+    log.debug("AI 분석 파싱 완료 - 긴급도: {}, 카테고리: {}", 
+        result.getUrgencyScore(), result.getCategory());
+  }
+
   private String extractJsonFromResponse(String response) {
     // JSON 블록 찾기
     int startIndex = response.indexOf("{");
@@ -4,6 +4,7 @@ import com.jeonbuk.report.domain.entity.Report;
 import com.jeonbuk.report.domain.entity.ReportFile;
 import com.jeonbuk.report.domain.repository.ReportRepository;
 import com.jeonbuk.report.domain.repository.ReportFileRepository;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
@@ -14,13 +15,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -141,14 +139,8 @@ public class FileService {
     }
 
     private String calculateFileHash(byte[] fileBytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(fileBytes);
-            return new BigInteger(1, hash).toString(16);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Error calculating file hash", e);
-            return null;
-        }
+        // 이미지 분석 캐시와 같은 키를 쓰도록 지문 생성기의 SHA-256 사용
+        return ImageFingerprinter.sha256(fileBytes);
     }
 
     private boolean isImageFile(String contentType) {
@@ -1,13 +1,25 @@
 package com.jeonbuk.report.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.infrastructure.gis.GeoJsonBoundaries;
+import com.jeonbuk.report.infrastructure.gis.OfficeKdTree;
+import com.jeonbuk.report.infrastructure.gis.RegionIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
+/**
+ * 위치 기반 행정구역/담당 부서 판정
+ *
+ * 행정구역 경계와 관공서 위치는 GeoJSON 리소스(app.gis.boundaries)에서 읽어 기동 시 한 번 인덱싱합니다.
+ * - 행정구역: STR-tree + point-in-polygon (겹치는 경계는 priority로 항상 같은 구역)
+ * - 최근접 관공서: k-d 트리
+ * 인덱스는 읽기 전용이므로 동시 요청과 대량 일괄 판정(routeAll)에 잠금 없이 사용됩니다.
+ */
 @Service
 @Slf4j
 public class GisService {
@@ -18,32 +30,28 @@ public class GisService {
     private static final double JEONBUK_MIN_LNG = 126.2;
     private static final double JEONBUK_MAX_LNG = 127.9;
     
-    // City/District boundaries for Jeonbuk (simplified administrative divisions)
-    private final Map<String, CityBounds> cityBounds = new HashMap<>();
+    private final RegionIndex regionIndex;
+    private final OfficeKdTree officeIndex;
     
-    public GisService() {
-        initializeCityBounds();
+    public GisService(@Value("${app.gis.boundaries:classpath:gis/jeonbuk-boundaries.geojson}") Resource boundaries,
+                      ObjectMapper objectMapper) {
+        GeoJsonBoundaries.Boundaries loaded = GeoJsonBoundaries.load(boundaries, objectMapper);
+        this.regionIndex = new RegionIndex(loaded.regions());
+        this.officeIndex = new OfficeKdTree(loaded.offices());
+        log.info("Loaded GIS boundaries: {} divisions, {} offices", loaded.regions().size(), loaded.offices().size());
     }
     
-    private void initializeCityBounds() {
-        // Jeonju (전주시)
-        cityBounds.put("JEONJU", new CityBounds(35.780, 35.880, 127.080, 127.180, "JEONJU_CITY"));
-        
-        // Gunsan (군산시)
-        cityBounds.put("GUNSAN", new CityBounds(35.940, 36.020, 126.680, 126.780, "GUNSAN_CITY"));
-        
-        // Iksan (익산시)
-        cityBounds.put("IKSAN", new CityBounds(35.920, 36.000, 126.940, 127.040, "IKSAN_CITY"));
-        
-        // Jeollabuk-do (전북 기타 지역)
-        cityBounds.put("NAMWON", new CityBounds(35.380, 35.480, 127.370, 127.470, "NAMWON_CITY"));
-        cityBounds.put("KIMJE", new CityBounds(35.760, 35.860, 126.860, 126.960, "KIMJE_CITY"));
-        cityBounds.put("JEONGEUP", new CityBounds(35.540, 35.640, 126.840, 126.940, "JEONGEUP_CITY"));
-        
-        // Counties (군 지역)
-        cityBounds.put("WANJU", new CityBounds(35.820, 35.920, 127.120, 127.220, "WANJU_COUNTY"));
-        cityBounds.put("GOCHANG", new CityBounds(35.400, 35.500, 126.680, 126.780, "GOCHANG_COUNTY"));
-        cityBounds.put("BUAN", new CityBounds(35.680, 35.780, 126.680, 126.780, "BUAN_COUNTY"));
+    /**
+     * 위치 판정 결과
+     */
+    public record GisRouting(
+            double latitude,
+            double longitude,
+            boolean withinJeonbuk,
+            String administrativeDivision,
+            String workspace,
+            String department,
+            String nearestOffice) {
     }
     
     public void processLocation(Report report) {
@@ -67,8 +75,8 @@ public class GisService {
         
         // Determine administrative division
         String administrativeDivision = determineAdministrativeDivision(lat, lng);
-        String workspace = determineWorkspace(lat, lng);
-        String department = determineDepartment(administrativeDivision, workspace);
+        String workspace = workspaceFor(administrativeDivision);
+        String department = determineDepartment(administrativeDivision);
         
         // Update report with GIS analysis results
         report.setAssignedDepartment(department);
@@ -94,10 +102,32 @@ public class GisService {
         }
         
         // Determine city/county
-        String city = determineAdministrativeDivision(lat, lng);
-        
+        return workspaceFor(determineAdministrativeDivision(lat, lng));
+    }
+    
+    /**
+     * 여러 좌표를 한 번에 판정 (대량 신고 접수/재배정용)
+     * 좌표마다 인덱스 조회만 하므로 건수에 비례한 O(n log m) (m: 구역/관공서 수)
+     */
+    public List<GisRouting> routeAll(List<double[]> coordinates) {
+        return coordinates.stream()
+                .map(coordinate -> route(coordinate[0], coordinate[1]))
+                .toList();
+    }
+    
+    public GisRouting route(double lat, double lng) {
+        if (!isWithinJeonbuk(lat, lng)) {
+            return new GisRouting(lat, lng, false, null, "external-region", "EXTERNAL_REGION",
+                    findNearestOffice(lat, lng));
+        }
+        String division = determineAdministrativeDivision(lat, lng);
+        return new GisRouting(lat, lng, true, division, workspaceFor(division), determineDepartment(division),
+                findNearestOffice(lat, lng));
+    }
+    
+    private static String workspaceFor(String administrativeDivision) {
         // Map to workspace based on administrative division
-        return switch (city) {
+        return switch (administrativeDivision) {
             case "JEONJU_CITY" -> "jeonbuk-jeonju";
             case "GUNSAN_CITY" -> "jeonbuk-gunsan";
             case "IKSAN_CITY" -> "jeonbuk-iksan";
@@ -113,14 +143,10 @@ public class GisService {
     }
     
     private String determineAdministrativeDivision(double lat, double lng) {
-        for (Map.Entry<String, CityBounds> entry : cityBounds.entrySet()) {
-            CityBounds bounds = entry.getValue();
-            if (lat >= bounds.minLat && lat <= bounds.maxLat &&
-                lng >= bounds.minLng && lng <= bounds.maxLng) {
-                return bounds.administrativeCode;
-            }
-        }
-        
+        return regionIndex.locate(lat, lng).orElseGet(() -> determineGeneralArea(lat, lng));
+    }
+    
+    private String determineGeneralArea(double lat, double lng) {
         // If not found in specific city boundaries, determine by general area
         if (lat >= 35.750 && lat <= 35.900 && lng >= 127.050 && lng <= 127.200) {
             return "JEONJU_AREA"; // Jeonju metropolitan area
@@ -133,7 +159,7 @@ public class GisService {
         }
     }
     
-    private String determineDepartment(String administrativeDivision, String workspace) {
+    private String determineDepartment(String administrativeDivision) {
         // Map administrative division to responsible department
         return switch (administrativeDivision) {
             case "JEONJU_CITY", "JEONJU_AREA" -> "JEONJU_CITY_HALL";
@@ -174,43 +200,13 @@ public class GisService {
      * Find nearest administrative office
      */
     public String findNearestOffice(double lat, double lng) {
-        double minDistance = Double.MAX_VALUE;
-        String nearestOffice = "JEONBUK_PROVINCIAL_OFFICE";
-        
-        // Predefined office locations (approximate coordinates)
-        Map<String, double[]> officeLocations = Map.of(
-            "JEONJU_CITY_HALL", new double[]{35.8242, 127.1479},
-            "GUNSAN_CITY_HALL", new double[]{35.9675, 126.7374},
-            "IKSAN_CITY_HALL", new double[]{35.9483, 126.9578},
-            "JEONBUK_PROVINCIAL_OFFICE", new double[]{35.8203, 127.1088}
-        );
+        OfficeKdTree.Office nearest = officeIndex.nearest(lat, lng);
         
-        for (Map.Entry<String, double[]> entry : officeLocations.entrySet()) {
-            double[] coords = entry.getValue();
-            double distance = calculateDistance(lat, lng, coords[0], coords[1]);
-            
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearestOffice = entry.getKey();
-            }
+        if (log.isDebugEnabled()) {
+            log.debug("Nearest office to ({}, {}) is {} at distance {} km", lat, lng, nearest.code(),
+                    calculateDistance(lat, lng, nearest.latitude(), nearest.longitude()));
         }
         
-        log.debug("Nearest office to ({}, {}) is {} at distance {} km", 
-                lat, lng, nearestOffice, minDistance);
-        
-        return nearestOffice;
-    }
-    
-    private static class CityBounds {
-        final double minLat, maxLat, minLng, maxLng;
-        final String administrativeCode;
-        
-        CityBounds(double minLat, double maxLat, double minLng, double maxLng, String administrativeCode) {
-            this.minLat = minLat;
-            this.maxLat = maxLat;
-            this.minLng = minLng;
-            this.maxLng = maxLng;
-            this.administrativeCode = administrativeCode;
-        }
+        return nearest.code();
     }
 }
\ No newline at end of file
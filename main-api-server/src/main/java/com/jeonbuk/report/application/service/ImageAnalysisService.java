@@ -1,21 +1,29 @@
 package com.jeonbuk.report.application.service;
 
-import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterApiClient;
-import lombok.RequiredArgsConstructor;
+import com.jeonbuk.report.infrastructure.cache.ImageAnalysisCache;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterDto;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterStreamingClient;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter.Fingerprint;
+import com.jeonbuk.report.infrastructure.image.ImageResizeEngine;
+import com.jeonbuk.report.infrastructure.image.SubsampledImageDecoder;
+import com.jeonbuk.report.infrastructure.image.SubsampledImageDecoder.DecodedImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import javax.imageio.ImageIO;
 
 /**
  * 이미지 분석 서비스 - 멀티스레딩으로 최적화된 무거운 작업 처리
@@ -25,16 +33,64 @@ import javax.imageio.ImageIO;
  * - AI 분석을 별도 스레드 풀에서 비동기 실행
  * - 대용량 이미지 처리 시 메모리 효율적 처리
  * - compute() 함수 활용으로 CPU 집약적 작업 분리
+ * - 헤더 기반 서브샘플링 디코딩으로 원본 해상도 버퍼 할당 회피
+ * - 전용 리사이징 풀에서 단계적 축소, 단계별 처리 시간 메트릭 기록
+ * - 이미지 지문(SHA-256/dHash) 기반 AI 분석 결과 캐시로 중복 호출 제거
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageAnalysisService {
 
-  private final OpenRouterApiClient openRouterApiClient;
+  private static final int MAX_DIMENSION = 1920;
+  private static final String AI_CACHE_SCOPE = "image-analysis";
+  // 심각도·신뢰도가 도착하면 나머지 생성(설명문 등)은 기다리지 않음
+  private static final Set<String> AI_ANALYSIS_FIELDS = Set.of("severity_level", "confidence_score");
+
+  private final OpenRouterStreamingClient openRouterStreamingClient;
+  private final SubsampledImageDecoder imageDecoder;
+  private final ImageResizeEngine resizeEngine;
+  private final ImageFingerprinter imageFingerprinter;
+  private final ImageAnalysisCache<AiAnalysisSnapshot> aiAnalysisCache;
   private final Executor imageProcessingExecutor;
   private final Executor heavyTaskExecutor;
 
+  // 단계별 처리 시간 메트릭
+  private final Timer decodeStage;
+  private final Timer resizeStage;
+  private final Timer qualityStage;
+  private final Timer aiStage;
+
+  public ImageAnalysisService(
+      OpenRouterStreamingClient openRouterStreamingClient,
+      SubsampledImageDecoder imageDecoder,
+      ImageResizeEngine resizeEngine,
+      ImageFingerprinter imageFingerprinter,
+      ImageAnalysisCache<AiAnalysisSnapshot> aiAnalysisCache,
+      @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+      @Qualifier("heavyTaskExecutor") Executor heavyTaskExecutor,
+      MeterRegistry meterRegistry) {
+    this.openRouterStreamingClient = openRouterStreamingClient;
+    this.imageDecoder = imageDecoder;
+    this.resizeEngine = resizeEngine;
+    this.imageFingerprinter = imageFingerprinter;
+    this.aiAnalysisCache = aiAnalysisCache;
+    this.imageProcessingExecutor = imageProcessingExecutor;
+    this.heavyTaskExecutor = heavyTaskExecutor;
+
+    this.decodeStage = stageTimer(meterRegistry, "decode");
+    this.resizeStage = stageTimer(meterRegistry, "resize");
+    this.qualityStage = stageTimer(meterRegistry, "quality");
+    this.aiStage = stageTimer(meterRegistry, "ai");
+  }
+
+  private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+    return Timer.builder("image.analysis.stage")
+        .description("이미지 분석 단계별 소요 시간")
+        .tag("stage", stage)
+        .publishPercentiles(0.5, 0.95)
+        .register(meterRegistry);
+  }
+
   /**
    * 이미지 분석 메인 메서드 (비동기)
    * UI 스레드를 블로킹하지 않고 백그라운드에서 처리
@@ -93,88 +149,60 @@ public class ImageAnalysisService {
 
   /**
    * 이미지 전처리 - CPU 집약적 작업을 백그라운드 스레드에서 처리
-   * compute() 함수를 사용하여 UI 스레드 블로킹 방지
+   * 리사이징은 전용 imageResizeExecutor에서 단계적 축소로 처리
    */
   private ProcessedImageData preprocessImage(byte[] imageData, String fileName) {
     log.debug("🔧 이미지 전처리 시작 - {}", fileName);
 
     try {
-      // BufferedImage 생성 (메모리 집약적)
-      BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageData));
+      // 헤더 기반 서브샘플링 디코딩 - 원본 해상도 BufferedImage 생성 회피
+      DecodedImage decoded = decodeStage.recordCallable(
+          () -> imageDecoder.decode(imageData, MAX_DIMENSION));
 
-      if (originalImage == null) {
+      if (decoded == null) {
         throw new IllegalArgumentException("유효하지 않은 이미지 형식: " + fileName);
       }
 
+      BufferedImage decodedImage = decoded.image();
+
       ProcessedImageData processed = new ProcessedImageData();
-      processed.setOriginalWidth(originalImage.getWidth());
-      processed.setOriginalHeight(originalImage.getHeight());
+      processed.setOriginalWidth(decoded.sourceWidth());
+      processed.setOriginalHeight(decoded.sourceHeight());
       processed.setOriginalSize(imageData.length);
       processed.setFileName(fileName);
 
-      // 이미지가 너무 큰 경우 리사이징 (CPU 집약적 작업)
-      if (shouldResize(originalImage)) {
-        BufferedImage resizedImage = resizeImageUsingCompute(originalImage);
+      // 서브샘플링 후에도 큰 경우 최종 크기로 리사이징 (CPU 집약적 작업)
+      if (shouldResize(decodedImage)) {
+        BufferedImage resizedImage = resizeStage.record(
+            () -> resizeEngine.resize(decodedImage, MAX_DIMENSION));
         processed.setProcessedImage(resizedImage);
         processed.setResized(true);
-        log.debug("📏 이미지 리사이징 완료 - {}x{} -> {}x{}",
-            originalImage.getWidth(), originalImage.getHeight(),
-            resizedImage.getWidth(), resizedImage.getHeight());
+        log.debug("📏 이미지 리사이징 완료 - {}x{} -> {}x{} (디코딩 배율 1/{})",
+            decoded.sourceWidth(), decoded.sourceHeight(),
+            resizedImage.getWidth(), resizedImage.getHeight(), decoded.subsampling());
       } else {
-        processed.setProcessedImage(originalImage);
-        processed.setResized(false);
+        processed.setProcessedImage(decodedImage);
+        processed.setResized(decoded.isSubsampled());
       }
 
       // 이미지 품질 분석
-      processed.setQualityScore(calculateImageQuality(processed.getProcessedImage()));
+      processed.setQualityScore(qualityStage.record(
+          () -> calculateImageQuality(processed.getProcessedImage())));
+
+      // 중복 분석 캐시용 지문 (SHA-256 + dHash)
+      processed.setFingerprint(imageFingerprinter.fingerprint(imageData, processed.getProcessedImage()));
 
       log.debug("✅ 이미지 전처리 완료 - {}", fileName);
       return processed;
 
-    } catch (IOException e) {
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Exception e) {
       log.error("❌ 이미지 전처리 실패 - {}", fileName, e);
       throw new RuntimeException("이미지 전처리 실패: " + e.getMessage(), e);
     }
   }
 
-  /**
-   * compute() 함수를 활용한 이미지 리사이징
-   * CPU 집약적인 픽셀 변환 작업을 병렬 처리
-   */
-  private BufferedImage resizeImageUsingCompute(BufferedImage originalImage) {
-    int originalWidth = originalImage.getWidth();
-    int originalHeight = originalImage.getHeight();
-
-    // 최대 크기 제한
-    int maxDimension = 1920;
-    double scale = Math.min((double) maxDimension / originalWidth,
-        (double) maxDimension / originalHeight);
-
-    int newWidth = (int) (originalWidth * scale);
-    int newHeight = (int) (originalHeight * scale);
-
-    log.debug("🔄 이미지 리사이징 시작 - 스케일: {}", scale);
-
-    // compute() 함수를 사용하여 CPU 집약적 작업 분리
-    return java.util.concurrent.ForkJoinPool.commonPool().submit(() -> {
-      BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, originalImage.getType());
-      java.awt.Graphics2D g2d = resizedImage.createGraphics();
-
-      // 고품질 리샘플링 설정
-      g2d.setRenderingHint(java.awt.RenderingHints.KEY_INTERPOLATION,
-          java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-      g2d.setRenderingHint(java.awt.RenderingHints.KEY_RENDERING,
-          java.awt.RenderingHints.VALUE_RENDER_QUALITY);
-      g2d.setRenderingHint(java.awt.RenderingHints.KEY_ANTIALIASING,
-          java.awt.RenderingHints.VALUE_ANTIALIAS_ON);
-
-      g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-      g2d.dispose();
-
-      return resizedImage;
-    }).join();
-  }
-
   /**
    * 기본 이미지 정보 추출 (빠른 처리)
    */
@@ -188,6 +216,7 @@ public class ImageAnalysisService {
     result.setOriginalSize(processedData.getOriginalSize());
     result.setResized(processedData.isResized());
     result.setQualityScore(processedData.getQualityScore());
+    result.setFingerprint(processedData.getFingerprint());
 
     // 이미지 유형 기본 분류
     result.setImageType(classifyImageType(processedData));
@@ -199,25 +228,49 @@ public class ImageAnalysisService {
   }
 
   /**
-   * AI 분석 수행 (비동기, I/O 집약적)
+   * AI 분석 수행 (비동기, 논블로킹 스트리밍)
    */
   private CompletableFuture<ImageAnalysisResult> performAiAnalysisAsync(ImageAnalysisResult result) {
     log.debug("🤖 AI 분석 시작 - {}", result.getFileName());
 
-    if (!openRouterApiClient.isApiAvailable()) {
+    // 같은 사진 또는 거의 같은 사진은 캐시된 분석 결과 재사용
+    Fingerprint fingerprint = result.getFingerprint();
+    if (fingerprint != null) {
+      Optional<AiAnalysisSnapshot> cached = aiAnalysisCache.get(AI_CACHE_SCOPE, fingerprint);
+      if (cached.isPresent()) {
+        cached.get().applyTo(result);
+        result.setAiAnalysisAvailable(true);
+        result.setAiAnalysisCached(true);
+        log.debug("♻️ AI 분석 캐시 적중 - {}", result.getFileName());
+        return CompletableFuture.completedFuture(result);
+      }
+    }
+
+    if (!openRouterStreamingClient.isAvailable()) {
       log.warn("⚠️ AI API 사용 불가 - 기본 분석만 수행");
       result.setAiAnalysisAvailable(false);
       return CompletableFuture.completedFuture(result);
     }
 
     String analysisPrompt = createImageAnalysisPrompt(result);
+    Timer.Sample aiSample = Timer.start();
 
-    return openRouterApiClient
-        .chatCompletionAsync(analysisPrompt)
-        .thenApply(aiResponse -> {
+    return openRouterStreamingClient
+        .streamJsonFields(List.of(OpenRouterDto.Message.user(analysisPrompt)), AI_ANALYSIS_FIELDS)
+        .toFuture()
+        .whenComplete((streamed, throwable) -> aiSample.stop(aiStage))
+        .thenApply(streamed -> {
           try {
-            parseAiAnalysisResponse(result, aiResponse);
+            // JSON을 읽지 못한 경우 원문 기반 키워드 분석
+            if (streamed.fields().isEmpty()) {
+              parseAiAnalysisResponse(result, streamed.rawText());
+            } else {
+              applyAiAnalysisData(result, streamed.fields());
+            }
             result.setAiAnalysisAvailable(true);
+            if (fingerprint != null) {
+              aiAnalysisCache.put(AI_CACHE_SCOPE, fingerprint, AiAnalysisSnapshot.from(result));
+            }
             log.debug("✅ AI 분석 완료 - {}", result.getFileName());
           } catch (Exception e) {
             log.warn("⚠️ AI 응답 파싱 실패 - {}: {}", result.getFileName(), e.getMessage());
@@ -266,8 +319,7 @@ public class ImageAnalysisService {
   // === 유틸리티 메서드들 ===
 
   private boolean shouldResize(BufferedImage image) {
-    int maxDimension = 1920;
-    return image.getWidth() > maxDimension || image.getHeight() > maxDimension;
+    return image.getWidth() > MAX_DIMENSION || image.getHeight() > MAX_DIMENSION;
   }
 
   private double calculateImageQuality(BufferedImage image) {
@@ -336,29 +388,7 @@ public class ImageAnalysisService {
       Map<String, Object> analysisData = objectMapper.readValue(jsonContent, Map.class);
       
       // AI 분석 결과로 기존 결과 업데이트
-      if (analysisData.containsKey("severity_level")) {
-        result.setSeverityLevel((String) analysisData.get("severity_level"));
-      }
-      
-      if (analysisData.containsKey("object_type")) {
-        result.addDetectedObject((String) analysisData.get("object_type"));
-      }
-      
-      if (analysisData.containsKey("confidence_score")) {
-        Number confidenceScore = (Number) analysisData.get("confidence_score");
-        result.setConfidenceScore(confidenceScore.doubleValue());
-      }
-      
-      if (analysisData.containsKey("damage_assessment")) {
-        result.setAiAnalysisText("손상 평가: " + analysisData.get("damage_assessment"));
-      }
-      
-      if (analysisData.containsKey("recommended_action")) {
-        result.setAiAnalysisText(result.getAiAnalysisText() + " | 권장조치: " + analysisData.get("recommended_action"));
-      }
-      
-      log.debug("AI 분석 파싱 완료 - 심각도: {}, 신뢰도: {}", 
-          result.getSeverityLevel(), result.getConfidenceScore());
+      applyAiAnalysisData(result, analysisData);
           
     } catch (Exception e) {
       log.warn("AI 응답 JSON 파싱 실패, 키워드 분석 사용: {}", e.getMessage());
@@ -368,6 +398,32 @@ public class ImageAnalysisService {
     }
   }
 
+  private void applyAiAnalysisData(ImageAnalysisResult result, Map<String, Object> analysisData) {
+    if (analysisData.containsKey("severity_level")) {
+      result.setSeverityLevel((String) analysisData.get("severity_level"));
+    }
+    
+    if (analysisData.containsKey("object_type")) {
+      result.addDetectedObject((String) analysisData.get("object_type"));
+    }
+    
+    if (analysisData.containsKey("confidence_score")) {
+      Number confidenceScore = (Number) analysisData.get("confidence_score");
+      result.setConfidenceScore(confidenceScore.doubleValue());
+    }
+    
+    if (analysisData.containsKey("damage_assessment")) {
+      result.setAiAnalysisText("손상 평가: " + analysisData.get("damage_assessment"));
+    }
+    
+    if (analysisData.containsKey("recommended_action")) {
+      result.setAiAnalysisText(result.getAiAnalysisText() + " | 권장조치: " + analysisData.get("recommended_action"));
+    }
+    
+    log.debug("AI 분석 파싱 완료 - 심각도: {}, 신뢰도: {}", 
+        result.getSeverityLevel(), result.getConfidenceScore());
+  }
+
   private String extractJsonFromResponse(String response) {
     // JSON 블록 찾기
     int startIndex = response.indexOf("{");
@@ -451,6 +507,7 @@ public class ImageAnalysisService {
     private BufferedImage processedImage;
     private boolean resized;
     private double qualityScore;
+    private Fingerprint fingerprint;
 
     // Getters and setters
     public String getFileName() {
@@ -508,6 +565,14 @@ public class ImageAnalysisService {
     public void setQualityScore(double qualityScore) {
       this.qualityScore = qualityScore;
     }
+
+    public Fingerprint getFingerprint() {
+      return fingerprint;
+    }
+
+    public void setFingerprint(Fingerprint fingerprint) {
+      this.fingerprint = fingerprint;
+    }
   }
 
   public static class ImageAnalysisResult {
@@ -529,6 +594,8 @@ public class ImageAnalysisService {
     private String errorMessage;
     private double confidenceScore;
     private java.util.List<String> detectedObjects = new java.util.ArrayList<>();
+    private Fingerprint fingerprint;
+    private boolean aiAnalysisCached;
 
     // Getters and setters
     public String getFileName() {
@@ -681,5 +748,50 @@ public class ImageAnalysisService {
       }
       this.detectedObjects.add(detectedObject);
     }
+
+    public Fingerprint getFingerprint() {
+      return fingerprint;
+    }
+
+    public void setFingerprint(Fingerprint fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+
+    public boolean isAiAnalysisCached() {
+      return aiAnalysisCached;
+    }
+
+    public void setAiAnalysisCached(boolean aiAnalysisCached) {
+      this.aiAnalysisCached = aiAnalysisCached;
+    }
+  }
+
+  /**
+   * 캐시에 저장되는 AI 분석 결과 (이미지 내용에 의존하는 필드만)
+   */
+  public record AiAnalysisSnapshot(
+      String severityLevel,
+      double confidenceScore,
+      java.util.List<String> detectedObjects,
+      String aiAnalysisText) {
+
+    public static AiAnalysisSnapshot from(ImageAnalysisResult result) {
+      return new AiAnalysisSnapshot(
+          result.getSeverityLevel(),
+          result.getConfidenceScore(),
+          result.getDetectedObjects() != null
+              ? new java.util.ArrayList<>(result.getDetectedObjects())
+              : new java.util.ArrayList<>(),
+          result.getAiAnalysisText());
+    }
+
+    public void applyTo(ImageAnalysisResult result) {
+      result.setSeverityLevel(severityLevel);
+      result.setConfidenceScore(confidenceScore);
+      result.setDetectedObjects(detectedObjects != null
+          ? new java.util.ArrayList<>(detectedObjects)
+          : new java.util.ArrayList<>());
+      result.setAiAnalysisText(aiAnalysisText);
+    }
   }
 }
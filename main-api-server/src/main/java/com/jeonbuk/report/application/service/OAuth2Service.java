@@ -47,7 +47,7 @@ public class OAuth2Service {
         );
 
         // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createToken(user.getEmail());
+        String accessToken = jwtTokenProvider.createToken(user);
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
         long expiresIn = jwtTokenProvider.getTokenValidityInMilliseconds();
 
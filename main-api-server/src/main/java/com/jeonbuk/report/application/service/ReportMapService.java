@@ -0,0 +1,279 @@
+package com.jeonbuk.report.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent.ReportFacts;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import com.jeonbuk.report.presentation.dto.response.MapTileResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 타일별 신고 밀집도 (격자 클러스터)
+ *
+ * 웹 지도 타일(z/x/y) 하나를 gridSize × gridSize 칸으로 나눠 DB에서 칸별 건수와 평균 좌표만 집계합니다.
+ * 도 단위로 지도를 움직여도 신고서 엔티티를 읽거나 전송하지 않습니다.
+ *
+ * 집계 결과는 타일별로 캐시(LRU + TTL)하고, 신고 생성/수정/삭제가 커밋되면
+ * 해당 위치를 포함하는 줌 레벨별 타일만 무효화합니다.
+ * 무효화와 동시에 집계 중이던 결과는 이전 데이터일 수 있어 캐시에 넣지 않습니다.
+ *
+ * 다른 노드의 캐시도 같은 위치를 무효화하도록 Redis pub/sub으로 전파합니다.
+ * 캐시에 처음 넣기 전에 구독하며, pub/sub은 최대 한 번 전달이므로 Redis 장애 중 놓친 무효화는 TTL까지 남을 수 있음
+ */
+@Service
+@Slf4j
+public class ReportMapService implements MessageListener {
+
+    private static final String EVICTION_CHANNEL = "report-map-evictions";
+
+    public static final int MAX_ZOOM = 20;
+
+    // 웹 메르카토르 표현 가능 위도
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private final ReportRepository reportRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSubscriptions redisSubscriptions;
+    private final ObjectMapper objectMapper;
+    // 자기 노드가 발행한 무효화를 다시 처리하지 않도록 구분 (기동마다 새로 생성)
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int gridSize;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    // 접근 순서 LRU, tiles 자체로 동기화
+    private final LinkedHashMap<TileKey, CachedTile> tiles;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean subscribed = false;
+
+    public ReportMapService(
+            ReportRepository reportRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisSubscriptions redisSubscriptions,
+            ObjectMapper objectMapper,
+            @Value("${app.report-map.grid-size:8}") int gridSize,
+            @Value("${app.report-map.cache.max-entries:5000}") int maxEntries,
+            @Value("${app.report-map.cache.ttl:PT10M}") Duration ttl) {
+        this.reportRepository = reportRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriptions = redisSubscriptions;
+        this.objectMapper = objectMapper;
+        this.gridSize = gridSize;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, CachedTile> eldest) {
+                return size() > ReportMapService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 타일 하나의 격자 클러스터
+     *
+     * @throws IllegalArgumentException 줌 또는 타일 좌표가 범위를 벗어난 경우
+     */
+    public MapTileResponse getTile(int zoom, int x, int y) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + MAX_ZOOM);
+        }
+        int tileCount = 1 << zoom;
+        if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+            throw new IllegalArgumentException("Tile " + x + "/" + y + " is outside zoom level " + zoom);
+        }
+
+        TileKey key = new TileKey(zoom, x, y);
+        synchronized (tiles) {
+            CachedTile cached = tiles.get(key);
+            if (cached != null && System.nanoTime() - cached.loadedAtNanos() < ttlNanos) {
+                return cached.response();
+            }
+        }
+
+        subscribeEvictions();
+        long observed = generation.get();
+        MapTileResponse response = load(key);
+        synchronized (tiles) {
+            if (generation.get() == observed) {
+                tiles.put(key, new CachedTile(response, System.nanoTime()));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 신고 위치가 바뀐 타일 무효화 후 다른 노드에 전파 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportLifecycle(ReportLifecycleEvent event) {
+        ReportFacts before = event.before();
+        ReportFacts after = event.after();
+        if (before != null && after != null
+                && Objects.equals(before.latitude(), after.latitude())
+                && Objects.equals(before.longitude(), after.longitude())) {
+            return;
+        }
+        List<Location> locations = new ArrayList<>(2);
+        addLocation(locations, before);
+        addLocation(locations, after);
+        if (locations.isEmpty()) {
+            return;
+        }
+        locations.forEach(this::evict);
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL,
+                    objectMapper.writeValueAsString(new Eviction(nodeId, locations)));
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료 후 다시 집계
+            log.warn("Failed to publish report map eviction: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 타일 무효화 수신 (Redis pub/sub)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Eviction eviction;
+        try {
+            eviction = objectMapper.readValue(message.getBody(), Eviction.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed report map eviction: {}", e.getMessage());
+            return;
+        }
+        if (!nodeId.equals(eviction.origin()) && eviction.locations() != null) {
+            eviction.locations().forEach(this::evict);
+        }
+    }
+
+    private static void addLocation(List<Location> locations, ReportFacts facts) {
+        if (facts != null && facts.latitude() != null && facts.longitude() != null) {
+            locations.add(new Location(facts.latitude(), facts.longitude()));
+        }
+    }
+
+    private void evict(Location location) {
+        generation.incrementAndGet();
+        synchronized (tiles) {
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                tiles.remove(TileKey.containing(zoom, location.latitude(), location.longitude()));
+            }
+        }
+    }
+
+    private void subscribeEvictions() {
+        if (subscribed) {
+            return;
+        }
+        synchronized (this) {
+            if (subscribed) {
+                return;
+            }
+            try {
+                redisSubscriptions.subscribe(this, new ChannelTopic(EVICTION_CHANNEL));
+                subscribed = true;
+            } catch (Exception e) {
+                log.debug("Report map eviction subscription not available: {}", e.getMessage());
+            }
+        }
+    }
+
+    private MapTileResponse load(TileKey key) {
+        double minLat = key.latitude(key.y() + 1);
+        double maxLat = key.latitude(key.y());
+        double minLng = key.longitude(key.x());
+        double maxLng = key.longitude(key.x() + 1);
+
+        List<Object[]> rows = new ArrayList<>(reportRepository.getMapGridClusters(
+                minLat, maxLat, minLng, maxLng, (maxLat - minLat) / gridSize, (maxLng - minLng) / gridSize));
+        // 남쪽 행부터, 같은 행은 서쪽부터
+        rows.sort(Comparator.<Object[]>comparingDouble(row -> ((Number) row[1]).doubleValue())
+                .thenComparingDouble(row -> ((Number) row[0]).doubleValue()));
+
+        List<MapTileResponse.Cluster> clusters = new ArrayList<>(rows.size());
+        long total = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            clusters.add(MapTileResponse.Cluster.builder()
+                    .latitude(((Number) row[3]).doubleValue())
+                    .longitude(((Number) row[4]).doubleValue())
+                    .count(count)
+                    .reportId((String) row[5])
+                    .build());
+            total += count;
+        }
+
+        log.debug("Loaded map tile {}/{}/{}: {} reports in {} clusters",
+                key.zoom(), key.x(), key.y(), total, clusters.size());
+        return MapTileResponse.builder()
+                .zoom(key.zoom())
+                .x(key.x())
+                .y(key.y())
+                .minLatitude(minLat)
+                .maxLatitude(maxLat)
+                .minLongitude(minLng)
+                .maxLongitude(maxLng)
+                .totalReports(total)
+                .clusters(clusters)
+                .build();
+    }
+
+    /**
+     * 웹 메르카토르 타일 좌표 (XYZ, 북서쪽 원점)
+     */
+    record TileKey(int zoom, int x, int y) {
+
+        static TileKey containing(int zoom, double latitude, double longitude) {
+            int tileCount = 1 << zoom;
+            double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+            int x = (int) Math.floor((longitude + 180.0) / 360.0 * tileCount);
+            int y = (int) Math.floor((1.0 - Math.log(Math.tan(lat) + 1.0 / Math.cos(lat)) / Math.PI) / 2.0 * tileCount);
+            return new TileKey(zoom, Math.min(Math.max(x, 0), tileCount - 1), Math.min(Math.max(y, 0), tileCount - 1));
+        }
+
+        // 타일 경계의 경도 (x번째 세로선)
+        double longitude(int tileX) {
+            return tileX / (double) (1 << zoom) * 360.0 - 180.0;
+        }
+
+        // 타일 경계의 위도 (y번째 가로선)
+        double latitude(int tileY) {
+            double n = Math.PI * (1.0 - 2.0 * tileY / (1 << zoom));
+            return Math.toDegrees(Math.atan(Math.sinh(n)));
+        }
+    }
+
+    private record CachedTile(MapTileResponse response, long loadedAtNanos) {
+    }
+
+    /**
+     * 노드 간 전파 메시지
+     *
+     * @param origin    발행한 노드
+     * @param locations 무효화할 신고 위치 (변경 전/후)
+     */
+    private record Eviction(String origin, List<Location> locations) {
+    }
+
+    private record Location(double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.domain.repository.ReportSearchRepository.Criteria;
+import com.jeonbuk.report.domain.repository.ReportSearchRepository.Hit;
+import com.jeonbuk.report.presentation.dto.response.ReportSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 신고서 검색
+ *
+ * 검색어를 공백 기준으로 나눠(NFC 정규화, 소문자) 모든 단어를 포함하는 신고서를 관련도순으로 찾고,
+ * 제목과 설명 일부에 검색어 하이라이트를 붙여 반환합니다.
+ * 한국어는 형태소 분석 없이 부분 문자열로 일치시키므로 조사가 붙은 단어도 검색됨 ("도로" → "도로가")
+ * PostgreSQL에서는 search_text의 pg_trgm GIN 인덱스가 쓰이며, 3자 미만 검색어만 있으면 인덱스 효과가 작음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReportSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_TERMS = 5;
+    private static final int MAX_TERM_LENGTH = 50;
+    private static final int SNIPPET_BEFORE = 40;
+    private static final int SNIPPET_LENGTH = 160;
+
+    private final ReportRepository reportRepository;
+
+    /**
+     * 검색어와 필터로 신고서 검색 (필터는 null이면 적용하지 않음)
+     *
+     * @param page 0부터 시작
+     */
+    public ReportSearchResponse search(String keyword, Long categoryId, Long statusId, Report.Priority priority,
+                                       UUID userId, UUID managerId, int page, int size) {
+        List<String> terms = tokenize(keyword);
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int offset = Math.max(page, 0) * limit;
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회 (COUNT 쿼리 없음)
+        List<Hit> hits = reportRepository.search(
+                new Criteria(terms, categoryId, statusId, priority, userId, managerId), offset, limit + 1);
+        boolean hasNext = hits.size() > limit;
+        if (hasNext) {
+            hits = hits.subList(0, limit);
+        }
+
+        List<ReportSearchResponse.Result> results = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            results.add(ReportSearchResponse.Result.builder()
+                    .id(hit.id())
+                    .title(hit.title())
+                    .titleHighlight(highlight(hit.title(), terms))
+                    .snippet(snippet(hit.description(), terms))
+                    .address(hit.address())
+                    .priority(hit.priority() != null ? hit.priority().name() : null)
+                    .status(hit.statusName())
+                    .category(hit.categoryName())
+                    .createdAt(hit.createdAt())
+                    .score(hit.score())
+                    .build());
+        }
+
+        log.debug("Report search {} returned {} results (page {})", terms, results.size(), page);
+        return ReportSearchResponse.builder()
+                .keyword(keyword)
+                .results(results)
+                .page(Math.max(page, 0))
+                .size(results.size())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 검색어를 정규화된 단어 목록으로 분리 (중복 제거, 최대 MAX_TERMS개)
+     */
+    static List<String> tokenize(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : normalized.trim().split("\\s+")) {
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+            terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * 검색어를 <mark>로 감싼 HTML (원문은 이스케이프)
+     */
+    static String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        boolean[] marked = markedChars(text, terms);
+        StringBuilder html = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            if (marked[i] && (i == 0 || !marked[i - 1])) {
+                html.append("<mark>");
+            }
+            appendEscaped(html, text.charAt(i));
+            if (marked[i] && (i == text.length() - 1 || !marked[i + 1])) {
+                html.append("</mark>");
+            }
+        }
+        return html.toString();
+    }
+
+    /**
+     * 첫 검색어 일치 위치 주변의 설명 일부 (일치가 없으면 앞부분)
+     */
+    static String snippet(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        int first = -1;
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String term : terms) {
+            int index = lower.indexOf(term);
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+
+        int start = first > SNIPPET_BEFORE ? first - SNIPPET_BEFORE : 0;
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        String window = highlight(text.substring(start, end), terms);
+        return (start > 0 ? "…" : "") + window + (end < text.length() ? "…" : "");
+    }
+
+    private static boolean[] markedChars(String text, List<String> terms) {
+        boolean[] marked = new boolean[text.length()];
+        String lower = text.toLowerCase(Locale.ROOT);
+        // 소문자 변환으로 길이가 바뀌는 문자가 있으면 위치가 어긋나므로 하이라이트 생략
+        if (lower.length() != text.length()) {
+            return marked;
+        }
+        for (String term : terms) {
+            for (int index = lower.indexOf(term); index >= 0; index = lower.indexOf(term, index + 1)) {
+                for (int i = index; i < index + term.length(); i++) {
+                    marked[i] = true;
+                }
+            }
+        }
+        return marked;
+    }
+
+    private static void appendEscaped(StringBuilder html, char ch) {
+        switch (ch) {
+            case '<' -> html.append("&lt;");
+            case '>' -> html.append("&gt;");
+            case '&' -> html.append("&amp;");
+            case '"' -> html.append("&quot;");
+            case '\'' -> html.append("&#39;");
+            default -> html.append(ch);
+        }
+    }
+}
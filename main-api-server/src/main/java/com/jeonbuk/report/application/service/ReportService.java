@@ -1,13 +1,25 @@
 package com.jeonbuk.report.application.service;
 
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent.ReportFacts;
 import com.jeonbuk.report.domain.entity.Report;
 import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.domain.repository.ReportSummary;
+import com.jeonbuk.report.presentation.dto.response.ReportListResponse;
+import com.jeonbuk.report.presentation.dto.response.ReportSummaryResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,11 +28,17 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ReportService {
 
+    public static final int DEFAULT_LIST_SIZE = 20;
+    public static final int MAX_LIST_SIZE = 100;
+
     private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Report createReport(Report report) {
-        return reportRepository.save(report);
+        Report saved = reportRepository.save(report);
+        eventPublisher.publishEvent(ReportLifecycleEvent.created(saved));
+        return saved;
     }
 
     public Optional<Report> getReportById(UUID id) {
@@ -31,18 +49,88 @@ public class ReportService {
         return reportRepository.findAll(pageable);
     }
 
+    /**
+     * 신고서 목록 (최신순, (created_at, id) 키셋 페이지네이션)
+     * 목록 컬럼만 프로젝션으로 조회하고 전체 건수를 세지 않으므로 페이지 깊이와 무관하게 비용이 일정
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public ReportListResponse getReportList(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_LIST_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<ReportSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reportRepository.findLatestSummaries(page);
+        } else {
+            ReportCursor after = ReportCursor.decode(cursor);
+            rows = reportRepository.findSummariesBefore(after.createdAt(), after.id(), page);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ReportSummary> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ReportSummary last = content.get(content.size() - 1);
+            nextCursor = new ReportCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ReportListResponse.builder()
+                .reports(content.stream().map(ReportSummaryResponse::from).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Transactional
     public Report updateReport(UUID id, Report updated) {
         Report report = reportRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("리포트를 찾을 수 없습니다: " + id));
+        ReportFacts before = ReportFacts.of(report);
         report.setTitle(updated.getTitle());
         report.setContent(updated.getContent());
         // 필요한 필드 추가
-        return reportRepository.save(report);
+        Report saved = reportRepository.save(report);
+        eventPublisher.publishEvent(ReportLifecycleEvent.changed(before, saved));
+        return saved;
     }
 
     @Transactional
     public void deleteReport(UUID id) {
-        reportRepository.deleteById(id);
+        // 통계에서 뺄 수 있도록 삭제 전 값을 읽어 둠
+        reportRepository.findById(id).ifPresent(report -> {
+            ReportFacts before = ReportFacts.of(report);
+            reportRepository.delete(report);
+            eventPublisher.publishEvent(ReportLifecycleEvent.deleted(before));
+        });
+    }
+
+    /**
+     * 목록 커서 (직전 페이지 마지막 행의 created_at, id)
+     * 클라이언트에는 URL-safe Base64 문자열로 전달
+     */
+    record ReportCursor(LocalDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReportCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid report list cursor");
+                }
+                return new ReportCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid report list cursor", e);
+            }
+        }
     }
 }
@@ -0,0 +1,485 @@
+package com.jeonbuk.report.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent.ReportFacts;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.domain.repository.UserRepository;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import com.jeonbuk.report.presentation.dto.response.StatisticsResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 신고서 통계 엔진 (메모리 롤업)
+ *
+ * 대시보드 요청마다 신고서를 세지 않도록 상태/카테고리/우선순위/일자별 카운터를 메모리에 유지합니다.
+ * - 증분 갱신: 커밋된 신고서 생명주기 이벤트마다 변경 전 값을 빼고 변경 후 값을 더함
+ * - 노드 간 전파: 자기 노드에서 커밋된 이벤트를 Redis pub/sub(report-statistics-deltas)으로 발행하고,
+ *   다른 노드가 발행한 이벤트도 같은 방식으로 더함 (덧셈이므로 도착 순서와 무관)
+ * - 보정: 주기적으로 GROUP BY 단일 스캔으로 롤업을 다시 만들어 교체 (이벤트 누락, 직접 SQL 변경 보정)
+ * - 조회: 미리 만든 응답 스냅샷을 반환하고, 변경이 있으면 maxStaleness가 지난 뒤 첫 조회에서 다시 생성
+ *   (생성 비용은 상태·카테고리 수와 일자 창 크기에만 비례하며 신고서 수와 무관)
+ *
+ * 롤업은 노드마다 따로 유지하며 결과적 일관성만 보장합니다.
+ * - 자기 노드 변경: 최대 maxStaleness 뒤 반영
+ * - 다른 노드 변경: pub/sub 전달 지연 + maxStaleness 뒤 반영
+ * - pub/sub은 최대 한 번 전달이므로 Redis 장애·재연결 중 놓친 변경은 다음 보정(reconcile.interval)까지 빠질 수 있음
+ * 보정 스캔 직전에 커밋된 변경은 스캔과 증분 갱신에 모두 반영될 수 있으나 다음 보정에서 바로잡힘
+ *
+ * 메트릭:
+ * - statistics.reconcile: 보정 스캔 시간
+ * - statistics.reconcile.drift: 마지막 보정 시 증분 카운터와 스캔 결과의 전체 건수 차이
+ */
+@Service
+@Slf4j
+public class ReportStatisticsEngine implements MessageListener {
+
+    private static final String DELTA_CHANNEL = "report-statistics-deltas";
+    private static final long NONE = -1L;
+    private static final int DASHBOARD_DAYS = 30;
+    static final String UNASSIGNED_STATUS = "미지정";
+    static final String UNCATEGORIZED = "미분류";
+
+    private final ReportRepository reportRepository;
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSubscriptions redisSubscriptions;
+    private final ObjectMapper objectMapper;
+    // 자기 노드가 발행한 메시지를 다시 더하지 않도록 구분 (기동마다 새로 생성)
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long maxStalenessNanos;
+    private final int dailyWindowDays;
+
+    private final ReadWriteLock rollupLock = new ReentrantReadWriteLock();
+    private final Object reconcileLock = new Object();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile boolean subscribed = false;
+
+    // rollupLock 쓰기 잠금 아래에서만 교체
+    private volatile Rollup rollup;
+    private volatile Queue<ReportLifecycleEvent> pendingReplay;
+    private volatile Snapshot snapshot;
+
+    private final Timer reconcileTimer;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public ReportStatisticsEngine(
+            ReportRepository reportRepository,
+            UserRepository userRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisSubscriptions redisSubscriptions,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.statistics.max-staleness:PT1S}") Duration maxStaleness,
+            @Value("${app.statistics.daily-window-days:90}") int dailyWindowDays) {
+        this.reportRepository = reportRepository;
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriptions = redisSubscriptions;
+        this.objectMapper = objectMapper;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.dailyWindowDays = dailyWindowDays;
+
+        this.reconcileTimer = Timer.builder("statistics.reconcile")
+                .register(meterRegistry);
+        Gauge.builder("statistics.reconcile.drift", lastDrift, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대시보드 통계 (이 노드의 메모리 스냅샷, 다른 노드의 변경은 전파 지연만큼 늦게 반영될 수 있음)
+     */
+    public StatisticsResponse getDashboard() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.response();
+        }
+        ensureInitialized();
+
+        // 다른 스레드가 다시 만드는 중이면 기존 스냅샷 반환 (처음 한 번만 대기)
+        if (current == null) {
+            snapshotLock.lock();
+        } else if (!snapshotLock.tryLock()) {
+            return current.response();
+        }
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current.response();
+            }
+            dirty.set(false);
+            Snapshot rebuilt = new Snapshot(buildResponse(rollup), System.nanoTime());
+            snapshot = rebuilt;
+            return rebuilt.response();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 신고서 변경 반영 후 다른 노드에 전파 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportLifecycle(ReportLifecycleEvent event) {
+        apply(event);
+        try {
+            redisTemplate.convertAndSend(DELTA_CHANNEL, objectMapper.writeValueAsString(new Delta(nodeId, event)));
+        } catch (Exception e) {
+            // 다른 노드는 다음 보정 스캔에서 반영
+            log.warn("Failed to publish report statistics delta: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 신고서 변경 수신 (Redis pub/sub)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Delta delta;
+        try {
+            delta = objectMapper.readValue(message.getBody(), Delta.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed report statistics delta: {}", e.getMessage());
+            return;
+        }
+        if (!nodeId.equals(delta.origin()) && delta.event() != null) {
+            apply(delta.event());
+        }
+    }
+
+    private void apply(ReportLifecycleEvent event) {
+        rollupLock.readLock().lock();
+        try {
+            Rollup current = rollup;
+            if (current != null) {
+                current.apply(event);
+            }
+            // 보정 스캔 중이면 새 롤업에도 다시 적용
+            Queue<ReportLifecycleEvent> replay = pendingReplay;
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            rollupLock.readLock().unlock();
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * GROUP BY 단일 스캔으로 롤업을 다시 계산하여 교체
+     * 다른 노드 변경 구독도 여기서 시도 (스캔 전에 구독해야 스캔 이후 변경을 놓치지 않음)
+     */
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            long start = System.nanoTime();
+            subscribeDeltas();
+
+            rollupLock.writeLock().lock();
+            try {
+                pendingReplay = new ConcurrentLinkedQueue<>();
+            } finally {
+                rollupLock.writeLock().unlock();
+            }
+
+            Rollup fresh = null;
+            try {
+                fresh = scan();
+            } finally {
+                rollupLock.writeLock().lock();
+                try {
+                    if (fresh != null) {
+                        pendingReplay.forEach(fresh::apply);
+                        Rollup previous = rollup;
+                        if (previous != null) {
+                            lastDrift.set(Math.abs(previous.total.sum() - fresh.total.sum()));
+                        }
+                        rollup = fresh;
+                    }
+                    pendingReplay = null;
+                } finally {
+                    rollupLock.writeLock().unlock();
+                }
+            }
+            dirty.set(true);
+
+            long elapsed = System.nanoTime() - start;
+            reconcileTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.debug("Report statistics reconciled: {} reports, drift {}, {} ms",
+                    fresh.total.sum(), lastDrift.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    /**
+     * 첫 조회 시 보정 스캔으로 롤업 생성 (동시 첫 조회는 한 번만 스캔)
+     */
+    private void ensureInitialized() {
+        if (rollup == null) {
+            synchronized (reconcileLock) {
+                if (rollup == null) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private void subscribeDeltas() {
+        if (subscribed) {
+            return;
+        }
+        try {
+            redisSubscriptions.subscribe(this, new ChannelTopic(DELTA_CHANNEL));
+            subscribed = true;
+        } catch (Exception e) {
+            log.debug("Report statistics delta subscription not available: {}", e.getMessage());
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && (!dirty.get() || System.nanoTime() - current.builtAtNanos() < maxStalenessNanos);
+    }
+
+    private Rollup scan() {
+        LocalDate dailySince = LocalDate.now().minusDays(dailyWindowDays - 1L);
+        Rollup fresh = new Rollup(dailySince, userRepository.count(), userRepository.countActiveUsers());
+
+        for (Object[] row : reportRepository.getStatusCatalog()) {
+            fresh.statuses.put((Long) row[0], new StatusInfo((String) row[1], Boolean.TRUE.equals(row[2]),
+                    row[3] != null ? (Integer) row[3] : 0));
+        }
+        for (Object[] row : reportRepository.getCategoryCatalog()) {
+            fresh.categoryNames.put((Long) row[0], (String) row[1]);
+        }
+        for (Object[] row : reportRepository.getStatisticsRollup(dailySince.atStartOfDay())) {
+            Report.Priority priority = row[2] != null ? Report.Priority.valueOf((String) row[2]) : null;
+
+            fresh.add(toLong(row[0]), toLong(row[1]), priority, toLocalDate(row[3]), toLong(row[4]));
+            fresh.aiAnalyzed.add(toLong(row[5]));
+            fresh.aiConfidenceCount.add(toLong(row[6]));
+            fresh.aiConfidenceSum.add(row[7] != null ? ((Number) row[7]).doubleValue() : 0.0);
+            fresh.completed.add(toLong(row[8]));
+            fresh.processingSecondsSum.add(row[9] != null ? ((Number) row[9]).doubleValue() : 0.0);
+        }
+        return fresh;
+    }
+
+    private StatisticsResponse buildResponse(Rollup current) {
+        LocalDate today = LocalDate.now();
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate startOfLastMonth = startOfMonth.minusMonths(1);
+
+        // 접수: 상태 미지정 또는 최종 상태가 아닌 첫 단계, 완료: 최종 상태, 처리중: 나머지
+        int firstOrder = current.statuses.values().stream()
+                .filter(status -> !status.terminal())
+                .mapToInt(StatusInfo::orderIndex)
+                .min()
+                .orElse(Integer.MIN_VALUE);
+
+        long pending = 0;
+        long inProgress = 0;
+        long completed = 0;
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : current.byStatus.entrySet()) {
+            long count = Math.max(0, entry.getValue().sum());
+            if (count == 0) {
+                continue;
+            }
+            StatusInfo status = current.statuses.get(entry.getKey());
+            if (entry.getKey() == NONE) {
+                pending += count;
+            } else if (status != null && status.terminal()) {
+                completed += count;
+            } else if (status != null && status.orderIndex() == firstOrder) {
+                pending += count;
+            } else {
+                inProgress += count;
+            }
+            String label = entry.getKey() == NONE ? UNASSIGNED_STATUS
+                    : status != null ? status.name() : String.valueOf(entry.getKey());
+            byStatus.merge(label, count, Long::sum);
+        }
+
+        long total = Math.max(0, current.total.sum());
+        long confidenceCount = current.aiConfidenceCount.sum();
+        long completedWithDate = current.completed.sum();
+
+        return StatisticsResponse.builder()
+                .totalReports(total)
+                .completedReports(completed)
+                .pendingReports(pending)
+                .inProgressReports(inProgress)
+                .reportsByCategory(labelled(current.byCategory, id -> id == NONE ? UNCATEGORIZED
+                        : current.categoryNames.getOrDefault(id, String.valueOf(id))))
+                .reportsByStatus(byStatus)
+                .reportsByPriority(labelled(current.byPriority, Report.Priority::getDescription))
+                .reportsOverTime(sumDaily(current, today.minusDays(DASHBOARD_DAYS - 1L), today, new TreeMap<>()))
+                .averageProcessingDays(completedWithDate > 0
+                        ? current.processingSecondsSum.sum() / completedWithDate / 86_400.0 : 0.0)
+                .totalUsers(current.totalUsers)
+                .activeUsers(current.activeUsers)
+                .reportsWithAiAnalysis(Math.max(0, current.aiAnalyzed.sum()))
+                .averageAiConfidence(confidenceCount > 0 ? current.aiConfidenceSum.sum() / confidenceCount : 0.0)
+                .completionRate(total > 0 ? completed * 100.0 / total : 0.0)
+                .reportsThisMonth(sum(sumDaily(current, startOfMonth, today, new HashMap<>())))
+                .reportsLastMonth(sum(sumDaily(current, startOfLastMonth, startOfMonth.minusDays(1), new HashMap<>())))
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static <K> Map<String, Long> labelled(Map<K, LongAdder> counters, Function<K, String> label) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counters.forEach((key, count) -> {
+            long value = Math.max(0, count.sum());
+            if (value > 0) {
+                result.merge(label.apply(key), value, Long::sum);
+            }
+        });
+        return result;
+    }
+
+    private static Map<LocalDate, Long> sumDaily(Rollup current, LocalDate from, LocalDate to, Map<LocalDate, Long> target) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LongAdder count = current.daily.get(date);
+            target.put(date, count != null ? Math.max(0, count.sum()) : 0L);
+        }
+        return target;
+    }
+
+    private static long sum(Map<LocalDate, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return null;
+    }
+
+    private record Snapshot(StatisticsResponse response, long builtAtNanos) {
+    }
+
+    /**
+     * 노드 간 전파 메시지
+     *
+     * @param origin 발행한 노드
+     */
+    private record Delta(String origin, ReportLifecycleEvent event) {
+    }
+
+    private record StatusInfo(String name, boolean terminal, int orderIndex) {
+    }
+
+    /**
+     * 집계 카운터 묶음 (보정 시 통째로 교체)
+     * 상태/카테고리 없음은 NONE 키로 집계, 일자별 카운터는 dailySince 이후만 유지
+     */
+    private static final class Rollup {
+
+        private final LocalDate dailySince;
+        private final long totalUsers;
+        private final long activeUsers;
+        private final Map<Long, StatusInfo> statuses = new ConcurrentHashMap<>();
+        private final Map<Long, String> categoryNames = new ConcurrentHashMap<>();
+
+        private final LongAdder total = new LongAdder();
+        private final Map<Long, LongAdder> byStatus = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> byCategory = new ConcurrentHashMap<>();
+        private final Map<Report.Priority, LongAdder> byPriority = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> daily = new ConcurrentSkipListMap<>();
+        private final LongAdder aiAnalyzed = new LongAdder();
+        private final LongAdder aiConfidenceCount = new LongAdder();
+        private final DoubleAdder aiConfidenceSum = new DoubleAdder();
+        private final LongAdder completed = new LongAdder();
+        private final DoubleAdder processingSecondsSum = new DoubleAdder();
+
+        private Rollup(LocalDate dailySince, long totalUsers, long activeUsers) {
+            this.dailySince = dailySince;
+            this.totalUsers = totalUsers;
+            this.activeUsers = activeUsers;
+        }
+
+        private void apply(ReportLifecycleEvent event) {
+            apply(event.before(), -1);
+            apply(event.after(), 1);
+        }
+
+        private void apply(ReportFacts facts, int sign) {
+            if (facts == null) {
+                return;
+            }
+            LocalDate createdDate = facts.createdAt() != null ? facts.createdAt().toLocalDate() : LocalDate.now();
+            add(facts.statusId(), facts.categoryId(), facts.priority(), createdDate, sign);
+
+            if (facts.aiAnalyzed()) {
+                aiAnalyzed.add(sign);
+            }
+            BigDecimal confidence = facts.aiConfidenceScore();
+            if (confidence != null) {
+                aiConfidenceCount.add(sign);
+                aiConfidenceSum.add(sign * confidence.doubleValue());
+            }
+            if (facts.actualCompletion() != null && facts.createdAt() != null) {
+                // 보정 스캔과 같은 기준: EXTRACT(EPOCH FROM actual_completion) - EXTRACT(EPOCH FROM created_at)
+                long seconds = facts.actualCompletion().atStartOfDay().toEpochSecond(ZoneOffset.UTC)
+                        - facts.createdAt().toEpochSecond(ZoneOffset.UTC);
+                completed.add(sign);
+                processingSecondsSum.add((double) sign * seconds);
+            }
+        }
+
+        private void add(Long statusId, Long categoryId, Report.Priority priority, LocalDate createdDate, long count) {
+            total.add(count);
+            byStatus.computeIfAbsent(statusId != null ? statusId : NONE, key -> new LongAdder()).add(count);
+            byCategory.computeIfAbsent(categoryId != null ? categoryId : NONE, key -> new LongAdder()).add(count);
+            if (priority != null) {
+                byPriority.computeIfAbsent(priority, key -> new LongAdder()).add(count);
+            }
+            if (createdDate != null && !createdDate.isBefore(dailySince)) {
+                daily.computeIfAbsent(createdDate, key -> new LongAdder()).add(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jeonbuk.report.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 신고서 통계 롤업 주기 보정
+ * 기동 직후 롤업을 미리 만들어 첫 대시보드 요청이 스캔을 기다리지 않게 하고,
+ * 이후 주기적으로 GROUP BY 스캔 결과로 교체하여 증분 카운터의 오차를 바로잡음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.statistics.reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReportStatisticsReconciler {
+
+    private final ReportStatisticsEngine statisticsEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile.interval:PT5M}",
+            initialDelayString = "${app.statistics.reconcile.interval:PT5M}")
+    public void reconcile() {
+        try {
+            statisticsEngine.reconcile();
+        } catch (Exception e) {
+            log.error("Report statistics reconcile failed", e);
+        }
+    }
+}
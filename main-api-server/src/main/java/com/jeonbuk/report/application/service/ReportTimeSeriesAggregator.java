@@ -0,0 +1,127 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 기간 통계 집계
+ *
+ * 기간 길이에 맞춰 시간 구간 단위(시/일/주/월)를 고르고, date_trunc + GROUP BY 쿼리 한 번의
+ * 스트리밍 결과로 구간별/상태별/카테고리별 건수를 계산합니다.
+ * 신고서 엔티티를 읽거나 구간마다 COUNT를 보내지 않으므로 1년치 일별 통계도 쿼리 1회로 끝남
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportTimeSeriesAggregator {
+
+    private final ReportRepository reportRepository;
+
+    /**
+     * 시간 구간 단위 (기간이 maxDays 이하이면 해당 단위 사용)
+     */
+    @Getter
+    public enum Bucket {
+        HOUR("hour", 2),
+        DAY("day", 366),
+        WEEK("week", 3 * 366),
+        MONTH("month", Long.MAX_VALUE);
+
+        private final String unit;
+        private final long maxDays;
+
+        Bucket(String unit, long maxDays) {
+            this.unit = unit;
+            this.maxDays = maxDays;
+        }
+
+        public static Bucket forRange(LocalDate startDate, LocalDate endDate) {
+            long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            for (Bucket bucket : values()) {
+                if (days <= bucket.maxDays) {
+                    return bucket;
+                }
+            }
+            return MONTH;
+        }
+
+        LocalDateTime truncate(LocalDateTime time) {
+            return switch (this) {
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK -> time.truncatedTo(ChronoUnit.DAYS)
+                        .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+            };
+        }
+
+        LocalDateTime next(LocalDateTime bucketStart) {
+            return switch (this) {
+                case HOUR -> bucketStart.plusHours(1);
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+                case MONTH -> bucketStart.plusMonths(1);
+            };
+        }
+    }
+
+    /**
+     * 기간 집계 결과
+     *
+     * @param counts 구간 시작 시각별 건수 (빈 구간은 0)
+     */
+    public record TimeSeries(
+            Bucket bucket,
+            long total,
+            Map<LocalDateTime, Long> counts,
+            Map<String, Long> byStatus,
+            Map<String, Long> byCategory) {
+    }
+
+    /**
+     * startDate 00:00부터 endDate 24:00 전까지 생성된 신고서 집계
+     */
+    @Transactional(readOnly = true)
+    public TimeSeries aggregate(LocalDate startDate, LocalDate endDate) {
+        Bucket bucket = Bucket.forRange(startDate, endDate);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+
+        Map<LocalDateTime, Long> counts = new TreeMap<>();
+        for (LocalDateTime time = bucket.truncate(start); time.isBefore(end); time = bucket.next(time)) {
+            counts.put(time, 0L);
+        }
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Long> byCategory = new LinkedHashMap<>();
+        long total = 0;
+
+        try (Stream<Object[]> rows = reportRepository.streamTimeBuckets(bucket.getUnit(), start, end)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                long count = ((Number) row[3]).longValue();
+                counts.merge((LocalDateTime) row[0], count, Long::sum);
+                byStatus.merge(row[1] != null ? (String) row[1] : ReportStatisticsEngine.UNASSIGNED_STATUS,
+                        count, Long::sum);
+                byCategory.merge(row[2] != null ? (String) row[2] : ReportStatisticsEngine.UNCATEGORIZED,
+                        count, Long::sum);
+                total += count;
+            }
+        }
+
+        log.debug("Aggregated {} reports from {} to {} by {}", total, startDate, endDate, bucket);
+        return new TimeSeries(bucket, total, counts, byStatus, byCategory);
+    }
+}
@@ -1,266 +1,57 @@
 package com.jeonbuk.report.application.service;
 
-import com.jeonbuk.report.domain.repository.ReportRepository;
-import com.jeonbuk.report.domain.repository.UserRepository;
 import com.jeonbuk.report.presentation.dto.response.StatisticsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * 통계 조회 서비스
+ * 전체/대시보드 통계는 ReportStatisticsEngine의 메모리 롤업에서 제공 (요청마다 DB 집계하지 않음)
+ * 기간 통계는 ReportTimeSeriesAggregator의 GROUP BY 쿼리 한 번으로 계산
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class StatisticsService {
 
-    private final ReportRepository reportRepository;
-    private final UserRepository userRepository;
+    private final ReportStatisticsEngine statisticsEngine;
+    private final ReportTimeSeriesAggregator timeSeriesAggregator;
 
     public StatisticsResponse getOverallStatistics() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfMonth = now.withDayOfMonth(1).toLocalDate().atStartOfDay();
-        LocalDateTime startOfLastMonth = startOfMonth.minusMonths(1);
-        LocalDateTime endOfLastMonth = startOfMonth.minusSeconds(1);
-
-        return StatisticsResponse.builder()
-                .totalReports(getTotalReports())
-                .completedReports(getCompletedReports())
-                .pendingReports(getPendingReports())
-                .inProgressReports(getInProgressReports())
-                .reportsByCategory(getReportsByCategory())
-                .reportsByStatus(getReportsByStatus())
-                .reportsByPriority(getReportsByPriority())
-                .reportsOverTime(getReportsOverTime())
-                .averageProcessingDays(getAverageProcessingDays())
-                .totalUsers(getTotalUsers())
-                .activeUsers(getActiveUsers())
-                .reportsWithAiAnalysis(getReportsWithAiAnalysis())
-                .averageAiConfidence(getAverageAiConfidence())
-                .completionRate(getCompletionRate())
-                .reportsThisMonth(getReportsInPeriod(startOfMonth, now))
-                .reportsLastMonth(getReportsInPeriod(startOfLastMonth, endOfLastMonth))
-                .build();
+        return statisticsEngine.getDashboard();
     }
 
     public StatisticsResponse getCategoryStatistics(String categoryName) {
-        // Implementation for category-specific statistics
         Map<String, Long> categoryStats = new HashMap<>();
-        categoryStats.put(categoryName, getReportsByCategoryName(categoryName));
-        
+        categoryStats.put(categoryName,
+                statisticsEngine.getDashboard().getReportsByCategory().getOrDefault(categoryName, 0L));
+
         return StatisticsResponse.builder()
                 .reportsByCategory(categoryStats)
                 .build();
     }
 
     public StatisticsResponse getTimeRangeStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-        
-        return StatisticsResponse.builder()
-                .totalReports(getReportsInPeriod(start, end))
-                .reportsOverTime(getReportsOverTimeInRange(startDate, endDate))
-                .build();
-    }
-
-    private Long getTotalReports() {
-        try {
-            return reportRepository.count();
-        } catch (Exception e) {
-            log.warn("Error getting total reports count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Long getCompletedReports() {
-        try {
-            // This would need a custom query method in repository
-            // For now, returning a placeholder
-            return Math.round(getTotalReports() * 0.7); // Assume 70% completion rate
-        } catch (Exception e) {
-            log.warn("Error getting completed reports count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
+        ReportTimeSeriesAggregator.TimeSeries series = timeSeriesAggregator.aggregate(startDate, endDate);
 
-    private Long getPendingReports() {
-        try {
-            return Math.round(getTotalReports() * 0.2); // Assume 20% pending
-        } catch (Exception e) {
-            log.warn("Error getting pending reports count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Long getInProgressReports() {
-        try {
-            return Math.round(getTotalReports() * 0.1); // Assume 10% in progress
-        } catch (Exception e) {
-            log.warn("Error getting in-progress reports count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Map<String, Long> getReportsByCategory() {
-        Map<String, Long> categoryStats = new HashMap<>();
-        try {
-            // Placeholder data - in real implementation, this would use JPQL GROUP BY queries
-            categoryStats.put("도로/교통", Math.round(getTotalReports() * 0.4));
-            categoryStats.put("환경/청소", Math.round(getTotalReports() * 0.3));
-            categoryStats.put("시설물", Math.round(getTotalReports() * 0.2));
-            categoryStats.put("기타", Math.round(getTotalReports() * 0.1));
-        } catch (Exception e) {
-            log.warn("Error getting reports by category: {}", e.getMessage());
-        }
-        return categoryStats;
-    }
-
-    private Map<String, Long> getReportsByStatus() {
-        Map<String, Long> statusStats = new HashMap<>();
-        try {
-            statusStats.put("접수", getPendingReports());
-            statusStats.put("처리중", getInProgressReports());
-            statusStats.put("완료", getCompletedReports());
-        } catch (Exception e) {
-            log.warn("Error getting reports by status: {}", e.getMessage());
-        }
-        return statusStats;
-    }
-
-    private Map<String, Long> getReportsByPriority() {
-        Map<String, Long> priorityStats = new HashMap<>();
-        try {
-            Long total = getTotalReports();
-            priorityStats.put("긴급", Math.round(total * 0.1));
-            priorityStats.put("높음", Math.round(total * 0.2));
-            priorityStats.put("보통", Math.round(total * 0.5));
-            priorityStats.put("낮음", Math.round(total * 0.2));
-        } catch (Exception e) {
-            log.warn("Error getting reports by priority: {}", e.getMessage());
-        }
-        return priorityStats;
-    }
+        // 구간 시작일 기준 건수 (시간 단위는 일자별 합계와 시간별 건수를 함께 제공)
+        Map<LocalDate, Long> overTime = new TreeMap<>();
+        series.counts().forEach((bucketStart, count) ->
+                overTime.merge(bucketStart.toLocalDate(), count, Long::sum));
 
-    private Map<LocalDate, Long> getReportsOverTime() {
-        Map<LocalDate, Long> timeStats = new HashMap<>();
-        try {
-            LocalDate now = LocalDate.now();
-            Long totalReports = getTotalReports();
-            
-            // Generate last 30 days of data
-            for (int i = 29; i >= 0; i--) {
-                LocalDate date = now.minusDays(i);
-                // Simulate realistic daily report counts
-                Long dailyReports = Math.round((totalReports / 365.0) * (0.5 + Math.random()));
-                timeStats.put(date, dailyReports);
-            }
-        } catch (Exception e) {
-            log.warn("Error getting reports over time: {}", e.getMessage());
-        }
-        return timeStats;
-    }
-
-    private Map<LocalDate, Long> getReportsOverTimeInRange(LocalDate startDate, LocalDate endDate) {
-        Map<LocalDate, Long> timeStats = new HashMap<>();
-        try {
-            long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
-            Long totalInRange = getReportsInPeriod(startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-            
-            for (long i = 0; i <= daysBetween; i++) {
-                LocalDate date = startDate.plusDays(i);
-                Long dailyReports = Math.round((totalInRange / (double)(daysBetween + 1)) * (0.5 + Math.random()));
-                timeStats.put(date, dailyReports);
-            }
-        } catch (Exception e) {
-            log.warn("Error getting reports over time in range: {}", e.getMessage());
-        }
-        return timeStats;
-    }
-
-    private Double getAverageProcessingDays() {
-        try {
-            // Placeholder calculation - in real implementation, calculate from actual completion dates
-            return 5.5; // Average 5.5 days processing time
-        } catch (Exception e) {
-            log.warn("Error calculating average processing days: {}", e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private Long getTotalUsers() {
-        try {
-            return userRepository.count();
-        } catch (Exception e) {
-            log.warn("Error getting total users count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Long getActiveUsers() {
-        try {
-            // Assume 80% of users are active
-            return Math.round(getTotalUsers() * 0.8);
-        } catch (Exception e) {
-            log.warn("Error getting active users count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Long getReportsWithAiAnalysis() {
-        try {
-            // Assume 60% of reports have AI analysis
-            return Math.round(getTotalReports() * 0.6);
-        } catch (Exception e) {
-            log.warn("Error getting reports with AI analysis count, returning 0: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Double getAverageAiConfidence() {
-        try {
-            // Placeholder for average AI confidence score
-            return 0.85; // 85% average confidence
-        } catch (Exception e) {
-            log.warn("Error calculating average AI confidence: {}", e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private Double getCompletionRate() {
-        try {
-            Long total = getTotalReports();
-            if (total == 0) return 0.0;
-            return (getCompletedReports() / (double) total) * 100.0;
-        } catch (Exception e) {
-            log.warn("Error calculating completion rate: {}", e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private Long getReportsInPeriod(LocalDateTime start, LocalDateTime end) {
-        try {
-            // Placeholder - would need custom repository method
-            long daysBetween = ChronoUnit.DAYS.between(start.toLocalDate(), end.toLocalDate());
-            return Math.round((getTotalReports() / 365.0) * daysBetween);
-        } catch (Exception e) {
-            log.warn("Error getting reports in period: {}", e.getMessage());
-            return 0L;
-        }
-    }
-
-    private Long getReportsByCategoryName(String categoryName) {
-        try {
-            // Placeholder - would need custom repository method
-            return getReportsByCategory().getOrDefault(categoryName, 0L);
-        } catch (Exception e) {
-            log.warn("Error getting reports by category name: {}", e.getMessage());
-            return 0L;
-        }
+        return StatisticsResponse.builder()
+                .totalReports(series.total())
+                .reportsByStatus(series.byStatus())
+                .reportsByCategory(series.byCategory())
+                .reportsOverTime(overTime)
+                .timeBucket(series.bucket().name())
+                .reportsByHour(series.bucket() == ReportTimeSeriesAggregator.Bucket.HOUR ? series.counts() : null)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,42 +1,102 @@
 package com.jeonbuk.report.application.service;
 
-import lombok.RequiredArgsConstructor;
+import com.jeonbuk.report.infrastructure.cache.BloomFilter;
+import com.jeonbuk.report.infrastructure.cache.ExpiringStore;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.Date;
 
 /**
  * Redis 기반 토큰 관리 서비스
  * - Refresh Token 저장/검증/삭제
- * - 토큰 블랙리스트 관리
+ * - 토큰 폐기(블랙리스트) 관리 - 토큰 ID(jti) 기준
  * - 로그아웃 처리
  * - Redis 미사용 시 메모리 기반 fallback 제공
+ *
+ * 폐기 여부는 로컬 블룸 필터로 먼저 판정하므로, 대부분인 "폐기되지 않음" 응답은 네트워크 왕복이 없습니다.
+ * 필터는 Redis pub/sub으로 다른 인스턴스의 폐기를 전달받고, Redis 복구 시와 resync-interval마다 SCAN으로 다시 채웁니다.
+ * pub/sub은 구독이 재연결되는 동안의 메시지를 잃을 수 있으므로, 놓친 폐기는 최대 resync-interval 뒤에 반영됩니다.
+ * 필터 양성일 때만 Redis(장애 중에는 로컬 목록)로 확인합니다.
+ * 필터는 두 세대를 두고 토큰 유효 기간마다 교체하여, 만료된 토큰 ID가 계속 쌓이지 않도록 합니다.
+ *
+ * Redis 가용성은 요청마다 확인하지 않고 주기적인 PING으로 판단하며, 실패 후에도 PING이 성공하면 자동 복구합니다.
+ *
+ * 메모리 fallback 저장소는 최대 개수와 TTL이 있는 ExpiringStore로, 주기적으로 만료 항목을 정리하므로
+ * 긴 Redis 장애 중 로그아웃이 계속되어도 메모리가 한도 이상 늘지 않습니다.
  */
 @Slf4j
 @Service
-public class TokenService {
+public class TokenService implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
-    
+    private final RedisSubscriptions redisSubscriptions;
+
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String REVOCATION_CHANNEL = "token-revocations";
     private static final long REFRESH_TOKEN_EXPIRE_DAYS = 7;
-    private static final long BLACKLIST_EXPIRE_HOURS = 24;
-    
+    private static final int SCAN_BATCH = 1000;
+
+    private static final Duration FALLBACK_TICK = Duration.ofSeconds(1);
+
     // Fallback in-memory storage when Redis is not available
-    private final ConcurrentHashMap<String, String> inMemoryRefreshTokens = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, LocalDateTime> inMemoryBlacklist = new ConcurrentHashMap<>();
-    private boolean useRedis = true;
+    private final ExpiringStore<String> inMemoryRefreshTokens;
+    // Redis 장애 중 폐기된 토큰 ID (복구 시 Redis로 옮김)
+    private final ExpiringStore<Boolean> inMemoryBlacklist;
+
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final long generationMillis;
 
-    public TokenService(RedisTemplate<String, String> redisTemplate) {
+    // 폐기 토큰 ID 필터 (현재 세대 + 이전 세대)
+    private volatile BloomFilter currentRevocations;
+    private volatile BloomFilter previousRevocations;
+    private volatile long generationStartedAt;
+
+    private volatile boolean redisAvailable = false;
+    // Redis 폐기 목록으로 필터를 한 번이라도 채웠는지 (그 전에는 Redis로 직접 확인)
+    private volatile boolean revocationsSynced = false;
+    private volatile boolean subscribed = false;
+    private final long resyncIntervalMillis;
+    private volatile long lastSyncedAt;
+
+    public TokenService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisSubscriptions redisSubscriptions,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.token-revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${app.security.token-revocation.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${app.jwt.expiration:3600000}") long tokenValidityMillis,
+            @Value("${app.security.token-fallback.refresh-token-max-entries:100000}") int maxRefreshTokens,
+            @Value("${app.security.token-fallback.revocation-max-entries:200000}") int maxRevocations,
+            @Value("${app.security.token-revocation.resync-interval:PT1M}") Duration resyncInterval) {
         this.redisTemplate = redisTemplate;
-        log.info("🟢 TokenService initialized with Redis support: {}", redisTemplate != null);
+        this.redisSubscriptions = redisSubscriptions;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.generationMillis = tokenValidityMillis;
+        this.resyncIntervalMillis = resyncInterval.toMillis();
+        this.currentRevocations = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.previousRevocations = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.generationStartedAt = System.currentTimeMillis();
+        this.inMemoryRefreshTokens = ExpiringStore.create("refresh-tokens", maxRefreshTokens, FALLBACK_TICK, meterRegistry);
+        this.inMemoryBlacklist = ExpiringStore.create("token-revocations", maxRevocations, FALLBACK_TICK, meterRegistry);
+        log.info("🟢 TokenService initialized with Redis support: {}, revocation filter {} bits × {} hashes",
+                redisTemplate != null, currentRevocations.bitCount(), currentRevocations.hashCount());
     }
 
     /**
@@ -49,12 +109,13 @@ public class TokenService {
                 redisTemplate.opsForValue().set(key, refreshToken, Duration.ofDays(REFRESH_TOKEN_EXPIRE_DAYS));
                 log.debug("Refresh token saved in Redis for user: {}", email);
             } else {
-                inMemoryRefreshTokens.put(email, refreshToken);
+                inMemoryRefreshTokens.put(email, refreshToken, Duration.ofDays(REFRESH_TOKEN_EXPIRE_DAYS));
                 log.debug("Refresh token saved in memory for user: {}", email);
             }
         } catch (Exception e) {
             log.error("Failed to save refresh token for user: {}, falling back to memory", email, e);
-            inMemoryRefreshTokens.put(email, refreshToken);
+            markRedisUnavailable(e);
+            inMemoryRefreshTokens.put(email, refreshToken, Duration.ofDays(REFRESH_TOKEN_EXPIRE_DAYS));
         }
     }
 
@@ -73,6 +134,7 @@ public class TokenService {
             }
         } catch (Exception e) {
             log.error("Failed to validate refresh token for user: {}, checking memory", email, e);
+            markRedisUnavailable(e);
             String storedToken = inMemoryRefreshTokens.get(email);
             return refreshToken.equals(storedToken);
         }
@@ -93,63 +155,70 @@ public class TokenService {
             }
         } catch (Exception e) {
             log.error("Failed to delete refresh token for user: {}, removing from memory", email, e);
+            markRedisUnavailable(e);
             inMemoryRefreshTokens.remove(email);
         }
     }
 
     /**
-     * 토큰을 블랙리스트에 추가
+     * 토큰 폐기 (만료 시각까지 유지, 다른 인스턴스에 pub/sub으로 전파)
+     *
+     * @param tokenId   토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각
      */
-    public void addToBlacklist(String token) {
-        try {
-            if (isRedisAvailable()) {
-                String key = BLACKLIST_PREFIX + token;
-                redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofHours(BLACKLIST_EXPIRE_HOURS));
-                log.debug("Token added to Redis blacklist");
-            } else {
-                inMemoryBlacklist.put(token, LocalDateTime.now().plusHours(BLACKLIST_EXPIRE_HOURS));
-                log.debug("Token added to memory blacklist");
+    public void revoke(String tokenId, Date expiresAt) {
+        Duration remaining = Duration.ofMillis(expiresAt.getTime() - System.currentTimeMillis());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        currentRevocations.put(tokenId);
+
+        if (isRedisAvailable()) {
+            try {
+                redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "revoked", remaining);
+                redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+                log.debug("Token revoked in Redis: {}", tokenId);
+                return;
+            } catch (Exception e) {
+                log.error("Failed to revoke token in Redis, keeping it in memory", e);
+                markRedisUnavailable(e);
             }
-        } catch (Exception e) {
-            log.error("Failed to add token to Redis blacklist, adding to memory", e);
-            inMemoryBlacklist.put(token, LocalDateTime.now().plusHours(BLACKLIST_EXPIRE_HOURS));
         }
+        inMemoryBlacklist.put(tokenId, Boolean.TRUE, remaining);
+        log.debug("Token revoked in memory: {}", tokenId);
     }
 
     /**
-     * 토큰이 블랙리스트에 있는지 확인
+     * 토큰 폐기 여부
+     * 필터에 없으면 네트워크 없이 바로 false, 필터 양성일 때만 Redis 또는 로컬 목록으로 확인
      */
-    public boolean isBlacklisted(String token) {
-        try {
-            if (isRedisAvailable()) {
-                String key = BLACKLIST_PREFIX + token;
-                return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-            } else {
-                LocalDateTime expiry = inMemoryBlacklist.get(token);
-                if (expiry != null) {
-                    if (LocalDateTime.now().isBefore(expiry)) {
-                        return true;
-                    } else {
-                        // 만료된 항목 제거
-                        inMemoryBlacklist.remove(token);
-                        return false;
-                    }
-                }
-                return false;
-            }
-        } catch (Exception e) {
-            log.error("Failed to check Redis blacklist status, checking memory", e);
-            LocalDateTime expiry = inMemoryBlacklist.get(token);
-            if (expiry != null) {
-                if (LocalDateTime.now().isBefore(expiry)) {
-                    return true;
-                } else {
-                    inMemoryBlacklist.remove(token);
-                    return false;
-                }
-            }
+    public boolean isRevoked(String tokenId) {
+        if (revocationsSynced && !currentRevocations.mightContain(tokenId) && !previousRevocations.mightContain(tokenId)) {
             return false;
         }
+
+        if (inMemoryBlacklist.get(tokenId) != null) {
+            return true;
+        }
+
+        if (isRedisAvailable()) {
+            try {
+                return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId));
+            } catch (Exception e) {
+                log.error("Failed to check Redis revocation status, checking memory", e);
+                markRedisUnavailable(e);
+            }
+        }
+        // Redis 장애 중: 다른 인스턴스에서 폐기된 토큰일 수 있으므로 필터 양성은 폐기로 간주 (오탐률만큼 과잉 거부)
+        return revocationsSynced;
+    }
+
+    /**
+     * 다른 인스턴스의 토큰 폐기 수신 (Redis pub/sub)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        currentRevocations.put(new String(message.getBody(), StandardCharsets.UTF_8));
     }
 
     /**
@@ -157,33 +226,119 @@ public class TokenService {
      */
     public void invalidateAllTokens(String email) {
         deleteRefreshToken(email);
-        // Access Token은 JWT 특성상 만료시까지 유효하므로, 
-        // 필요시 블랙리스트를 활용하여 무효화
+        // Access Token은 JWT 특성상 만료시까지 유효하므로,
+        // 필요시 revoke()로 토큰 ID를 폐기
     }
 
     /**
-     * Redis 연결 상태 확인
+     * Redis 연결 상태 (주기적인 PING 결과, 요청마다 확인하지 않음)
      */
     public boolean isRedisAvailable() {
-        if (!useRedis || redisTemplate == null) return false;
-        
+        return redisAvailable;
+    }
+
+    /**
+     * Redis 상태 점검 및 복구
+     * 사용 불가 → 가능으로 바뀌면 pub/sub 구독, 폐기 목록으로 필터 재구성, 장애 중 로컬 폐기 목록 반영
+     * 사용 가능한 동안에도 resync-interval마다 필터를 다시 채워 pub/sub으로 놓친 폐기를 반영
+     */
+    @Scheduled(fixedDelayString = "${app.security.token-revocation.health-check-interval:PT5S}")
+    public void checkRedisHealth() {
+        rotateRevocationsIfDue();
+        if (redisTemplate == null) {
+            return;
+        }
+
+        String pong;
         try {
-            redisTemplate.opsForValue().get("test");
-            return true;
+            pong = redisTemplate.execute(RedisConnection::ping, true);
         } catch (Exception e) {
-            log.warn("Redis is not available, using in-memory fallback: {}", e.getMessage());
-            useRedis = false; // Redis가 실패하면 이 세션에서는 메모리 사용
-            return false;
+            markRedisUnavailable(e);
+            return;
+        }
+        if (!"PONG".equalsIgnoreCase(pong)) {
+            redisAvailable = false;
+            return;
+        }
+
+        if (!redisAvailable) {
+            try {
+                subscribeRevocations();
+                syncRevocations();
+                redisAvailable = true;
+                log.info("Redis is available, token revocations synced");
+            } catch (Exception e) {
+                log.warn("Redis recovery failed, retrying on next health check: {}", e.getMessage());
+            }
+        } else if (System.currentTimeMillis() - lastSyncedAt >= resyncIntervalMillis) {
+            try {
+                syncRevocations();
+            } catch (Exception e) {
+                markRedisUnavailable(e);
+            }
         }
     }
-    
+
     /**
-     * 메모리 저장소 정리 (개발용)
+     * 메모리 저장소 정리 (만료된 Refresh Token, 폐기 항목 제거)
      */
+    @Scheduled(fixedDelayString = "${app.security.token-fallback.sweep-interval:PT30S}")
     public void cleanupMemoryStorage() {
-        // 만료된 블랙리스트 항목 정리
-        LocalDateTime now = LocalDateTime.now();
-        inMemoryBlacklist.entrySet().removeIf(entry -> now.isAfter(entry.getValue()));
-        log.debug("Memory storage cleanup completed");
+        int refreshTokens = inMemoryRefreshTokens.sweep();
+        int revocations = inMemoryBlacklist.sweep();
+        if (refreshTokens + revocations > 0) {
+            log.debug("Memory storage cleanup removed {} refresh tokens, {} revocations (remaining {}, {})",
+                    refreshTokens, revocations, inMemoryRefreshTokens.size(), inMemoryBlacklist.size());
+        }
+    }
+
+    private void markRedisUnavailable(Exception e) {
+        if (redisAvailable) {
+            log.warn("Redis is not available, using in-memory fallback until the next successful health check: {}",
+                    e.getMessage());
+        }
+        redisAvailable = false;
+    }
+
+    // 구독을 먼저 시작해 SCAN 도중의 폐기도 놓치지 않음 (연결이 끊기면 컨테이너가 재구독)
+    private synchronized void subscribeRevocations() {
+        if (!subscribed) {
+            redisSubscriptions.subscribe(this, new ChannelTopic(REVOCATION_CHANNEL));
+            subscribed = true;
+        }
+    }
+
+    private void syncRevocations() {
+        // 장애 중 로컬에서 폐기한 토큰을 Redis로 옮기고 전파
+        long now = System.currentTimeMillis();
+        for (ExpiringStore.Entry<Boolean> entry : inMemoryBlacklist.entries()) {
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + entry.key(), "revoked", entry.remaining());
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, entry.key());
+            inMemoryBlacklist.remove(entry.key());
+        }
+
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(SCAN_BATCH).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                currentRevocations.put(keys.next().substring(BLACKLIST_PREFIX.length()));
+                count++;
+            }
+        }
+        revocationsSynced = true;
+        lastSyncedAt = System.currentTimeMillis();
+        log.debug("Loaded {} revoked token ids from Redis in {} ms", count, System.currentTimeMillis() - now);
+    }
+
+    // 현재 세대가 토큰 유효 기간을 넘으면 이전 세대를 버림 (모든 폐기 ID는 최소 한 유효 기간 동안 유지)
+    private synchronized void rotateRevocationsIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - generationStartedAt < generationMillis) {
+            return;
+        }
+        previousRevocations = currentRevocations;
+        currentRevocations = new BloomFilter(expectedRevocations, falsePositiveRate);
+        generationStartedAt = now;
+        log.debug("Rotated token revocation filter generation");
     }
-}
\ No newline at end of file
+}
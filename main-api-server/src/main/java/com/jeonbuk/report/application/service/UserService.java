@@ -1,9 +1,11 @@
 package com.jeonbuk.report.application.service;
 
+import com.jeonbuk.report.application.service.event.UserAccessChangedEvent;
 import com.jeonbuk.report.domain.entity.User;
 import com.jeonbuk.report.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +33,7 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 사용자 등록 (이메일/패스워드)
@@ -189,7 +193,9 @@ public class UserService {
         .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
     user.setRole(newRole);
+    user.setAccessChangedAt(LocalDateTime.now());
     User updatedUser = userRepository.save(user);
+    eventPublisher.publishEvent(accessChanged(user));
 
     log.info("사용자 역할 변경: {} -> {}", user.getEmail(), newRole);
     return updatedUser;
@@ -204,7 +210,9 @@ public class UserService {
         .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
     user.setIsActive(!user.getIsActive());
+    user.setAccessChangedAt(LocalDateTime.now());
     User updatedUser = userRepository.save(user);
+    eventPublisher.publishEvent(accessChanged(user));
 
     log.info("사용자 상태 변경: {} -> {}", user.getEmail(), user.getIsActive() ? "활성" : "비활성");
     return updatedUser;
@@ -266,4 +274,9 @@ public class UserService {
   public boolean isPhoneAvailable(String phone) {
     return !userRepository.existsByPhone(phone);
   }
+
+  private static UserAccessChangedEvent accessChanged(User user) {
+    return new UserAccessChangedEvent(user.getEmail(),
+        user.getAccessChangedAt().atZone(ZoneId.systemDefault()).toInstant());
+  }
 }
@@ -104,13 +104,13 @@ public class AlertEventListener {
     @Async
     public void handleMaintenanceEvent(MaintenanceEvent event) {
         try {
-            alertCreationService.createSystemMaintenanceAlert(
+            int created = alertCreationService.createSystemMaintenanceAlert(
                 event.getTitle(),
                 event.getDetails(),
                 event.getStartTime(),
                 event.getEndTime()
             );
-            log.info("Maintenance alerts created for all users: {}", event.getTitle());
+            log.info("{} maintenance alerts created for all users: {}", created, event.getTitle());
         } catch (Exception e) {
             log.error("Failed to create alerts for maintenance event", e);
         }
@@ -0,0 +1,64 @@
+package com.jeonbuk.report.application.service.event;
+
+import com.jeonbuk.report.domain.entity.Report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 신고서 생명주기 이벤트 (생성/수정/삭제)
+ * 통계 롤업 증분 갱신, 지도 타일 캐시 무효화에 쓰이도록 변경 전후의 집계 차원 값과 위치를 담음
+ *
+ * @param before 변경 전 값 (생성 시 null, 삭제된 신고서도 null)
+ * @param after  변경 후 값 (삭제 시 null)
+ */
+public record ReportLifecycleEvent(ReportFacts before, ReportFacts after) {
+
+    public static ReportLifecycleEvent created(Report report) {
+        return new ReportLifecycleEvent(null, ReportFacts.of(report));
+    }
+
+    public static ReportLifecycleEvent changed(ReportFacts before, Report report) {
+        return new ReportLifecycleEvent(before, ReportFacts.of(report));
+    }
+
+    public static ReportLifecycleEvent deleted(ReportFacts before) {
+        return new ReportLifecycleEvent(before, null);
+    }
+
+    /**
+     * 통계 집계에 쓰이는 신고서 값
+     * 연관 엔티티는 ID만 읽으므로 지연 로딩 프록시를 초기화하지 않음
+     */
+    public record ReportFacts(
+            Long statusId,
+            Long categoryId,
+            Report.Priority priority,
+            LocalDateTime createdAt,
+            boolean aiAnalyzed,
+            BigDecimal aiConfidenceScore,
+            LocalDate actualCompletion,
+            Double latitude,
+            Double longitude) {
+
+        /**
+         * @return 삭제(soft delete)된 신고서는 집계 대상이 아니므로 null
+         */
+        public static ReportFacts of(Report report) {
+            if (report == null || report.getDeletedAt() != null) {
+                return null;
+            }
+            return new ReportFacts(
+                    report.getStatus() != null ? report.getStatus().getId() : null,
+                    report.getCategory() != null ? report.getCategory().getId() : null,
+                    report.getPriority(),
+                    report.getCreatedAt(),
+                    report.hasAiAnalysis(),
+                    report.getAiConfidenceScore(),
+                    report.getActualCompletion(),
+                    report.getLatitude() != null ? report.getLatitude().doubleValue() : null,
+                    report.getLongitude() != null ? report.getLongitude().doubleValue() : null);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.jeonbuk.report.application.service.event;
+
+import java.time.Instant;
+
+/**
+ * 사용자 권한 변경 이벤트 (역할 변경, 활성/비활성 전환)
+ * 캐시된 인증 정보 무효화와, 변경 전에 발급된 토큰의 역할 클레임을 믿지 않도록 하는 데 쓰임
+ *
+ * @param email     사용자 이메일 (토큰 subject)
+ * @param changedAt 변경 시각 (users.access_changed_at에 저장된 값)
+ */
+public record UserAccessChangedEvent(String email, Instant changedAt) {
+}
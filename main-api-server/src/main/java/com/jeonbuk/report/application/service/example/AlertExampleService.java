@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -49,7 +48,7 @@ public class AlertExampleService {
     /**
      * 시스템 점검 알림 예제
      */
-    public List<Alert> scheduleMaintenanceAlert() {
+    public int scheduleMaintenanceAlert() {
         LocalDateTime maintenanceStart = LocalDateTime.now().plusDays(1);
         LocalDateTime maintenanceEnd = maintenanceStart.plusHours(4);
         
@@ -83,7 +82,7 @@ public class AlertExampleService {
     /**
      * 성능 이슈 알림 예제 (관리자용)
      */
-    public List<Alert> createPerformanceAlert() {
+    public int createPerformanceAlert() {
         return alertCreationService.createPerformanceIssueAlert(
             "데이터베이스 응답 지연",
             "평균 응답시간: 2.5초 (기준: 1초 이내)",
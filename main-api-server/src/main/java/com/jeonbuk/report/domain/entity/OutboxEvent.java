@@ -0,0 +1,70 @@
+package com.jeonbuk.report.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * - 업무 데이터와 같은 트랜잭션에서 저장되고, 릴레이가 커밋된 이벤트만 카프카로 발행
+ * - 같은 토픽/키에 먼저 저장된 이벤트가 발행 대기 중이면 이후 이벤트는 발행하지 않음 (키별 순서 유지)
+ *   단, id는 저장 시점에 정해지므로 같은 키를 동시에 쓰는 트랜잭션 사이에서는 커밋 순서와 다를 수 있음
+ * - 발행 실패 시 next_attempt_at까지 재시도를 미루고, 재시도해도 성공할 수 없는 이벤트만 dead_at으로 격리
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_pending", columnList = "published_at, id"),
+    @Index(name = "idx_outbox_events_key", columnList = "topic, message_key, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "topic", nullable = false, length = 200)
+  private String topic;
+
+  @Column(name = "message_key", length = 200)
+  private String messageKey;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload; // 직렬화된 JSON 메시지
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "published_at")
+  private LocalDateTime publishedAt;
+
+  @Column(name = "attempts", nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt; // 이 시각 이후에 발행 (선점 중이거나 재시도 대기 중)
+
+  @Column(name = "dead_at")
+  private LocalDateTime deadAt; // 재시도 불가 오류로 격리된 시각 (재발행 요청 시 초기화)
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = LocalDateTime.now();
+    }
+    if (attempts == null) {
+      attempts = 0;
+    }
+  }
+}
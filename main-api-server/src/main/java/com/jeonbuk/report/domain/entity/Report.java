@@ -141,6 +141,13 @@ public class Report {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  // 검색용 소문자 텍스트 (제목 + 주소 + 설명, DB 생성 컬럼이라 읽기 전용)
+  @Column(name = "search_text", insertable = false, updatable = false,
+      columnDefinition = "TEXT GENERATED ALWAYS AS (LOWER(COALESCE(title, '') || ' ' || " +
+          "COALESCE(address, '') || ' ' || COALESCE(description, '')))")
+  @JsonIgnore
+  private String searchText;
+
   // 연관 관계 (컬렉션)
   @OneToMany(mappedBy = "report", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   @JsonIgnore
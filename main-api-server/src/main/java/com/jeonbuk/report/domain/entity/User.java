@@ -78,6 +78,10 @@ public class User {
   @Column(name = "last_login")
   private LocalDateTime lastLogin;
 
+  // 역할/활성 상태가 마지막으로 바뀐 시각 (이 시각 이전에 발급된 토큰의 클레임은 믿지 않음)
+  @Column(name = "access_changed_at")
+  private LocalDateTime accessChangedAt;
+
   @CreatedDate
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
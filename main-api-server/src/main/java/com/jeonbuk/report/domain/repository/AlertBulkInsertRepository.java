@@ -0,0 +1,25 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Alert.AlertSeverity;
+import com.jeonbuk.report.domain.entity.Alert.AlertType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 대량 알림 생성 리포지토리 (AlertRepository 확장)
+ * 시스템 점검 안내처럼 같은 내용을 다수 사용자에게 보내는 경우 JPA 엔티티 없이 JDBC 배치로 저장
+ */
+public interface AlertBulkInsertRepository {
+    
+    /**
+     * 동일한 알림을 여러 사용자에게 일괄 생성
+     *
+     * @param userIds   수신 사용자 ID
+     * @param expiresAt 만료 시간 (없으면 null)
+     * @return 생성된 알림 수
+     */
+    int bulkInsertAlerts(Collection<UUID> userIds, AlertType type, String title, String content,
+                         AlertSeverity severity, LocalDateTime expiresAt);
+}
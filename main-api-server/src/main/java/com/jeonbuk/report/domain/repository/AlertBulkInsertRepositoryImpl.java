@@ -0,0 +1,89 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Alert.AlertSeverity;
+import com.jeonbuk.report.domain.entity.Alert.AlertType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * JDBC 배치 기반 대량 알림 생성
+ *
+ * - 제목/내용/시각 등 공통 값은 한 번만 만들고 사용자별로 ID만 바꿔 바인딩
+ * - batch-size 단위로 나누어 전송 (PostgreSQL은 reWriteBatchedInserts로 다중 행 INSERT로 변환)
+ * - 호출자의 트랜잭션(JPA와 같은 커넥션)에 참여
+ * - 시각은 hibernate.jdbc.time_zone과 같은 기준으로 저장 (JPA로 읽을 때 값이 어긋나지 않도록)
+ */
+@Slf4j
+public class AlertBulkInsertRepositoryImpl implements AlertBulkInsertRepository {
+    
+    private static final String INSERT_SQL = """
+            INSERT INTO alerts (id, user_id, type, title, content, severity,
+                                is_read, is_resolved, created_at, updated_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, false, ?, ?, ?)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final String jdbcTimeZone;
+    
+    public AlertBulkInsertRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                         @Value("${app.alert.bulk-insert.batch-size:1000}") int batchSize,
+                                         @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.jdbcTimeZone = jdbcTimeZone;
+    }
+    
+    @Override
+    public int bulkInsertAlerts(Collection<UUID> userIds, AlertType type, String title, String content,
+                                AlertSeverity severity, LocalDateTime expiresAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        
+        long start = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expires = expiresAt != null ? Timestamp.valueOf(expiresAt) : null;
+        String typeName = type.name();
+        String severityName = severity.name();
+        Calendar calendar = jdbcTimeZone.isBlank() ? Calendar.getInstance()
+                : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+        
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, userIds, batchSize, (ps, userId) -> {
+            ps.setString(1, UUID.randomUUID().toString());
+            ps.setObject(2, userId);
+            ps.setString(3, typeName);
+            ps.setString(4, title);
+            ps.setString(5, content);
+            ps.setString(6, severityName);
+            ps.setTimestamp(7, now, calendar);
+            ps.setTimestamp(8, now, calendar);
+            if (expires != null) {
+                ps.setTimestamp(9, expires, calendar);
+            } else {
+                ps.setNull(9, Types.TIMESTAMP);
+            }
+        });
+        
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 1건으로 집계
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        
+        log.info("Bulk inserted {} {} alerts in {} ms", inserted, typeName, (System.nanoTime() - start) / 1_000_000);
+        return inserted;
+    }
+}
@@ -7,17 +7,19 @@ import com.jeonbuk.report.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AlertRepository extends JpaRepository<Alert, String> {
+public interface AlertRepository extends JpaRepository<Alert, String>, AlertBulkInsertRepository {
     
     /**
      * 사용자별 알림 조회 (생성일시 내림차순)
@@ -130,4 +132,43 @@ public interface AlertRepository extends JpaRepository<Alert, String> {
     @Query("SELECT a FROM Alert a WHERE a.isResolved = true " +
            "AND a.resolvedAt < :cutoffDate")
     List<Alert> findResolvedAlertsBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
-}
\ No newline at end of file
+    
+    /**
+     * 보존 정책용 - 만료된 알림 ID (id 키셋 페이지네이션)
+     */
+    @Query("SELECT a.id FROM Alert a WHERE a.expiresAt IS NOT NULL " +
+           "AND a.expiresAt < :now AND a.id > :afterId " +
+           "ORDER BY a.id")
+    List<String> findExpiredAlertIds(@Param("now") LocalDateTime now,
+                                     @Param("afterId") String afterId,
+                                     Pageable pageable);
+    
+    /**
+     * 보존 정책용 - 특정 시점 이전에 해결된 알림 ID (id 키셋 페이지네이션)
+     */
+    @Query("SELECT a.id FROM Alert a WHERE a.isResolved = true " +
+           "AND a.resolvedAt < :cutoffDate AND a.id > :afterId " +
+           "ORDER BY a.id")
+    List<String> findResolvedAlertIdsBefore(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                            @Param("afterId") String afterId,
+                                            Pageable pageable);
+    
+    /**
+     * ID 목록 일괄 삭제 (DELETE ... WHERE id IN)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Alert a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 삭제 전 보관 테이블로 요약 복사 (본문 content 제외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO alerts_archive (id, user_id, report_id, type, severity, title, " +
+                   "is_read, created_at, resolved_at, expires_at, archived_at) " +
+                   "SELECT id, user_id, report_id, type, severity, title, " +
+                   "is_read, created_at, resolved_at, expires_at, :archivedAt " +
+                   "FROM alerts WHERE id IN (:ids)",
+           nativeQuery = true)
+    int archiveByIdIn(@Param("ids") Collection<String> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,107 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 리포지토리
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * 발행할 수 있는 이벤트를 id 순으로 잠금 조회
+   * - 재시도 대기(또는 다른 릴레이가 선점) 중인 이벤트와 격리된 이벤트는 제외
+   * - 같은 토픽/키에 앞선 발행 대기 이벤트가 있으면 제외 (키별로 가장 앞선 이벤트만 조회)
+   * 다른 인스턴스의 릴레이가 잠근 행은 건너뜀 (SKIP LOCKED)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM OutboxEvent e " +
+         "WHERE e.publishedAt IS NULL AND e.deadAt IS NULL " +
+         "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+         "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p " +
+         "  WHERE p.topic = e.topic AND p.messageKey = e.messageKey AND p.id < e.id " +
+         "  AND p.publishedAt IS NULL AND p.deadAt IS NULL) " +
+         "ORDER BY e.id")
+  List<OutboxEvent> lockReadyEvents(@Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * 이벤트 선점 (until까지 다른 릴레이가 조회하지 않음)
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :until WHERE e.id IN :ids")
+  int claim(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+  /**
+   * 가장 오래된 발행 대기 이벤트의 생성 시각 (발행 지연 메트릭용)
+   */
+  @Query("SELECT e.createdAt FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadAt IS NULL ORDER BY e.id")
+  List<LocalDateTime> findPendingCreatedAt(Pageable pageable);
+
+  /**
+   * 격리된 이벤트 수
+   */
+  long countByDeadAtIsNotNull();
+
+  List<OutboxEvent> findByDeadAtIsNotNullOrderById(Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+  int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+  /**
+   * 발행 실패 기록 (nextAttemptAt 이후 재시도)
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.nextAttemptAt = :nextAttemptAt " +
+         "WHERE e.id = :id")
+  int recordFailure(@Param("id") Long id, @Param("error") String error,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  /**
+   * 재시도 불가 오류로 격리
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.deadAt = :deadAt " +
+         "WHERE e.id = :id")
+  int markDead(@Param("id") Long id, @Param("error") String error, @Param("deadAt") LocalDateTime deadAt);
+
+  /**
+   * 격리된 이벤트 전체를 다시 발행 대상으로
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.deadAt = NULL, e.nextAttemptAt = NULL, e.attempts = 0 " +
+         "WHERE e.deadAt IS NOT NULL")
+  int redriveAllDead();
+
+  /**
+   * 지정한 격리 이벤트를 다시 발행 대상으로
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.deadAt = NULL, e.nextAttemptAt = NULL, e.attempts = 0 " +
+         "WHERE e.deadAt IS NOT NULL AND e.id IN :ids")
+  int redriveDead(@Param("ids") Collection<Long> ids);
+
+  /**
+   * 발행 완료 후 보존 기간이 지난 이벤트 삭제 (limit 건씩)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM outbox_events WHERE id IN (" +
+                 "SELECT id FROM outbox_events WHERE published_at < :cutoff ORDER BY id LIMIT :limit)",
+         nativeQuery = true)
+  int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -23,7 +23,8 @@ import java.util.UUID;
  * - 통계 쿼리
  */
 @Repository
-public interface ReportRepository extends JpaRepository<Report, UUID> {
+public interface ReportRepository extends JpaRepository<Report, UUID>, ReportTimeBucketRepository,
+    ReportSearchRepository {
 
   // 기본 조회 (소프트 삭제 제외)
   @Query("SELECT r FROM Report r WHERE r.deletedAt IS NULL")
@@ -34,6 +35,36 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
 
   Optional<Report> findByIdAndDeletedAtIsNull(UUID id);
 
+  /**
+   * 신고서 목록 첫 페이지 (최신순, 목록 컬럼만 조회, COUNT 쿼리 없음)
+   */
+  @Query("SELECT r.id AS id, r.title AS title, r.priority AS priority, " +
+      "s.name AS statusName, s.color AS statusColor, c.name AS categoryName, " +
+      "r.address AS address, r.latitude AS latitude, r.longitude AS longitude, " +
+      "u.name AS reporterName, r.createdAt AS createdAt " +
+      "FROM Report r LEFT JOIN r.status s LEFT JOIN r.category c LEFT JOIN r.user u " +
+      "WHERE r.deletedAt IS NULL " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<ReportSummary> findLatestSummaries(Pageable pageable);
+
+  /**
+   * 신고서 목록 다음 페이지 ((created_at, id) 키셋 페이지네이션)
+   * 직전 페이지 마지막 행 이후부터 읽으므로 깊은 페이지도 첫 페이지와 같은 비용
+   * OR 조건만으로는 인덱스 범위 조건이 되지 않으므로 중복 상한(createdAt <= :createdAt)을 함께 둠
+   */
+  @Query("SELECT r.id AS id, r.title AS title, r.priority AS priority, " +
+      "s.name AS statusName, s.color AS statusColor, c.name AS categoryName, " +
+      "r.address AS address, r.latitude AS latitude, r.longitude AS longitude, " +
+      "u.name AS reporterName, r.createdAt AS createdAt " +
+      "FROM Report r LEFT JOIN r.status s LEFT JOIN r.category c LEFT JOIN r.user u " +
+      "WHERE r.deletedAt IS NULL AND r.createdAt <= :createdAt AND " +
+      "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<ReportSummary> findSummariesBefore(
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
   // 사용자별 조회
   List<Report> findByUserAndDeletedAtIsNull(User user);
 
@@ -61,26 +92,7 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
 
   Page<Report> findByManagerAndDeletedAtIsNull(User manager, Pageable pageable);
 
-  // 복합 검색
-  @Query("SELECT r FROM Report r WHERE " +
-      "(:keyword IS NULL OR " +
-      "LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "LOWER(r.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "LOWER(r.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-      "(:categoryId IS NULL OR r.category.id = :categoryId) AND " +
-      "(:statusId IS NULL OR r.status.id = :statusId) AND " +
-      "(:priority IS NULL OR r.priority = :priority) AND " +
-      "(:userId IS NULL OR r.user.id = :userId) AND " +
-      "(:managerId IS NULL OR r.manager.id = :managerId) AND " +
-      "r.deletedAt IS NULL")
-  Page<Report> searchReports(
-      @Param("keyword") String keyword,
-      @Param("categoryId") Long categoryId,
-      @Param("statusId") Long statusId,
-      @Param("priority") Report.Priority priority,
-      @Param("userId") UUID userId,
-      @Param("managerId") UUID managerId,
-      Pageable pageable);
+  // 복합 검색은 ReportSearchRepository.search (검색어 트라이그램 인덱스 + 값이 있는 필터만 조건으로)
 
   // 위치 기반 검색 (PostGIS)
   @Query(value = "SELECT * FROM reports r WHERE " +
@@ -91,6 +103,30 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
       @Param("longitude") BigDecimal longitude,
       @Param("radiusMeters") double radiusMeters);
 
+  /**
+   * 지도 타일 격자 집계 (엔티티 없이 격자 칸별 건수와 대표 좌표만 조회)
+   * 범위는 [min, max) 이며, 칸 번호는 범위 남서쪽 모서리부터 cellLat/cellLng 간격으로 계산
+   *
+   * 컬럼: cell_x, cell_y, report_count, avg_latitude, avg_longitude, report_id (칸에 한 건뿐일 때만)
+   */
+  @Query(value = "SELECT t.cell_x, t.cell_y, COUNT(*), AVG(t.latitude), AVG(t.longitude), " +
+      "CASE WHEN COUNT(*) = 1 THEN MIN(t.report_id) END " +
+      "FROM (SELECT FLOOR((r.longitude - :minLng) / :cellLng) AS cell_x, " +
+      "FLOOR((r.latitude - :minLat) / :cellLat) AS cell_y, " +
+      "r.latitude, r.longitude, CAST(r.id AS VARCHAR(36)) AS report_id " +
+      "FROM reports r " +
+      "WHERE r.deleted_at IS NULL " +
+      "AND r.latitude >= :minLat AND r.latitude < :maxLat " +
+      "AND r.longitude >= :minLng AND r.longitude < :maxLng) t " +
+      "GROUP BY t.cell_x, t.cell_y", nativeQuery = true)
+  List<Object[]> getMapGridClusters(
+      @Param("minLat") double minLat,
+      @Param("maxLat") double maxLat,
+      @Param("minLng") double minLng,
+      @Param("maxLng") double maxLng,
+      @Param("cellLat") double cellLat,
+      @Param("cellLng") double cellLng);
+
   // 날짜 범위 조회
   @Query("SELECT r FROM Report r WHERE " +
       "r.createdAt >= :startDate AND r.createdAt <= :endDate AND " +
@@ -146,4 +182,32 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
   // 카테고리별 통계
   @Query("SELECT c.name, COUNT(r) FROM Report r JOIN r.category c WHERE r.deletedAt IS NULL GROUP BY c.name")
   List<Object[]> getCategoryStatistics();
+
+  /**
+   * 통계 롤업 보정용 단일 스캔
+   * 상태 × 카테고리 × 우선순위 × 생성일(dailySince 이후만, 이전은 NULL 한 묶음) 단위 집계
+   *
+   * 컬럼: status_id, category_id, priority, created_day, report_count, ai_analyzed_count,
+   * ai_confidence_count, ai_confidence_sum, completed_count, processing_seconds_sum
+   */
+  @Query(value = "SELECT t.status_id, t.category_id, t.priority, t.created_day, " +
+      "COUNT(*), COUNT(t.ai_analyzed), COUNT(t.ai_confidence_score), SUM(t.ai_confidence_score), " +
+      "COUNT(t.actual_completion), SUM(t.processing_seconds) " +
+      "FROM (SELECT r.status_id, r.category_id, r.priority, " +
+      "CASE WHEN r.created_at >= :dailySince THEN CAST(r.created_at AS DATE) END AS created_day, " +
+      "CASE WHEN r.ai_analysis_results NOT IN ('null', '{}') THEN 1 END AS ai_analyzed, " +
+      "r.ai_confidence_score, r.actual_completion, " +
+      "EXTRACT(EPOCH FROM r.actual_completion) - EXTRACT(EPOCH FROM r.created_at) AS processing_seconds " +
+      "FROM reports r " +
+      "WHERE r.deleted_at IS NULL) t " +
+      "GROUP BY t.status_id, t.category_id, t.priority, t.created_day", nativeQuery = true)
+  List<Object[]> getStatisticsRollup(@Param("dailySince") LocalDateTime dailySince);
+
+  // 통계 롤업 라벨/분류용 상태 목록 (id, name, isTerminal, orderIndex)
+  @Query("SELECT s.id, s.name, s.isTerminal, s.orderIndex FROM Status s")
+  List<Object[]> getStatusCatalog();
+
+  // 통계 롤업 라벨용 카테고리 목록 (id, name)
+  @Query("SELECT c.id, c.name FROM Category c")
+  List<Object[]> getCategoryCatalog();
 }
@@ -0,0 +1,51 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Report;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 신고서 검색 리포지토리 (ReportRepository 확장)
+ * 검색어는 search_text 컬럼(pg_trgm GIN 인덱스)에 LIKE로, 필터는 값이 있는 것만 조건으로 붙여 실행
+ */
+public interface ReportSearchRepository {
+    
+    /**
+     * 관련도순 검색 (삭제된 신고서 제외, 관련도 → 최신순)
+     *
+     * @param offset 건너뛸 결과 수
+     * @param limit  최대 결과 수
+     */
+    List<Hit> search(Criteria criteria, int offset, int limit);
+    
+    /**
+     * 검색 조건 (null 필터는 조건에서 제외)
+     *
+     * @param terms 소문자로 정규화된 검색어 (모두 포함하는 신고서만, 비어 있으면 검색어 조건 없음)
+     */
+    record Criteria(
+            List<String> terms,
+            Long categoryId,
+            Long statusId,
+            Report.Priority priority,
+            UUID userId,
+            UUID managerId) {
+    }
+    
+    /**
+     * 검색 결과 행 (제목/주소 일치 가중치 합계를 score로 포함)
+     */
+    record Hit(
+            UUID id,
+            String title,
+            String description,
+            String address,
+            Report.Priority priority,
+            String statusName,
+            String categoryName,
+            LocalDateTime createdAt,
+            int score) {
+    }
+}
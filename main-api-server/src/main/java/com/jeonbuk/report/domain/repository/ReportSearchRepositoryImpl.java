@@ -0,0 +1,107 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Report;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * search_text 트라이그램 인덱스 기반 신고서 검색
+ *
+ * - 검색어마다 search_text LIKE '%검색어%' 조건을 AND로 붙임 (PostgreSQL에서는 pg_trgm GIN 인덱스로 처리)
+ *   1~2자 검색어(두 글자 한글 등)는 트라이그램이 없어 pg_trgm 인덱스로 좁혀지지 않으므로
+ *   pg_bigm 인덱스(database/migrations/reports_search_bigm.sql)가 있어야 같은 조건이 인덱스로 처리됨
+ * - 필터는 값이 있을 때만 조건에 추가해 ':param IS NULL OR ...' 형태로 인덱스를 못 쓰는 일이 없도록 함
+ * - 관련도는 인덱스로 좁혀진 행에 대해서만 계산 (제목 포함 3, 제목 시작 2, 주소 포함 1, 검색어별 합산)
+ */
+public class ReportSearchRepositoryImpl implements ReportSearchRepository {
+    
+    private static final char ESCAPE = '!';
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Hit> search(Criteria criteria, int offset, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder score = new StringBuilder();
+        StringBuilder where = new StringBuilder("r.deletedAt IS NULL");
+        
+        List<String> terms = criteria.terms();
+        for (int i = 0; i < terms.size(); i++) {
+            String contains = "t" + i;
+            String prefix = "p" + i;
+            parameters.put(contains, "%" + escape(terms.get(i)) + "%");
+            parameters.put(prefix, escape(terms.get(i)) + "%");
+            
+            where.append(" AND r.searchText LIKE :").append(contains).append(" ESCAPE '!'");
+            score.append(i > 0 ? " + " : "")
+                    .append("CASE WHEN LOWER(r.title) LIKE :").append(contains).append(" ESCAPE '!' THEN 3 ELSE 0 END")
+                    .append(" + CASE WHEN LOWER(r.title) LIKE :").append(prefix).append(" ESCAPE '!' THEN 2 ELSE 0 END")
+                    .append(" + CASE WHEN LOWER(r.address) LIKE :").append(contains).append(" ESCAPE '!' THEN 1 ELSE 0 END");
+        }
+        if (score.isEmpty()) {
+            score.append("0");
+        }
+        
+        appendFilter(where, parameters, "r.category.id", "categoryId", criteria.categoryId());
+        appendFilter(where, parameters, "r.status.id", "statusId", criteria.statusId());
+        appendFilter(where, parameters, "r.priority", "priority", criteria.priority());
+        appendFilter(where, parameters, "r.user.id", "userId", criteria.userId());
+        appendFilter(where, parameters, "r.manager.id", "managerId", criteria.managerId());
+        
+        String jpql = "SELECT r.id, r.title, r.description, r.address, r.priority, s.name, c.name, r.createdAt, "
+                + "(" + score + ") AS score "
+                + "FROM Report r LEFT JOIN r.status s LEFT JOIN r.category c "
+                + "WHERE " + where + " "
+                + "ORDER BY score DESC, r.createdAt DESC, r.id DESC";
+        
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        
+        List<Object[]> rows = query.getResultList();
+        List<Hit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new Hit(
+                    (UUID) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    (Report.Priority) row[4],
+                    (String) row[5],
+                    (String) row[6],
+                    (LocalDateTime) row[7],
+                    ((Number) row[8]).intValue()));
+        }
+        return hits;
+    }
+    
+    private static void appendFilter(StringBuilder where, Map<String, Object> parameters,
+                                     String path, String name, Object value) {
+        if (value != null) {
+            where.append(" AND ").append(path).append(" = :").append(name);
+            parameters.put(name, value);
+        }
+    }
+    
+    // LIKE 와일드카드를 문자 그대로 검색
+    private static String escape(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char ch : term.toCharArray()) {
+            if (ch == '%' || ch == '_' || ch == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(ch);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Report;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 신고서 목록용 프로젝션
+ * 목록 화면에 필요한 컬럼만 조회하므로 연관 엔티티나 파일/댓글 컬렉션을 로딩하지 않음
+ */
+public interface ReportSummary {
+    
+    UUID getId();
+    
+    String getTitle();
+    
+    Report.Priority getPriority();
+    
+    String getStatusName();
+    
+    String getStatusColor();
+    
+    String getCategoryName();
+    
+    String getAddress();
+    
+    BigDecimal getLatitude();
+    
+    BigDecimal getLongitude();
+    
+    String getReporterName();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,24 @@
+package com.jeonbuk.report.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 기간 통계용 시간 구간 집계 리포지토리 (ReportRepository 확장)
+ * date_trunc 단위는 바인드 변수로 넘길 수 없는 DB가 있어 허용된 단위만 SQL에 직접 넣어 실행
+ * 시각은 모두 통계 시간대(hibernate.jdbc.time_zone, 미설정 시 JVM 시간대)의 벽시계 시각
+ */
+public interface ReportTimeBucketRepository {
+    
+    /**
+     * 구간 × 상태 × 카테고리별 신고 건수 (삭제된 신고서 제외, 구간 시작 순)
+     * 신고서 엔티티 없이 집계 행만 스트리밍하므로 호출 측 트랜잭션 안에서 소비하고 닫아야 함
+     *
+     * 행: bucket_start, status_name, category_name, report_count
+     *
+     * @param unit      date_trunc 단위 (hour, day, week, month)
+     * @param startDate 시작 시각 (포함)
+     * @param endDate   종료 시각 (제외)
+     */
+    Stream<Object[]> streamTimeBuckets(String unit, LocalDateTime startDate, LocalDateTime endDate);
+}
@@ -0,0 +1,70 @@
+package com.jeonbuk.report.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * date_trunc + GROUP BY 기반 시간 구간 집계
+ *
+ * - 구간 계산은 서브쿼리에서 한 번만 하고 바깥에서 GROUP BY (PostgreSQL 파라미터 표현식 GROUP BY 제약 회피)
+ * - 결과 행 수는 구간 수 × 상태 × 카테고리로 제한되지만, 긴 범위를 위해 fetch size 단위로 스트리밍
+ * - date_trunc는 세션 시간대가 아니라 created_at AT TIME ZONE :zone 의 벽시계 시각으로 자르므로
+ *   DB 세션·JVM 시간대와 관계없이 일/주/월 경계가 통계 시간대(hibernate.jdbc.time_zone) 기준으로 맞춰짐
+ * - 범위와 구간 시작은 시각(instant)으로 주고받아 드라이버/Hibernate 시간대 변환의 영향을 받지 않음
+ */
+public class ReportTimeBucketRepositoryImpl implements ReportTimeBucketRepository {
+    
+    private static final Set<String> UNITS = Set.of("hour", "day", "week", "month");
+    private static final int FETCH_SIZE = 500;
+    
+    private static final String TIME_BUCKET_SQL = """
+            SELECT t.bucket_start, t.status_name, t.category_name, COUNT(*) AS report_count
+            FROM (SELECT date_trunc('%s', r.created_at AT TIME ZONE :zone) AT TIME ZONE :zone AS bucket_start,
+                         s.name AS status_name, c.name AS category_name
+                  FROM reports r
+                  LEFT JOIN statuses s ON s.id = r.status_id
+                  LEFT JOIN categories c ON c.id = r.category_id
+                  WHERE r.deleted_at IS NULL AND r.created_at >= :startDate AND r.created_at < :endDate) t
+            GROUP BY t.bucket_start, t.status_name, t.category_name
+            ORDER BY t.bucket_start
+            """;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final ZoneId zone;
+    
+    public ReportTimeBucketRepositoryImpl(
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.zone = jdbcTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(jdbcTimeZone);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Object[]> streamTimeBuckets(String unit, LocalDateTime startDate, LocalDateTime endDate) {
+        if (!UNITS.contains(unit)) {
+            throw new IllegalArgumentException("Unsupported time bucket unit: " + unit);
+        }
+        Stream<Object[]> rows = entityManager.createNativeQuery(TIME_BUCKET_SQL.formatted(unit))
+                .unwrap(NativeQuery.class)
+                .addScalar("bucket_start", OffsetDateTime.class)
+                .addScalar("status_name", String.class)
+                .addScalar("category_name", String.class)
+                .addScalar("report_count", Long.class)
+                .setParameter("zone", zone.getId())
+                .setParameter("startDate", startDate.atZone(zone).toOffsetDateTime())
+                .setParameter("endDate", endDate.atZone(zone).toOffsetDateTime())
+                .setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .getResultStream();
+        return rows.peek(row -> row[0] = ((OffsetDateTime) row[0]).atZoneSameInstant(zone).toLocalDateTime());
+    }
+}
@@ -48,6 +48,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   Page<User> findByIsActiveTrue(Pageable pageable);
 
+  // 대량 알림 발송용 ID 조회 (엔티티를 로딩하지 않음)
+  @Query("SELECT u.id FROM User u WHERE u.isActive = true")
+  List<UUID> findActiveUserIds();
+
+  @Query("SELECT u.id FROM User u WHERE u.role = :role AND u.isActive = true")
+  List<UUID> findActiveUserIdsByRole(@Param("role") User.UserRole role);
+
   // 검색 메서드
   @Query("SELECT u FROM User u WHERE " +
       "(LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -58,6 +65,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   // 부서별 조회
   List<User> findByDepartmentAndIsActiveTrue(String department);
 
+  // 권한 변경 시각 조회 (이메일, 변경 시각) - 변경 전에 발급된 토큰 판별용
+  @Query("SELECT u.email, u.accessChangedAt FROM User u WHERE u.accessChangedAt > :since")
+  List<Object[]> findAccessChangesSince(@Param("since") LocalDateTime since);
+
   // 최근 로그인 사용자
   @Query("SELECT u FROM User u WHERE u.isActive = true AND u.lastLogin >= :since ORDER BY u.lastLogin DESC")
   List<User> findRecentlyActiveUsers(@Param("since") LocalDateTime since);
@@ -0,0 +1,85 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터
+ *
+ * "없음" 응답은 항상 정확하고, "있을 수 있음" 응답은 설정한 오탐률로 틀릴 수 있습니다.
+ * 비트 배열 크기와 해시 함수 개수는 예상 원소 수와 오탐률로 계산하며,
+ * 해시 k개는 64비트 해시 두 개의 선형 조합(h1 + i·h2)으로 만듭니다.
+ *
+ * 원소 삭제는 지원하지 않습니다. 스레드 안전합니다 (비트 설정은 CAS).
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Invalid bloom filter size: " + expectedInsertions + ", " + falsePositiveRate);
+    }
+    long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int words = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+    this.words = new AtomicLongArray(words);
+    this.bitCount = words * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+  }
+
+  public void put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E37_79B9_7F4A_7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+      int index = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long word;
+      do {
+        word = words.get(index);
+        if ((word & mask) != 0) {
+          break;
+        }
+      } while (!words.compareAndSet(index, word, word | mask));
+    }
+  }
+
+  public boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E37_79B9_7F4A_7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long bitCount() {
+    return bitCount;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  // FNV-1a 64비트 후 비트 섞기
+  private static long hash(String key) {
+    long hash = 0xCBF2_9CE4_8422_2325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xFF;
+      hash *= 0x0000_0100_0000_01B3L;
+    }
+    return mix(hash);
+  }
+
+  // splitmix64 finalizer
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D0_49BB_1331_11EBL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,216 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 용량 제한 만료 저장소 (문자열 키)
+ *
+ * 항목마다 TTL을 두고, 만료 시각 기준 타이머 휠(tick 단위 슬롯의 원형 배열)에 연결해 둡니다.
+ * sweep()은 지난 tick의 슬롯만 훑으므로 항목 수와 관계없이 만료 처리 비용이 O(만료 항목 수)입니다.
+ * 휠 한 바퀴보다 긴 TTL은 해당 슬롯에 남아 있다가 다음 바퀴에 다시 확인합니다.
+ * 조회 시에도 만료 여부를 확인하므로 sweep 주기와 관계없이 만료된 값은 반환하지 않습니다.
+ *
+ * 최대 개수를 넘으면 가장 먼저 넣은 항목부터 제거합니다.
+ * 크기와 제거 건수(만료/용량 초과)는 Micrometer로 노출합니다. 스레드 안전합니다.
+ *
+ * @param <V> 값 타입
+ */
+public class ExpiringStore<V> {
+
+  private static final int WHEEL_SIZE = 512;
+
+  private final int maxEntries;
+  private final long tickMillis;
+  private final LongSupplier clock;
+
+  // 삽입 순서 (용량 초과 시 가장 오래된 항목 제거)
+  private final LinkedHashMap<String, Node<V>> entries = new LinkedHashMap<>();
+  // 슬롯별 원형 이중 연결 리스트의 머리 노드
+  private final Node<V>[] wheel;
+  // 마지막으로 정리한 tick
+  private long sweptTick;
+
+  private final Counter expirations;
+  private final Counter evictions;
+
+  public static <V> ExpiringStore<V> create(String name, int maxEntries, Duration tick, MeterRegistry meterRegistry) {
+    return create(name, maxEntries, tick, meterRegistry, System::currentTimeMillis);
+  }
+
+  static <V> ExpiringStore<V> create(String name, int maxEntries, Duration tick, MeterRegistry meterRegistry,
+      LongSupplier clock) {
+    ExpiringStore<V> store = new ExpiringStore<>(name, maxEntries, tick, meterRegistry, clock);
+    // 생성이 끝난 뒤 등록 (생성자에서 this를 게이지에 넘기지 않음)
+    Gauge.builder("fallback.store.size", store, ExpiringStore::size)
+        .tag("store", name)
+        .register(meterRegistry);
+    return store;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private ExpiringStore(String name, int maxEntries, Duration tick, MeterRegistry meterRegistry, LongSupplier clock) {
+    if (maxEntries <= 0 || tick.toMillis() <= 0) {
+      throw new IllegalArgumentException("Invalid expiring store size: " + maxEntries + ", " + tick);
+    }
+    this.maxEntries = maxEntries;
+    this.tickMillis = tick.toMillis();
+    this.clock = clock;
+    this.wheel = new Node[WHEEL_SIZE];
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel[i] = Node.head();
+    }
+    this.sweptTick = clock.getAsLong() / tickMillis;
+
+    this.expirations = removals(meterRegistry, name, "expired");
+    this.evictions = removals(meterRegistry, name, "capacity");
+  }
+
+  private static Counter removals(MeterRegistry meterRegistry, String name, String cause) {
+    return Counter.builder("fallback.store.evictions")
+        .tag("store", name)
+        .tag("cause", cause)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 값 저장 (같은 키는 값과 만료 시각을 교체, TTL이 0 이하이면 제거)
+   */
+  public synchronized void put(String key, V value, Duration ttl) {
+    remove(key);
+    if (ttl.isNegative() || ttl.isZero()) {
+      return;
+    }
+    if (entries.size() >= maxEntries) {
+      Iterator<Node<V>> eldest = entries.values().iterator();
+      Node<V> evicted = eldest.next();
+      eldest.remove();
+      evicted.unlink();
+      evictions.increment();
+    }
+
+    long expiresAt = clock.getAsLong() + ttl.toMillis();
+    Node<V> node = new Node<>(key, value, expiresAt, Math.floorDiv(expiresAt + tickMillis - 1, tickMillis));
+    node.linkBefore(wheel[slot(node.deadlineTick)]);
+    entries.put(key, node);
+  }
+
+  /**
+   * 만료되지 않은 값, 없으면 null
+   */
+  public synchronized V get(String key) {
+    Node<V> node = entries.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (node.expiresAt <= clock.getAsLong()) {
+      entries.remove(key);
+      node.unlink();
+      expirations.increment();
+      return null;
+    }
+    return node.value;
+  }
+
+  public synchronized void remove(String key) {
+    Node<V> node = entries.remove(key);
+    if (node != null) {
+      node.unlink();
+    }
+  }
+
+  /**
+   * 만료된 항목 정리 (지난 tick의 슬롯만 확인)
+   *
+   * @return 제거한 항목 수
+   */
+  public synchronized int sweep() {
+    long nowTick = clock.getAsLong() / tickMillis;
+    long steps = Math.min(nowTick - sweptTick, WHEEL_SIZE);
+    int removed = 0;
+    for (long tick = sweptTick + 1; tick <= sweptTick + steps; tick++) {
+      Node<V> head = wheel[slot(tick)];
+      Node<V> node = head.next;
+      while (node != head) {
+        Node<V> next = node.next;
+        if (node.deadlineTick <= nowTick) {
+          entries.remove(node.key);
+          node.unlink();
+          removed++;
+        }
+        node = next;
+      }
+    }
+    sweptTick = Math.max(sweptTick, nowTick);
+    expirations.increment(removed);
+    return removed;
+  }
+
+  /**
+   * 만료되지 않은 항목과 남은 TTL (삽입 순서)
+   */
+  public synchronized List<Entry<V>> entries() {
+    long now = clock.getAsLong();
+    List<Entry<V>> live = new ArrayList<>(entries.size());
+    for (Node<V> node : entries.values()) {
+      if (node.expiresAt > now) {
+        live.add(new Entry<>(node.key, node.value, Duration.ofMillis(node.expiresAt - now)));
+      }
+    }
+    return live;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private int slot(long tick) {
+    return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+  }
+
+  public record Entry<V>(String key, V value, Duration remaining) {
+  }
+
+  private static final class Node<V> {
+
+    private final String key;
+    private final V value;
+    private final long expiresAt;
+    private final long deadlineTick;
+    private Node<V> prev = this;
+    private Node<V> next = this;
+
+    private Node(String key, V value, long expiresAt, long deadlineTick) {
+      this.key = key;
+      this.value = value;
+      this.expiresAt = expiresAt;
+      this.deadlineTick = deadlineTick;
+    }
+
+    private static <V> Node<V> head() {
+      return new Node<>(null, null, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private void linkBefore(Node<V> successor) {
+      prev = successor.prev;
+      next = successor;
+      successor.prev.next = this;
+      successor.prev = this;
+    }
+
+    private void unlink() {
+      prev.next = next;
+      next.prev = prev;
+      prev = this;
+      next = this;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 64비트 해시의 해밍 거리 검색용 다중 인덱스 해싱 구조
+ *
+ * 해시를 16비트 블록 4개로 나누어 블록 값별로 버킷에 저장합니다.
+ * 비둘기집 원리에 따라 거리 3 이하인 해시는 최소 한 블록이 정확히 일치하므로
+ * 4개 버킷만 조회하면 후보를 모두 찾을 수 있습니다.
+ *
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+public class HammingIndex {
+
+  public static final int BLOCKS = 4;
+  public static final int MAX_SUPPORTED_DISTANCE = BLOCKS - 1;
+
+  private static final int BLOCK_BITS = 64 / BLOCKS;
+  private static final long BLOCK_MASK = (1L << BLOCK_BITS) - 1;
+
+  private final Map<Long, Set<String>> buckets = new HashMap<>();
+
+  /**
+   * key를 hash 값으로 인덱싱
+   */
+  public void add(String key, long hash) {
+    for (int block = 0; block < BLOCKS; block++) {
+      buckets.computeIfAbsent(bucketId(block, hash), id -> new HashSet<>()).add(key);
+    }
+  }
+
+  public void remove(String key, long hash) {
+    for (int block = 0; block < BLOCKS; block++) {
+      long id = bucketId(block, hash);
+      Set<String> keys = buckets.get(id);
+      if (keys != null) {
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          buckets.remove(id);
+        }
+      }
+    }
+  }
+
+  /**
+   * 최소 한 블록이 일치하는 후보 키
+   * 실제 거리 검증은 호출자가 distance()로 수행
+   */
+  public Set<String> candidates(long hash) {
+    Set<String> result = new HashSet<>();
+    for (int block = 0; block < BLOCKS; block++) {
+      Set<String> keys = buckets.get(bucketId(block, hash));
+      if (keys != null) {
+        result.addAll(keys);
+      }
+    }
+    return result;
+  }
+
+  public void clear() {
+    buckets.clear();
+  }
+
+  public static int distance(long a, long b) {
+    return Long.bitCount(a ^ b);
+  }
+
+  /**
+   * 블록 번호와 블록 값을 합친 버킷 식별자
+   */
+  public static long bucketId(int block, long hash) {
+    long value = (hash >>> (block * BLOCK_BITS)) & BLOCK_MASK;
+    return ((long) block << BLOCK_BITS) | value;
+  }
+}
@@ -0,0 +1,321 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter.Fingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이미지 내용 기반 분석 결과 캐시
+ *
+ * 조회 순서:
+ * 1. 로컬 정확 일치 (SHA-256)
+ * 2. 로컬 유사 일치 (dHash 해밍 거리 ≤ maxDistance)
+ * 3. Redis 정확 일치
+ * 4. Redis 유사 일치 (블록 버킷 정렬 집합)
+ *
+ * 로컬 계층은 접근 순서 LRU + TTL, Redis 값은 키 만료로 정리됩니다.
+ * Redis 버킷은 멤버별 만료 시각을 점수로 저장하고 쓰기/읽기 때 만료된 멤버를 지우며,
+ * 버킷당 최근 MAX_BUCKET_MEMBERS개만 유지합니다 (버킷 키 TTL은 가장 늦은 멤버 만료 시각).
+ * Redis 오류는 캐시 미스로 처리하여 분석 흐름을 막지 않습니다.
+ *
+ * @param <V> 캐시 값 타입 (Jackson 직렬화 가능해야 함)
+ */
+@Slf4j
+public class ImageAnalysisCache<V> {
+
+  private static final String KEY_PREFIX = "image_analysis:";
+  // 버킷당 최대 멤버 수 (같은 블록 값을 가진 이미지가 몰려도 조회 비용 제한)
+  static final int MAX_BUCKET_MEMBERS = 256;
+
+  private final String name;
+  private final JavaType valueType;
+  private final int maxEntries;
+  private final Duration ttl;
+  private final int maxDistance;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final LinkedHashMap<String, CacheEntry<V>> entries;
+  private final HammingIndex hammingIndex = new HammingIndex();
+
+  private final Counter exactHits;
+  private final Counter nearHits;
+  private final Counter sharedHits;
+  private final Counter misses;
+  private final Counter evictions;
+
+  private final boolean sharedTierEnabled;
+
+  public ImageAnalysisCache(
+      String name,
+      Class<V> valueClass,
+      int maxEntries,
+      Duration ttl,
+      int maxDistance,
+      RedisTemplate<String, String> redisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.valueType = objectMapper.constructType(valueClass);
+    this.maxEntries = maxEntries;
+    this.ttl = ttl;
+    this.maxDistance = Math.min(maxDistance, HammingIndex.MAX_SUPPORTED_DISTANCE);
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.sharedTierEnabled = redisTemplate != null;
+
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<V>> eldest) {
+        if (size() > ImageAnalysisCache.this.maxEntries) {
+          unindex(eldest.getKey(), eldest.getValue());
+          ImageAnalysisCache.this.evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+
+    this.exactHits = counter(meterRegistry, "hit_exact");
+    this.nearHits = counter(meterRegistry, "hit_near");
+    this.sharedHits = counter(meterRegistry, "hit_shared");
+    this.misses = counter(meterRegistry, "miss");
+    this.evictions = Counter.builder("image.analysis.cache.evictions")
+        .tag("cache", name)
+        .register(meterRegistry);
+    Gauge.builder("image.analysis.cache.size", this, ImageAnalysisCache::size)
+        .tag("cache", name)
+        .register(meterRegistry);
+
+    log.info("🗂️ 이미지 분석 캐시 초기화 - {}: 최대 {}개, TTL {}, 해밍 거리 ≤ {}, Redis: {}",
+        name, maxEntries, ttl, this.maxDistance, sharedTierEnabled);
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("image.analysis.cache.requests")
+        .tag("cache", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시 조회
+   *
+   * @param scope       같은 이미지라도 결과가 달라지는 구분자 (예: 모델 ID)
+   * @param fingerprint 이미지 지문
+   */
+  public Optional<V> get(String scope, Fingerprint fingerprint) {
+    String key = localKey(scope, fingerprint.contentHash());
+    Long perceptualHash = fingerprint.perceptualHash();
+
+    synchronized (this) {
+      CacheEntry<V> exact = liveEntry(key);
+      if (exact != null) {
+        exactHits.increment();
+        return Optional.of(exact.value());
+      }
+
+      if (perceptualHash != null && maxDistance > 0) {
+        V near = findNearLocal(scope, perceptualHash);
+        if (near != null) {
+          nearHits.increment();
+          return Optional.of(near);
+        }
+      }
+    }
+
+    Optional<V> shared = getShared(scope, fingerprint);
+    if (shared.isPresent()) {
+      sharedHits.increment();
+      putLocal(key, perceptualHash, shared.get());
+      return shared;
+    }
+
+    misses.increment();
+    return Optional.empty();
+  }
+
+  /**
+   * 분석 결과 저장 (로컬 + Redis)
+   */
+  public void put(String scope, Fingerprint fingerprint, V value) {
+    putLocal(localKey(scope, fingerprint.contentHash()), fingerprint.perceptualHash(), value);
+    putShared(scope, fingerprint, value);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    hammingIndex.clear();
+  }
+
+  // === 로컬 계층 ===
+
+  private synchronized void putLocal(String key, Long perceptualHash, V value) {
+    CacheEntry<V> previous = entries.remove(key);
+    if (previous != null) {
+      unindex(key, previous);
+    }
+    entries.put(key, new CacheEntry<>(value, perceptualHash, System.nanoTime() + ttl.toNanos()));
+    if (perceptualHash != null) {
+      hammingIndex.add(key, perceptualHash);
+    }
+  }
+
+  private CacheEntry<V> liveEntry(String key) {
+    CacheEntry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired()) {
+      entries.remove(key);
+      unindex(key, entry);
+      return null;
+    }
+    return entry;
+  }
+
+  private V findNearLocal(String scope, long perceptualHash) {
+    String scopePrefix = scope + "|";
+    String bestKey = null;
+    int bestDistance = Integer.MAX_VALUE;
+
+    for (String candidate : hammingIndex.candidates(perceptualHash)) {
+      if (!candidate.startsWith(scopePrefix)) {
+        continue;
+      }
+      CacheEntry<V> entry = entries.get(candidate);
+      if (entry == null || entry.perceptualHash() == null) {
+        continue;
+      }
+      int distance = HammingIndex.distance(perceptualHash, entry.perceptualHash());
+      if (distance <= maxDistance && distance < bestDistance) {
+        bestKey = candidate;
+        bestDistance = distance;
+      }
+    }
+
+    if (bestKey == null) {
+      return null;
+    }
+    CacheEntry<V> best = liveEntry(bestKey);
+    return best != null ? best.value() : null;
+  }
+
+  private void unindex(String key, CacheEntry<V> entry) {
+    if (entry.perceptualHash() != null) {
+      hammingIndex.remove(key, entry.perceptualHash());
+    }
+  }
+
+  private static String localKey(String scope, String contentHash) {
+    return scope + "|" + contentHash;
+  }
+
+  // === Redis 공유 계층 ===
+
+  private Optional<V> getShared(String scope, Fingerprint fingerprint) {
+    if (!sharedTierEnabled) {
+      return Optional.empty();
+    }
+    try {
+      String json = redisTemplate.opsForValue().get(valueKey(scope, fingerprint.contentHash()));
+      if (json != null) {
+        return Optional.of(readValue(json));
+      }
+
+      Long perceptualHash = fingerprint.perceptualHash();
+      if (perceptualHash == null || maxDistance <= 0) {
+        return Optional.empty();
+      }
+
+      // 버킷 멤버 형식: "{dHash 16진}:{SHA-256}", 점수: 만료 시각 (epoch ms)
+      long now = System.currentTimeMillis();
+      for (int block = 0; block < HammingIndex.BLOCKS; block++) {
+        String bucketKey = bucketKey(scope, block, perceptualHash);
+        redisTemplate.opsForZSet().removeRangeByScore(bucketKey, Double.NEGATIVE_INFINITY, now);
+        Set<String> members = redisTemplate.opsForZSet()
+            .reverseRangeByScore(bucketKey, now, Double.POSITIVE_INFINITY, 0, MAX_BUCKET_MEMBERS);
+        if (members == null) {
+          continue;
+        }
+        for (String member : members) {
+          int separator = member.indexOf(':');
+          long candidateHash = Long.parseUnsignedLong(member.substring(0, separator), 16);
+          if (HammingIndex.distance(perceptualHash, candidateHash) <= maxDistance) {
+            String candidateJson = redisTemplate.opsForValue()
+                .get(valueKey(scope, member.substring(separator + 1)));
+            if (candidateJson != null) {
+              return Optional.of(readValue(candidateJson));
+            }
+          }
+        }
+      }
+    } catch (Exception e) {
+      log.debug("이미지 분석 캐시 Redis 조회 실패 - {}: {}", name, e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private void putShared(String scope, Fingerprint fingerprint, V value) {
+    if (!sharedTierEnabled) {
+      return;
+    }
+    try {
+      redisTemplate.opsForValue().set(valueKey(scope, fingerprint.contentHash()),
+          objectMapper.writeValueAsString(value), ttl);
+
+      Long perceptualHash = fingerprint.perceptualHash();
+      if (perceptualHash != null) {
+        String member = Long.toHexString(perceptualHash) + ":" + fingerprint.contentHash();
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        for (int block = 0; block < HammingIndex.BLOCKS; block++) {
+          String bucketKey = bucketKey(scope, block, perceptualHash);
+          redisTemplate.opsForZSet().add(bucketKey, member, expiresAt);
+          redisTemplate.opsForZSet().removeRangeByScore(bucketKey, Double.NEGATIVE_INFINITY, now);
+          // 만료가 가장 이른(오래된) 멤버부터 잘라 최근 MAX_BUCKET_MEMBERS개 유지
+          redisTemplate.opsForZSet().removeRange(bucketKey, 0, -(MAX_BUCKET_MEMBERS + 1));
+          // 방금 넣은 멤버의 만료가 가장 늦으므로 키 TTL을 갱신해도 남은 멤버보다 오래 살지 않음
+          redisTemplate.expire(bucketKey, ttl);
+        }
+      }
+    } catch (Exception e) {
+      log.debug("이미지 분석 캐시 Redis 저장 실패 - {}: {}", name, e.getMessage());
+    }
+  }
+
+  private V readValue(String json) throws Exception {
+    return objectMapper.readValue(json, valueType);
+  }
+
+  private String valueKey(String scope, String contentHash) {
+    return KEY_PREFIX + name + ":" + scope + ":v:" + contentHash;
+  }
+
+  private String bucketKey(String scope, int block, long perceptualHash) {
+    // 정렬 집합 버킷은 이전 집합(SET) 버킷(":b:")과 다른 키를 써서 배포 중 WRONGTYPE 오류를 피함
+    return KEY_PREFIX + name + ":" + scope + ":z:" + Long.toHexString(HammingIndex.bucketId(block, perceptualHash));
+  }
+
+  private record CacheEntry<V>(V value, Long perceptualHash, long expiresAtNanos) {
+
+    boolean isExpired() {
+      return System.nanoTime() - expiresAtNanos > 0;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis pub/sub 구독 (인스턴스 간 상태 전파용 공용 리스너 컨테이너)
+ *
+ * 컨테이너는 첫 구독 시점에 만들어 시작합니다. 각 서비스는 Redis 연결을 확인한 뒤 구독하므로
+ * Redis 없이도 애플리케이션이 기동됩니다. 연결이 끊기면 컨테이너가 recovery 간격으로 재구독합니다.
+ */
+@Component
+@Slf4j
+public class RedisSubscriptions implements DisposableBean {
+
+  private static final Duration RECOVERY_INTERVAL = Duration.ofSeconds(5);
+
+  private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+  private RedisMessageListenerContainer container;
+
+  public RedisSubscriptions(ObjectProvider<RedisConnectionFactory> connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  /**
+   * 채널 구독
+   *
+   * @throws IllegalStateException Redis 연결 설정이 없는 경우
+   */
+  public synchronized void subscribe(MessageListener listener, Topic topic) {
+    if (container == null) {
+      RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+      if (factory == null) {
+        throw new IllegalStateException("No Redis connection factory configured");
+      }
+      RedisMessageListenerContainer created = new RedisMessageListenerContainer();
+      created.setConnectionFactory(factory);
+      created.setRecoveryInterval(RECOVERY_INTERVAL.toMillis());
+      created.afterPropertiesSet();
+      created.start();
+      container = created;
+      log.info("Started Redis pub/sub listener container");
+    }
+    container.addMessageListener(listener, topic);
+    log.debug("Subscribed {} to Redis topic {}", listener.getClass().getSimpleName(), topic.getTopic());
+  }
+
+  @Override
+  public synchronized void destroy() throws Exception {
+    if (container != null) {
+      container.destroy();
+      container = null;
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.jeonbuk.report.infrastructure.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -16,8 +18,8 @@ import java.util.concurrent.ThreadPoolExecutor;
  * 
  * UI 스레드 블로킹 방지를 위한 다양한 스레드 풀 설정:
  * - 알림 처리용 스레드 풀
- * - 카프카 발행용 스레드 풀
  * - AI API 호출용 스레드 풀
+ * - 이미지 리사이징용 스레드 풀
  * - 일반 비동기 작업용 스레드 풀
  */
 @Slf4j
@@ -61,33 +63,6 @@ public class AsyncConfig {
     return executor;
   }
 
-  /**
-   * 카프카 메시지 발행 전용 스레드 풀
-   * I/O 집약적인 작업에 최적화
-   */
-  @Bean("kafkaPublishingExecutor")
-  public Executor kafkaPublishingExecutor() {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-
-    // I/O 작업이므로 더 많은 스레드 허용
-    executor.setCorePoolSize(5);
-    executor.setMaxPoolSize(20);
-    executor.setQueueCapacity(200);
-    executor.setThreadNamePrefix("KafkaPublish-");
-    executor.setAwaitTerminationSeconds(30);
-    executor.setWaitForTasksToCompleteOnShutdown(true);
-
-    // 거부된 작업은 큐에 추가 시도
-    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
-
-    executor.initialize();
-
-    log.info("📤 카프카 발행 스레드 풀 초기화 완료 - 코어: {}, 최대: {}",
-        executor.getCorePoolSize(), executor.getMaxPoolSize());
-
-    return executor;
-  }
-
   /**
    * AI API 호출 전용 스레드 풀
    * 외부 API 호출의 긴 대기 시간을 고려한 설정
@@ -171,23 +146,45 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * 이미지 리사이징 전용 스레드 풀
+   * CPU 바운드 타일 축소 작업용, 공용 ForkJoinPool과 분리
+   * 큐가 가득 차면 호출자(ImageProcess-) 스레드가 직접 처리
+   */
+  @Bean("imageResizeExecutor")
+  public ThreadPoolTaskExecutor imageResizeExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    int processors = Runtime.getRuntime().availableProcessors();
+    executor.setCorePoolSize(processors);
+    executor.setMaxPoolSize(processors);
+    executor.setQueueCapacity(processors * 8);
+    executor.setThreadNamePrefix("ImageResize-");
+    executor.setAwaitTerminationSeconds(60);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+    executor.initialize();
+
+    log.info("📐 이미지 리사이징 스레드 풀 초기화 완료 - 코어: {}, 최대: {}",
+        executor.getCorePoolSize(), executor.getMaxPoolSize());
+
+    return executor;
+  }
+
   /**
    * RestTemplate Bean (HTTP 클라이언트)
-   * 연결 풀링 및 타임아웃 설정 포함
+   * 공유 연결 풀(HttpClientConfig)을 사용하여 keep-alive 연결을 재사용
    */
   @Bean
-  public RestTemplate restTemplate() {
+  public RestTemplate restTemplate(CloseableHttpClient pooledHttpClient) {
     RestTemplate restTemplate = new RestTemplate();
 
-    // 연결 타임아웃 및 읽기 타임아웃 설정
-    org.springframework.http.client.SimpleClientHttpRequestFactory factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
-
-    factory.setConnectTimeout(10000); // 10초 연결 타임아웃
-    factory.setReadTimeout(30000); // 30초 읽기 타임아웃
-
-    restTemplate.setRequestFactory(factory);
+    // 연결/읽기 타임아웃은 연결 풀 설정(app.http-client.*)에서 적용
+    restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
 
-    log.info("🌐 RestTemplate 초기화 완료 - 연결 타임아웃: 10s, 읽기 타임아웃: 30s");
+    log.info("🌐 RestTemplate 초기화 완료 - 공유 연결 풀 사용");
 
     return restTemplate;
   }
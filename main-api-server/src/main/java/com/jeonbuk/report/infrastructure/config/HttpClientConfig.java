@@ -0,0 +1,101 @@
+package com.jeonbuk.report.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 공유 HTTP 연결 풀 설정 (RestTemplate)
+ *
+ * 호출마다 새 연결과 TLS 핸드셰이크를 만들지 않도록 keep-alive 연결을 재사용합니다.
+ * - 전체/상류(route)별 연결 수 제한: Roboflow, OpenRouter는 개별 한도
+ * - 유휴 연결과 만료 연결은 백그라운드에서 정리, 오래 쉰 연결은 재사용 전 검증
+ * - 풀 메트릭: httpcomponents.httpclient.pool.* (leased/available/pending)
+ *
+ * 클래식(블로킹) 클라이언트는 HTTP/1.1만 지원합니다.
+ * HTTP/2는 OpenRouter 스트리밍용 WebClient(WebClientConfig)에서 협상합니다.
+ */
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager httpConnectionManager(
+      @Value("${app.http-client.max-total:200}") int maxTotal,
+      @Value("${app.http-client.default-max-per-route:20}") int defaultMaxPerRoute,
+      @Value("${app.http-client.roboflow.host:detect.roboflow.com}") String roboflowHost,
+      @Value("${app.http-client.roboflow.max-per-route:50}") int roboflowMaxPerRoute,
+      @Value("${app.http-client.openrouter.host:openrouter.ai}") String openRouterHost,
+      @Value("${app.http-client.openrouter.max-per-route:50}") int openRouterMaxPerRoute,
+      @Value("${app.http-client.connect-timeout:PT10S}") Duration connectTimeout,
+      @Value("${app.http-client.read-timeout:PT30S}") Duration readTimeout,
+      @Value("${app.http-client.time-to-live:PT5M}") Duration timeToLive,
+      @Value("${app.http-client.validate-after-inactivity:PT2S}") Duration validateAfterInactivity,
+      MeterRegistry meterRegistry) {
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(maxTotal)
+        .setMaxConnPerRoute(defaultMaxPerRoute)
+        // LIFO: 최근 사용한(아직 살아 있을 가능성이 높은) 연결부터 재사용
+        .setConnPoolPolicy(PoolReusePolicy.LIFO)
+        .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(connectTimeout))
+            .setSocketTimeout(Timeout.of(readTimeout))
+            .setTimeToLive(TimeValue.of(timeToLive))
+            .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+            .build())
+        .build();
+
+    connectionManager.setMaxPerRoute(httpsRoute(roboflowHost), roboflowMaxPerRoute);
+    connectionManager.setMaxPerRoute(httpsRoute(openRouterHost), openRouterMaxPerRoute);
+
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "external-api")
+        .bindTo(meterRegistry);
+
+    log.info("🔌 HTTP 연결 풀 초기화 - 전체: {}, 기본 route: {}, {}: {}, {}: {}",
+        maxTotal, defaultMaxPerRoute, roboflowHost, roboflowMaxPerRoute, openRouterHost, openRouterMaxPerRoute);
+
+    return connectionManager;
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient pooledHttpClient(
+      PoolingHttpClientConnectionManager httpConnectionManager,
+      @Value("${app.http-client.connection-request-timeout:PT5S}") Duration connectionRequestTimeout,
+      @Value("${app.http-client.read-timeout:PT30S}") Duration readTimeout,
+      @Value("${app.http-client.max-idle-time:PT30S}") Duration maxIdleTime) {
+    return HttpClients.custom()
+        .setConnectionManager(httpConnectionManager)
+        // 연결 관리자는 별도 빈으로 종료
+        .setConnectionManagerShared(true)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            // 풀이 가득 찼을 때 연결 대기 상한 (무한 대기 방지)
+            .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+            .setResponseTimeout(Timeout.of(readTimeout))
+            .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(maxIdleTime))
+        .build();
+  }
+
+  private static HttpRoute httpsRoute(String host) {
+    return new HttpRoute(new HttpHost("https", host, 443), null, true);
+  }
+}
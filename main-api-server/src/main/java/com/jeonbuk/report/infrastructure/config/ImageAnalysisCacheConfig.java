@@ -0,0 +1,59 @@
+package com.jeonbuk.report.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.ImageAnalysisService.AiAnalysisSnapshot;
+import com.jeonbuk.report.infrastructure.cache.ImageAnalysisCache;
+import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowDto.RoboflowAnalysisResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 이미지 분석 중복 제거 캐시 설정
+ *
+ * 같은 사진이나 거의 같은 사진의 재신고 시 유료 외부 추론 호출을 생략합니다.
+ * - roboflowAnalysisCache: RoboflowApiClient 객체 감지 결과
+ * - aiAnalysisCache: ImageAnalysisService의 OpenRouter 분석 결과
+ */
+@Configuration
+public class ImageAnalysisCacheConfig {
+
+  @Value("${app.image.cache.max-entries:10000}")
+  private int maxEntries;
+
+  @Value("${app.image.cache.ttl:PT24H}")
+  private Duration ttl;
+
+  @Value("${app.image.cache.max-distance:3}")
+  private int maxDistance;
+
+  @Value("${app.image.cache.redis-enabled:true}")
+  private boolean redisEnabled;
+
+  @Bean
+  public ImageAnalysisCache<RoboflowAnalysisResult> roboflowAnalysisCache(
+      ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    return new ImageAnalysisCache<>("roboflow", RoboflowAnalysisResult.class,
+        maxEntries, ttl, maxDistance, sharedTier(redisTemplate), objectMapper, meterRegistry);
+  }
+
+  @Bean
+  public ImageAnalysisCache<AiAnalysisSnapshot> aiAnalysisCache(
+      ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    return new ImageAnalysisCache<>("openrouter", AiAnalysisSnapshot.class,
+        maxEntries, ttl, maxDistance, sharedTier(redisTemplate), objectMapper, meterRegistry);
+  }
+
+  private RedisTemplate<String, String> sharedTier(ObjectProvider<RedisTemplate<String, String>> redisTemplate) {
+    return redisEnabled ? redisTemplate.getIfAvailable() : null;
+  }
+}
@@ -18,7 +18,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable simple broker for topics and queues
+        // Enable simple broker for topics and queues (cross-node delivery goes through ClusterMessageRelay)
         config.enableSimpleBroker("/topic", "/queue");
         // Set application destination prefix
         config.setApplicationDestinationPrefixes("/app");
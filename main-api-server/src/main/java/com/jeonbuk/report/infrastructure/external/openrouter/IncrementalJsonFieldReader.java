@@ -0,0 +1,156 @@
+package com.jeonbuk.report.infrastructure.external.openrouter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스트리밍 LLM 응답의 증분 JSON 필드 리더
+ *
+ * 토큰 조각을 받는 즉시 Jackson 논블로킹 파서에 넣어, 최상위 객체의 필드가
+ * 값까지 완성되는 시점에 바로 조회할 수 있게 합니다.
+ * - 첫 '{' 이전의 텍스트(설명문, ```json 코드 펜스 등)는 건너뜀
+ * - 최상위 객체가 닫힌 뒤의 텍스트는 파싱하지 않음
+ * - JSON 문법 오류 시 파싱을 멈추고 원문만 계속 누적 (호출자가 원문으로 대체 처리)
+ *
+ * 스레드 안전하지 않으며 하나의 스트림에서 순서대로 호출해야 합니다.
+ */
+public class IncrementalJsonFieldReader {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final StringBuilder rawText = new StringBuilder();
+  private final Map<String, Object> fields = new LinkedHashMap<>();
+  private final Deque<Frame> frames = new ArrayDeque<>();
+
+  private JsonParser parser;
+  private boolean rootClosed;
+  private boolean failed;
+
+  /**
+   * 응답 조각 추가
+   */
+  public void feed(String chunk) {
+    if (chunk == null || chunk.isEmpty()) {
+      return;
+    }
+    rawText.append(chunk);
+    if (rootClosed || failed) {
+      return;
+    }
+
+    String input = chunk;
+    if (parser == null) {
+      int start = chunk.indexOf('{');
+      if (start < 0) {
+        return;
+      }
+      input = chunk.substring(start);
+      try {
+        parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+      } catch (IOException e) {
+        failed = true;
+        return;
+      }
+    }
+
+    try {
+      byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+      ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+      drainTokens();
+    } catch (IOException e) {
+      failed = true;
+    }
+  }
+
+  /**
+   * 지금까지 값이 완성된 최상위 필드 (입력 순서)
+   */
+  public Map<String, Object> fields() {
+    return fields;
+  }
+
+  public boolean containsAll(Collection<String> fieldNames) {
+    return fields.keySet().containsAll(fieldNames);
+  }
+
+  /**
+   * 최상위 JSON 객체가 닫혔는지 여부
+   */
+  public boolean isComplete() {
+    return rootClosed;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+
+  public String rawText() {
+    return rawText.toString();
+  }
+
+  private void drainTokens() throws IOException {
+    JsonToken token;
+    while (!rootClosed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      switch (token) {
+        case START_OBJECT -> frames.push(new Frame(frames.isEmpty() ? fields : new LinkedHashMap<>()));
+        case START_ARRAY -> {
+          if (frames.isEmpty()) {
+            // 최상위가 배열이면 필드 단위로 읽을 수 없음
+            failed = true;
+            return;
+          }
+          frames.push(new Frame(new ArrayList<>()));
+        }
+        case FIELD_NAME -> frames.peek().fieldName = parser.currentName();
+        case END_OBJECT, END_ARRAY -> {
+          Frame closed = frames.pop();
+          if (frames.isEmpty()) {
+            rootClosed = true;
+          } else {
+            addValue(closed.container);
+          }
+        }
+        case VALUE_STRING -> addValue(parser.getText());
+        case VALUE_NUMBER_INT -> addValue(parser.getNumberValue());
+        case VALUE_NUMBER_FLOAT -> addValue(parser.getDoubleValue());
+        case VALUE_TRUE -> addValue(Boolean.TRUE);
+        case VALUE_FALSE -> addValue(Boolean.FALSE);
+        case VALUE_NULL -> addValue(null);
+        default -> {
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void addValue(Object value) {
+    Frame frame = frames.peek();
+    if (frame.container instanceof Map<?, ?> map) {
+      ((Map<String, Object>) map).put(frame.fieldName, value);
+    } else {
+      ((List<Object>) frame.container).add(value);
+    }
+  }
+
+  private static final class Frame {
+
+    private final Object container;
+    private String fieldName;
+
+    private Frame(Object container) {
+      this.container = container;
+    }
+  }
+}
@@ -1,23 +1,25 @@
 package com.jeonbuk.report.infrastructure.external.openrouter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.resilience.CallNotPermittedException;
+import com.jeonbuk.report.infrastructure.resilience.ResiliencePolicy;
+import com.jeonbuk.report.infrastructure.resilience.ResilienceRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * OpenRouter AI API 클라이언트
@@ -34,6 +36,8 @@ public class OpenRouterApiClient {
   private static final String BASE_URL = "https://openrouter.ai/api/v1";
   private static final String CHAT_COMPLETIONS_ENDPOINT = "/chat/completions";
   private static final String DEFAULT_MODEL = "qwen/qwen2.5-vl-72b-instruct:free";
+  private static final int MAX_ATTEMPTS = 3;
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
 
   // 백그라운드 스레드 풀 (UI 스레드 블로킹 방지)
   private final Executor executor = Executors.newFixedThreadPool(4);
@@ -41,14 +45,17 @@ public class OpenRouterApiClient {
   private final RestTemplate restTemplate;
   private final ObjectMapper objectMapper;
   private final String apiKey;
+  private final ResiliencePolicy resiliencePolicy;
 
   public OpenRouterApiClient(
       RestTemplate restTemplate,
       ObjectMapper objectMapper,
+      ResilienceRegistry resilienceRegistry,
       @Value("${openrouter.api.key:#{null}}") String apiKey) {
     this.restTemplate = restTemplate;
     this.objectMapper = objectMapper;
     this.apiKey = apiKey;
+    this.resiliencePolicy = resilienceRegistry.policy("openrouter");
 
     if (apiKey == null || apiKey.trim().isEmpty()) {
       log.warn("OpenRouter API key is not configured. Some features may not work.");
@@ -94,6 +101,10 @@ public class OpenRouterApiClient {
       throw new OpenRouterException("OpenRouter API key is not configured");
     }
 
+    return executeResilient(() -> callChatCompletion(request));
+  }
+
+  private OpenRouterDto.ChatResponse callChatCompletion(OpenRouterDto.ChatRequest request) {
     log.info("🤖 OpenRouter API 호출 시작 - 모델: {}", request.getModel());
 
     try {
@@ -133,13 +144,42 @@ public class OpenRouterApiClient {
 
   /**
    * 동기 채팅 완성 요청 (백그라운드 작업용)
+   * 서킷 브레이커와 재시도 예산을 거쳐 일시적 오류만 재시도합니다.
    */
-  @Retryable(value = { OpenRouterException.class }, maxAttempts = 3, backoff = @Backoff(delay = 1000, multiplier = 2))
   public String chatCompletionSync(List<OpenRouterDto.Message> messages) {
     if (apiKey == null || apiKey.trim().isEmpty()) {
       throw new OpenRouterException("OpenRouter API key is not configured");
     }
 
+    return executeResilient(() -> callChatCompletionSync(messages));
+  }
+
+  private <T> T executeResilient(Supplier<T> call) {
+    try {
+      return resiliencePolicy.execute(call, MAX_ATTEMPTS, INITIAL_BACKOFF, OpenRouterApiClient::isTransient);
+    } catch (CallNotPermittedException e) {
+      throw new OpenRouterException("OpenRouter API temporarily unavailable: " + e.getMessage(), 503);
+    }
+  }
+
+  /**
+   * 재시도 및 브레이커 실패 집계 대상 오류 (레이트 리밋, 5xx, 네트워크 오류)
+   */
+  private static boolean isTransient(Throwable e) {
+    if (!(e instanceof OpenRouterException openRouterException)) {
+      return false;
+    }
+    if (openRouterException.isRetryable()) {
+      return true;
+    }
+    if (openRouterException.getStatusCode() >= 500 && "http_error".equals(openRouterException.getErrorType())) {
+      return true;
+    }
+    Throwable cause = openRouterException.getCause();
+    return cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException;
+  }
+
+  private String callChatCompletionSync(List<OpenRouterDto.Message> messages) {
     log.info("🤖 OpenRouter API 호출 시작 - 메시지 수: {}", messages.size());
 
     try {
@@ -256,22 +296,6 @@ public class OpenRouterApiClient {
     return chatCompletionAsync(systemPrompt, "이미지 설명: " + imageDescription);
   }
 
-  /**
-   * 재시도 실패 시 복구 메서드
-   */
-  @Recover
-  public String recoverChatCompletion(OpenRouterException ex, List<OpenRouterDto.Message> messages) {
-    log.error("🔄 OpenRouter API 재시도 실패 - 최종 복구: {}", ex.getMessage());
-
-    if (ex.isAuthenticationError()) {
-      return "ERROR: API 인증 실패. API 키를 확인해주세요.";
-    } else if (ex.isRateLimitError()) {
-      return "ERROR: API 사용량 제한 초과. 잠시 후 다시 시도해주세요.";
-    } else {
-      return "ERROR: AI 분석 서비스 일시 중단. 기본 분석 결과를 사용합니다.";
-    }
-  }
-
   /**
    * API 상태 확인
    */
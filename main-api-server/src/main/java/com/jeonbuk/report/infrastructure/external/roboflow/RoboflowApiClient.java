@@ -2,20 +2,26 @@ package com.jeonbuk.report.infrastructure.external.roboflow;
 
 import com.jeonbuk.report.infrastructure.external.roboflow.RoboflowDto.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.cache.ImageAnalysisCache;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter.Fingerprint;
+import com.jeonbuk.report.infrastructure.resilience.CallNotPermittedException;
+import com.jeonbuk.report.infrastructure.resilience.ResiliencePolicy;
+import com.jeonbuk.report.infrastructure.resilience.ResilienceRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -28,28 +34,40 @@ import java.util.stream.Collectors;
  * - 비동기 API 호출을 위한 CompletableFuture 사용
  * - UI 스레드 블로킹 방지
  * - 백그라운드 스레드풀에서 실행
+ * - 이미지 지문 기반 결과 캐시로 중복 이미지의 유료 API 호출 생략
  */
 @Slf4j
 @Service
 public class RoboflowApiClient {
 
   private static final String DETECT_ENDPOINT = "https://detect.roboflow.com/";
+  private static final int MAX_ATTEMPTS = 3;
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
 
   // 백그라운드 스레드 풀 (UI 스레드 블로킹 방지)
   private final Executor executor = Executors.newFixedThreadPool(4);
 
   private final RestTemplate restTemplate;
   private final ObjectMapper objectMapper;
+  private final ImageFingerprinter imageFingerprinter;
+  private final ImageAnalysisCache<RoboflowAnalysisResult> analysisCache;
+  private final ResiliencePolicy resiliencePolicy;
   private final String apiKey;
   private final String workspaceUrl;
 
   public RoboflowApiClient(
       RestTemplate restTemplate,
       ObjectMapper objectMapper,
+      ImageFingerprinter imageFingerprinter,
+      ImageAnalysisCache<RoboflowAnalysisResult> analysisCache,
+      ResilienceRegistry resilienceRegistry,
       @Value("${app.roboflow.api-key:#{null}}") String apiKey,
       @Value("${app.roboflow.workspace-url:#{null}}") String workspaceUrl) {
     this.restTemplate = restTemplate;
     this.objectMapper = objectMapper;
+    this.imageFingerprinter = imageFingerprinter;
+    this.analysisCache = analysisCache;
+    this.resiliencePolicy = resilienceRegistry.policy("roboflow");
     this.apiKey = apiKey;
     this.workspaceUrl = workspaceUrl;
 
@@ -67,7 +85,7 @@ public class RoboflowApiClient {
   public CompletableFuture<RoboflowAnalysisResult> analyzeImageAsync(String imageData, String modelId) {
     return CompletableFuture.supplyAsync(() -> {
       try {
-        return analyzeImage(imageData, modelId);
+        return analyzeImageCached(imageData, modelId);
       } catch (Exception e) {
         log.error("Error in async image analysis: {}", e.getMessage(), e);
         throw new RoboflowException("Async image analysis failed", e);
@@ -91,14 +109,67 @@ public class RoboflowApiClient {
     }, executor);
   }
 
+  /**
+   * 중복 제거 캐시를 거친 이미지 분석
+   * 같은 모델에 대해 동일(SHA-256) 또는 유사(dHash) 이미지의 성공 결과를 재사용
+   */
+  private RoboflowAnalysisResult analyzeImageCached(String imageData, String modelId) {
+    Fingerprint fingerprint = fingerprintOf(imageData);
+    if (fingerprint != null) {
+      Optional<RoboflowAnalysisResult> cached = analysisCache.get(modelId, fingerprint);
+      if (cached.isPresent()) {
+        log.debug("Roboflow analysis cache hit for model: {}", modelId);
+        return cached.get();
+      }
+    }
+
+    RoboflowAnalysisResult result = analyzeImage(imageData, modelId);
+    if (fingerprint != null && result.isSuccess()) {
+      analysisCache.put(modelId, fingerprint, result);
+    }
+    return result;
+  }
+
+  /**
+   * Base64(또는 data URI) 이미지의 지문, 디코딩할 수 없으면 null
+   */
+  private Fingerprint fingerprintOf(String imageData) {
+    if (imageData == null) {
+      return null;
+    }
+    try {
+      int dataStart = imageData.indexOf("base64,");
+      String base64 = dataStart >= 0 ? imageData.substring(dataStart + 7) : imageData;
+      return imageFingerprinter.fingerprint(Base64.getMimeDecoder().decode(base64));
+    } catch (IllegalArgumentException e) {
+      log.debug("Image data is not base64, skipping analysis cache: {}", e.getMessage());
+      return null;
+    }
+  }
+
   /**
    * 동기 이미지 분석 (내부용)
+   * 서킷 브레이커와 재시도 예산을 거쳐 호출하며, 서버/네트워크 오류만 재시도합니다.
    */
-  @Retryable(retryFor = { ResourceAccessException.class,
-      HttpServerErrorException.class }, maxAttempts = 3, backoff = @Backoff(delay = 1000, multiplier = 2))
   private RoboflowAnalysisResult analyzeImage(String imageData, String modelId) {
     validateApiKey();
 
+    try {
+      return resiliencePolicy.execute(() -> callRoboflow(imageData, modelId),
+          MAX_ATTEMPTS, INITIAL_BACKOFF, RoboflowApiClient::isTransient);
+    } catch (CallNotPermittedException e) {
+      throw new RoboflowException("Roboflow API temporarily unavailable: " + e.getMessage(),
+          "CIRCUIT_OPEN", 503, e);
+    }
+  }
+
+  private static boolean isTransient(Throwable e) {
+    return e instanceof RoboflowException roboflowException
+        && ("SERVER_ERROR".equals(roboflowException.getErrorCode())
+            || "NETWORK_ERROR".equals(roboflowException.getErrorCode()));
+  }
+
+  private RoboflowAnalysisResult callRoboflow(String imageData, String modelId) {
     try {
       String endpoint = buildEndpoint(modelId);
       AnalysisRequest request = new AnalysisRequest(imageData, modelId, 0.4, 0.3);
@@ -129,28 +200,18 @@ public class RoboflowApiClient {
       log.error("Roboflow API server error: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
       throw new RoboflowException("Roboflow API server error: " + e.getMessage(),
           "SERVER_ERROR", e.getStatusCode().value(), e);
+    } catch (ResourceAccessException e) {
+      log.error("Roboflow API network error: {}", e.getMessage());
+      throw new RoboflowException("Roboflow API network error: " + e.getMessage(),
+          "NETWORK_ERROR", 503, e);
+    } catch (RoboflowException e) {
+      throw e;
     } catch (Exception e) {
       log.error("Unexpected error during Roboflow API call: {}", e.getMessage(), e);
       throw new RoboflowException("Roboflow API call failed: " + e.getMessage(), e);
     }
   }
 
-  /**
-   * 재시도 실패 시 호출되는 복구 메서드
-   */
-  @Recover
-  private RoboflowAnalysisResult recoverFromRoboflowError(Exception ex, String imageData, String modelId) {
-    log.error("All retry attempts failed for Roboflow analysis. Model: {}, Error: {}", modelId, ex.getMessage());
-
-    return new RoboflowAnalysisResult(
-        modelId,
-        Collections.emptyList(),
-        0.0,
-        null,
-        false,
-        "Analysis failed after retries: " + ex.getMessage());
-  }
-
   /**
    * API 헤더 생성
    */
@@ -237,7 +298,7 @@ public class RoboflowApiClient {
       String qwenModelId = "qwen2-5-vl-instruct"; // Qwen model identifier
       
       try {
-        RoboflowAnalysisResult roboflowResult = analyzeImage(imageBase64, qwenModelId);
+        RoboflowAnalysisResult roboflowResult = analyzeImageCached(imageBase64, qwenModelId);
         
         // Convert RoboflowAnalysisResult to AnalysisResult
         return convertToQwenAnalysisResult(roboflowResult);
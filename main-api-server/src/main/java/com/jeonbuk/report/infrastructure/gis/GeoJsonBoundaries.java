@@ -0,0 +1,104 @@
+package com.jeonbuk.report.infrastructure.gis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GeoJSON 행정구역 경계/관공서 위치 로더
+ *
+ * FeatureCollection의 properties.kind로 구분합니다.
+ * - division: Polygon 또는 MultiPolygon 경계 (code, priority)
+ * - office: Point 위치 (code)
+ * 좌표는 GeoJSON 규약대로 [경도, 위도] 순서입니다.
+ */
+public final class GeoJsonBoundaries {
+
+  private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+  public record Boundaries(List<RegionIndex.Region> regions, List<OfficeKdTree.Office> offices) {
+  }
+
+  private GeoJsonBoundaries() {
+  }
+
+  public static Boundaries load(Resource resource, ObjectMapper objectMapper) {
+    try (InputStream in = resource.getInputStream()) {
+      return parse(objectMapper.readTree(in));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to load GIS boundaries from " + resource, e);
+    }
+  }
+
+  static Boundaries parse(JsonNode root) {
+    List<RegionIndex.Region> regions = new ArrayList<>();
+    List<OfficeKdTree.Office> offices = new ArrayList<>();
+
+    for (JsonNode feature : root.path("features")) {
+      JsonNode properties = feature.path("properties");
+      JsonNode geometry = feature.path("geometry");
+      String code = properties.path("code").asText();
+      String geometryType = geometry.path("type").asText();
+
+      switch (properties.path("kind").asText()) {
+        case "division" -> regions.add(new RegionIndex.Region(
+            code, properties.path("priority").asInt(0), toArea(code, geometryType, geometry.path("coordinates"))));
+        case "office" -> {
+          if (!"Point".equals(geometryType)) {
+            throw new IllegalArgumentException("Office " + code + " must be a Point, got " + geometryType);
+          }
+          JsonNode position = geometry.path("coordinates");
+          offices.add(new OfficeKdTree.Office(code, position.get(1).asDouble(), position.get(0).asDouble()));
+        }
+        default -> {
+          // 알 수 없는 종류는 무시 (다른 용도의 피처가 같은 파일에 있을 수 있음)
+        }
+      }
+    }
+    return new Boundaries(regions, offices);
+  }
+
+  private static Geometry toArea(String code, String type, JsonNode coordinates) {
+    return switch (type) {
+      case "Polygon" -> toPolygon(coordinates);
+      case "MultiPolygon" -> {
+        Polygon[] polygons = new Polygon[coordinates.size()];
+        for (int i = 0; i < polygons.length; i++) {
+          polygons[i] = toPolygon(coordinates.get(i));
+        }
+        yield GEOMETRY_FACTORY.createMultiPolygon(polygons);
+      }
+      default -> throw new IllegalArgumentException(
+          "Division " + code + " must be a Polygon or MultiPolygon, got " + type);
+    };
+  }
+
+  private static Polygon toPolygon(JsonNode rings) {
+    LinearRing shell = toRing(rings.get(0));
+    LinearRing[] holes = new LinearRing[rings.size() - 1];
+    for (int i = 1; i < rings.size(); i++) {
+      holes[i - 1] = toRing(rings.get(i));
+    }
+    return GEOMETRY_FACTORY.createPolygon(shell, holes);
+  }
+
+  private static LinearRing toRing(JsonNode positions) {
+    Coordinate[] coordinates = new Coordinate[positions.size()];
+    for (int i = 0; i < coordinates.length; i++) {
+      JsonNode position = positions.get(i);
+      coordinates[i] = new Coordinate(position.get(0).asDouble(), position.get(1).asDouble());
+    }
+    return GEOMETRY_FACTORY.createLinearRing(coordinates);
+  }
+}
@@ -0,0 +1,99 @@
+package com.jeonbuk.report.infrastructure.gis;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 관공서 최근접 검색용 k-d 트리
+ *
+ * 위경도를 단위 구 위의 3차원 좌표로 바꿔 저장합니다.
+ * 구 위 두 점의 직선(현) 거리는 대원(하버사인) 거리와 순서가 같으므로 투영 오차 없이 최근접을 찾습니다.
+ * 균형 트리를 한 번 만들어 두고 가지치기 탐색하므로 조회는 평균 O(log n)이고,
+ * 같은 거리면 코드 순으로 골라 결과가 항상 같습니다.
+ *
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public class OfficeKdTree {
+
+  private static final int DIMENSIONS = 3;
+
+  private final Node root;
+
+  public record Office(String code, double latitude, double longitude) {
+  }
+
+  private record Node(Office office, double[] point, int axis, Node left, Node right) {
+  }
+
+  public OfficeKdTree(List<Office> offices) {
+    if (offices.isEmpty()) {
+      throw new IllegalArgumentException("At least one office is required");
+    }
+    Node[] leaves = offices.stream()
+        .sorted(Comparator.comparing(Office::code))
+        .map(office -> new Node(office, toPoint(office.latitude(), office.longitude()), 0, null, null))
+        .toArray(Node[]::new);
+    this.root = build(leaves, 0, leaves.length, 0);
+  }
+
+  public Office nearest(double latitude, double longitude) {
+    Search search = new Search(toPoint(latitude, longitude));
+    search.visit(root);
+    return search.best.office();
+  }
+
+  private static Node build(Node[] nodes, int from, int to, int axis) {
+    if (from >= to) {
+      return null;
+    }
+    Arrays.sort(nodes, from, to, Comparator.<Node>comparingDouble(node -> node.point()[axis])
+        .thenComparing(node -> node.office().code()));
+    int median = (from + to) >>> 1;
+    int next = (axis + 1) % DIMENSIONS;
+    return new Node(nodes[median].office(), nodes[median].point(), axis,
+        build(nodes, from, median, next),
+        build(nodes, median + 1, to, next));
+  }
+
+  private static double[] toPoint(double latitude, double longitude) {
+    double lat = Math.toRadians(latitude);
+    double lng = Math.toRadians(longitude);
+    return new double[]{Math.cos(lat) * Math.cos(lng), Math.cos(lat) * Math.sin(lng), Math.sin(lat)};
+  }
+
+  private static final class Search {
+    private final double[] target;
+    private Node best;
+    private double bestDistance = Double.POSITIVE_INFINITY;
+
+    private Search(double[] target) {
+      this.target = target;
+    }
+
+    private void visit(Node node) {
+      if (node == null) {
+        return;
+      }
+      double distance = 0;
+      for (int i = 0; i < DIMENSIONS; i++) {
+        double d = node.point()[i] - target[i];
+        distance += d * d;
+      }
+      if (distance < bestDistance
+          || (distance == bestDistance && node.office().code().compareTo(best.office().code()) < 0)) {
+        best = node;
+        bestDistance = distance;
+      }
+
+      double diff = target[node.axis()] - node.point()[node.axis()];
+      Node near = diff < 0 ? node.left() : node.right();
+      Node far = diff < 0 ? node.right() : node.left();
+      visit(near);
+      // 분할면까지의 거리가 현재 최단 거리 이하일 때만 반대쪽 탐색
+      if (diff * diff <= bestDistance) {
+        visit(far);
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.jeonbuk.report.infrastructure.gis;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 행정구역 경계 공간 인덱스 (point-in-polygon)
+ *
+ * 경계 외접 사각형을 STR-tree에 넣어 후보 구역을 O(log n)으로 좁히고,
+ * 후보마다 구간 인덱스 기반 위치 판정(IndexedPointInAreaLocator)으로 실제 포함 여부를 확인합니다.
+ *
+ * 경계가 겹치는 지점(예: 전주시/완주군 경계)은 항상 같은 구역으로 판정:
+ * priority가 높은 구역 → 면적이 작은 구역 → 코드 순
+ *
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public class RegionIndex {
+
+  private static final Comparator<IndexedRegion> PRECEDENCE = Comparator
+      .comparingInt((IndexedRegion indexed) -> indexed.region().priority()).reversed()
+      .thenComparingDouble(IndexedRegion::area)
+      .thenComparing(indexed -> indexed.region().code());
+
+  private final STRtree tree = new STRtree();
+  private final int size;
+
+  /**
+   * @param region 경계는 [경도, 위도] 좌표의 Polygon 또는 MultiPolygon
+   */
+  public record Region(String code, int priority, Geometry boundary) {
+  }
+
+  private record IndexedRegion(Region region, PointOnGeometryLocator locator, double area) {
+  }
+
+  public RegionIndex(List<Region> regions) {
+    for (Region region : regions) {
+      Geometry boundary = region.boundary();
+      IndexedPointInAreaLocator locator = new IndexedPointInAreaLocator(boundary);
+      // 구간 인덱스는 첫 조회 때 만들어지므로 여기서 미리 생성 (이후 조회는 읽기만 함)
+      locator.locate(boundary.getEnvelopeInternal().centre());
+      tree.insert(boundary.getEnvelopeInternal(), new IndexedRegion(region, locator, boundary.getArea()));
+    }
+    tree.build();
+    this.size = regions.size();
+  }
+
+  /**
+   * 좌표가 속한 구역 코드 (경계선 위 포함)
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<String> locate(double latitude, double longitude) {
+    Coordinate point = new Coordinate(longitude, latitude);
+    List<IndexedRegion> candidates = tree.query(new Envelope(point));
+    return candidates.stream()
+        .filter(indexed -> indexed.locator().locate(point) != Location.EXTERIOR)
+        .min(PRECEDENCE)
+        .map(indexed -> indexed.region().code());
+  }
+
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,113 @@
+package com.jeonbuk.report.infrastructure.image;
+
+import com.jeonbuk.report.infrastructure.image.SubsampledImageDecoder.DecodedImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 이미지 지문 생성기
+ *
+ * - 정확 일치: SHA-256 (FileService의 파일 해시와 동일한 형식)
+ * - 유사 일치: 64비트 dHash (9x8 그레이스케일 격자의 가로 밝기 차이)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageFingerprinter {
+
+  /** dHash 계산용 디코딩 크기 - 격자 평균에 충분한 해상도 */
+  private static final int HASH_DECODE_DIMENSION = 256;
+  private static final int HASH_WIDTH = 9;
+  private static final int HASH_HEIGHT = 8;
+
+  private final SubsampledImageDecoder imageDecoder;
+
+  /**
+   * 원본 바이트로부터 지문 생성
+   * 디코딩할 수 없는 데이터는 perceptualHash가 null
+   */
+  public Fingerprint fingerprint(byte[] imageData) {
+    Long perceptualHash = null;
+    try {
+      DecodedImage decoded = imageDecoder.decode(imageData, HASH_DECODE_DIMENSION);
+      if (decoded != null) {
+        perceptualHash = differenceHash(decoded.image());
+      }
+    } catch (Exception e) {
+      log.debug("dHash 계산 실패, 정확 일치만 사용: {}", e.getMessage());
+    }
+    return new Fingerprint(sha256(imageData), perceptualHash);
+  }
+
+  /**
+   * 이미 디코딩된 이미지를 재사용하여 지문 생성
+   */
+  public Fingerprint fingerprint(byte[] imageData, BufferedImage decodedImage) {
+    return new Fingerprint(sha256(imageData), differenceHash(decodedImage));
+  }
+
+  /**
+   * SHA-256 16진 문자열
+   */
+  public static String sha256(byte[] data) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      return new BigInteger(1, md.digest(data)).toString(16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * 64비트 dHash
+   * 9x8 격자로 박스 평균한 밝기에서 각 행의 인접 칸 비교 결과를 비트로 사용
+   */
+  public static long differenceHash(BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    double[] sums = new double[HASH_WIDTH * HASH_HEIGHT];
+    int[] counts = new int[HASH_WIDTH * HASH_HEIGHT];
+
+    // 큰 이미지는 일정 간격으로 표본 추출
+    int step = Math.max(1, Math.min(width, height) / 64);
+    int[] row = new int[width];
+
+    for (int y = 0; y < height; y += step) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      int cellY = y * HASH_HEIGHT / height;
+      for (int x = 0; x < width; x += step) {
+        int rgb = row[x];
+        int luma = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+        int cell = cellY * HASH_WIDTH + x * HASH_WIDTH / width;
+        sums[cell] += luma;
+        counts[cell]++;
+      }
+    }
+
+    long hash = 0L;
+    for (int y = 0; y < HASH_HEIGHT; y++) {
+      for (int x = 0; x < HASH_WIDTH - 1; x++) {
+        int left = y * HASH_WIDTH + x;
+        double leftMean = counts[left] > 0 ? sums[left] / counts[left] : 0;
+        double rightMean = counts[left + 1] > 0 ? sums[left + 1] / counts[left + 1] : 0;
+        hash = (hash << 1) | (leftMean > rightMean ? 1L : 0L);
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * 이미지 지문
+   *
+   * @param contentHash    SHA-256 16진 문자열
+   * @param perceptualHash 64비트 dHash, 계산 불가 시 null
+   */
+  public record Fingerprint(String contentHash, Long perceptualHash) {
+  }
+}
@@ -0,0 +1,180 @@
+package com.jeonbuk.report.infrastructure.image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이미지 리사이징 엔진
+ *
+ * - 전용 크기 제한 스레드 풀(imageResizeExecutor)에서 실행, ForkJoinPool.commonPool 미사용
+ * - 단계적 축소: 목표의 2배 이하가 될 때까지 1/2씩 축소 후 마지막 한 번만 bilinear 보간
+ * - 대형 이미지는 가로 띠(타일)로 나누어 병렬 축소, 호출자 스레드도 한 타일을 직접 처리
+ * - 큐 깊이, 활성 스레드, 패스별 처리 시간 메트릭 제공
+ */
+@Slf4j
+@Component
+public class ImageResizeEngine {
+
+  private final ThreadPoolTaskExecutor resizeExecutor;
+  private final long tileThresholdPixels;
+  private final int maxTiles;
+
+  private final Timer resizeTimer;
+  private final Timer halvingPassTimer;
+  private final Timer finalPassTimer;
+
+  public ImageResizeEngine(
+      @Qualifier("imageResizeExecutor") ThreadPoolTaskExecutor resizeExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${app.image.resize.tile-threshold-pixels:8000000}") long tileThresholdPixels,
+      @Value("${app.image.resize.max-tiles:0}") int maxTiles) {
+    this.resizeExecutor = resizeExecutor;
+    this.tileThresholdPixels = tileThresholdPixels;
+    this.maxTiles = maxTiles > 0 ? maxTiles : resizeExecutor.getMaxPoolSize() + 1;
+
+    this.resizeTimer = Timer.builder("image.resize.duration")
+        .description("전체 리사이징 소요 시간")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    this.halvingPassTimer = Timer.builder("image.resize.pass")
+        .description("리사이징 패스별 소요 시간")
+        .tag("pass", "halving")
+        .register(meterRegistry);
+    this.finalPassTimer = Timer.builder("image.resize.pass")
+        .description("리사이징 패스별 소요 시간")
+        .tag("pass", "final")
+        .register(meterRegistry);
+
+    Gauge.builder("image.resize.queue.depth", resizeExecutor, ImageResizeEngine::queueDepth)
+        .description("리사이징 대기 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("image.resize.active", resizeExecutor, ThreadPoolTaskExecutor::getActiveCount)
+        .description("리사이징 활성 스레드 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 긴 변이 정확히 maxDimension이 되도록 비율을 유지하여 축소
+   * 이미 작은 이미지는 그대로 반환
+   */
+  public BufferedImage resize(BufferedImage source, int maxDimension) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    int longest = Math.max(width, height);
+    if (longest <= maxDimension) {
+      return source;
+    }
+
+    // 부동소수점 배율 대신 정수 연산: 긴 변은 목표와 정확히 일치, 짧은 변은 내림
+    int targetWidth = width == longest ? maxDimension : Math.max(1, (int) ((long) width * maxDimension / longest));
+    int targetHeight = height == longest ? maxDimension : Math.max(1, (int) ((long) height * maxDimension / longest));
+
+    return resizeTimer.record(() -> resizeTo(source, targetWidth, targetHeight));
+  }
+
+  private BufferedImage resizeTo(BufferedImage source, int targetWidth, int targetHeight) {
+    BufferedImage current = source;
+    int passes = 0;
+
+    // 단계적 1/2 축소 - 한 번의 bilinear 보간보다 빠르고 앨리어싱이 적음
+    while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+      BufferedImage input = current;
+      current = halvingPassTimer.record(
+          () -> scale(input, input.getWidth() / 2, input.getHeight() / 2));
+      passes++;
+    }
+
+    if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+      BufferedImage input = current;
+      current = finalPassTimer.record(() -> scale(input, targetWidth, targetHeight));
+      passes++;
+    }
+
+    log.debug("📐 리사이징 완료 - {}x{} -> {}x{}, 패스: {}",
+        source.getWidth(), source.getHeight(), targetWidth, targetHeight, passes);
+
+    return current;
+  }
+
+  /**
+   * 한 패스 축소 - 원본 픽셀 수가 임계값을 넘으면 타일 병렬 처리
+   */
+  private BufferedImage scale(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, targetType(source));
+
+    long sourcePixels = (long) source.getWidth() * source.getHeight();
+    int tiles = sourcePixels > tileThresholdPixels ? Math.min(maxTiles, height) : 1;
+
+    if (tiles <= 1) {
+      drawBand(source, target, 0, height);
+      return target;
+    }
+
+    int bandHeight = (height + tiles - 1) / tiles;
+    List<CompletableFuture<Void>> futures = new ArrayList<>(tiles - 1);
+
+    // 마지막 띠는 호출자 스레드에서 직접 처리 (풀 포화 시에도 진행 보장)
+    int callerBandStart = (tiles - 1) * bandHeight;
+    for (int y = 0; y < callerBandStart; y += bandHeight) {
+      int bandStart = y;
+      int bandEnd = Math.min(height, y + bandHeight);
+      futures.add(CompletableFuture.runAsync(
+          () -> drawBand(source, target, bandStart, bandEnd), resizeExecutor));
+    }
+    if (callerBandStart < height) {
+      drawBand(source, target, callerBandStart, height);
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    return target;
+  }
+
+  /**
+   * 대상 이미지의 [bandStart, bandEnd) 행 구간을 원본의 대응 구간으로부터 그림
+   */
+  private void drawBand(BufferedImage source, BufferedImage target, int bandStart, int bandEnd) {
+    int sourceTop = (int) ((long) bandStart * source.getHeight() / target.getHeight());
+    int sourceBottom = (int) ((long) bandEnd * source.getHeight() / target.getHeight());
+
+    Graphics2D g2d = target.createGraphics();
+    try {
+      g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g2d.drawImage(source,
+          0, bandStart, target.getWidth(), bandEnd,
+          0, sourceTop, source.getWidth(), sourceBottom,
+          null);
+    } finally {
+      g2d.dispose();
+    }
+  }
+
+  /**
+   * TYPE_CUSTOM 원본도 처리할 수 있도록 투명도 기준으로 대상 타입 결정
+   */
+  private static int targetType(BufferedImage source) {
+    return source.getTransparency() == Transparency.OPAQUE
+        ? BufferedImage.TYPE_INT_RGB
+        : BufferedImage.TYPE_INT_ARGB;
+  }
+
+  private static int queueDepth(ThreadPoolTaskExecutor executor) {
+    ThreadPoolExecutor threadPool = executor.getThreadPoolExecutor();
+    return threadPool != null ? threadPool.getQueue().size() : 0;
+  }
+}
@@ -0,0 +1,218 @@
+package com.jeonbuk.report.infrastructure.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageInputStreamImpl;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 서브샘플링 이미지 디코더
+ *
+ * 메모리 사용량 최소화를 위한 디코딩 전략:
+ * - ImageReader로 헤더만 읽어 원본 크기 확인
+ * - ImageReadParam.setSourceSubsampling으로 목표 배율에서 바로 디코딩
+ * - 선택적으로 영역(스트립) 단위 디코딩으로 임시 버퍼 크기 제한
+ * - byte[]를 복사하지 않는 ImageInputStream 사용
+ */
+@Slf4j
+@Component
+public class SubsampledImageDecoder {
+
+  /**
+   * 디코딩 모드
+   */
+  public enum DecodeMode {
+    /** 기존 방식: 원본 해상도로 전체 디코딩 */
+    FULL,
+    /** 헤더 기반 서브샘플링 디코딩 */
+    SUBSAMPLED
+  }
+
+  private final DecodeMode mode;
+  private final int regionHeight;
+
+  public SubsampledImageDecoder(
+      @Value("${app.image.decode.mode:SUBSAMPLED}") DecodeMode mode,
+      @Value("${app.image.decode.region-height:0}") int regionHeight) {
+    this.mode = mode;
+    this.regionHeight = Math.max(0, regionHeight);
+
+    log.info("🖼️ 이미지 디코더 초기화 - 모드: {}, 영역 높이: {}", mode, this.regionHeight);
+  }
+
+  /**
+   * 긴 변이 maxDimension 이상이면서 가장 가깝도록 디코딩
+   *
+   * 결과 이미지의 긴 변은 maxDimension 이상이므로 (목표보다 작게 디코딩해 다시 확대하는 일 없음)
+   * 정확한 목표 크기로의 축소는 호출자의 리사이징 단계(ImageResizeEngine)에서 처리합니다.
+   *
+   * @return 디코딩 결과, 지원하지 않는 포맷이면 null
+   */
+  public DecodedImage decode(byte[] imageData, int maxDimension) throws IOException {
+    if (mode == DecodeMode.FULL) {
+      BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+      return image == null ? null : new DecodedImage(image, image.getWidth(), image.getHeight(), 1);
+    }
+
+    try (ImageInputStream input = new ByteArrayImageInputStream(imageData)) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, false, true);
+
+        // 헤더에서 원본 크기만 읽음 (픽셀 디코딩 없음)
+        int sourceWidth = reader.getWidth(0);
+        int sourceHeight = reader.getHeight(0);
+        int factor = calculateSubsampling(sourceWidth, sourceHeight, maxDimension);
+
+        BufferedImage image = regionHeight > 0 && factor > 1 && sourceHeight > regionHeight
+            ? readByRegion(reader, sourceWidth, sourceHeight, factor)
+            : readSubsampled(reader, factor);
+
+        log.debug("🔍 서브샘플링 디코딩 완료 - {}x{} -> {}x{} (배율 1/{})",
+            sourceWidth, sourceHeight, image.getWidth(), image.getHeight(), factor);
+
+        return new DecodedImage(image, sourceWidth, sourceHeight, factor);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  public DecodeMode getMode() {
+    return mode;
+  }
+
+  /**
+   * 긴 변 기준 정수 서브샘플링 배율 계산
+   *
+   * 배율 f로 서브샘플링한 긴 변은 ceil(longest / f)이므로, ceil(longest / f) >= maxDimension을 만족하는
+   * 가장 큰 f를 고릅니다. longest / maxDimension (내림)보다 커질 수 있어 목표 바로 아래 크기
+   * (예: 3839px → 1920px 목표)도 원본 해상도 대신 1/2로 디코딩합니다.
+   */
+  static int calculateSubsampling(int width, int height, int maxDimension) {
+    int longest = Math.max(width, height);
+    if (maxDimension <= 0 || longest <= maxDimension) {
+      return 1;
+    }
+    if (maxDimension == 1) {
+      return longest;
+    }
+    // ceil(longest / f) >= maxDimension  <=>  longest > f * (maxDimension - 1)
+    return Math.max(1, (longest - 1) / (maxDimension - 1));
+  }
+
+  private BufferedImage readSubsampled(ImageReader reader, int factor) throws IOException {
+    ImageReadParam param = reader.getDefaultReadParam();
+    param.setSourceSubsampling(factor, factor, 0, 0);
+    return reader.read(0, param);
+  }
+
+  /**
+   * 스트립 단위 디코딩
+   * 하나의 대상 이미지를 미리 할당하고 원본 행 구간별로 디코딩하여 채움
+   */
+  private BufferedImage readByRegion(ImageReader reader, int sourceWidth, int sourceHeight, int factor)
+      throws IOException {
+    int destinationWidth = (sourceWidth + factor - 1) / factor;
+    int destinationHeight = (sourceHeight + factor - 1) / factor;
+
+    Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0);
+    if (!types.hasNext()) {
+      return readSubsampled(reader, factor);
+    }
+    BufferedImage destination = types.next().createBufferedImage(destinationWidth, destinationHeight);
+
+    // 서브샘플링 격자가 스트립 경계에서 어긋나지 않도록 배율의 배수로 정렬
+    int stripRows = Math.max(factor, (regionHeight / factor) * factor);
+
+    for (int y = 0; y < sourceHeight; y += stripRows) {
+      int rows = Math.min(stripRows, sourceHeight - y);
+
+      ImageReadParam param = reader.getDefaultReadParam();
+      param.setSourceRegion(new Rectangle(0, y, sourceWidth, rows));
+      param.setSourceSubsampling(factor, factor, 0, 0);
+      param.setDestination(destination);
+      param.setDestinationOffset(new Point(0, y / factor));
+
+      reader.read(0, param);
+    }
+
+    return destination;
+  }
+
+  /**
+   * 디코딩 결과
+   *
+   * @param image        디코딩된 이미지
+   * @param sourceWidth  원본 너비 (헤더 기준)
+   * @param sourceHeight 원본 높이 (헤더 기준)
+   * @param subsampling  적용된 서브샘플링 배율
+   */
+  public record DecodedImage(BufferedImage image, int sourceWidth, int sourceHeight, int subsampling) {
+
+    public boolean isSubsampled() {
+      return subsampling > 1;
+    }
+  }
+
+  /**
+   * byte[] 기반 ImageInputStream
+   * ImageIO.createImageInputStream은 입력을 캐시에 다시 복사하므로 원본 배열을 그대로 참조
+   */
+  static final class ByteArrayImageInputStream extends ImageInputStreamImpl {
+
+    private final byte[] data;
+
+    ByteArrayImageInputStream(byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public int read() throws IOException {
+      checkClosed();
+      bitOffset = 0;
+      if (streamPos >= data.length) {
+        return -1;
+      }
+      return data[(int) streamPos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      checkClosed();
+      bitOffset = 0;
+      if (len == 0) {
+        return 0;
+      }
+      if (streamPos >= data.length) {
+        return -1;
+      }
+      int count = (int) Math.min(len, data.length - streamPos);
+      System.arraycopy(data, (int) streamPos, b, off, count);
+      streamPos += count;
+      return count;
+    }
+
+    @Override
+    public long length() {
+      return data.length;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.jeonbuk.report.infrastructure.outbox;
+
+import com.jeonbuk.report.domain.entity.OutboxEvent;
+import com.jeonbuk.report.domain.repository.OutboxEventRepository;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 격리 이벤트 Actuator 엔드포인트
+ *
+ * - GET /actuator/outbox: 격리된 이벤트 수와 앞쪽 100건
+ * - POST /actuator/outbox {"ids": [..]}: 격리된 이벤트 재발행 (ids를 생략하면 전체)
+ *   재발행된 이벤트는 같은 키의 이후 이벤트보다 늦게 발행될 수 있음
+ */
+@Component
+@Endpoint(id = "outbox")
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEndpoint {
+
+  private static final int LIST_LIMIT = 100;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxRelay outboxRelay;
+
+  public OutboxEndpoint(OutboxEventRepository outboxEventRepository, OutboxRelay outboxRelay) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxRelay = outboxRelay;
+  }
+
+  @ReadOperation
+  public DeadEvents deadEvents() {
+    List<DeadEvent> events = outboxEventRepository.findByDeadAtIsNotNullOrderById(PageRequest.of(0, LIST_LIMIT))
+        .stream()
+        .map(DeadEvent::of)
+        .toList();
+    return new DeadEvents(outboxEventRepository.countByDeadAtIsNotNull(), events);
+  }
+
+  @WriteOperation
+  public Map<String, Integer> redrive(@Nullable List<Long> ids) {
+    return Map.of("redriven", outboxRelay.redriveDead(ids));
+  }
+
+  public record DeadEvents(long total, List<DeadEvent> events) {
+  }
+
+  /**
+   * 격리된 이벤트 요약 (payload 제외)
+   */
+  public record DeadEvent(Long id, String topic, String key, int attempts, String lastError,
+                          LocalDateTime createdAt, LocalDateTime deadAt) {
+
+    static DeadEvent of(OutboxEvent event) {
+      return new DeadEvent(event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts(),
+          event.getLastError(), event.getCreatedAt(), event.getDeadAt());
+    }
+  }
+}
@@ -0,0 +1,334 @@
+package com.jeonbuk.report.infrastructure.outbox;
+
+import com.jeonbuk.report.domain.entity.OutboxEvent;
+import com.jeonbuk.report.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.RecordBatchTooLargeException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이 - 커밋된 이벤트를 카프카로 일괄 발행
+ *
+ * - 발행할 이벤트를 id 순으로 batch-size만큼 잠그고(SKIP LOCKED) 짧은 트랜잭션에서 선점만 기록
+ *   (next_attempt_at = 지금 + send-timeout × 3, 릴레이가 중간에 죽으면 그 이후 다른 릴레이가 재발행)
+ * - 트랜잭션 밖에서 한꺼번에 send → 프로듀서가 linger.ms 동안 모아 파티션별 배치 + 압축으로 전송
+ *   (카프카 대기 중에 DB 커넥션과 행 잠금을 잡고 있지 않음)
+ * - 브로커 확인 결과를 두 번째 트랜잭션에서 기록: 성공은 발행 완료, 실패는 지수 백오프 후 재시도 (at-least-once)
+ * - 일시적 오류는 한도 없이 재시도하고, 재시도해도 성공할 수 없는 오류(메시지 크기 초과, 잘못된 토픽,
+ *   직렬화 실패)만 격리 (outbox 엔드포인트로 재발행)
+ * - 같은 토픽/키의 앞선 이벤트가 발행 대기 중이면 이후 이벤트는 기다림 (키별 발행 순서 유지)
+ * - 멱등 프로듀서(acks=all, enable.idempotence)로 재시도 시 브로커 중복/순서 뒤바뀜 방지
+ *
+ * 메트릭:
+ * - outbox.lag.seconds: 가장 오래된 발행 대기 이벤트의 대기 시간 (알림 기준)
+ * - outbox.published / outbox.failed: 발행 성공/실패 이벤트 수
+ * - outbox.dead: 격리된 이벤트 수 (격리/재발행 시와 정리 주기마다 갱신)
+ * - outbox.relay.batch: 배치당 발행 시간
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  // 재시도해도 같은 결과인 오류 (그 외 오류는 브로커/네트워크 복구 후 성공할 수 있으므로 계속 재시도)
+  private static final List<Class<? extends Throwable>> NON_RETRYABLE_ERRORS = List.of(
+      RecordTooLargeException.class,
+      RecordBatchTooLargeException.class,
+      InvalidTopicException.class,
+      SerializationException.class);
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final int batchSize;
+  private final int maxBatchesPerPoll;
+  private final Duration sendTimeout;
+  private final Duration claimTimeout;
+  private final Duration backoffInitial;
+  private final Duration backoffMax;
+  private final Duration retention;
+
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final AtomicLong deadEvents = new AtomicLong();
+  private final Counter publishedCounter;
+  private final Counter failedCounter;
+  private final Timer batchTimer;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      PlatformTransactionManager transactionManager,
+      ProducerFactory<String, String> producerFactory,
+      MeterRegistry meterRegistry,
+      @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${app.outbox.relay.max-batches-per-poll:20}") int maxBatchesPerPoll,
+      @Value("${app.outbox.relay.send-timeout:PT30S}") Duration sendTimeout,
+      @Value("${app.outbox.relay.backoff-initial:PT1S}") Duration backoffInitial,
+      @Value("${app.outbox.relay.backoff-max:PT5M}") Duration backoffMax,
+      @Value("${app.outbox.retention:PT24H}") Duration retention,
+      @Value("${app.outbox.producer.linger-ms:20}") int lingerMs,
+      @Value("${app.outbox.producer.batch-size:131072}") int producerBatchSize,
+      @Value("${app.outbox.producer.compression-type:lz4}") String compressionType) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxBatchesPerPoll = maxBatchesPerPoll;
+    this.sendTimeout = sendTimeout;
+    this.claimTimeout = sendTimeout.multipliedBy(3);
+    this.backoffInitial = backoffInitial;
+    this.backoffMax = backoffMax;
+    this.retention = retention;
+
+    // payload는 이미 JSON 문자열이므로 그대로 전송 (기본 JsonSerializer로 다시 감싸지 않도록)
+    Map<String, Object> overrides = new HashMap<>();
+    overrides.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    overrides.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    overrides.put(ProducerConfig.ACKS_CONFIG, "all");
+    overrides.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+    overrides.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+    overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, producerBatchSize);
+    overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    // 브로커 메타데이터를 못 받을 때 send()가 선점 시간을 넘겨 막히지 않도록
+    overrides.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, sendTimeout.toMillis());
+    this.kafkaTemplate = new KafkaTemplate<>(producerFactory, overrides);
+
+    this.publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+    this.failedCounter = Counter.builder("outbox.failed").register(meterRegistry);
+    this.batchTimer = Timer.builder("outbox.relay.batch")
+        .publishPercentiles(0.5, 0.95)
+        .register(meterRegistry);
+    Gauge.builder("outbox.lag.seconds", lagMillis, value -> value.get() / 1000.0)
+        .register(meterRegistry);
+    Gauge.builder("outbox.dead", deadEvents, AtomicLong::get)
+        .register(meterRegistry);
+
+    log.info("📤 아웃박스 릴레이 초기화 - 배치: {}, linger.ms: {}, 압축: {}", batchSize, lingerMs, compressionType);
+  }
+
+  /**
+   * 발행 대기 이벤트 릴레이 (배치가 모두 발행되면 max-batches-per-poll까지 연속 처리)
+   */
+  @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT0.2S}")
+  public void poll() {
+    try {
+      for (int i = 0; i < maxBatchesPerPoll; i++) {
+        if (relayBatch() < batchSize) {
+          break;
+        }
+      }
+    } catch (Exception e) {
+      log.error("❌ 아웃박스 릴레이 실패", e);
+    } finally {
+      refreshLag();
+    }
+  }
+
+  /**
+   * 한 배치 발행
+   *
+   * @return 발행에 성공한 이벤트 수
+   */
+  public int relayBatch() {
+    List<OutboxEvent> events = claimBatch();
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    long start = System.nanoTime();
+    long deadline = start + sendTimeout.toNanos();
+    List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+    for (OutboxEvent event : events) {
+      // 메타데이터를 못 받아 send()가 max.block.ms씩 막히는 경우 남은 이벤트는 보내지 않고 실패 처리
+      futures.add(System.nanoTime() < deadline
+          ? send(event)
+          : CompletableFuture.failedFuture(new TimeoutException("send-timeout exceeded before send")));
+    }
+    // flush()는 delivery.timeout.ms(기본 2분)까지 막힐 수 있어 쓰지 않음 - linger.ms가 지나면 전송되고 send-timeout까지만 대기
+    List<Long> publishedIds = new ArrayList<>(events.size());
+    Map<OutboxEvent, Throwable> failures = new LinkedHashMap<>();
+    for (int i = 0; i < events.size(); i++) {
+      OutboxEvent event = events.get(i);
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        publishedIds.add(event.getId());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failures.put(event, e);
+      } catch (ExecutionException | TimeoutException e) {
+        // KafkaProducerException 등 래퍼 대신 실제 원인을 기록
+        failures.put(event, NestedExceptionUtils.getMostSpecificCause(e));
+      }
+    }
+
+    recordResults(publishedIds, failures);
+    batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    publishedCounter.increment(publishedIds.size());
+    failedCounter.increment(failures.size());
+    return publishedIds.size();
+  }
+
+  /**
+   * 격리된 이벤트 재발행 요청 (ids가 비어 있으면 전체)
+   *
+   * @return 다시 발행 대상으로 돌린 이벤트 수
+   */
+  public int redriveDead(Collection<Long> ids) {
+    Integer redriven = transactionTemplate.execute(status -> ids == null || ids.isEmpty()
+        ? outboxEventRepository.redriveAllDead()
+        : outboxEventRepository.redriveDead(ids));
+    deadEvents.set(outboxEventRepository.countByDeadAtIsNotNull());
+    log.info("🔁 격리된 아웃박스 이벤트 {}건 재발행 요청", redriven);
+    return redriven != null ? redriven : 0;
+  }
+
+  /**
+   * 발행 완료 후 보존 기간이 지난 이벤트 정리
+   */
+  @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval:PT1H}", initialDelayString = "PT1M")
+  public void cleanupPublished() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+    int total = 0;
+    int deleted;
+    do {
+      Integer result = transactionTemplate.execute(status ->
+          outboxEventRepository.deletePublishedBefore(cutoff, batchSize));
+      deleted = result != null ? result : 0;
+      total += deleted;
+    } while (deleted >= batchSize);
+
+    if (total > 0) {
+      log.info("🧹 발행 완료 아웃박스 이벤트 {}건 정리", total);
+    }
+    deadEvents.set(outboxEventRepository.countByDeadAtIsNotNull());
+  }
+
+  @PreDestroy
+  public void close() throws Exception {
+    // 오버라이드 설정으로 만든 전용 프로듀서 팩토리는 빈이 아니므로 직접 종료
+    if (kafkaTemplate.getProducerFactory() instanceof DisposableBean disposable) {
+      disposable.destroy();
+    }
+  }
+
+  /**
+   * 발행할 이벤트를 잠그고 선점 기록 후 바로 커밋 (카프카 전송은 트랜잭션 밖에서)
+   */
+  private List<OutboxEvent> claimBatch() {
+    List<OutboxEvent> events = transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      List<OutboxEvent> ready = outboxEventRepository.lockReadyEvents(now, PageRequest.of(0, batchSize));
+      if (!ready.isEmpty()) {
+        outboxEventRepository.claim(ready.stream().map(OutboxEvent::getId).toList(), now.plus(claimTimeout));
+      }
+      return ready;
+    });
+    return events != null ? events : List.of();
+  }
+
+  private CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+    try {
+      return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload());
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 발행 결과 기록 - 성공은 발행 완료, 재시도 불가 오류는 격리, 그 외는 백오프 후 재시도
+   */
+  private void recordResults(List<Long> publishedIds, Map<OutboxEvent, Throwable> failures) {
+    boolean deadLettered = failures.values().stream().anyMatch(OutboxRelay::isNonRetryable);
+    transactionTemplate.executeWithoutResult(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      if (!publishedIds.isEmpty()) {
+        outboxEventRepository.markPublished(publishedIds, now);
+      }
+      failures.forEach((event, cause) -> {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (isNonRetryable(cause)) {
+          outboxEventRepository.markDead(event.getId(), error, now);
+          log.error("☠️ 아웃박스 이벤트 격리 - id: {}, topic: {}, 원인: {}", event.getId(), event.getTopic(), error);
+        } else {
+          LocalDateTime nextAttemptAt = now.plus(backoff(event.getAttempts()));
+          outboxEventRepository.recordFailure(event.getId(), error, nextAttemptAt);
+          log.warn("⚠️ 아웃박스 이벤트 발행 실패 - id: {}, topic: {}, 시도: {}, 다음 시도: {}, 원인: {}",
+              event.getId(), event.getTopic(), event.getAttempts() + 1, nextAttemptAt, error);
+        }
+      });
+    });
+    if (deadLettered) {
+      deadEvents.set(outboxEventRepository.countByDeadAtIsNotNull());
+    }
+  }
+
+  /**
+   * 재시도 간격 - backoff-initial부터 실패할 때마다 두 배, backoff-max까지 (같은 시각에 몰리지 않도록 절반은 무작위)
+   */
+  Duration backoff(int previousAttempts) {
+    long initialMillis = backoffInitial.toMillis();
+    long maxMillis = backoffMax.toMillis();
+    int shift = Math.min(previousAttempts, 30);
+    long delay = initialMillis > (maxMillis >> shift) ? maxMillis : Math.min(maxMillis, initialMillis << shift);
+    long half = delay / 2;
+    return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+  }
+
+  private static boolean isNonRetryable(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      for (Class<? extends Throwable> type : NON_RETRYABLE_ERRORS) {
+        if (type.isInstance(cause)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static String truncate(String error) {
+    return error.length() > 500 ? error.substring(0, 500) : error;
+  }
+
+  private void refreshLag() {
+    try {
+      List<LocalDateTime> oldest = outboxEventRepository.findPendingCreatedAt(PageRequest.of(0, 1));
+      lagMillis.set(oldest.isEmpty() ? 0 : Math.max(0, Duration.between(oldest.get(0), LocalDateTime.now()).toMillis()));
+    } catch (Exception e) {
+      log.debug("아웃박스 지연 메트릭 갱신 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.jeonbuk.report.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.domain.entity.OutboxEvent;
+import com.jeonbuk.report.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 트랜잭셔널 아웃박스 - 카프카 이벤트 저장
+ *
+ * 카프카로 직접 보내지 않고 호출자의 DB 트랜잭션 안에서 outbox_events에 저장합니다.
+ * 업무 데이터가 롤백되면 이벤트도 함께 사라지고, 커밋된 이벤트는 OutboxRelay가 반드시 발행합니다.
+ * 진행 중인 트랜잭션이 없으면 이벤트 저장만으로 커밋됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionalOutbox {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 이벤트 저장 (payload는 JSON으로 직렬화)
+   *
+   * @throws IllegalArgumentException payload를 직렬화할 수 없는 경우
+   */
+  @Transactional
+  public OutboxEvent append(String topic, String key, Object payload) {
+    String json;
+    try {
+      json = payload instanceof String text ? text : objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Outbox payload is not serializable: " + topic, e);
+    }
+
+    OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+        .topic(topic)
+        .messageKey(key)
+        .payload(json)
+        .build());
+    log.debug("📥 아웃박스 이벤트 저장 - topic: {}, key: {}, id: {}", topic, key, event.getId());
+    return event;
+  }
+}
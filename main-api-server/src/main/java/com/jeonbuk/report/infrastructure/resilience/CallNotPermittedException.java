@@ -0,0 +1,18 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출이 거부되었을 때 발생하는 예외
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+  private final String policyName;
+
+  public CallNotPermittedException(String policyName) {
+    super("Circuit breaker '" + policyName + "' is open; call not permitted");
+    this.policyName = policyName;
+  }
+
+  public String getPolicyName() {
+    return policyName;
+  }
+}
@@ -0,0 +1,101 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 엔드포인트별 복원력 정책 (서킷 브레이커 + 재시도 예산)
+ *
+ * 각 시도마다 브레이커 허가를 받고, 두 번째 시도부터는 재시도 예산도 확인합니다.
+ * 일시적 오류(transient)만 브레이커 실패로 집계하고 재시도합니다.
+ */
+@Slf4j
+public class ResiliencePolicy {
+
+  private final String name;
+  private final CircuitBreaker circuitBreaker;
+  private final RetryBudget retryBudget;
+
+  public ResiliencePolicy(String name, ResilienceProperties properties) {
+    this.name = name;
+    this.circuitBreaker = new CircuitBreaker(name, properties);
+    this.retryBudget = new RetryBudget(properties);
+  }
+
+  /**
+   * 브레이커와 재시도 예산을 적용하여 호출 실행
+   *
+   * @param call           외부 호출
+   * @param maxAttempts    최대 시도 횟수 (최초 호출 포함)
+   * @param initialBackoff 첫 재시도 전 대기 시간 (이후 2배씩 증가, ±20% 지터)
+   * @param isTransient    브레이커 실패로 집계하고 재시도할 예외 판별
+   * @throws CallNotPermittedException 브레이커가 열려 호출이 거부된 경우
+   */
+  public <T> T execute(Supplier<T> call, int maxAttempts, Duration initialBackoff,
+      Predicate<Throwable> isTransient) {
+    retryBudget.recordRequest();
+    long backoffMillis = initialBackoff.toMillis();
+
+    for (int attempt = 1; ; attempt++) {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        throw new CallNotPermittedException(name);
+      }
+
+      long start = System.nanoTime();
+      try {
+        T result = call.get();
+        circuitBreaker.onSuccess(System.nanoTime() - start);
+        return result;
+      } catch (RuntimeException e) {
+        long duration = System.nanoTime() - start;
+        if (!isTransient.test(e)) {
+          circuitBreaker.onIgnored();
+          throw e;
+        }
+        circuitBreaker.onError(duration);
+
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+          log.warn("⚠️ 재시도 예산 소진 - {}: 재시도 없이 실패 반환", name);
+          throw e;
+        }
+
+        log.debug("🔄 {} 재시도 {}/{} - {}ms 후: {}", name, attempt + 1, maxAttempts, backoffMillis, e.getMessage());
+        sleepWithJitter(backoffMillis);
+        backoffMillis *= 2;
+      }
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public RetryBudget getRetryBudget() {
+    return retryBudget;
+  }
+
+  private static void sleepWithJitter(long backoffMillis) {
+    if (backoffMillis <= 0) {
+      return;
+    }
+    long jittered = (long) (backoffMillis * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    try {
+      TimeUnit.MILLISECONDS.sleep(jittered);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Retry backoff interrupted", e);
+    }
+  }
+}
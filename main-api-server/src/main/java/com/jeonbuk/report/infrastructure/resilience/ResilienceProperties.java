@@ -0,0 +1,28 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커 및 재시도 예산 설정
+ *
+ * @param failureRateThreshold 브레이커를 여는 실패율 (%)
+ * @param minimumCalls         실패율을 평가하기 위한 윈도우 내 최소 호출 수
+ * @param slowCallDuration     이 시간을 넘긴 호출은 실패로 집계
+ * @param window               슬라이딩 윈도우 길이
+ * @param windowBuckets        윈도우를 나누는 버킷 수
+ * @param openDuration         OPEN 상태 유지 시간
+ * @param halfOpenProbes       HALF_OPEN 상태에서 허용하는 시험 호출 수
+ * @param retryRatio           윈도우 내 요청 수 대비 허용 재시도 비율
+ * @param minRetriesPerWindow  트래픽이 적을 때도 허용하는 윈도우당 최소 재시도 수
+ */
+public record ResilienceProperties(
+    double failureRateThreshold,
+    int minimumCalls,
+    Duration slowCallDuration,
+    Duration window,
+    int windowBuckets,
+    Duration openDuration,
+    int halfOpenProbes,
+    double retryRatio,
+    int minRetriesPerWindow) {
+}
@@ -0,0 +1,58 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+/**
+ * 재시도 예산
+ *
+ * 윈도우 내 재시도 수를 (최초 요청 수 × retryRatio + minRetriesPerWindow) 이하로 제한합니다.
+ * 상류가 느려질 때 모든 호출이 재시도하여 부하가 배로 늘어나는 재시도 폭주를 막습니다.
+ */
+public class RetryBudget {
+
+  private static final int REQUESTS = 0;
+  private static final int RETRIES = 1;
+
+  private final double retryRatio;
+  private final int minRetriesPerWindow;
+  private final SlidingWindowCounter window;
+
+  public RetryBudget(ResilienceProperties properties) {
+    this.retryRatio = properties.retryRatio();
+    this.minRetriesPerWindow = properties.minRetriesPerWindow();
+    this.window = new SlidingWindowCounter(properties.window().toNanos(), properties.windowBuckets(), 2);
+  }
+
+  /**
+   * 최초 요청 기록
+   */
+  public void recordRequest() {
+    window.increment(REQUESTS);
+  }
+
+  /**
+   * 재시도 허가 획득 시도
+   * 동시 호출 시 예산을 약간 초과할 수 있습니다 (근사치).
+   */
+  public boolean tryAcquireRetry() {
+    long[] sums = window.sums();
+    if (sums[RETRIES] >= allowedRetries(sums[REQUESTS])) {
+      return false;
+    }
+    window.increment(RETRIES);
+    return true;
+  }
+
+  public Snapshot snapshot() {
+    long[] sums = window.sums();
+    return new Snapshot(sums[REQUESTS], sums[RETRIES], allowedRetries(sums[REQUESTS]));
+  }
+
+  private long allowedRetries(long requests) {
+    return (long) (requests * retryRatio) + minRetriesPerWindow;
+  }
+
+  /**
+   * 재시도 예산 스냅샷
+   */
+  public record Snapshot(long windowRequests, long windowRetries, long allowedRetries) {
+  }
+}
@@ -0,0 +1,84 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 카운터 (락 없음)
+ *
+ * 윈도우를 고정 길이 버킷의 링으로 나누고, 버킷마다 스트라이프 카운터(LongAdder)를 둡니다.
+ * 버킷이 재사용될 때 epoch CAS에 성공한 스레드만 카운터를 초기화하며,
+ * 초기화와 동시에 기록된 소수의 값은 유실될 수 있습니다 (비율 판단용 근사치로 충분).
+ *
+ * 카운터 슬롯 수는 생성 시 지정합니다. (예: 0=성공, 1=실패)
+ */
+public class SlidingWindowCounter {
+
+  private final Bucket[] buckets;
+  private final long bucketNanos;
+  private final int slots;
+
+  public SlidingWindowCounter(long windowNanos, int bucketCount, int slots) {
+    this.buckets = new Bucket[bucketCount];
+    this.bucketNanos = Math.max(1, windowNanos / bucketCount);
+    this.slots = slots;
+    for (int i = 0; i < bucketCount; i++) {
+      buckets[i] = new Bucket(slots);
+    }
+  }
+
+  public void increment(int slot) {
+    current().counters[slot].increment();
+  }
+
+  /**
+   * 윈도우 내 슬롯별 합계
+   */
+  public long[] sums() {
+    long nowEpoch = System.nanoTime() / bucketNanos;
+    long[] sums = new long[slots];
+    for (Bucket bucket : buckets) {
+      long epoch = bucket.epoch.get();
+      if (epoch != Long.MIN_VALUE && nowEpoch - epoch < buckets.length) {
+        for (int slot = 0; slot < slots; slot++) {
+          sums[slot] += bucket.counters[slot].sum();
+        }
+      }
+    }
+    return sums;
+  }
+
+  public void reset() {
+    for (Bucket bucket : buckets) {
+      bucket.epoch.set(Long.MIN_VALUE);
+      for (LongAdder counter : bucket.counters) {
+        counter.reset();
+      }
+    }
+  }
+
+  private Bucket current() {
+    long epoch = System.nanoTime() / bucketNanos;
+    Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+    long seen = bucket.epoch.get();
+    if (seen != epoch && bucket.epoch.compareAndSet(seen, epoch)) {
+      for (LongAdder counter : bucket.counters) {
+        counter.reset();
+      }
+    }
+    return bucket;
+  }
+
+  private static final class Bucket {
+
+    private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder[] counters;
+
+    Bucket(int slots) {
+      counters = new LongAdder[slots];
+      for (int i = 0; i < slots; i++) {
+        counters[i] = new LongAdder();
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.jeonbuk.report.infrastructure.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 (패스워드 없음)
+ * 기존 UserDetails 주체와 호환되며 사용자 ID를 함께 담음
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final UUID userId;
+
+    public AuthenticatedUser(UUID userId, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.userId = userId;
+    }
+}
@@ -1,35 +1,96 @@
 package com.jeonbuk.report.infrastructure.security;
 
+import com.jeonbuk.report.application.service.event.UserAccessChangedEvent;
 import com.jeonbuk.report.domain.entity.User;
 import com.jeonbuk.report.domain.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Spring Security용 UserDetailsService 구현체
  * - JWT 토큰 생성/검증 시 사용자 정보 조회
  * - 순환 종속성 해결을 위해 UserService에서 분리
+ * - 조회 결과는 짧은 TTL로 캐시하고, 역할/활성 상태가 바뀌면 즉시 무효화
+ * - 권한 변경 시각을 기억해 그 전에 발급된 토큰의 역할 클레임은 믿지 않도록 함 (isStale)
+ *
+ * 권한 변경 시각은 users.access_changed_at에 저장되므로 재시작 후에도 유지됩니다.
+ * 변경한 인스턴스는 커밋 후 Redis pub/sub으로 다른 인스턴스에 바로 알리고, 각 인스턴스는 reload-interval마다
+ * 토큰 유효 기간 안의 변경 시각을 DB에서 다시 읽어 놓친 알림(Redis 장애, 재연결 중 유실)도 반영합니다.
+ * 기동 후 처음 읽기 전까지는 모든 토큰을 변경 후 발급된 것으로 보지 않고 사용자 정보로 인증합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MessageListener {
+
+    private static final String ACCESS_CHANGE_CHANNEL = "user-access-changes";
 
     private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSubscriptions redisSubscriptions;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long tokenValidityMillis;
+
+    private final Map<String, CachedUser> cache = new ConcurrentHashMap<>();
+    // 이메일별 마지막 권한 변경 시각 (토큰 유효 기간이 지나면 정리)
+    private final Map<String, Long> accessChangedAt = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // DB의 권한 변경 시각을 한 번이라도 읽었는지 (그 전에는 모든 토큰을 사용자 정보로 인증)
+    private volatile boolean accessChangesLoaded = false;
+    private volatile boolean subscribed = false;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisSubscriptions redisSubscriptions,
+            @Value("${app.security.user-details-cache.ttl:PT1M}") Duration ttl,
+            @Value("${app.security.user-details-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.jwt.expiration:3600000}") long tokenValidityMillis) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriptions = redisSubscriptions;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.tokenValidityMillis = tokenValidityMillis;
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        CachedUser cached = cache.get(email);
+        if (cached != null && now - cached.loadedAt() < ttlMillis) {
+            return cached.userDetails();
+        }
+
+        long observed = generation.get();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPasswordHash() != null ? user.getPasswordHash() : "")
                 .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())))
@@ -38,5 +99,119 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .credentialsExpired(false)
                 .disabled(!user.getIsActive())
                 .build();
+
+        // 조회 중에 권한이 바뀌었으면 이전 값일 수 있으므로 캐시하지 않음
+        if (generation.get() == observed) {
+            if (cache.size() >= maxEntries) {
+                evict(now);
+            }
+            cache.put(email, new CachedUser(userDetails, now));
+        }
+        return userDetails;
+    }
+
+    /**
+     * 토큰 발급 이후 역할/활성 상태가 바뀌었는지 여부 (바뀌었으면 클레임 대신 사용자 정보로 인증)
+     */
+    public boolean isStale(String email, Date issuedAt) {
+        if (!accessChangesLoaded) {
+            return true;
+        }
+        Long changedAt = accessChangedAt.get(email);
+        return changedAt != null && (issuedAt == null || issuedAt.getTime() <= changedAt);
+    }
+
+    /**
+     * 사용자 권한 변경 반영 후 다른 인스턴스에 전파 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        long changedAt = event.changedAt().toEpochMilli();
+        applyAccessChange(event.email(), changedAt);
+        try {
+            redisTemplate.convertAndSend(ACCESS_CHANGE_CHANNEL, changedAt + ":" + event.email());
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 reload-interval에 DB에서 반영
+            log.warn("Failed to publish user access change for {}: {}", event.email(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 권한 변경 수신 (Redis pub/sub, "변경 시각:이메일")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            applyAccessChange(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed user access change message: {}", body);
+        }
+    }
+
+    /**
+     * 토큰 유효 기간 안의 권한 변경 시각을 DB에서 다시 읽음 (기동 직후 한 번, 이후 reload-interval마다)
+     * pub/sub 구독도 여기서 시도 (Redis가 없거나 장애 중이면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${app.security.access-changes.reload-interval:PT30S}")
+    public void reloadAccessChanges() {
+        subscribeAccessChanges();
+        long now = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(now - tokenValidityMillis), ZoneId.systemDefault());
+        try {
+            for (Object[] row : userRepository.findAccessChangesSince(since)) {
+                LocalDateTime changedAt = (LocalDateTime) row[1];
+                applyAccessChange((String) row[0], changedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            accessChangedAt.values().removeIf(changedAt -> now - changedAt > tokenValidityMillis);
+            accessChangesLoaded = true;
+        } catch (Exception e) {
+            log.warn("Failed to reload user access changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 항목을 지우고, 그래도 가득 차 있으면 가장 오래 전에 읽은 항목부터 1/10 제거
+     * (한꺼번에 비우면 모든 사용자가 동시에 DB를 다시 조회하므로 일부만 제거하고, 정렬 비용은 여러 번의 저장에 나눔)
+     */
+    private void evict(long now) {
+        cache.values().removeIf(entry -> now - entry.loadedAt() >= ttlMillis);
+        int excess = cache.size() - maxEntries + Math.max(1, maxEntries / 10);
+        if (excess <= 0) {
+            return;
+        }
+        cache.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(cache::remove);
+    }
+
+    private void applyAccessChange(String email, long changedAt) {
+        Long previous = accessChangedAt.get(email);
+        if (previous != null && previous >= changedAt) {
+            return;
+        }
+        accessChangedAt.merge(email, changedAt, Math::max);
+        generation.incrementAndGet();
+        cache.remove(email);
+        log.debug("Invalidated cached user details: {}", email);
+    }
+
+    private synchronized void subscribeAccessChanges() {
+        if (subscribed) {
+            return;
+        }
+        try {
+            redisSubscriptions.subscribe(this, new ChannelTopic(ACCESS_CHANGE_CHANNEL));
+            subscribed = true;
+        } catch (Exception e) {
+            log.debug("User access change subscription not available: {}", e.getMessage());
+        }
+    }
+
+    private record CachedUser(UserDetails userDetails, long loadedAt) {
     }
-}
\ No newline at end of file
+}
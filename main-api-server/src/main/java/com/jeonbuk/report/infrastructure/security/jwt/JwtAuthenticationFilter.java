@@ -1,6 +1,7 @@
 package com.jeonbuk.report.infrastructure.security.jwt;
 
 import com.jeonbuk.report.application.service.TokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +13,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Bearer 액세스 토큰 인증 필터
+ * 토큰은 요청당 한 번만 파싱하고, 인증 정보는 클레임으로 만들어 DB를 조회하지 않음
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
@@ -31,17 +36,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = resolveToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 블랙리스트 검증 (TokenService가 있는 경우만)
-            if (tokenService != null && tokenService.isBlacklisted(token)) {
+        Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+        if (claims != null && jwtTokenProvider.isAccessToken(claims)) {
+            // 폐기 여부 검증 (TokenService가 있는 경우만, 대부분 로컬 필터에서 판정)
+            if (tokenService != null && tokenService.isRevoked(jwtTokenProvider.getTokenId(claims, token))) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json");
                 response.getWriter().write("{\"error\":\"Token has been invalidated\"}");
                 return;
             }
 
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
@@ -1,24 +1,43 @@
 package com.jeonbuk.report.infrastructure.security.jwt;
 
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.infrastructure.security.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import com.jeonbuk.report.infrastructure.security.CustomUserDetailsService;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
-
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JWT 발급/검증
+ * - 액세스 토큰에 사용자 ID와 역할을 클레임으로 담아, 요청마다 DB 조회 없이 인증 정보를 만듦
+ * - 서명 검증 파서는 초기화 시 한 번 만들어 재사용 (불변, 스레드 안전)
+ */
 @Component
 public class JwtTokenProvider {
 
+    static final String TYPE_CLAIM = "type";
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+
     @Value("${app.jwt.secret:defaultSecretKey}")
     private String secretKey;
 
@@ -29,6 +48,7 @@ public class JwtTokenProvider {
     private long refreshTokenValidityInSeconds;
 
     private SecretKey key;
+    private JwtParser parser;
 
     private final CustomUserDetailsService userDetailsService;
 
@@ -40,16 +60,23 @@ public class JwtTokenProvider {
     protected void init() {
         String encodedKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         this.key = Keys.hmacShaKeyFor(encodedKey.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
-    public String createToken(String username) {
+    /**
+     * 액세스 토큰 (토큰 ID, 사용자 ID, 역할 클레임 포함)
+     */
+    public String createToken(User user) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInSeconds);
         return Jwts.builder()
-                .setSubject(username)
+                .id(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .claim("type", "access")
+                .claim(TYPE_CLAIM, "access")
+                .claim(USER_ID_CLAIM, user.getId().toString())
+                .claim(ROLES_CLAIM, List.of("ROLE_" + user.getRole().name()))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -61,7 +88,7 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .claim("type", "refresh")
+                .claim(TYPE_CLAIM, "refresh")
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -73,7 +100,7 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .claim("type", "temp")
+                .claim(TYPE_CLAIM, "temp")
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -82,33 +109,75 @@ public class JwtTokenProvider {
         return tokenValidityInSeconds;
     }
 
+    /**
+     * 서명과 만료를 한 번에 검증하고 클레임 반환 (유효하지 않으면 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 폐기(블랙리스트) 기준 토큰 ID - jti, 없으면(이전 토큰) 토큰 문자열
+     * 이전 토큰은 배포 전에 blacklist:{토큰 문자열}로 폐기되었으므로 같은 키로 확인해야 함
+     */
+    public String getTokenId(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : token;
+    }
+
+    public boolean isAccessToken(Claims claims) {
+        return "access".equals(claims.get(TYPE_CLAIM, String.class));
+    }
+
+    /**
+     * 검증된 액세스 토큰 클레임으로 인증 정보 생성
+     * 역할 클레임이 없는 이전 토큰이거나 발급 후 권한이 바뀐 경우에만 사용자 정보를 조회 (캐시)
+     *
+     * @return 비활성이거나 없는 사용자면 null
+     */
+    public Authentication getAuthentication(Claims claims) {
+        String username = claims.getSubject();
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (userId == null || roles == null || userDetailsService.isStale(username, claims.getIssuedAt())) {
+            try {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (!userDetails.isEnabled()) {
+                    return null;
+                }
+                return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+            } catch (UsernameNotFoundException e) {
+                return null;
+            }
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role.toString()));
+        }
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.fromString(userId), username, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
     public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        Claims claims = parseClaims(token);
+        return claims != null ? getAuthentication(claims) : null;
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Claims claims = Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     public String getTokenType(String token) {
-        try {
-            Claims claims = Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
-            return (String) claims.get("type");
-        } catch (Exception e) {
-            return null;
-        }
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.get(TYPE_CLAIM, String.class) : null;
     }
 
     public boolean isRefreshToken(String token) {
@@ -15,6 +15,7 @@ import java.util.Map;
 /**
  * 알림 WebSocket 컨트롤러
  * 실시간 알림 메시지 처리를 담당합니다.
+ * 서버에서 보내는 알림은 ClusterMessageRelay를 거쳐 다른 노드에 연결된 사용자에게도 전달됩니다.
  */
 @Slf4j
 @Controller
@@ -22,7 +23,7 @@ import java.util.Map;
 public class AlertWebSocketController {
     
     private final SimpMessagingTemplate messagingTemplate;
-    private final WebSocketSessionManager sessionManager;
+    private final ClusterMessageRelay clusterMessageRelay;
     
     /**
      * 클라이언트로부터 알림 구독 요청 처리
@@ -56,12 +57,7 @@ public class AlertWebSocketController {
      * 특정 사용자에게 알림 전송
      */
     public void sendAlertToUser(String userId, Object alertData) {
-        if (sessionManager.isUserOnline(userId)) {
-            messagingTemplate.convertAndSendToUser(
-                userId, 
-                "/queue/alerts", 
-                alertData
-            );
+        if (clusterMessageRelay.sendToUser(userId, "/queue/alerts", alertData)) {
             log.debug("Alert sent to user: {}", userId);
         } else {
             log.debug("User {} is not online, alert not sent via WebSocket", userId);
@@ -72,7 +68,7 @@ public class AlertWebSocketController {
      * 모든 연결된 사용자에게 시스템 알림 전송
      */
     public void sendSystemAlert(Object alertData) {
-        messagingTemplate.convertAndSend("/topic/system-alerts", alertData);
+        clusterMessageRelay.sendToTopic("/topic/system-alerts", alertData);
         log.info("System alert broadcasted to all connected users");
     }
     
@@ -81,7 +77,7 @@ public class AlertWebSocketController {
      */
     public void sendAdminAlert(Object alertData) {
         // TODO: 관리자 역할 사용자들에게만 전송하는 로직 구현
-        messagingTemplate.convertAndSend("/topic/admin-alerts", alertData);
+        clusterMessageRelay.sendToTopic("/topic/admin-alerts", alertData);
         log.info("Admin alert broadcasted");
     }
     
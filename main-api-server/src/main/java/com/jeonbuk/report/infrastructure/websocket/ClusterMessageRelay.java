@@ -0,0 +1,217 @@
+package com.jeonbuk.report.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * STOMP 메시지 노드 간 전달 (Redis pub/sub)
+ *
+ * 각 노드의 STOMP 브로커는 자기 노드에 연결된 세션에만 보낼 수 있으므로,
+ * 클러스터 모드에서는 다른 노드로 가야 하는 메시지를 Redis 채널로 전달합니다.
+ * - 사용자 메시지: 접속 현황에서 사용자가 연결된 노드를 찾아 해당 노드 채널(ws:relay:{nodeId})로만 발행
+ * - 토픽 메시지: 모든 노드 채널(ws:relay:all)로 발행
+ * 받은 노드는 자기 브로커로 다시 보내며, 자기가 발행한 메시지는 무시합니다.
+ * Redis 장애 시에는 이 노드 세션에만 전달합니다.
+ *
+ * 노드별 발행/수신/전달 건수와 세션 수는 Micrometer로 노출합니다 (node 태그).
+ */
+@Slf4j
+@Component
+public class ClusterMessageRelay implements MessageListener {
+    
+    static final String CHANNEL_PREFIX = "ws:relay:";
+    static final String BROADCAST_CHANNEL = CHANNEL_PREFIX + "all";
+    
+    private static final String KIND_USER = "user";
+    private static final String KIND_TOPIC = "topic";
+    
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketSessionManager sessionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSubscriptions redisSubscriptions;
+    private final ObjectMapper objectMapper;
+    
+    // "방향:종류" → 전달 건수 (published/received/delivered × user/topic)
+    private final Map<String, Counter> messageCounters = new HashMap<>();
+    private final Counter publishFailures;
+    private final Counter dropped;
+    
+    public ClusterMessageRelay(
+            SimpMessagingTemplate messagingTemplate,
+            WebSocketSessionManager sessionManager,
+            RedisTemplate<String, String> redisTemplate,
+            RedisSubscriptions redisSubscriptions,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.sessionManager = sessionManager;
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriptions = redisSubscriptions;
+        this.objectMapper = objectMapper;
+        
+        String node = sessionManager.getNodeId();
+        for (String direction : List.of("published", "received", "delivered")) {
+            for (String kind : List.of(KIND_USER, KIND_TOPIC)) {
+                messageCounters.put(direction + ":" + kind, Counter.builder("websocket.cluster.messages")
+                        .tag("node", node)
+                        .tag("direction", direction)
+                        .tag("kind", kind)
+                        .register(meterRegistry));
+            }
+        }
+        this.publishFailures = Counter.builder("websocket.cluster.publish.failures")
+                .tag("node", node)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("websocket.cluster.dropped")
+                .tag("node", node)
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessionManager, WebSocketSessionManager::getTotalSessionCount)
+                .tag("node", node)
+                .register(meterRegistry);
+        Gauge.builder("websocket.users", sessionManager, WebSocketSessionManager::getConnectedUserCount)
+                .tag("node", node)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 노드 채널과 전체 채널 구독 (클러스터 모드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!sessionManager.isClustered()) {
+            return;
+        }
+        try {
+            redisSubscriptions.subscribe(this, new ChannelTopic(CHANNEL_PREFIX + sessionManager.getNodeId()));
+            redisSubscriptions.subscribe(this, new ChannelTopic(BROADCAST_CHANNEL));
+            log.info("WebSocket cluster relay subscribed for node {}", sessionManager.getNodeId());
+        } catch (Exception e) {
+            log.error("Failed to subscribe WebSocket cluster relay, delivering to local sessions only", e);
+        }
+    }
+    
+    /**
+     * 사용자 메시지 전송 (이 노드 세션 + 사용자가 연결된 다른 노드)
+     *
+     * @return 사용자가 어느 노드에든 연결되어 있어 전송했으면 true
+     */
+    public boolean sendToUser(String userId, String destination, Object payload) {
+        boolean local = sessionManager.isUserConnectedLocally(userId);
+        if (local) {
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            count("delivered", KIND_USER);
+        }
+        Set<String> nodes = sessionManager.getRemoteNodes(userId);
+        if (nodes.isEmpty()) {
+            return local;
+        }
+        String envelope = envelope(KIND_USER, userId, destination, payload);
+        if (envelope == null) {
+            return local;
+        }
+        for (String node : nodes) {
+            publish(CHANNEL_PREFIX + node, envelope, KIND_USER);
+        }
+        return true;
+    }
+    
+    /**
+     * 토픽 메시지 전송 (모든 노드)
+     */
+    public void sendToTopic(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        count("delivered", KIND_TOPIC);
+        if (!sessionManager.isClustered()) {
+            return;
+        }
+        String envelope = envelope(KIND_TOPIC, null, destination, payload);
+        if (envelope != null) {
+            publish(BROADCAST_CHANNEL, envelope, KIND_TOPIC);
+        }
+    }
+    
+    /**
+     * 다른 노드가 발행한 메시지를 이 노드 브로커로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (sessionManager.getNodeId().equals(envelope.path("origin").asText())) {
+                return;
+            }
+            String kind = envelope.path("kind").asText();
+            String destination = envelope.path("destination").asText();
+            Object payload = objectMapper.treeToValue(envelope.get("payload"), Object.class);
+            
+            if (KIND_USER.equals(kind)) {
+                count("received", kind);
+                String userId = envelope.path("user").asText();
+                if (sessionManager.isUserConnectedLocally(userId)) {
+                    messagingTemplate.convertAndSendToUser(userId, destination, payload);
+                    count("delivered", kind);
+                }
+            } else if (KIND_TOPIC.equals(kind)) {
+                count("received", kind);
+                messagingTemplate.convertAndSend(destination, payload);
+                count("delivered", kind);
+            } else {
+                dropped.increment();
+            }
+        } catch (Exception e) {
+            dropped.increment();
+            log.warn("Dropping WebSocket cluster message: {}", e.getMessage());
+        }
+    }
+    
+    private String envelope(String kind, String userId, String destination, Object payload) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("origin", sessionManager.getNodeId());
+        envelope.put("kind", kind);
+        if (userId != null) {
+            envelope.put("user", userId);
+        }
+        envelope.put("destination", destination);
+        envelope.put("payload", payload);
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch (Exception e) {
+            log.error("Failed to serialize WebSocket cluster message for {}", destination, e);
+            return null;
+        }
+    }
+    
+    private void publish(String channel, String envelope, String kind) {
+        try {
+            redisTemplate.convertAndSend(channel, envelope);
+            count("published", kind);
+        } catch (Exception e) {
+            publishFailures.increment();
+            log.warn("Failed to publish WebSocket cluster message to {}: {}", channel, e.getMessage());
+        }
+    }
+    
+    private void count(String direction, String kind) {
+        messageCounters.get(direction + ":" + kind).increment();
+    }
+}
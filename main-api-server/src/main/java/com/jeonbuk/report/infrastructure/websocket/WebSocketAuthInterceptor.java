@@ -1,6 +1,7 @@
 package com.jeonbuk.report.infrastructure.websocket;
 
 import com.jeonbuk.report.infrastructure.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -9,10 +10,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -27,7 +25,6 @@ import java.util.List;
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
     
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -37,22 +34,16 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             // CONNECT 명령 시 인증 처리
             String token = getJwtTokenFromHeaders(accessor);
             
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                try {
-                    String username = jwtTokenProvider.getUsername(token);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    
-                    Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    
-                    accessor.setUser(authentication);
-                    log.debug("WebSocket authentication successful for user: {}", username);
-                    
-                } catch (Exception e) {
-                    log.error("WebSocket authentication failed", e);
-                    // 인증 실패 시 연결을 허용하지 않음
+            Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+            if (claims != null && jwtTokenProvider.isAccessToken(claims)) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+                if (authentication == null) {
+                    log.warn("WebSocket authentication rejected for inactive user: {}", claims.getSubject());
                     return null;
                 }
+
+                accessor.setUser(authentication);
+                log.debug("WebSocket authentication successful for user: {}", claims.getSubject());
             } else {
                 log.warn("Invalid or missing JWT token in WebSocket connection");
                 // 토큰이 없거나 유효하지 않은 경우 연결 거부
@@ -1,38 +1,83 @@
 package com.jeonbuk.report.infrastructure.websocket;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * WebSocket 세션 관리자
  * 사용자와 WebSocket 세션 간의 매핑을 관리합니다.
+ *
+ * 클러스터 모드에서는 이 노드의 세션 현황을 Redis 접속 현황(presence)에도 기록합니다.
+ * - ws:presence:{userId} 해시: 노드 ID → 해당 노드의 세션 수
+ * - ws:node:{nodeId} 키: 노드 생존 신호 (TTL, 값은 "사용자 수:세션 수")
+ * 생존 신호가 끊긴 노드의 접속 현황은 조회 시 무시하고 지웁니다.
+ * Redis 기록이 실패하면 다음 생존 신호 때 이 노드의 접속 현황을 다시 기록합니다.
  */
 @Slf4j
 @Component
 public class WebSocketSessionManager {
     
+    static final String PRESENCE_PREFIX = "ws:presence:";
+    static final String NODE_PREFIX = "ws:node:";
+    
     // 사용자 ID -> 세션 ID들의 매핑 (한 사용자가 여러 세션을 가질 수 있음)
     private final Map<String, Set<String>> userSessions = new ConcurrentHashMap<>();
     
     // 세션 ID -> 사용자 ID 매핑
     private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
     
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean clustered;
+    private final String nodeId;
+    private final Duration nodeTtl;
+    
+    // 생존 신호가 있는 노드 ID → "사용자 수:세션 수" (생존 신호 주기마다 갱신)
+    private volatile Map<String, String> liveNodes = Map.of();
+    // Redis 기록 실패 후 이 노드의 접속 현황을 다시 기록해야 하는지
+    private volatile boolean presenceStale = true;
+    
+    public WebSocketSessionManager(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${app.websocket.cluster.enabled:false}") boolean clustered,
+            @Value("${app.websocket.cluster.node-id:}") String nodeId,
+            @Value("${app.websocket.cluster.node-ttl:PT30S}") Duration nodeTtl) {
+        this.redisTemplate = redisTemplate;
+        this.clustered = clustered;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.nodeTtl = nodeTtl;
+        log.info("WebSocket session manager initialized - node: {}, clustered: {}", this.nodeId, clustered);
+    }
+    
     /**
      * 사용자 세션 추가
      */
     public void addSession(String userId, String sessionId) {
         log.debug("Adding WebSocket session for user {} with session {}", userId, sessionId);
         
-        userSessions.computeIfAbsent(userId, k -> new CopyOnWriteArraySet<>()).add(sessionId);
+        Set<String> sessions = userSessions.computeIfAbsent(userId, k -> new CopyOnWriteArraySet<>());
+        sessions.add(sessionId);
         sessionUsers.put(sessionId, userId);
+        publishPresence(userId, sessions.size());
         
-        log.info("User {} connected via WebSocket. Total sessions: {}", 
-                userId, userSessions.get(userId).size());
+        log.info("User {} connected via WebSocket. Total sessions: {}",
+                userId, sessions.size());
     }
     
     /**
@@ -50,6 +95,7 @@ public class WebSocketSessionManager {
                 } else {
                     log.info("User {} session removed. Remaining sessions: {}", userId, sessions.size());
                 }
+                publishPresence(userId, sessions.size());
             }
         }
         log.debug("Removed WebSocket session {}", sessionId);
@@ -70,31 +116,162 @@ public class WebSocketSessionManager {
     }
     
     /**
-     * 사용자가 온라인인지 확인
+     * 사용자가 이 노드에 연결되어 있는지 확인
      */
-    public boolean isUserOnline(String userId) {
+    public boolean isUserConnectedLocally(String userId) {
         Set<String> sessions = userSessions.get(userId);
         return sessions != null && !sessions.isEmpty();
     }
     
     /**
-     * 현재 연결된 사용자 수
+     * 사용자가 온라인인지 확인 (클러스터 모드에서는 다른 노드 포함)
+     */
+    public boolean isUserOnline(String userId) {
+        return isUserConnectedLocally(userId) || !getRemoteNodes(userId).isEmpty();
+    }
+    
+    /**
+     * 사용자가 연결된 다른 노드 ID (클러스터 모드가 아니거나 Redis 장애 시 빈 집합)
+     */
+    public Set<String> getRemoteNodes(String userId) {
+        if (!clustered) {
+            return Set.of();
+        }
+        try {
+            Set<String> nodes = new HashSet<>();
+            List<Object> deadNodes = new ArrayList<>();
+            for (Object node : redisTemplate.opsForHash().keys(PRESENCE_PREFIX + userId)) {
+                if (nodeId.equals(node)) {
+                    continue;
+                }
+                // 마지막 노드 목록 갱신 이후 시작한 노드일 수 있으므로 생존 신호를 직접 확인
+                if (liveNodes.containsKey(node) || Boolean.TRUE.equals(redisTemplate.hasKey(NODE_PREFIX + node))) {
+                    nodes.add((String) node);
+                } else {
+                    deadNodes.add(node);
+                }
+            }
+            if (!deadNodes.isEmpty()) {
+                redisTemplate.opsForHash().delete(PRESENCE_PREFIX + userId, deadNodes.toArray());
+            }
+            return nodes;
+        } catch (Exception e) {
+            log.warn("Failed to read WebSocket presence for user {}: {}", userId, e.getMessage());
+            return Set.of();
+        }
+    }
+    
+    /**
+     * 현재 연결된 사용자 수 (이 노드)
      */
     public int getConnectedUserCount() {
         return userSessions.size();
     }
     
     /**
-     * 전체 세션 수
+     * 전체 세션 수 (이 노드)
      */
     public int getTotalSessionCount() {
         return sessionUsers.size();
     }
     
     /**
-     * 모든 온라인 사용자 ID 조회
+     * 모든 온라인 사용자 ID 조회 (이 노드)
      */
     public Set<String> getOnlineUsers() {
         return userSessions.keySet();
     }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public boolean isClustered() {
+        return clustered;
+    }
+    
+    /**
+     * 생존 신호를 보낸 노드별 "사용자 수:세션 수" (마지막 생존 신호 기준)
+     */
+    public Map<String, String> getLiveNodes() {
+        return liveNodes;
+    }
+    
+    /**
+     * 생존 신호 기록 및 노드 목록 갱신
+     * Redis 기록이 실패했었다면 이 노드의 접속 현황을 먼저 다시 기록
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.cluster.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        if (!clustered) {
+            return;
+        }
+        try {
+            if (presenceStale) {
+                presenceStale = false;
+                userSessions.forEach((userId, sessions) ->
+                        redisTemplate.opsForHash().put(PRESENCE_PREFIX + userId, nodeId, String.valueOf(sessions.size())));
+            }
+            redisTemplate.opsForValue().set(NODE_PREFIX + nodeId,
+                    getConnectedUserCount() + ":" + getTotalSessionCount(), nodeTtl);
+            liveNodes = scanLiveNodes();
+        } catch (Exception e) {
+            presenceStale = true;
+            log.warn("WebSocket presence heartbeat failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 종료 시 이 노드의 접속 현황 제거
+     */
+    @PreDestroy
+    public void leaveCluster() {
+        if (!clustered) {
+            return;
+        }
+        try {
+            redisTemplate.delete(NODE_PREFIX + nodeId);
+            for (String userId : userSessions.keySet()) {
+                redisTemplate.opsForHash().delete(PRESENCE_PREFIX + userId, nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove WebSocket presence for node {}: {}", nodeId, e.getMessage());
+        }
+    }
+    
+    private void publishPresence(String userId, int sessionCount) {
+        if (!clustered) {
+            return;
+        }
+        try {
+            if (sessionCount > 0) {
+                redisTemplate.opsForHash().put(PRESENCE_PREFIX + userId, nodeId, String.valueOf(sessionCount));
+            } else {
+                redisTemplate.opsForHash().delete(PRESENCE_PREFIX + userId, nodeId);
+            }
+        } catch (Exception e) {
+            presenceStale = true;
+            log.warn("Failed to publish WebSocket presence for user {}: {}", userId, e.getMessage());
+        }
+    }
+    
+    private Map<String, String> scanLiveNodes() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(NODE_PREFIX + "*").count(100).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        Map<String, String> nodes = new HashMap<>();
+        if (keys.isEmpty()) {
+            return nodes;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                nodes.put(keys.get(i).substring(NODE_PREFIX.length()), value);
+            }
+        }
+        return nodes;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.jeonbuk.report.presentation.dto.request.*;
 import com.jeonbuk.report.presentation.dto.response.ApiResponse;
 import com.jeonbuk.report.presentation.dto.response.AuthResponse;
 import com.jeonbuk.report.presentation.dto.response.UserResponse;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -65,7 +66,7 @@ public class AuthController {
             }
 
             User user = userOpt.get();
-            String accessToken = jwtTokenProvider.createToken(user.getEmail());
+            String accessToken = jwtTokenProvider.createToken(user);
             String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
             long expiresIn = jwtTokenProvider.getTokenValidityInMilliseconds();
 
@@ -96,7 +97,7 @@ public class AuthController {
                 request.getDepartment()
             );
 
-            String accessToken = jwtTokenProvider.createToken(user.getEmail());
+            String accessToken = jwtTokenProvider.createToken(user);
             String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
             long expiresIn = jwtTokenProvider.getTokenValidityInMilliseconds();
 
@@ -166,7 +167,7 @@ public class AuthController {
                 request.getDepartment()
             );
 
-            String accessToken = jwtTokenProvider.createToken(user.getEmail());
+            String accessToken = jwtTokenProvider.createToken(user);
             String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
             long expiresIn = jwtTokenProvider.getTokenValidityInMilliseconds();
 
@@ -209,7 +210,7 @@ public class AuthController {
             }
 
             User user = userOpt.get();
-            String newAccessToken = jwtTokenProvider.createToken(user.getEmail());
+            String newAccessToken = jwtTokenProvider.createToken(user);
             String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
             long expiresIn = jwtTokenProvider.getTokenValidityInMilliseconds();
 
@@ -279,15 +280,15 @@ public class AuthController {
                     .body(ApiResponse.error("토큰이 없습니다."));
             }
             
-            boolean isValid = jwtTokenProvider.validateToken(token);
+            Claims claims = jwtTokenProvider.parseClaims(token);
             
-            if (!isValid) {
+            if (claims == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("유효하지 않은 토큰입니다."));
             }
             
             // 블랙리스트 검증
-            if (tokenService.isBlacklisted(token)) {
+            if (tokenService.isRevoked(jwtTokenProvider.getTokenId(claims, token))) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("무효화된 토큰입니다."));
             }
@@ -307,18 +308,19 @@ public class AuthController {
         try {
             String token = extractTokenFromRequest(request);
             
-            if (token == null || !jwtTokenProvider.validateToken(token)) {
+            Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+            if (claims == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("유효하지 않은 토큰입니다."));
             }
             
             // 블랙리스트 검증
-            if (tokenService.isBlacklisted(token)) {
+            if (tokenService.isRevoked(jwtTokenProvider.getTokenId(claims, token))) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("무효화된 토큰입니다."));
             }
             
-            String email = jwtTokenProvider.getUsername(token);
+            String email = claims.getSubject();
             Optional<User> userOpt = userService.findByEmail(email);
             
             if (userOpt.isEmpty()) {
@@ -343,14 +345,15 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request) {
         try {
             String token = extractTokenFromRequest(request);
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getUsername(token);
+            Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+            if (claims != null) {
+                String email = claims.getSubject();
                 
                 // Refresh Token 삭제
                 tokenService.invalidateAllTokens(email);
                 
-                // Access Token을 블랙리스트에 추가
-                tokenService.addToBlacklist(token);
+                // Access Token 폐기 (만료 시각까지)
+                tokenService.revoke(jwtTokenProvider.getTokenId(claims, token), claims.getExpiration());
                 
                 log.info("User logged out: {}", email);
             }
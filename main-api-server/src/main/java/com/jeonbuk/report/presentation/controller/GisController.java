@@ -0,0 +1,51 @@
+package com.jeonbuk.report.presentation.controller;
+
+import com.jeonbuk.report.application.service.GisService;
+import com.jeonbuk.report.application.service.GisService.GisRouting;
+import com.jeonbuk.report.presentation.dto.request.GisRoutingBatchRequest;
+import com.jeonbuk.report.presentation.dto.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 위치 기반 행정구역/담당 부서 판정 API
+ */
+@RestController
+@RequestMapping("/api/v1/gis")
+@RequiredArgsConstructor
+@Slf4j
+public class GisController {
+
+    private final GisService gisService;
+
+    @GetMapping("/routing")
+    public ResponseEntity<ApiResponse<GisRouting>> route(
+            @RequestParam double latitude,
+            @RequestParam double longitude) {
+        return ResponseEntity.ok(
+                ApiResponse.success("Location routed successfully", gisService.route(latitude, longitude))
+        );
+    }
+
+    @PostMapping("/routing/batch")
+    public ResponseEntity<ApiResponse<List<GisRouting>>> routeAll(
+            @Valid @RequestBody GisRoutingBatchRequest request) {
+        try {
+            List<double[]> coordinates = request.getCoordinates().stream()
+                    .map(coordinate -> new double[]{coordinate.getLatitude(), coordinate.getLongitude()})
+                    .toList();
+            return ResponseEntity.ok(
+                    ApiResponse.success("Locations routed successfully", gisService.routeAll(coordinates))
+            );
+        } catch (Exception e) {
+            log.error("Error routing {} locations: {}", request.getCoordinates().size(), e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("Failed to route locations: " + e.getMessage()));
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.jeonbuk.report.presentation.controller;
 
 import com.jeonbuk.report.infrastructure.websocket.AlertWebSocketController;
+import com.jeonbuk.report.infrastructure.websocket.ClusterMessageRelay;
 import com.jeonbuk.report.infrastructure.websocket.WebSocketSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,9 +20,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationController {
     
-    private final SimpMessagingTemplate messagingTemplate;
     private final AlertWebSocketController alertWebSocketController;
     private final WebSocketSessionManager sessionManager;
+    private final ClusterMessageRelay clusterMessageRelay;
 
     /**
      * 기본 알림 브로드캐스트 (기존 호환성 유지)
@@ -38,7 +38,7 @@ public class NotificationController {
      * 특정 사용자에게 알림 전송 (기존 호환성 유지)
      */
     public void sendToUser(String userId, String message) {
-        messagingTemplate.convertAndSendToUser(userId, "/topic/notifications", message);
+        clusterMessageRelay.sendToUser(userId, "/topic/notifications", message);
         log.info("Sent notification to user {}: {}", userId, message);
     }
     
@@ -58,13 +58,16 @@ public class NotificationController {
     
     /**
      * WebSocket 연결 상태 정보 조회 (관리자용)
+     * 연결 수와 사용자 목록은 이 노드 기준, nodes는 클러스터 노드별 "사용자 수:세션 수"
      */
     @GetMapping("/websocket/status")
     public Map<String, Object> getWebSocketStatus() {
         return Map.of(
+            "node", sessionManager.getNodeId(),
             "connectedUsers", sessionManager.getConnectedUserCount(),
             "totalSessions", sessionManager.getTotalSessionCount(),
             "onlineUsers", sessionManager.getOnlineUsers(),
+            "nodes", sessionManager.getLiveNodes(),
             "timestamp", LocalDateTime.now().toString()
         );
     }
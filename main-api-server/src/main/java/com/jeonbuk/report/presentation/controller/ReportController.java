@@ -1,7 +1,12 @@
 package com.jeonbuk.report.presentation.controller;
 
+import com.jeonbuk.report.application.service.ReportMapService;
+import com.jeonbuk.report.application.service.ReportSearchService;
 import com.jeonbuk.report.application.service.ReportService;
 import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.presentation.dto.response.MapTileResponse;
+import com.jeonbuk.report.presentation.dto.response.ReportListResponse;
+import com.jeonbuk.report.presentation.dto.response.ReportSearchResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +23,8 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportMapService reportMapService;
+    private final ReportSearchService reportSearchService;
 
     @PostMapping
     public ResponseEntity<Report> createReport(@RequestBody Report report) {
@@ -37,6 +44,49 @@ public class ReportController {
         return ResponseEntity.ok(reports);
     }
 
+    /**
+     * 신고서 목록 (목록 필드만, 커서 기반 페이지)
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ReportListResponse> getReportList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReportService.DEFAULT_LIST_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(reportService.getReportList(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 신고서 검색 (제목/주소/설명 부분 일치, 관련도순, 하이라이트 포함)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ReportSearchResponse> searchReports(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long statusId,
+            @RequestParam(required = false) Report.Priority priority,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID managerId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ReportSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(reportSearchService.search(
+                keyword, categoryId, statusId, priority, userId, managerId, page, size));
+    }
+
+    /**
+     * 지도 타일(z/x/y) 단위 신고 밀집도 (격자 클러스터)
+     */
+    @GetMapping("/map/tiles/{zoom}/{x}/{y}")
+    public ResponseEntity<MapTileResponse> getMapTile(@PathVariable int zoom, @PathVariable int x, @PathVariable int y) {
+        try {
+            return ResponseEntity.ok(reportMapService.getTile(zoom, x, y));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Report> updateReport(@PathVariable UUID id, @RequestBody Report updated) {
         Report report = reportService.updateReport(id, updated);
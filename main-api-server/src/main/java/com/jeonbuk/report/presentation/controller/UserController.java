@@ -47,7 +47,7 @@ public class UserController {
   public ResponseEntity<ApiResponse<String>> login(@RequestParam String email, @RequestParam String password) {
     return userService.authenticateUser(email, password)
         .map(user -> {
-          String token = jwtTokenProvider.createToken(user.getEmail());
+          String token = jwtTokenProvider.createToken(user);
           return ResponseEntity.ok(ApiResponse.success("로그인 성공", token));
         })
         .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
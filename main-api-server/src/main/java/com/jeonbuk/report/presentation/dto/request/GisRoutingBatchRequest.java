@@ -0,0 +1,38 @@
+package com.jeonbuk.report.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌표 일괄 위치 판정 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GisRoutingBatchRequest {
+    
+    @NotEmpty(message = "좌표 목록은 필수입니다")
+    @Size(max = 10000, message = "한 번에 최대 10000개 좌표까지 판정할 수 있습니다")
+    private List<@Valid @NotNull Coordinate> coordinates;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Coordinate {
+        
+        @NotNull(message = "위도는 필수입니다")
+        private Double latitude;
+        
+        @NotNull(message = "경도는 필수입니다")
+        private Double longitude;
+    }
+}
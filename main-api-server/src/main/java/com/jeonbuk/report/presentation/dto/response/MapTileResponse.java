@@ -0,0 +1,47 @@
+package com.jeonbuk.report.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 지도 타일 (z/x/y) 단위 신고 밀집도
+ * 신고서 엔티티 대신 격자 칸별 건수와 대표 좌표만 담음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapTileResponse {
+    
+    private int zoom;
+    private int x;
+    private int y;
+    
+    // 타일 범위 (위경도)
+    private double minLatitude;
+    private double maxLatitude;
+    private double minLongitude;
+    private double maxLongitude;
+    
+    private long totalReports;
+    private List<Cluster> clusters;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        
+        // 칸 안 신고 위치의 평균 좌표
+        private double latitude;
+        private double longitude;
+        private long count;
+        
+        // 칸에 신고가 한 건뿐이면 해당 신고 ID (마커 클릭 시 상세 조회용)
+        private String reportId;
+    }
+}
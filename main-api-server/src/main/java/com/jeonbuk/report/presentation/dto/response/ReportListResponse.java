@@ -0,0 +1,26 @@
+package com.jeonbuk.report.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 신고서 목록 응답 (커서 기반 페이지)
+ * 전체 건수를 세지 않으며, nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportListResponse {
+    
+    private List<ReportSummaryResponse> reports;
+    private int size;
+    private boolean hasNext;
+    
+    // 마지막 페이지면 null
+    private String nextCursor;
+}
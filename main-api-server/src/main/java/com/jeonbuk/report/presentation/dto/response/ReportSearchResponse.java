@@ -0,0 +1,48 @@
+package com.jeonbuk.report.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 신고서 검색 응답 (관련도순)
+ * 하이라이트 필드는 HTML 이스케이프 후 검색어를 <mark>로 감싼 문자열
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSearchResponse {
+    
+    private String keyword;
+    private List<Result> results;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        
+        private UUID id;
+        private String title;
+        private String titleHighlight;
+        
+        // 설명 중 검색어 주변 일부
+        private String snippet;
+        
+        private String address;
+        private String priority;
+        private String status;
+        private String category;
+        private LocalDateTime createdAt;
+        private int score;
+    }
+}
@@ -0,0 +1,53 @@
+package com.jeonbuk.report.presentation.dto.response;
+
+import com.jeonbuk.report.domain.repository.ReportSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 신고서 목록 항목 응답 DTO
+ * - 목록 화면에 필요한 필드만 포함 (본문, 첨부파일, 댓글 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSummaryResponse {
+    
+    private UUID id;
+    private String title;
+    private String priority;
+    private String status;
+    private String statusColor;
+    private String category;
+    private String address;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String reporterName;
+    private LocalDateTime createdAt;
+    
+    /**
+     * 프로젝션을 DTO로 변환
+     */
+    public static ReportSummaryResponse from(ReportSummary summary) {
+        return ReportSummaryResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .priority(summary.getPriority() != null ? summary.getPriority().name() : null)
+                .status(summary.getStatusName())
+                .statusColor(summary.getStatusColor())
+                .category(summary.getCategoryName())
+                .address(summary.getAddress())
+                .latitude(summary.getLatitude())
+                .longitude(summary.getLongitude())
+                .reporterName(summary.getReporterName())
+                .createdAt(summary.getCreatedAt())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
@@ -29,8 +30,10 @@ public class StatisticsResponse {
     // 우선순위별 통계
     private Map<String, Long> reportsByPriority;
     
-    // 시간별 통계
+    // 시간별 통계 (기간 통계는 timeBucket 단위 구간 시작일 기준)
     private Map<LocalDate, Long> reportsOverTime;
+    private String timeBucket;
+    private Map<LocalDateTime, Long> reportsByHour;
     
     // 평균 처리 시간 (일 단위)
     private Double averageProcessingDays;
@@ -47,4 +50,7 @@ public class StatisticsResponse {
     private Double completionRate;
     private Long reportsThisMonth;
     private Long reportsLastMonth;
+    
+    // 집계 기준 시각 (메모리 스냅샷 생성 시각)
+    private LocalDateTime generatedAt;
 }
\ No newline at end of file
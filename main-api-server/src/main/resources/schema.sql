@@ -19,6 +19,7 @@ CREATE TABLE users (
     is_active BOOLEAN DEFAULT true,
     email_verified BOOLEAN DEFAULT false,
     last_login TIMESTAMP,
+    access_changed_at TIMESTAMP, -- 역할/활성 상태 변경 시각 (이전 발급 토큰 무효화)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -87,6 +88,9 @@ CREATE TABLE reports (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP,
     
+    -- 검색 (제목 + 주소 + 설명 소문자)
+    search_text TEXT GENERATED ALWAYS AS (LOWER(COALESCE(title, '') || ' ' || COALESCE(address, '') || ' ' || COALESCE(description, ''))),
+    
     FOREIGN KEY (user_id) REFERENCES users(id),
     FOREIGN KEY (category_id) REFERENCES categories(id),
     FOREIGN KEY (status_id) REFERENCES statuses(id),
@@ -207,6 +211,8 @@ CREATE INDEX idx_reports_user_id ON reports(user_id);
 CREATE INDEX idx_reports_category_id ON reports(category_id);
 CREATE INDEX idx_reports_status_id ON reports(status_id);
 CREATE INDEX idx_reports_created_at ON reports(created_at);
+-- 목록 키셋 페이지네이션 (created_at DESC, id DESC)
+CREATE INDEX idx_reports_list_keyset ON reports(created_at DESC, id DESC);
 CREATE INDEX idx_reports_location ON reports(latitude, longitude);
 
 CREATE INDEX idx_report_files_report_id ON report_files(report_id);
@@ -294,4 +300,39 @@ CREATE INDEX idx_alerts_is_resolved ON alerts(is_resolved);
 CREATE INDEX idx_alerts_created_at ON alerts(created_at);
 CREATE INDEX idx_alerts_expires_at ON alerts(expires_at);
 CREATE INDEX idx_alerts_user_unread ON alerts(user_id, is_read, created_at);
-CREATE INDEX idx_alerts_user_severity ON alerts(user_id, severity, created_at);
\ No newline at end of file
+CREATE INDEX idx_alerts_user_severity ON alerts(user_id, severity, created_at);
+CREATE INDEX idx_alerts_resolved_at ON alerts(resolved_at);
+
+-- 알림 보관 테이블 (보존 기간이 지난 알림의 요약, 본문 제외)
+CREATE TABLE alerts_archive (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    report_id VARCHAR(36),
+    type VARCHAR(50) NOT NULL,
+    severity VARCHAR(20) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    is_read BOOLEAN,
+    created_at TIMESTAMP,
+    resolved_at TIMESTAMP,
+    expires_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_alerts_archive_user_id ON alerts_archive(user_id, created_at);
+
+-- 트랜잭셔널 아웃박스 (업무 데이터와 같은 트랜잭션에 저장, 릴레이가 카프카로 발행)
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    topic VARCHAR(200) NOT NULL,
+    message_key VARCHAR(200),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    next_attempt_at TIMESTAMP,
+    dead_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events(published_at, id);
+CREATE INDEX idx_outbox_events_key ON outbox_events(topic, message_key, id);
@@ -0,0 +1,319 @@
+package com.jbreport.platform.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 WebSocket 브로드캐스트 (스트라이프 병렬 전송, 느린 클라이언트 격리, 대기열 포화 시 버림) 테스트
+ */
+class AlertBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertSessionRegistry registry;
+    private AlertBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+        registry.destroy();
+    }
+
+    @Test
+    @DisplayName("1만 세션 브로드캐스트는 한 번 직렬화한 메시지를 모든 세션에 1초 안에 보낸다")
+    void broadcast_ShouldDeliverSharedMessageToAllSessions() throws Exception {
+        registry = new AlertSessionRegistry(64, Duration.ofSeconds(5), 512 * 1024, 64, meterRegistry);
+        broadcaster = new AlertBroadcaster(registry, 8, 1024, meterRegistry);
+        List<FakeSession> sessions = new ArrayList<>();
+        for (long userId = 1; userId <= 5_000; userId++) {
+            // 사용자당 세션 2개 (PC + 모바일)
+            for (int device = 0; device < 2; device++) {
+                FakeSession session = new FakeSession(userId + "-" + device);
+                registry.register(userId, session);
+                sessions.add(session);
+            }
+        }
+        TextMessage message = new TextMessage("{\"type\":\"ALERT\"}");
+
+        int sent = broadcaster.broadcast(message).get(1, TimeUnit.SECONDS);
+
+        assertThat(sent).isEqualTo(10_000);
+        assertThat(registry.sessionCount()).isEqualTo(10_000);
+        assertThat(waitUntil(() -> sessions.stream().allMatch(session -> session.received.size() == 1))).isTrue();
+        for (FakeSession session : sessions) {
+            assertThat(session.received).singleElement().isSameAs(message);
+        }
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트는 같은 스트라이프 세션 전송도 막지 않고, 전송 시간 한도를 넘으면 닫고 제거된다")
+    void broadcast_ShouldIsolateSlowClient() throws Exception {
+        // 스트라이프 1개, 브로드캐스트 스레드 1개: 느린 세션이 스레드를 잡으면 다른 세션은 받지 못하는 구성
+        registry = new AlertSessionRegistry(1, Duration.ofMillis(200), 512 * 1024, 64, meterRegistry);
+        broadcaster = new AlertBroadcaster(registry, 1, 1024, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeSession slow = new FakeSession("slow", release);
+        registry.register(1L, slow);
+        List<FakeSession> others = new ArrayList<>();
+        for (long userId = 2; userId <= 200; userId++) {
+            FakeSession session = new FakeSession("user-" + userId);
+            registry.register(userId, session);
+            others.add(session);
+        }
+
+        TextMessage first = new TextMessage("first");
+        TextMessage second = new TextMessage("second");
+        // 브로드캐스트는 대기열에 넣기만 하므로 느린 세션 전송이 끝나지 않아도 바로 완료
+        assertThat(broadcaster.broadcast(first).get(1, TimeUnit.SECONDS)).isEqualTo(200);
+        assertThat(broadcaster.broadcast(second).get(1, TimeUnit.SECONDS)).isEqualTo(200);
+        assertThat(waitUntil(() -> others.stream()
+                .allMatch(session -> session.received.equals(List.of(first, second))))).isTrue();
+        assertThat(slow.received).isEmpty();
+
+        // 전송 시간 한도를 넘긴 세션은 감시 작업이 닫고 제거
+        Thread.sleep(300);
+        assertThat(registry.closeStalledSessions()).isEqualTo(1);
+        assertThat(registry.find("slow")).isNull();
+        assertThat(registry.isUserConnected(1L)).isFalse();
+        assertThat(registry.sessionCount()).isEqualTo(others.size());
+        assertThat(waitUntil(() -> !slow.isOpen())).isTrue();
+        assertThat(closedCount("send-timeout")).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("전송 스레드가 모두 멈춘 세션에 묶여 있어도 감시 작업이 세션을 닫고 다른 세션 전송이 재개된다")
+    void closeStalledSessions_ShouldCloseEvenWhenAllWritersAreStuck() throws Exception {
+        // 전송 스레드 1개: 멈춘 세션이 유일한 전송 스레드를 잡고 있는 상황
+        registry = new AlertSessionRegistry(1, Duration.ofMillis(100), 512 * 1024, 1, meterRegistry);
+        broadcaster = new AlertBroadcaster(registry, 1, 1024, meterRegistry);
+        FakeSession slow = new FakeSession("slow", new CountDownLatch(1));
+        FakeSession other = new FakeSession("user-2");
+        registry.register(1L, slow);
+        registry.register(2L, other);
+
+        TextMessage message = new TextMessage("alert");
+        broadcaster.sendToUser(1L, message);
+        broadcaster.sendToUser(2L, message);
+        Thread.sleep(200);
+        assertThat(other.received).isEmpty();
+
+        assertThat(registry.closeStalledSessions()).isEqualTo(1);
+        // 같은 세션을 여러 번 종료해도 통지/닫기는 한 번
+        assertThat(registry.closeStalledSessions()).isZero();
+
+        assertThat(waitUntil(() -> !slow.isOpen())).isTrue();
+        assertThat(waitUntil(() -> other.received.contains(message))).isTrue();
+        assertThat(closedCount("send-timeout")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("미전송 버퍼 한도를 넘긴 세션은 전송 시점에 닫고 제거되며, 사용자 전송은 호출 스레드를 막지 않는다")
+    void sendToUser_ShouldCloseSessionOverBufferLimit() throws Exception {
+        registry = new AlertSessionRegistry(4, Duration.ofSeconds(5), 10, 64, meterRegistry);
+        broadcaster = new AlertBroadcaster(registry, 1, 1024, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeSession slow = new FakeSession("slow", release);
+        registry.register(1L, slow);
+
+        long started = System.nanoTime();
+        broadcaster.sendToUser(1L, new TextMessage("12345678"));
+        broadcaster.sendToUser(1L, new TextMessage("12345678"));
+
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(registry.find("slow")).isNull();
+        assertThat(closedCount("buffer-limit")).isEqualTo(1.0);
+        release.countDown();
+        assertThat(waitUntil(() -> !slow.isOpen())).isTrue();
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 대기열이 가득 차면 호출 스레드에서 전송하지 않고 버린 뒤 집계한다")
+    void broadcast_ShouldDropWhenQueueIsFull() throws Exception {
+        // 스트라이프 1개, 스레드 1개, 대기열 1칸: 첫 작업이 스레드를 잡고 두 번째가 대기열을 채움
+        registry = new AlertSessionRegistry(1, Duration.ofSeconds(5), 512 * 1024, 64, meterRegistry);
+        broadcaster = new AlertBroadcaster(registry, 1, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeSession stuck = new FakeSession("stuck") {
+            @Override
+            public boolean isOpen() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.isOpen();
+            }
+        };
+        registry.register(1L, stuck);
+        registry.register(2L, new FakeSession("user-2"));
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(broadcaster.broadcast(new TextMessage("alert-" + i)));
+        }
+
+        assertThat(meterRegistry.get("websocket.alerts.dropped").tag("reason", "queue-full").counter().count())
+                .isEqualTo(8.0);
+        release.countDown();
+        int queued = 0;
+        for (CompletableFuture<Integer> result : results) {
+            queued += result.get(1, TimeUnit.SECONDS);
+        }
+        assertThat(queued).isEqualTo(2 * 2);
+    }
+
+    private double closedCount(String reason) {
+        return meterRegistry.get("websocket.alerts.sessions.closed").tag("reason", reason).counter().count();
+    }
+
+    // 최대 1초 동안 조건 확인
+    private static boolean waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private static class FakeSession implements WebSocketSession {
+
+        private final String id;
+        private final CountDownLatch sendGate;
+        private final List<WebSocketMessage<?>> received = new CopyOnWriteArrayList<>();
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private volatile boolean open = true;
+
+        private FakeSession(String id) {
+            this(id, null);
+        }
+
+        private FakeSession(String id, CountDownLatch sendGate) {
+            this.id = id;
+            this.sendGate = sendGate;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            if (sendGate != null) {
+                try {
+                    // 클라이언트가 읽지 않아 전송이 끝나지 않는 상황
+                    sendGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            received.add(message);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("ws://localhost/ws/alerts");
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            open = false;
+            if (sendGate != null) {
+                // 실제 컨테이너처럼 연결을 닫으면 막혀 있던 전송이 끝남
+                sendGate.countDown();
+            }
+        }
+    }
+}
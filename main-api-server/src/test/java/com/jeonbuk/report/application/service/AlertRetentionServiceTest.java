@@ -0,0 +1,141 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.entity.Alert;
+import com.jeonbuk.report.domain.entity.Alert.AlertSeverity;
+import com.jeonbuk.report.domain.entity.Alert.AlertType;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.AlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 보존 정책 (청크 삭제) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class AlertRetentionServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User testUser;
+
+    @BeforeAll
+    static void createArchiveTable(@Autowired JdbcTemplate jdbcTemplate) {
+        // 보관 테이블은 엔티티가 없으므로 직접 생성 (DDL은 테스트 트랜잭션 밖에서 실행)
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS alerts_archive (
+                    id VARCHAR(36) PRIMARY KEY, user_id UUID NOT NULL, report_id UUID,
+                    type VARCHAR(50) NOT NULL, severity VARCHAR(20) NOT NULL, title VARCHAR(200) NOT NULL,
+                    is_read BOOLEAN, created_at TIMESTAMP, resolved_at TIMESTAMP, expires_at TIMESTAMP,
+                    archived_at TIMESTAMP NOT NULL)
+                """);
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testUser = User.builder()
+                .email("retention@example.com")
+                .name("Test User")
+                .build();
+        entityManager.persistAndFlush(testUser);
+    }
+
+    @Test
+    @DisplayName("만료 알림과 보존 기간이 지난 해결 알림만 청크 단위로 삭제한다")
+    void runRetention_ShouldDeleteExpiredAndOldResolvedOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            persistAlert(now.minusHours(1), null);
+        }
+        persistAlert(now.plusDays(1), null);
+        persistAlert(null, now.minusDays(40));
+        persistAlert(null, now.minusDays(1));
+        persistAlert(null, null);
+
+        AlertRetentionService.RetentionResult result = service(2, 1000, false).runRetention();
+
+        assertThat(result.expiredDeleted()).isEqualTo(5);
+        assertThat(result.resolvedDeleted()).isEqualTo(1);
+        assertThat(result.capped()).isFalse();
+        assertThat(alertRepository.count()).isEqualTo(3);
+        assertThat(meterRegistry.get("alert.retention.deleted").tag("reason", "expired").counter().count())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("실행당 상한을 넘으면 나머지는 다음 실행으로 미룬다")
+    void runRetention_AboveMaxRowsPerRun_ShouldStopAtCap() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 7; i++) {
+            persistAlert(now.minusMinutes(5), null);
+        }
+        AlertRetentionService service = service(3, 4, false);
+
+        AlertRetentionService.RetentionResult first = service.runRetention();
+        AlertRetentionService.RetentionResult second = service.runRetention();
+
+        assertThat(first.totalDeleted()).isEqualTo(4);
+        assertThat(first.capped()).isTrue();
+        assertThat(second.totalDeleted()).isEqualTo(3);
+        assertThat(second.capped()).isFalse();
+        assertThat(alertRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관이 활성화되면 삭제 전에 요약을 보관 테이블에 복사한다")
+    void runRetention_ArchiveEnabled_ShouldCopyBeforeDelete() {
+        Alert expired = persistAlert(LocalDateTime.now().minusHours(2), null);
+
+        AlertRetentionService.RetentionResult result = service(10, 100, true).runRetention();
+
+        assertThat(result.expiredDeleted()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM alerts_archive WHERE id = ?", String.class,
+                expired.getId())).isEqualTo(expired.getTitle());
+        assertThat(meterRegistry.get("alert.retention.archived").counter().count()).isEqualTo(1.0);
+    }
+
+    private AlertRetentionService service(int chunkSize, int maxRowsPerRun, boolean archive) {
+        return new AlertRetentionService(alertRepository, transactionManager, meterRegistry,
+                chunkSize, maxRowsPerRun, Duration.ZERO, Duration.ofDays(30), archive);
+    }
+
+    private Alert persistAlert(LocalDateTime expiresAt, LocalDateTime resolvedAt) {
+        Alert alert = Alert.builder()
+                .user(testUser)
+                .type(AlertType.SYSTEM_NOTIFICATION)
+                .title("Retention Alert")
+                .content("{}")
+                .severity(AlertSeverity.LOW)
+                .expiresAt(expiresAt)
+                .isResolved(resolvedAt != null)
+                .resolvedAt(resolvedAt)
+                .build();
+        return entityManager.persistAndFlush(alert);
+    }
+}
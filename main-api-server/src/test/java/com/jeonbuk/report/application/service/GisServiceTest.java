@@ -0,0 +1,92 @@
+package com.jeonbuk.report.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.GisService.GisRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GIS 위치 판정 (행정구역 공간 인덱스, 최근접 관공서 k-d 트리) 테스트
+ */
+class GisServiceTest {
+
+    private static final Map<String, double[]> OFFICES = Map.of(
+            "JEONJU_CITY_HALL", new double[]{35.8242, 127.1479},
+            "GUNSAN_CITY_HALL", new double[]{35.9675, 126.7374},
+            "IKSAN_CITY_HALL", new double[]{35.9483, 126.9578},
+            "JEONBUK_PROVINCIAL_OFFICE", new double[]{35.8203, 127.1088}
+    );
+
+    private GisService gisService;
+
+    @BeforeEach
+    void setUp() {
+        gisService = new GisService(new ClassPathResource("gis/jeonbuk-boundaries.geojson"), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("경계가 겹치는 전주시/완주군 지점은 항상 전주시로 판정한다")
+    void route_ShouldResolveOverlappingDivisionsDeterministically() {
+        GisRouting overlap = gisService.route(35.85, 127.15);
+        assertThat(overlap.administrativeDivision()).isEqualTo("JEONJU_CITY");
+        assertThat(overlap.workspace()).isEqualTo("jeonbuk-jeonju");
+        assertThat(overlap.department()).isEqualTo("JEONJU_CITY_HALL");
+
+        GisRouting wanju = gisService.route(35.90, 127.20);
+        assertThat(wanju.administrativeDivision()).isEqualTo("WANJU_COUNTY");
+        assertThat(wanju.department()).isEqualTo("WANJU_COUNTY_OFFICE");
+
+        // 경계 밖 지점은 기존 권역 규칙으로 판정
+        assertThat(gisService.route(35.30, 127.00).administrativeDivision()).isEqualTo("SOUTHERN_JEONBUK");
+        assertThat(gisService.determineWorkspace(37.5665, 126.9780)).isEqualTo("external-region");
+    }
+
+    @Test
+    @DisplayName("k-d 트리 최근접 관공서는 전체 하버사인 비교 결과와 같다")
+    void findNearestOffice_ShouldMatchBruteForceHaversine() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            double lat = 35.0 + random.nextDouble() * 1.3;
+            double lng = 126.2 + random.nextDouble() * 1.7;
+
+            String expected = null;
+            double minDistance = Double.MAX_VALUE;
+            for (Map.Entry<String, double[]> office : OFFICES.entrySet()) {
+                double distance = gisService.calculateDistance(lat, lng, office.getValue()[0], office.getValue()[1]);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    expected = office.getKey();
+                }
+            }
+
+            assertThat(gisService.findNearestOffice(lat, lng)).as("(%f, %f)", lat, lng).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("좌표 일괄 판정은 입력 순서대로 단건 판정과 같은 결과를 반환한다")
+    void routeAll_ShouldMatchSingleRoutingInInputOrder() {
+        Random random = new Random(7);
+        List<double[]> coordinates = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            coordinates.add(new double[]{34.8 + random.nextDouble() * 1.7, 126.0 + random.nextDouble() * 2.1});
+        }
+
+        List<GisRouting> routings = gisService.routeAll(coordinates);
+
+        assertThat(routings).hasSize(coordinates.size());
+        for (int i = 0; i < coordinates.size(); i++) {
+            double[] coordinate = coordinates.get(i);
+            assertThat(routings.get(i)).isEqualTo(gisService.route(coordinate[0], coordinate[1]));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.jeonbuk.report.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent.ReportFacts;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import com.jeonbuk.report.presentation.dto.response.MapTileResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 지도 타일 격자 클러스터 및 타일 캐시 무효화 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReportMapServiceTest {
+
+    // 전주시청 부근
+    private static final double LAT = 35.8242;
+    private static final double LNG = 127.1479;
+    private static final int ZOOM = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisTemplate<String, String> redisTemplate;
+    private ReportMapService mapService;
+    private User reporter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        mapService = newMapService(redisTemplate);
+        reporter = entityManager.persist(User.builder()
+                .email("map@example.com")
+                .name("Map User")
+                .build());
+    }
+
+    @Test
+    @DisplayName("타일 안 신고를 격자 칸별 건수와 평균 좌표로 묶는다")
+    void getTile_ShouldClusterReportsIntoGridCells() {
+        ReportMapService.TileKey key = ReportMapService.TileKey.containing(ZOOM, LAT, LNG);
+        persistReport(LAT, LNG);
+        persistReport(LAT + 0.0001, LNG + 0.0001);
+        // 타일 남서쪽 모서리 칸
+        Report single = persistReport(key.latitude(key.y() + 1) + 0.001, key.longitude(key.x()) + 0.001);
+        Report deleted = persistReport(LAT, LNG);
+        deleted.softDelete();
+        persistReport(37.5665, 126.9780); // 다른 타일
+        entityManager.flush();
+
+        MapTileResponse tile = mapService.getTile(ZOOM, key.x(), key.y());
+
+        assertThat(tile.getTotalReports()).isEqualTo(3);
+        assertThat(tile.getClusters()).hasSize(2);
+        assertThat(tile.getMinLatitude()).isLessThan(LAT);
+        assertThat(tile.getMaxLatitude()).isGreaterThan(LAT);
+
+        MapTileResponse.Cluster dense = tile.getClusters().stream()
+                .filter(cluster -> cluster.getCount() == 2)
+                .findFirst()
+                .orElseThrow();
+        assertThat(dense.getLatitude()).isBetween(LAT, LAT + 0.0001);
+        assertThat(dense.getLongitude()).isBetween(LNG, LNG + 0.0001);
+        assertThat(dense.getReportId()).isNull();
+
+        MapTileResponse.Cluster lone = tile.getClusters().stream()
+                .filter(cluster -> cluster.getCount() == 1)
+                .findFirst()
+                .orElseThrow();
+        assertThat(lone.getReportId()).isEqualTo(single.getId().toString());
+    }
+
+    @Test
+    @DisplayName("타일을 캐시하고, 해당 위치의 신고가 바뀔 때만 무효화한다")
+    void getTile_ShouldCacheUntilReportAtLocationChanges() {
+        persistReport(LAT, LNG);
+        ReportMapService.TileKey key = ReportMapService.TileKey.containing(ZOOM, LAT, LNG);
+        MapTileResponse first = mapService.getTile(ZOOM, key.x(), key.y());
+
+        // 위치가 그대로인 수정은 캐시 유지
+        Report edited = persistReport(LAT, LNG);
+        ReportFacts before = ReportFacts.of(edited);
+        edited.setPriority(Report.Priority.HIGH);
+        mapService.onReportLifecycle(ReportLifecycleEvent.changed(before, edited));
+        assertThat(mapService.getTile(ZOOM, key.x(), key.y())).isSameAs(first);
+
+        // 다른 곳의 신고 생성은 이 타일에 영향 없음
+        Report elsewhere = persistReport(37.5665, 126.9780);
+        mapService.onReportLifecycle(ReportLifecycleEvent.created(elsewhere));
+        assertThat(mapService.getTile(ZOOM, key.x(), key.y())).isSameAs(first);
+
+        // 타일 안 신고 생성 시 다시 집계
+        Report created = persistReport(LAT + 0.001, LNG + 0.001);
+        mapService.onReportLifecycle(ReportLifecycleEvent.created(created));
+        MapTileResponse refreshed = mapService.getTile(ZOOM, key.x(), key.y());
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed.getTotalReports()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 전파한 무효화로 같은 위치의 캐시 타일을 다시 집계한다")
+    @SuppressWarnings("unchecked")
+    void onMessage_EvictionFromOtherNode_ShouldEvictCachedTile() {
+        persistReport(LAT, LNG);
+        ReportMapService.TileKey key = ReportMapService.TileKey.containing(ZOOM, LAT, LNG);
+        RedisTemplate<String, String> otherRedis = mock(RedisTemplate.class);
+        ReportMapService otherNode = newMapService(otherRedis);
+        MapTileResponse cached = otherNode.getTile(ZOOM, key.x(), key.y());
+
+        // 이 노드에서 신고 생성 → 무효화 발행
+        Report created = persistReport(LAT + 0.001, LNG + 0.001);
+        mapService.onReportLifecycle(ReportLifecycleEvent.created(created));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("report-map-evictions"), payload.capture());
+
+        // 발행한 노드 자신은 같은 메시지를 다시 처리하지 않음
+        MapTileResponse local = mapService.getTile(ZOOM, key.x(), key.y());
+        mapService.onMessage(message(payload.getValue()), null);
+        assertThat(mapService.getTile(ZOOM, key.x(), key.y())).isSameAs(local);
+
+        assertThat(otherNode.getTile(ZOOM, key.x(), key.y())).isSameAs(cached);
+        otherNode.onMessage(message(payload.getValue()), null);
+        MapTileResponse refreshed = otherNode.getTile(ZOOM, key.x(), key.y());
+        assertThat(refreshed).isNotSameAs(cached);
+        assertThat(refreshed.getTotalReports()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("위치가 그대로인 수정은 무효화를 발행하지 않고, 잘못된 메시지는 무시한다")
+    void onReportLifecycle_UnchangedLocation_ShouldNotPublish() {
+        persistReport(LAT, LNG);
+        ReportMapService.TileKey key = ReportMapService.TileKey.containing(ZOOM, LAT, LNG);
+        MapTileResponse first = mapService.getTile(ZOOM, key.x(), key.y());
+
+        Report edited = persistReport(LAT, LNG);
+        ReportFacts before = ReportFacts.of(edited);
+        edited.setPriority(Report.Priority.HIGH);
+        mapService.onReportLifecycle(ReportLifecycleEvent.changed(before, edited));
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+
+        mapService.onMessage(message("not json"), null);
+        assertThat(mapService.getTile(ZOOM, key.x(), key.y())).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 줌/타일 좌표는 거부한다")
+    void getTile_ShouldRejectInvalidTileCoordinates() {
+        assertThatThrownBy(() -> mapService.getTile(ReportMapService.MAX_ZOOM + 1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mapService.getTile(2, 4, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReportMapService newMapService(RedisTemplate<String, String> redis) {
+        return new ReportMapService(reportRepository, redis, mock(RedisSubscriptions.class), objectMapper,
+                8, 100, Duration.ofHours(1));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("report-map-evictions".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Report persistReport(double latitude, double longitude) {
+        return entityManager.persistAndFlush(Report.builder()
+                .title("지도 테스트")
+                .description("지도 테스트 신고")
+                .user(reporter)
+                .latitude(BigDecimal.valueOf(latitude))
+                .longitude(BigDecimal.valueOf(longitude))
+                .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.entity.Category;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.presentation.dto.response.ReportSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고서 검색 (search_text 부분 일치, 관련도, 하이라이트) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReportSearchServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private ReportSearchService searchService;
+    private User reporter;
+    private Category road;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new ReportSearchService(reportRepository);
+        reporter = entityManager.persist(User.builder()
+                .email("search@example.com")
+                .name("Search User")
+                .build());
+        road = entityManager.persist(Category.builder().name("도로/교통").build());
+    }
+
+    @Test
+    @DisplayName("제목 일치를 설명 일치보다 높게 평가하고 모든 검색어를 포함한 신고서만 찾는다")
+    void search_ShouldRankTitleMatchesAndRequireAllTerms() {
+        persistReport("가로등 고장", "밤에 어두워서 위험합니다", "전주시 완산구", null);
+        persistReport("도로 파손 신고", "도로가 움푹 패였습니다", "전주시 덕진구", road);
+        persistReport("쓰레기 무단투기", "도로 옆에 쓰레기가 쌓여 있습니다", "군산시", null);
+        Report deleted = persistReport("도로 침하", "삭제된 신고", "익산시", road);
+        deleted.softDelete();
+        entityManager.flush();
+
+        ReportSearchResponse response = searchService.search("도로", null, null, null, null, null, 0, 10);
+
+        assertThat(response.getResults()).extracting(ReportSearchResponse.Result::getTitle)
+                .containsExactly("도로 파손 신고", "쓰레기 무단투기");
+        assertThat(response.getResults().get(0).getScore()).isGreaterThan(response.getResults().get(1).getScore());
+        assertThat(response.isHasNext()).isFalse();
+
+        assertThat(searchService.search("전주시 가로등", null, null, null, null, null, 0, 10).getResults())
+                .extracting(ReportSearchResponse.Result::getTitle)
+                .containsExactly("가로등 고장");
+    }
+
+    @Test
+    @DisplayName("값이 있는 필터만 적용하고, 검색어 없이도 필터로 조회한다")
+    void search_ShouldApplyOnlyGivenFilters() {
+        persistReport("도로 파손", "큰 구멍", "전주시", road);
+        persistReport("도로 소음", "공사 소음", "전주시", null);
+        entityManager.flush();
+
+        assertThat(searchService.search("도로", road.getId(), null, null, null, null, 0, 10).getResults())
+                .extracting(ReportSearchResponse.Result::getTitle)
+                .containsExactly("도로 파손");
+        assertThat(searchService.search(null, road.getId(), null, null, null, null, 0, 10).getResults())
+                .hasSize(1);
+        assertThat(searchService.search("  ", null, null, Report.Priority.MEDIUM, reporter.getId(), null, 0, 10)
+                .getResults())
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("LIKE 와일드카드는 문자 그대로 검색하고, 결과는 페이지로 나눈다")
+    void search_ShouldEscapeWildcardsAndPaginate() {
+        persistReport("할인율 100% 표기 오류", "안내판", "전주시", null);
+        persistReport("할인율 1000 표기 오류", "안내판", "전주시", null);
+        persistReport("안내판 훼손", "안내판이 넘어짐", "전주시", null);
+        entityManager.flush();
+
+        assertThat(searchService.search("100%", null, null, null, null, null, 0, 10).getResults())
+                .extracting(ReportSearchResponse.Result::getTitle)
+                .containsExactly("할인율 100% 표기 오류");
+
+        ReportSearchResponse first = searchService.search("안내판", null, null, null, null, null, 0, 2);
+        ReportSearchResponse second = searchService.search("안내판", null, null, null, null, null, 1, 2);
+        assertThat(first.getResults()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getResults()).hasSize(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getResults().get(0).getTitle()).isEqualTo("안내판 훼손");
+    }
+
+    @Test
+    @DisplayName("하이라이트는 원문을 이스케이프하고 검색어만 <mark>로 감싼다")
+    void highlight_ShouldEscapeHtmlAndMarkTerms() {
+        List<String> terms = ReportSearchService.tokenize("  도로   <B>  도로 ");
+        assertThat(terms).containsExactly("도로", "<b>");
+
+        assertThat(ReportSearchService.highlight("<b>도로</b> 파손", terms))
+                .isEqualTo("<mark>&lt;b&gt;도로</mark>&lt;/b&gt; 파손");
+
+        String description = "가".repeat(100) + " 도로 " + "나".repeat(300);
+        String snippet = ReportSearchService.snippet(description, List.of("도로"));
+        assertThat(snippet).startsWith("…").endsWith("…").contains("<mark>도로</mark>");
+    }
+
+    private Report persistReport(String title, String description, String address, Category category) {
+        return entityManager.persistAndFlush(Report.builder()
+                .title(title)
+                .description(description)
+                .address(address)
+                .user(reporter)
+                .category(category)
+                .build());
+    }
+}
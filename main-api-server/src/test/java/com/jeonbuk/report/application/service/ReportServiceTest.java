@@ -0,0 +1,128 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.domain.entity.Category;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.entity.Status;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.presentation.dto.response.ReportListResponse;
+import com.jeonbuk.report.presentation.dto.response.ReportSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 신고서 목록 (프로젝션 + 키셋 페이지네이션) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private ReportService reportService;
+    private User reporter;
+    private Status received;
+    private Category road;
+
+    @BeforeEach
+    void setUp() {
+        reportService = new ReportService(reportRepository, event -> { });
+        reporter = entityManager.persist(User.builder()
+                .email("list@example.com")
+                .name("List User")
+                .build());
+        received = entityManager.persist(Status.builder().name("접수").color("#3366FF").orderIndex(1).build());
+        road = entityManager.persist(Category.builder().name("도로/교통").build());
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 최신순으로 빠짐없이, 중복 없이 모든 신고서를 읽는다")
+    void getReportList_ShouldWalkAllPagesByKeyset() {
+        List<UUID> expected = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            // 같은 생성 시각이 여러 건이어도 id로 순서가 정해짐
+            persistReport("신고 " + i, base.plusMinutes(i / 2));
+        }
+        Report deleted = persistReport("삭제된 신고", base.plusHours(1));
+        deleted.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ReportSummaryResponse> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ReportListResponse page = reportService.getReportList(cursor, 3);
+            walked.addAll(page.getReports());
+            assertThat(page.getSize()).isEqualTo(page.getReports().size());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).hasSize(7);
+        assertThat(walked).extracting(ReportSummaryResponse::getId).doesNotHaveDuplicates()
+                .doesNotContain(deleted.getId());
+        for (int i = 1; i < walked.size(); i++) {
+            ReportSummaryResponse previous = walked.get(i - 1);
+            ReportSummaryResponse current = walked.get(i);
+            assertThat(previous.getCreatedAt()).isAfterOrEqualTo(current.getCreatedAt());
+        }
+
+        ReportSummaryResponse first = walked.get(0);
+        assertThat(first.getStatus()).isEqualTo("접수");
+        assertThat(first.getStatusColor()).isEqualTo("#3366FF");
+        assertThat(first.getCategory()).isEqualTo("도로/교통");
+        assertThat(first.getReporterName()).isEqualTo("List User");
+        assertThat(first.getPriority()).isEqualTo("MEDIUM");
+    }
+
+    @Test
+    @DisplayName("페이지 크기를 제한하고 잘못된 커서는 거부한다")
+    void getReportList_ShouldClampSizeAndRejectInvalidCursor() {
+        persistReport("단건", LocalDateTime.of(2024, 5, 1, 12, 0));
+
+        ReportListResponse page = reportService.getReportList(null, 0);
+        assertThat(page.getReports()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+
+        assertThatThrownBy(() -> reportService.getReportList("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Report persistReport(String title, LocalDateTime createdAt) {
+        Report report = entityManager.persistAndFlush(Report.builder()
+                .title(title)
+                .description("목록 테스트 신고")
+                .user(reporter)
+                .status(received)
+                .category(road)
+                .build());
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE reports SET created_at = TIMESTAMP '" + Timestamp.valueOf(createdAt) + "' WHERE id = :id")
+                .setParameter("id", report.getId())
+                .executeUpdate();
+        return report;
+    }
+}
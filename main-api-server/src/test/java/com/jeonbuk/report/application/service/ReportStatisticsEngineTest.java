@@ -0,0 +1,207 @@
+package com.jeonbuk.report.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent;
+import com.jeonbuk.report.application.service.event.ReportLifecycleEvent.ReportFacts;
+import com.jeonbuk.report.domain.entity.Category;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.entity.Status;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import com.jeonbuk.report.domain.repository.UserRepository;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import com.jeonbuk.report.presentation.dto.response.StatisticsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 신고서 통계 엔진 (메모리 롤업, 증분 갱신, 노드 간 전파, 보정 스캔) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReportStatisticsEngineTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User reporter;
+    private Status received;
+    private Status processing;
+    private Status done;
+    private Category road;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reporter = entityManager.persist(User.builder()
+                .email("stats@example.com")
+                .name("Stats User")
+                .build());
+        received = entityManager.persist(Status.builder().name("접수").orderIndex(1).build());
+        processing = entityManager.persist(Status.builder().name("처리중").orderIndex(2).build());
+        done = entityManager.persist(Status.builder().name("완료").orderIndex(3).isTerminal(true).build());
+        road = entityManager.persist(Category.builder().name("도로/교통").build());
+    }
+
+    @Test
+    @DisplayName("보정 스캔 한 번으로 상태/카테고리/우선순위/일자별 통계를 계산한다")
+    void reconcile_ShouldBuildRollupsFromSingleScan() {
+        persistReport(received, road, Report.Priority.HIGH, null, null);
+        persistReport(received, null, Report.Priority.MEDIUM, null, null);
+        persistReport(processing, road, Report.Priority.MEDIUM, new BigDecimal("80.00"), null);
+        persistReport(done, road, Report.Priority.URGENT, new BigDecimal("90.00"), LocalDate.now().plusDays(3));
+        Report deleted = persistReport(done, road, Report.Priority.LOW, null, null);
+        deleted.softDelete();
+        entityManager.flush();
+
+        StatisticsResponse statistics = engine(Duration.ZERO).getDashboard();
+
+        assertThat(statistics.getTotalReports()).isEqualTo(4);
+        assertThat(statistics.getPendingReports()).isEqualTo(2);
+        assertThat(statistics.getInProgressReports()).isEqualTo(1);
+        assertThat(statistics.getCompletedReports()).isEqualTo(1);
+        assertThat(statistics.getReportsByStatus()).containsOnly(entry("접수", 2L), entry("처리중", 1L), entry("완료", 1L));
+        assertThat(statistics.getReportsByCategory()).containsOnly(entry("도로/교통", 3L), entry("미분류", 1L));
+        assertThat(statistics.getReportsByPriority()).containsOnly(entry("높음", 1L), entry("보통", 2L), entry("긴급", 1L));
+        assertThat(statistics.getReportsOverTime()).hasSize(30).containsEntry(LocalDate.now(), 4L);
+        assertThat(statistics.getReportsThisMonth()).isEqualTo(4);
+        assertThat(statistics.getReportsWithAiAnalysis()).isZero();
+        assertThat(statistics.getAverageAiConfidence()).isEqualTo(85.0);
+        assertThat(statistics.getAverageProcessingDays()).isBetween(2.0, 3.0);
+        assertThat(statistics.getCompletionRate()).isEqualTo(25.0);
+        assertThat(statistics.getTotalUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생명주기 이벤트로 DB 조회 없이 카운터를 갱신하고, 보정 스캔이 어긋난 값을 바로잡는다")
+    void lifecycleEvents_ShouldUpdateCountersIncrementallyAndReconcileFixesDrift() {
+        Report report = persistReport(received, road, Report.Priority.MEDIUM, null, null);
+        ReportStatisticsEngine engine = engine(Duration.ZERO);
+        assertThat(engine.getDashboard().getPendingReports()).isEqualTo(1);
+
+        // 상태 변경: 접수 → 완료
+        ReportFacts before = ReportFacts.of(report);
+        report.setStatus(done);
+        engine.onReportLifecycle(ReportLifecycleEvent.changed(before, report));
+        StatisticsResponse changed = engine.getDashboard();
+        assertThat(changed.getPendingReports()).isZero();
+        assertThat(changed.getCompletedReports()).isEqualTo(1);
+        assertThat(changed.getReportsByStatus()).containsOnly(entry("완료", 1L));
+
+        // DB에 반영되지 않은 이벤트는 보정 스캔에서 제거됨
+        Report phantom = Report.builder().title("phantom").description("phantom")
+                .createdAt(LocalDateTime.now()).build();
+        engine.onReportLifecycle(ReportLifecycleEvent.created(phantom));
+        assertThat(engine.getDashboard().getTotalReports()).isEqualTo(2);
+
+        engine.reconcile();
+        assertThat(engine.getDashboard().getTotalReports()).isEqualTo(1);
+        assertThat(meterRegistry.get("statistics.reconcile.drift").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("허용 지연 시간 안에서는 같은 스냅샷을 반환한다")
+    void getDashboard_ShouldServeCachedSnapshotWithinStalenessBound() {
+        persistReport(received, road, Report.Priority.MEDIUM, null, null);
+        ReportStatisticsEngine engine = engine(Duration.ofHours(1));
+        StatisticsResponse first = engine.getDashboard();
+
+        Report created = persistReport(received, road, Report.Priority.HIGH, null, null);
+        engine.onReportLifecycle(ReportLifecycleEvent.created(created));
+
+        assertThat(engine.getDashboard()).isSameAs(first);
+        assertThat(engine.getDashboard().getTotalReports()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자기 노드 변경은 Redis로 발행하고, 다른 노드가 발행한 변경만 더한다")
+    void lifecycleEvents_ShouldPropagateDeltasToOtherNodes() {
+        persistReport(received, road, Report.Priority.MEDIUM, null, null);
+        RedisTemplate<String, String> redisTemplateA = redisTemplate();
+        RedisTemplate<String, String> redisTemplateB = redisTemplate();
+        ReportStatisticsEngine nodeA = engine(Duration.ZERO, redisTemplateA);
+        ReportStatisticsEngine nodeB = engine(Duration.ZERO, redisTemplateB);
+        assertThat(nodeA.getDashboard().getTotalReports()).isEqualTo(1);
+        assertThat(nodeB.getDashboard().getTotalReports()).isEqualTo(1);
+
+        // 노드 A에서 생성 커밋 → 발행된 메시지를 두 노드 모두 수신
+        Report created = persistReport(processing, road, Report.Priority.HIGH, new BigDecimal("70.00"), null);
+        nodeA.onReportLifecycle(ReportLifecycleEvent.created(created));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplateA).convertAndSend(eq("report-statistics-deltas"), published.capture());
+        DefaultMessage message = new DefaultMessage("report-statistics-deltas".getBytes(StandardCharsets.UTF_8),
+                published.getValue().getBytes(StandardCharsets.UTF_8));
+        nodeA.onMessage(message, null);
+        nodeB.onMessage(message, null);
+
+        for (ReportStatisticsEngine node : List.of(nodeA, nodeB)) {
+            StatisticsResponse statistics = node.getDashboard();
+            assertThat(statistics.getTotalReports()).isEqualTo(2);
+            assertThat(statistics.getInProgressReports()).isEqualTo(1);
+            assertThat(statistics.getReportsByPriority()).containsOnly(entry("보통", 1L), entry("높음", 1L));
+            assertThat(statistics.getAverageAiConfidence()).isEqualTo(70.0);
+        }
+        verify(redisTemplateB, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private ReportStatisticsEngine engine(Duration maxStaleness) {
+        return engine(maxStaleness, redisTemplate());
+    }
+
+    private ReportStatisticsEngine engine(Duration maxStaleness, RedisTemplate<String, String> redisTemplate) {
+        return new ReportStatisticsEngine(reportRepository, userRepository, redisTemplate,
+                mock(RedisSubscriptions.class), new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                maxStaleness, 90);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> redisTemplate() {
+        return mock(RedisTemplate.class);
+    }
+
+    private Report persistReport(Status status, Category category, Report.Priority priority,
+                                 BigDecimal aiConfidence, LocalDate actualCompletion) {
+        Report report = Report.builder()
+                .title("통계 테스트")
+                .description("통계 테스트 신고")
+                .user(reporter)
+                .status(status)
+                .category(category)
+                .priority(priority)
+                .aiConfidenceScore(aiConfidence)
+                .actualCompletion(actualCompletion)
+                .build();
+        return entityManager.persistAndFlush(report);
+    }
+}
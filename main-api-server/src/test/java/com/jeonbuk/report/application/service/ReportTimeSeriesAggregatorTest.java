@@ -0,0 +1,146 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.application.service.ReportTimeSeriesAggregator.Bucket;
+import com.jeonbuk.report.application.service.ReportTimeSeriesAggregator.TimeSeries;
+import com.jeonbuk.report.domain.entity.Category;
+import com.jeonbuk.report.domain.entity.Report;
+import com.jeonbuk.report.domain.entity.Status;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.ReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * 기간 통계 집계 (date_trunc GROUP BY) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReportTimeSeriesAggregatorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String statisticsTimeZone;
+
+    private ReportTimeSeriesAggregator aggregator;
+    private User reporter;
+    private Status received;
+    private Category road;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ReportTimeSeriesAggregator(reportRepository);
+        reporter = entityManager.persist(User.builder()
+                .email("range@example.com")
+                .name("Range User")
+                .build());
+        received = entityManager.persist(Status.builder().name("접수").orderIndex(1).build());
+        road = entityManager.persist(Category.builder().name("도로/교통").build());
+    }
+
+    @Test
+    @DisplayName("기간 길이에 따라 시/일/주/월 구간 단위를 고른다")
+    void bucketForRange_ShouldScaleWithRangeLength() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        assertThat(Bucket.forRange(start, start)).isEqualTo(Bucket.HOUR);
+        assertThat(Bucket.forRange(start, start.plusDays(1))).isEqualTo(Bucket.HOUR);
+        assertThat(Bucket.forRange(start, start.plusDays(30))).isEqualTo(Bucket.DAY);
+        assertThat(Bucket.forRange(start, start.plusYears(1).minusDays(1))).isEqualTo(Bucket.DAY);
+        assertThat(Bucket.forRange(start, start.plusYears(2))).isEqualTo(Bucket.WEEK);
+        assertThat(Bucket.forRange(start, start.plusYears(5))).isEqualTo(Bucket.MONTH);
+    }
+
+    @Test
+    @DisplayName("1년 범위를 일 단위 구간과 상태/카테고리 건수로 한 번에 집계한다")
+    void aggregate_ShouldBucketYearByDayInSingleQuery() {
+        persistReport(received, road, LocalDateTime.of(2024, 1, 1, 9, 30));
+        persistReport(received, null, LocalDateTime.of(2024, 1, 1, 18, 0));
+        persistReport(null, road, LocalDateTime.of(2024, 6, 15, 12, 0));
+        persistReport(received, road, LocalDateTime.of(2025, 1, 1, 0, 0)); // 범위 밖
+
+        TimeSeries series = aggregator.aggregate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThat(series.bucket()).isEqualTo(Bucket.DAY);
+        assertThat(series.total()).isEqualTo(3);
+        assertThat(series.counts()).hasSize(366)
+                .containsEntry(LocalDate.of(2024, 1, 1).atStartOfDay(), 2L)
+                .containsEntry(LocalDate.of(2024, 6, 15).atStartOfDay(), 1L)
+                .containsEntry(LocalDate.of(2024, 6, 16).atStartOfDay(), 0L);
+        assertThat(series.byStatus()).containsOnly(entry("접수", 2L), entry("미지정", 1L));
+        assertThat(series.byCategory()).containsOnly(entry("도로/교통", 2L), entry("미분류", 1L));
+    }
+
+    @Test
+    @DisplayName("짧은 범위는 시간 단위, 긴 범위는 월 단위 구간으로 집계한다")
+    void aggregate_ShouldUseHourAndMonthBuckets() {
+        persistReport(received, road, LocalDateTime.of(2024, 3, 10, 9, 5));
+        persistReport(received, road, LocalDateTime.of(2024, 3, 10, 9, 55));
+        persistReport(received, road, LocalDateTime.of(2024, 3, 11, 23, 0));
+
+        TimeSeries hourly = aggregator.aggregate(LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 11));
+        assertThat(hourly.bucket()).isEqualTo(Bucket.HOUR);
+        assertThat(hourly.counts()).hasSize(48)
+                .containsEntry(LocalDateTime.of(2024, 3, 10, 9, 0), 2L)
+                .containsEntry(LocalDateTime.of(2024, 3, 11, 23, 0), 1L);
+
+        TimeSeries monthly = aggregator.aggregate(LocalDate.of(2020, 1, 1), LocalDate.of(2024, 12, 31));
+        assertThat(monthly.bucket()).isEqualTo(Bucket.MONTH);
+        assertThat(monthly.counts()).hasSize(60)
+                .containsEntry(LocalDateTime.of(2024, 3, 1, 0, 0), 3L);
+    }
+
+    @Test
+    @DisplayName("일 경계는 DB 세션 시간대가 아니라 통계 시간대 기준으로 나눈다")
+    void aggregate_ShouldSplitDaysInStatisticsTimeZone() {
+        persistReport(received, road, LocalDateTime.of(2024, 5, 1, 23, 30));
+        persistReport(received, road, LocalDateTime.of(2024, 5, 2, 0, 30));
+        persistReport(received, road, LocalDateTime.of(2024, 5, 31, 23, 59));
+
+        TimeSeries daily = aggregator.aggregate(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+
+        assertThat(daily.bucket()).isEqualTo(Bucket.DAY);
+        assertThat(daily.total()).isEqualTo(3);
+        assertThat(daily.counts()).hasSize(31)
+                .containsEntry(LocalDate.of(2024, 5, 1).atStartOfDay(), 1L)
+                .containsEntry(LocalDate.of(2024, 5, 2).atStartOfDay(), 1L)
+                .containsEntry(LocalDate.of(2024, 5, 31).atStartOfDay(), 1L);
+    }
+
+    private void persistReport(Status status, Category category, LocalDateTime createdAt) {
+        Report report = entityManager.persistAndFlush(Report.builder()
+                .title("기간 통계 테스트")
+                .description("기간 통계 테스트 신고")
+                .user(reporter)
+                .status(status)
+                .category(category)
+                .build());
+        // 통계 시간대의 벽시계 시각을 시각(instant)으로 기록 (DB 세션 시간대와 무관)
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE reports SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt.atZone(statisticsZone()).toOffsetDateTime())
+                .setParameter("id", report.getId())
+                .executeUpdate();
+    }
+
+    private ZoneId statisticsZone() {
+        return statisticsTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(statisticsTimeZone);
+    }
+}
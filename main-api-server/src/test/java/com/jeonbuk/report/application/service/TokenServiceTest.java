@@ -0,0 +1,135 @@
+package com.jeonbuk.report.application.service;
+
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 폐기 (블룸 필터, pub/sub 전파, Redis 장애 복구) 테스트
+ */
+class TokenServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisSubscriptions redisSubscriptions;
+    private TokenService tokenService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        redisSubscriptions = mock(RedisSubscriptions.class);
+        when(redisTemplate.execute(any(RedisCallback.class), eq(true))).thenReturn("PONG");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> cursorOf(List.of("blacklist:seeded")));
+        tokenService = new TokenService(
+                redisTemplate, redisSubscriptions, new SimpleMeterRegistry(), 1000, 0.001, 3600000, 100, 100,
+                Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("동기화 후 폐기되지 않은 토큰은 Redis 조회 없이 판정한다")
+    void isRevoked_ShouldAnswerMissesWithoutRedisAfterSync() {
+        tokenService.checkRedisHealth();
+
+        assertThat(tokenService.isRedisAvailable()).isTrue();
+        verify(redisSubscriptions).subscribe(eq(tokenService), any(Topic.class));
+        for (int i = 0; i < 100; i++) {
+            assertThat(tokenService.isRevoked("token-" + i)).isFalse();
+        }
+        verify(redisTemplate, never()).hasKey(anyString());
+
+        // SCAN으로 채운 폐기 ID는 Redis로 확인
+        when(redisTemplate.hasKey("blacklist:seeded")).thenReturn(true);
+        assertThat(tokenService.isRevoked("seeded")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 폐기를 pub/sub으로 받아 필터에 반영한다")
+    void onMessage_ShouldAddRemoteRevocationToFilter() {
+        tokenService.checkRedisHealth();
+        when(redisTemplate.hasKey("blacklist:remote")).thenReturn(true);
+
+        tokenService.onMessage(new DefaultMessage(
+                "token-revocations".getBytes(StandardCharsets.UTF_8), "remote".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenService.isRevoked("remote")).isTrue();
+        verify(redisTemplate).hasKey("blacklist:remote");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 폐기는 로컬에 두었다가, 복구되면 Redis로 옮기고 전파한다")
+    void checkRedisHealth_ShouldReplayLocalRevocationsOnRecovery() {
+        tokenService.checkRedisHealth();
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisCallback.class), eq(true));
+        tokenService.checkRedisHealth();
+        assertThat(tokenService.isRedisAvailable()).isFalse();
+
+        tokenService.revoke("offline", new Date(System.currentTimeMillis() + 60_000));
+        assertThat(tokenService.isRevoked("offline")).isTrue();
+        // 장애 중 필터 양성은 폐기로 간주
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(tokenService.isRevoked("seeded")).isTrue();
+        assertThat(tokenService.isRevoked("never-revoked")).isFalse();
+        verify(valueOperations, never()).set(eq("blacklist:offline"), anyString(), any(Duration.class));
+
+        doReturn("PONG").when(redisTemplate).execute(any(RedisCallback.class), eq(true));
+        tokenService.checkRedisHealth();
+
+        assertThat(tokenService.isRedisAvailable()).isTrue();
+        verify(valueOperations).set(eq("blacklist:offline"), eq("revoked"), any(Duration.class));
+        verify(redisTemplate).convertAndSend("token-revocations", "offline");
+    }
+
+    @Test
+    @DisplayName("pub/sub 메시지를 놓친 폐기도 주기적인 SCAN으로 필터에 반영한다")
+    void checkRedisHealth_ShouldResyncRevocationsMissedByPubSub() {
+        tokenService.checkRedisHealth();
+        assertThat(tokenService.isRevoked("missed")).isFalse();
+
+        // 구독이 재연결되는 동안 다른 인스턴스가 폐기 (메시지 유실)
+        when(redisTemplate.scan(any(ScanOptions.class)))
+                .thenAnswer(invocation -> cursorOf(List.of("blacklist:seeded", "blacklist:missed")));
+        when(redisTemplate.hasKey("blacklist:missed")).thenReturn(true);
+        tokenService.checkRedisHealth();
+
+        assertThat(tokenService.isRevoked("missed")).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(List<String> keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        var iterator = keys.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jeonbuk.report.domain.repository;
+
+import com.jeonbuk.report.domain.entity.Alert;
+import com.jeonbuk.report.domain.entity.Alert.AlertSeverity;
+import com.jeonbuk.report.domain.entity.Alert.AlertType;
+import com.jeonbuk.report.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 알림 생성 (JDBC 배치) 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.alert.bulk-insert.batch-size=3")
+class AlertBulkInsertRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("배치 크기를 넘는 사용자 수도 모두 저장하고 생성 수를 반환한다")
+    void bulkInsertAlerts_MoreUsersThanBatchSize_ShouldInsertAll() {
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            userIds.add(persistUser("bulk" + i + "@example.com", User.UserRole.USER, true).getId());
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(5).truncatedTo(ChronoUnit.SECONDS);
+
+        int inserted = alertRepository.bulkInsertAlerts(userIds, AlertType.MAINTENANCE, "시스템 점검 안내",
+                "{\"details\":\"정기 점검\"}", AlertSeverity.HIGH, expiresAt);
+        entityManager.clear();
+
+        assertThat(inserted).isEqualTo(7);
+        for (UUID userId : userIds) {
+            List<Alert> alerts = alertRepository.findByUserIdOrderByCreatedAtDesc(userId);
+            assertThat(alerts).hasSize(1);
+            Alert alert = alerts.get(0);
+            assertThat(alert.getType()).isEqualTo(AlertType.MAINTENANCE);
+            assertThat(alert.getSeverity()).isEqualTo(AlertSeverity.HIGH);
+            assertThat(alert.getContent()).isEqualTo("{\"details\":\"정기 점검\"}");
+            assertThat(alert.getIsRead()).isFalse();
+            assertThat(alert.getExpiresAt()).isEqualTo(expiresAt);
+            assertThat(alert.getCreatedAt()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("활성 관리자 ID만 조회하여 만료 없는 알림을 생성한다")
+    void bulkInsertAlerts_ActiveAdmins_ShouldTargetOnlyActiveAdmins() {
+        User admin = persistUser("admin@example.com", User.UserRole.ADMIN, true);
+        persistUser("inactive-admin@example.com", User.UserRole.ADMIN, false);
+        persistUser("user@example.com", User.UserRole.USER, true);
+
+        List<UUID> adminIds = userRepository.findActiveUserIdsByRole(User.UserRole.ADMIN);
+        int inserted = alertRepository.bulkInsertAlerts(adminIds, AlertType.PERFORMANCE_ISSUE, "시스템 성능 이슈 감지",
+                "{}", AlertSeverity.CRITICAL, null);
+        entityManager.clear();
+
+        assertThat(adminIds).containsExactly(admin.getId());
+        assertThat(inserted).isEqualTo(1);
+        assertThat(alertRepository.findAll())
+                .singleElement()
+                .satisfies(alert -> assertThat(alert.getExpiresAt()).isNull());
+    }
+
+    @Test
+    @DisplayName("대상 사용자가 없으면 쿼리 없이 0을 반환한다")
+    void bulkInsertAlerts_NoUsers_ShouldReturnZero() {
+        int inserted = alertRepository.bulkInsertAlerts(List.of(), AlertType.MAINTENANCE, "title", "{}",
+                AlertSeverity.LOW, null);
+
+        assertThat(inserted).isZero();
+        assertThat(alertRepository.count()).isZero();
+    }
+
+    private User persistUser(String email, User.UserRole role, boolean active) {
+        User user = User.builder()
+                .email(email)
+                .name("Test User")
+                .role(role)
+                .isActive(active)
+                .build();
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,86 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 용량 제한 만료 저장소 (타이머 휠 정리, 용량 초과 제거, 메트릭) 테스트
+ */
+class ExpiringStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiringStore<String> store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = ExpiringStore.create("test", 3, Duration.ofSeconds(1), meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("sweep은 만료된 항목만 제거하고, 휠 한 바퀴보다 긴 TTL은 남긴다")
+    void sweep_ShouldRemoveOnlyExpiredEntries() {
+        store.put("short", "a", Duration.ofSeconds(10));
+        store.put("long", "b", Duration.ofHours(2));
+
+        now.addAndGet(Duration.ofSeconds(11).toMillis());
+        assertThat(store.sweep()).isEqualTo(1);
+        assertThat(store.get("short")).isNull();
+        assertThat(store.get("long")).isEqualTo("b");
+
+        // 여러 바퀴를 건너뛰어도 만료 시각 전에는 유지
+        now.addAndGet(Duration.ofMinutes(100).toMillis());
+        assertThat(store.sweep()).isZero();
+        assertThat(store.get("long")).isEqualTo("b");
+
+        now.addAndGet(Duration.ofMinutes(20).toMillis());
+        assertThat(store.sweep()).isEqualTo(1);
+        assertThat(store.size()).isZero();
+        assertThat(meterRegistry.get("fallback.store.evictions").tag("cause", "expired").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("sweep 전이라도 만료된 값은 반환하지 않는다")
+    void get_ShouldNotReturnExpiredValueBeforeSweep() {
+        store.put("key", "value", Duration.ofMillis(1500));
+        now.addAndGet(1499);
+        assertThat(store.get("key")).isEqualTo("value");
+
+        now.addAndGet(1);
+        assertThat(store.get("key")).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 먼저 넣은 항목을 제거하고 크기 메트릭에 반영한다")
+    void put_ShouldEvictEldestWhenFull() {
+        store.put("first", "1", Duration.ofMinutes(1));
+        store.put("second", "2", Duration.ofMinutes(1));
+        store.put("third", "3", Duration.ofMinutes(1));
+        // 같은 키 교체는 용량을 늘리지 않음
+        store.put("second", "2'", Duration.ofMinutes(5));
+        store.put("fourth", "4", Duration.ofMinutes(1));
+
+        assertThat(store.get("first")).isNull();
+        assertThat(store.get("second")).isEqualTo("2'");
+        assertThat(store.entries()).extracting(ExpiringStore.Entry::key)
+                .containsExactly("third", "second", "fourth");
+        assertThat(meterRegistry.get("fallback.store.size").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("fallback.store.evictions").tag("cause", "capacity").counter().count())
+                .isEqualTo(1.0);
+
+        // 제거된 항목은 휠에서도 빠져 있어야 함
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        assertThat(store.sweep()).isEqualTo(2);
+        assertThat(store.entries()).extracting(ExpiringStore.Entry::key).containsExactly("second");
+    }
+}
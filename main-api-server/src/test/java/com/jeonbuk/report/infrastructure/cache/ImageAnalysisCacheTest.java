@@ -0,0 +1,149 @@
+package com.jeonbuk.report.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.image.ImageFingerprinter.Fingerprint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ImageAnalysisCache 로컬 계층 및 Redis 버킷 단위 테스트
+ */
+class ImageAnalysisCacheTest {
+
+    private static final long BASE_HASH = 0x0F0F_1234_ABCD_5678L;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 SHA-256은 정확 일치로 적중한다")
+    void get_SameContentHash_ShouldHitExact() {
+        ImageAnalysisCache<String> cache = newCache(10, Duration.ofMinutes(5));
+        cache.put("model-a", new Fingerprint("sha-1", BASE_HASH), "pothole");
+
+        assertThat(cache.get("model-a", new Fingerprint("sha-1", null))).contains("pothole");
+        assertThat(requests("hit_exact")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해밍 거리 3 이하의 다른 이미지는 유사 일치로 적중한다")
+    void get_NearDuplicate_ShouldHitNear() {
+        ImageAnalysisCache<String> cache = newCache(10, Duration.ofMinutes(5));
+        cache.put("model-a", new Fingerprint("sha-1", BASE_HASH), "pothole");
+
+        // 서로 다른 블록의 비트 3개 변경
+        long nearHash = BASE_HASH ^ (1L | (1L << 20) | (1L << 40));
+
+        assertThat(cache.get("model-a", new Fingerprint("sha-2", nearHash))).contains("pothole");
+        assertThat(requests("hit_near")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해밍 거리가 멀거나 범위(모델)가 다르면 미스")
+    void get_FarHashOrOtherScope_ShouldMiss() {
+        ImageAnalysisCache<String> cache = newCache(10, Duration.ofMinutes(5));
+        cache.put("model-a", new Fingerprint("sha-1", BASE_HASH), "pothole");
+
+        long farHash = BASE_HASH ^ 0xFFL;
+
+        assertThat(cache.get("model-a", new Fingerprint("sha-2", farHash))).isEmpty();
+        assertThat(cache.get("model-b", new Fingerprint("sha-1", BASE_HASH))).isEmpty();
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void put_OverCapacity_ShouldEvictLeastRecentlyUsed() {
+        ImageAnalysisCache<String> cache = newCache(2, Duration.ofMinutes(5));
+        cache.put("m", new Fingerprint("sha-1", 1L), "one");
+        cache.put("m", new Fingerprint("sha-2", 0xFFFF_0000_0000L), "two");
+        cache.get("m", new Fingerprint("sha-1", null));
+        cache.put("m", new Fingerprint("sha-3", 0xFFFF_FFFF_0000_0000L), "three");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("m", new Fingerprint("sha-1", null))).contains("one");
+        assertThat(cache.get("m", new Fingerprint("sha-2", 0xFFFF_0000_0000L))).isEmpty();
+        assertThat(meterRegistry.get("image.analysis.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 반환하지 않는다")
+    void get_Expired_ShouldMiss() throws InterruptedException {
+        ImageAnalysisCache<String> cache = newCache(10, Duration.ofMillis(1));
+        cache.put("m", new Fingerprint("sha-1", BASE_HASH), "pothole");
+
+        Thread.sleep(5);
+
+        assertThat(cache.get("m", new Fingerprint("sha-1", BASE_HASH))).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 버킷은 만료 시각을 점수로 저장하고, 쓰기/읽기 때 만료 멤버를 지우며 크기를 제한한다")
+    @SuppressWarnings("unchecked")
+    void sharedBuckets_ShouldExpireMembersByScoreAndCapSize() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        ZSetOperations<String, String> buckets = mock(ZSetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.opsForZSet()).thenReturn(buckets);
+        ImageAnalysisCache<String> cache = new ImageAnalysisCache<>("test", String.class, 10, Duration.ofMinutes(5), 3,
+                redisTemplate, new ObjectMapper(), meterRegistry);
+        long before = System.currentTimeMillis();
+
+        cache.put("m", new Fingerprint("sha-1", BASE_HASH), "pothole");
+
+        String member = Long.toHexString(BASE_HASH) + ":sha-1";
+        ArgumentCaptor<Double> expiresAt = ArgumentCaptor.forClass(Double.class);
+        verify(buckets, times(HammingIndex.BLOCKS)).add(anyString(), eq(member), expiresAt.capture());
+        assertThat(expiresAt.getValue()).isBetween(before + 300_000.0, System.currentTimeMillis() + 300_000.0);
+        verify(buckets, times(HammingIndex.BLOCKS))
+                .removeRangeByScore(anyString(), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        verify(buckets, times(HammingIndex.BLOCKS))
+                .removeRange(anyString(), eq(0L), eq(-(ImageAnalysisCache.MAX_BUCKET_MEMBERS + 1L)));
+
+        // 다른 노드: 로컬 미스 → 버킷에서 아직 만료되지 않은 멤버만 조회
+        cache.clear();
+        long nearHash = BASE_HASH ^ 1L;
+        when(buckets.reverseRangeByScore(anyString(), anyDouble(), eq(Double.POSITIVE_INFINITY), eq(0L),
+                eq((long) ImageAnalysisCache.MAX_BUCKET_MEMBERS))).thenReturn(Set.of(member));
+        when(values.get(endsWith(":v:sha-1"))).thenReturn("\"pothole\"");
+
+        assertThat(cache.get("m", new Fingerprint("sha-2", nearHash))).contains("pothole");
+        assertThat(requests("hit_shared")).isEqualTo(1);
+        verify(buckets, times(HammingIndex.BLOCKS + 1))
+                .removeRangeByScore(anyString(), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+
+    private ImageAnalysisCache<String> newCache(int maxEntries, Duration ttl) {
+        return new ImageAnalysisCache<>("test", String.class, maxEntries, ttl, 3,
+                null, new ObjectMapper(), meterRegistry);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("image.analysis.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.jeonbuk.report.infrastructure.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 HTTP 연결 풀 단위 테스트
+ */
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        connectionManager = config.httpConnectionManager(10, 5, "detect.roboflow.com", 8, "openrouter.ai", 8,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(5), Duration.ofSeconds(2),
+                meterRegistry);
+        httpClient = config.pooledHttpClient(connectionManager, Duration.ofSeconds(2), Duration.ofSeconds(5),
+                Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("연속 호출은 같은 keep-alive 연결을 재사용한다")
+    void restTemplate_SequentialCalls_ShouldReuseConnection() {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("ok");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체/route별 한도와 풀 메트릭을 등록한다")
+    void httpConnectionManager_ShouldApplyLimitsAndBindMetrics() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(10);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value()).isZero();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending").gauge().value()).isZero();
+    }
+}
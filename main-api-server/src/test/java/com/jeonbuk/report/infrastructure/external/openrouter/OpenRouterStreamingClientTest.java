@@ -0,0 +1,166 @@
+package com.jeonbuk.report.infrastructure.external.openrouter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.external.openrouter.OpenRouterStreamingClient.StreamedFields;
+import com.jeonbuk.report.infrastructure.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenRouter 스트리밍 클라이언트 / 증분 JSON 파싱 단위 테스트
+ */
+class OpenRouterStreamingClientTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("조각으로 나뉜 JSON도 필드가 완성되는 즉시 읽는다")
+    void feed_SplitTokens_ShouldExposeCompletedFields() {
+        IncrementalJsonFieldReader reader = new IncrementalJsonFieldReader();
+
+        reader.feed("분석 결과입니다.\n```json\n{\"urgency_");
+        reader.feed("score\": 0.");
+        assertThat(reader.fields()).isEmpty();
+
+        reader.feed("85, \"category\": \"FI");
+        assertThat(reader.fields()).containsEntry("urgency_score", 0.85);
+        assertThat(reader.fields()).doesNotContainKey("category");
+
+        reader.feed("RE\", \"tags\": [\"연기\", {\"n\": 1}], \"extra\": null}\n```\n추가 설명");
+
+        assertThat(reader.fields()).containsEntry("category", "FIRE").containsEntry("extra", null);
+        assertThat(reader.fields().get("tags")).asList().hasSize(2);
+        assertThat(reader.isComplete()).isTrue();
+        assertThat(reader.isFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 문법 오류 시 파싱을 멈추고 원문은 유지한다")
+    void feed_MalformedJson_ShouldKeepRawText() {
+        IncrementalJsonFieldReader reader = new IncrementalJsonFieldReader();
+
+        reader.feed("{\"urgency_score\": CRITICAL");
+        reader.feed(" }");
+
+        assertThat(reader.isFailed()).isTrue();
+        assertThat(reader.fields()).isEmpty();
+        assertThat(reader.rawText()).contains("CRITICAL");
+    }
+
+    @Test
+    @DisplayName("필요한 필드가 모두 도착하면 나머지 스트림을 기다리지 않는다")
+    void streamJsonFields_RequiredFieldsArrived_ShouldStopEarly() {
+        OpenRouterStreamingClient client = newClient(sse(
+                delta("{\"severity_level\": \"high\", "),
+                delta("\"confidence_score\": 0.9, "),
+                delta("\"recommended_action\": \"즉시 보수\"}"),
+                "[DONE]"), new AtomicInteger());
+
+        StreamedFields streamed = client.streamJsonFields(List.of(OpenRouterDto.Message.user("분석")),
+                Set.of("severity_level", "confidence_score")).block(Duration.ofSeconds(5));
+
+        assertThat(streamed.fields())
+                .containsEntry("severity_level", "high")
+                .containsEntry("confidence_score", 0.9)
+                .doesNotContainKey("recommended_action");
+        assertThat(streamed.complete()).isFalse();
+        assertThat(meterRegistry.get("openrouter.stream.early_cancel").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JSON이 없는 응답은 원문을 그대로 돌려준다")
+    void streamJsonFields_NoJson_ShouldReturnRawText() {
+        OpenRouterStreamingClient client = newClient(sse(delta("심각도: "), delta("CRITICAL"), "[DONE]"),
+                new AtomicInteger());
+
+        StreamedFields streamed = client.streamJsonFields(List.of(OpenRouterDto.Message.user("분석")),
+                Set.of("severity_level")).block(Duration.ofSeconds(5));
+
+        assertThat(streamed.fields()).isEmpty();
+        assertThat(streamed.rawText()).isEqualTo("심각도: CRITICAL");
+    }
+
+    @Test
+    @DisplayName("첫 토큰 전 일시적 오류는 재시도한다")
+    void streamChatCompletion_TransientError_ShouldRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        OpenRouterStreamingClient client = newClient(attempt -> attempt == 1
+                ? ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).body("overloaded").build()
+                : sse(delta("안녕"), "[DONE]"), calls);
+
+        List<String> deltas = client.streamChatCompletion(List.of(OpenRouterDto.Message.user("hi")))
+                .collectList().block(Duration.ofSeconds(10));
+
+        assertThat(deltas).containsExactly("안녕");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("클라이언트 오류는 재시도하지 않는다")
+    void streamChatCompletion_ClientError_ShouldNotRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        OpenRouterStreamingClient client = newClient(attempt ->
+                ClientResponse.create(HttpStatus.UNAUTHORIZED).body("{\"error\":\"bad key\"}").build(), calls);
+
+        assertThatThrownBy(() -> client.streamChatCompletion(List.of(OpenRouterDto.Message.user("hi")))
+                .blockLast(Duration.ofSeconds(5)))
+                .isInstanceOf(OpenRouterException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private OpenRouterStreamingClient newClient(ClientResponse response, AtomicInteger calls) {
+        return newClient(attempt -> response, calls);
+    }
+
+    private OpenRouterStreamingClient newClient(IntFunction<ClientResponse> responses, AtomicInteger calls) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromSupplier(() -> responses.apply(calls.incrementAndGet())))
+                .build();
+        ResilienceRegistry registry = new ResilienceRegistry(50, 10, Duration.ofSeconds(20),
+                Duration.ofSeconds(30), 10, Duration.ofSeconds(30), 3, 0.2, 10, meterRegistry);
+        return new OpenRouterStreamingClient(webClient, new ObjectMapper(), registry, meterRegistry,
+                "test-key", "test-model");
+    }
+
+    private static ClientResponse sse(String... data) {
+        StringBuilder body = new StringBuilder(": OPENROUTER PROCESSING\n\n");
+        for (String item : data) {
+            body.append("data: ").append(item).append("\n\n");
+        }
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .body(body.toString())
+                .build();
+    }
+
+    private static String delta(String content) {
+        try {
+            String escaped = new ObjectMapper().writeValueAsString(content);
+            return "{\"choices\":[{\"delta\":{\"content\":" + escaped + "}}]}";
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jeonbuk.report.infrastructure.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageResizeEngine 단위 테스트
+ */
+class ImageResizeEngineTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(8);
+        executor.setThreadNamePrefix("ImageResizeTest-");
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("단계적 축소 후 비율을 유지한 목표 크기를 반환한다")
+    void resize_ShouldKeepAspectRatio() {
+        ImageResizeEngine engine = new ImageResizeEngine(executor, meterRegistry, Long.MAX_VALUE, 0);
+
+        BufferedImage resized = engine.resize(solidImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 1920);
+
+        assertThat(resized.getWidth()).isEqualTo(1920);
+        assertThat(resized.getHeight()).isEqualTo(1440);
+        // 1/2 축소 1회 + 최종 보간 1회
+        assertThat(meterRegistry.get("image.resize.pass").tag("pass", "halving").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.resize.pass").tag("pass", "final").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("긴 변은 부동소수점 오차 없이 정확히 목표 크기로 축소한다")
+    void resize_ShouldHitExactTargetOnLongestSide() {
+        ImageResizeEngine engine = new ImageResizeEngine(executor, meterRegistry, Long.MAX_VALUE, 0);
+
+        // 2148 * (1920 / 2148.0) = 1919.999... (배율 곱셈이면 1919px)
+        BufferedImage resized = engine.resize(solidImage(2148, 1611, BufferedImage.TYPE_INT_RGB), 1920);
+
+        assertThat(resized.getWidth()).isEqualTo(1920);
+        assertThat(resized.getHeight()).isEqualTo(1440);
+    }
+
+    @Test
+    @DisplayName("타일 병렬 축소는 모든 띠를 채운다")
+    void resize_Tiled_ShouldFillEveryBand() {
+        ImageResizeEngine engine = new ImageResizeEngine(executor, meterRegistry, 1, 4);
+
+        BufferedImage resized = engine.resize(solidImage(3000, 2000, BufferedImage.TYPE_INT_RGB), 1000);
+
+        assertThat(resized.getWidth()).isEqualTo(1000);
+        assertThat(resized.getHeight()).isEqualTo(666);
+        for (int y = 0; y < resized.getHeight(); y += 37) {
+            assertThat(resized.getRGB(500, y) & 0xFFFFFF).isEqualTo(Color.ORANGE.getRGB() & 0xFFFFFF);
+        }
+    }
+
+    @Test
+    @DisplayName("목표보다 작은 이미지는 그대로 반환한다")
+    void resize_SmallImage_ShouldReturnSource() {
+        ImageResizeEngine engine = new ImageResizeEngine(executor, meterRegistry, Long.MAX_VALUE, 0);
+        BufferedImage source = solidImage(800, 600, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(engine.resize(source, 1920)).isSameAs(source);
+    }
+
+    @Test
+    @DisplayName("원본 타입과 무관하게 표준 RGB 타입으로 축소한다")
+    void resize_ShouldUseStandardTargetType() {
+        ImageResizeEngine engine = new ImageResizeEngine(executor, meterRegistry, Long.MAX_VALUE, 0);
+        BufferedImage source = solidImage(2400, 1200, BufferedImage.TYPE_3BYTE_BGR);
+
+        BufferedImage resized = engine.resize(source, 1200);
+
+        assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(resized.getWidth()).isEqualTo(1200);
+    }
+
+    private BufferedImage solidImage(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.ORANGE);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+}
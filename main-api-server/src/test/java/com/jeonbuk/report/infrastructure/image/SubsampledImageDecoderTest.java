@@ -0,0 +1,140 @@
+package com.jeonbuk.report.infrastructure.image;
+
+import com.jeonbuk.report.infrastructure.image.SubsampledImageDecoder.DecodeMode;
+import com.jeonbuk.report.infrastructure.image.SubsampledImageDecoder.DecodedImage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SubsampledImageDecoder 단위 테스트 및 FULL 모드 대비 할당량 비교
+ */
+class SubsampledImageDecoderTest {
+
+    private static final int MAX_DIMENSION = 1920;
+
+    private static byte[] photoJpeg;
+
+    @BeforeAll
+    static void createPhoto() throws IOException {
+        // 12MP 휴대폰 사진 크기의 JPEG 생성
+        BufferedImage source = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = source.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, Color.DARK_GRAY, 4000, 3000, Color.ORANGE));
+        g2d.fillRect(0, 0, 4000, 3000);
+        g2d.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(source, "jpg", out);
+        photoJpeg = out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("헤더 크기를 유지하면서 서브샘플링된 이미지를 반환한다")
+    void decode_ShouldSubsampleFromHeaderDimensions() throws IOException {
+        SubsampledImageDecoder decoder = new SubsampledImageDecoder(DecodeMode.SUBSAMPLED, 0);
+
+        DecodedImage decoded = decoder.decode(photoJpeg, MAX_DIMENSION);
+
+        assertThat(decoded.sourceWidth()).isEqualTo(4000);
+        assertThat(decoded.sourceHeight()).isEqualTo(3000);
+        assertThat(decoded.subsampling()).isEqualTo(2);
+        assertThat(decoded.image().getWidth()).isEqualTo(2000);
+        assertThat(decoded.image().getHeight()).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("영역 단위 디코딩은 단일 패스와 같은 크기의 이미지를 만든다")
+    void decode_ByRegion_ShouldMatchSinglePassDimensions() throws IOException {
+        SubsampledImageDecoder decoder = new SubsampledImageDecoder(DecodeMode.SUBSAMPLED, 512);
+
+        DecodedImage decoded = decoder.decode(photoJpeg, MAX_DIMENSION);
+
+        assertThat(decoded.image().getWidth()).isEqualTo(2000);
+        assertThat(decoded.image().getHeight()).isEqualTo(1500);
+        // 마지막 스트립까지 채워졌는지 확인 (그라데이션의 밝은 끝)
+        assertThat(decoded.image().getRGB(1999, 1499) & 0xFFFFFF).isNotZero();
+    }
+
+    @Test
+    @DisplayName("서브샘플링 배율은 결과의 긴 변이 목표 이상인 가장 큰 값이다")
+    void calculateSubsampling_ShouldKeepLongestSideAtOrAboveTarget() {
+        assertThat(SubsampledImageDecoder.calculateSubsampling(4000, 3000, 1920)).isEqualTo(2);
+        // ceil(3839 / 2) = 1920: 내림 배율(1)이면 원본 해상도로 디코딩
+        assertThat(SubsampledImageDecoder.calculateSubsampling(3839, 2000, 1920)).isEqualTo(2);
+        // ceil(5761 / 3) = 1921, ceil(5761 / 4) = 1441
+        assertThat(SubsampledImageDecoder.calculateSubsampling(3000, 5761, 1920)).isEqualTo(3);
+        assertThat(SubsampledImageDecoder.calculateSubsampling(1920, 1080, 1920)).isEqualTo(1);
+        assertThat(SubsampledImageDecoder.calculateSubsampling(1921, 1080, 1920)).isEqualTo(1);
+
+        for (int longest = 1921; longest < 20_000; longest += 7) {
+            int factor = SubsampledImageDecoder.calculateSubsampling(longest, 100, 1920);
+            assertThat((longest + factor - 1) / factor).isGreaterThanOrEqualTo(1920);
+            assertThat((longest + factor) / (factor + 1)).isLessThan(1920);
+        }
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 서브샘플링하지 않는다")
+    void decode_SmallImage_ShouldNotSubsample() throws IOException {
+        BufferedImage small = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(small, "png", out);
+
+        DecodedImage decoded = new SubsampledImageDecoder(DecodeMode.SUBSAMPLED, 0)
+                .decode(out.toByteArray(), MAX_DIMENSION);
+
+        assertThat(decoded.isSubsampled()).isFalse();
+        assertThat(decoded.image().getWidth()).isEqualTo(800);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 데이터는 null을 반환한다")
+    void decode_InvalidData_ShouldReturnNull() throws IOException {
+        DecodedImage decoded = new SubsampledImageDecoder(DecodeMode.SUBSAMPLED, 0)
+                .decode("not an image".getBytes(), MAX_DIMENSION);
+
+        assertThat(decoded).isNull();
+    }
+
+    @Test
+    @DisplayName("서브샘플링 디코딩은 FULL 모드보다 훨씬 적게 할당한다")
+    void decode_Subsampled_ShouldAllocateFarLessThanFull() throws IOException {
+        SubsampledImageDecoder full = new SubsampledImageDecoder(DecodeMode.FULL, 0);
+        SubsampledImageDecoder subsampled = new SubsampledImageDecoder(DecodeMode.SUBSAMPLED, 0);
+
+        // 워밍업
+        full.decode(photoJpeg, MAX_DIMENSION);
+        subsampled.decode(photoJpeg, MAX_DIMENSION);
+
+        long fullBytes = allocatedBytes(full);
+        long subsampledBytes = allocatedBytes(subsampled);
+
+        // 원본 4000x3000 TYPE_3BYTE_BGR 래스터(약 36MB)보다 적게, FULL 모드의 1/3 미만으로 할당
+        assertThat(fullBytes).isGreaterThan(4000L * 3000 * 3);
+        assertThat(subsampledBytes)
+                .as("FULL %d bytes, SUBSAMPLED %d bytes", fullBytes, subsampledBytes)
+                .isLessThan(fullBytes / 3);
+    }
+
+    private long allocatedBytes(SubsampledImageDecoder decoder) throws IOException {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        decoder.decode(photoJpeg, MAX_DIMENSION);
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
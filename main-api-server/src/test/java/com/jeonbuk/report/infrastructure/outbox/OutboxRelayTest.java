@@ -0,0 +1,219 @@
+package com.jeonbuk.report.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.domain.entity.OutboxEvent;
+import com.jeonbuk.report.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 아웃박스 저장 / 릴레이 발행 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionalOutbox transactionalOutbox;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactionalOutbox = new TransactionalOutbox(outboxEventRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("저장된 이벤트를 원본 JSON 그대로 발행하고 발행 완료로 표시하며, 같은 키는 한 배치에 하나씩 저장 순서대로 발행한다")
+    void relayBatch_ShouldPublishInOrderAndMarkPublished() {
+        transactionalOutbox.append("report-events", "r-1", Map.of("eventType", "report.created"));
+        transactionalOutbox.append("report-events", "r-1", Map.of("eventType", "report.updated"));
+        transactionalOutbox.append("alert-events", "a-1", "{\"raw\":true}");
+        TestProducer producer = new TestProducer(record -> null);
+
+        int processed = relay(producer, 2).relayBatch();
+        int rest = relay(producer, 2).relayBatch();
+        entityManager.clear();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(rest).isEqualTo(1);
+        assertThat(producer.history())
+                .extracting(ProducerRecord::value)
+                .containsExactly("{\"eventType\":\"report.created\"}", "{\"raw\":true}",
+                        "{\"eventType\":\"report.updated\"}");
+        assertThat(producer.history().get(0).key()).isEqualTo("r-1");
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("브로커 전송에 실패한 이벤트는 발행 대기로 남고 시도 횟수와 오류를 기록한 뒤 백오프 동안 다시 시도하지 않는다")
+    void relayBatch_SendFails_ShouldKeepPendingAndBackOff() {
+        OutboxEvent event = transactionalOutbox.append("alert-events", "a-1", Map.of("eventType", "ALERT_PROCESSED"));
+        TestProducer producer = new TestProducer(record -> new IllegalStateException("broker unavailable"));
+
+        OutboxRelay relay = relay(producer, 10);
+        relay.relayBatch();
+        int retried = relay.relayBatch();
+        entityManager.flush();
+        entityManager.clear();
+
+        OutboxEvent reloaded = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(retried).isZero();
+        assertThat(producer.history()).hasSize(1);
+        assertThat(reloaded.getPublishedAt()).isNull();
+        assertThat(reloaded.getDeadAt()).isNull();
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+        assertThat(reloaded.getLastError()).contains("broker unavailable");
+        assertThat(reloaded.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get("outbox.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수와 상관없이 백오프가 지나면 다시 발행한다")
+    void relayBatch_AfterBackoff_ShouldRetryTransientFailures() {
+        OutboxEvent event = transactionalOutbox.append("alert-events", "a-1", Map.of("eventType", "ALERT_PROCESSED"));
+        event.setAttempts(50);
+        event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        entityManager.flush();
+        TestProducer producer = new TestProducer(record -> null);
+
+        int published = relay(producer, 10).relayBatch();
+
+        assertThat(published).isEqualTo(1);
+        assertThat(producer.history()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류는 격리하고, 재발행 요청 후 다시 발행한다")
+    void relayBatch_NonRetryableError_ShouldDeadLetterUntilRedriven() {
+        OutboxEvent event = transactionalOutbox.append("alert-events", "a-1", Map.of("eventType", "ALERT_PROCESSED"));
+        OutboxRelay relay = relay(new TestProducer(record -> new RecordTooLargeException("too large")), 10);
+
+        relay.relayBatch();
+        entityManager.clear();
+
+        assertThat(outboxEventRepository.findById(event.getId()).orElseThrow().getDeadAt()).isNotNull();
+        assertThat(meterRegistry.get("outbox.dead").gauge().value()).isEqualTo(1.0);
+
+        TestProducer producer = new TestProducer(record -> null);
+        assertThat(relay(producer, 10).redriveDead(List.of())).isEqualTo(1);
+        int published = relay(producer, 10).relayBatch();
+        entityManager.clear();
+
+        assertThat(published).isEqualTo(1);
+        OutboxEvent reloaded = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(reloaded.getDeadAt()).isNull();
+        assertThat(reloaded.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트가 재시도를 기다리는 동안 같은 키의 이후 이벤트는 발행하지 않는다")
+    void relayBatch_EarlierEventPending_ShouldHoldBackSameKey() {
+        transactionalOutbox.append("report-events", "r-1", Map.of("eventType", "report.created"));
+        transactionalOutbox.append("report-events", "r-1", Map.of("eventType", "report.updated"));
+        transactionalOutbox.append("report-events", "r-2", Map.of("eventType", "report.created"));
+        TestProducer producer = new TestProducer(record -> "r-1".equals(record.key())
+                ? new IllegalStateException("broker unavailable") : null);
+
+        OutboxRelay relay = relay(producer, 10);
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(producer.history())
+                .extracting(ProducerRecord::key, ProducerRecord::value)
+                .containsExactly(
+                        tuple("r-1", "{\"eventType\":\"report.created\"}"),
+                        tuple("r-2", "{\"eventType\":\"report.created\"}"));
+    }
+
+    @Test
+    @DisplayName("발행 대기 이벤트가 있으면 지연 시간 메트릭이 0보다 크다")
+    void poll_PendingEventsRemain_ShouldReportLag() throws InterruptedException {
+        transactionalOutbox.append("alert-events", "a-1", Map.of("eventType", "ALERT_PROCESSED"));
+        Thread.sleep(20);
+        TestProducer producer = new TestProducer(record -> new IllegalStateException("broker unavailable"));
+
+        relay(producer, 10).poll();
+
+        assertThat(meterRegistry.get("outbox.lag.seconds").gauge().value()).isGreaterThan(0.0);
+    }
+
+    private OutboxRelay relay(TestProducer producer, int batchSize) {
+        ProducerFactory<String, String> producerFactory = new MockProducerFactory<>(() -> producer) {
+            @Override
+            public ProducerFactory<String, String> copyWithConfigurationOverride(Map<String, Object> overrides) {
+                return this;
+            }
+        };
+        return new OutboxRelay(outboxEventRepository, transactionManager, producerFactory, meterRegistry,
+                batchSize, 20, Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofHours(24), 20, 131072, "lz4");
+    }
+
+    /**
+     * 템플릿이 전송 후 close() 해도 재사용되고, 레코드별로 전송 결과(성공 또는 실패 오류)를 바로 정하는 프로듀서
+     */
+    private static class TestProducer extends MockProducer<String, String> {
+
+        private final Function<ProducerRecord<String, String>, RuntimeException> failure;
+
+        TestProducer(Function<ProducerRecord<String, String>, RuntimeException> failure) {
+            super(false, new StringSerializer(), new StringSerializer());
+            this.failure = failure;
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record, Callback callback) {
+            Future<RecordMetadata> future = super.send(record, callback);
+            RuntimeException error = failure.apply(record);
+            if (error != null) {
+                errorNext(error);
+            } else {
+                completeNext();
+            }
+            return future;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.jeonbuk.report.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서킷 브레이커 / 재시도 예산 단위 테스트
+ */
+class ResiliencePolicyTest {
+
+    @Test
+    @DisplayName("실패율이 임계값을 넘으면 OPEN 되어 호출을 거부한다")
+    void execute_FailureRateAboveThreshold_ShouldOpenAndReject() {
+        ResiliencePolicy policy = new ResiliencePolicy("test", properties(Duration.ofMinutes(1), 0.0, 0));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> policy.execute(failing(), 1, Duration.ZERO, e -> true))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(policy.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> policy.execute(() -> "ok", 1, Duration.ZERO, e -> true))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(policy.getCircuitBreaker().snapshot().rejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적 오류가 아닌 예외는 실패로 집계하지 않는다")
+    void execute_NonTransientFailure_ShouldNotOpen() {
+        ResiliencePolicy policy = new ResiliencePolicy("test", properties(Duration.ofMinutes(1), 0.0, 0));
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> policy.execute(failing(), 1, Duration.ZERO, e -> false))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(policy.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태에서는 설정된 수의 시험 호출만 허용하고 모두 성공하면 CLOSED")
+    void tryAcquirePermission_HalfOpen_ShouldBoundProbes() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", properties(Duration.ofMillis(20), 0.0, 0));
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onError(0L);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(40);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess(0L);
+        breaker.onSuccess(0L);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void onError_HalfOpenProbeFails_ShouldReopen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", properties(Duration.ofMillis(20), 0.0, 0));
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(0L);
+        }
+        Thread.sleep(40);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onError(0L);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서 무시된 결과는 시험 슬롯만 돌려주고 성공/실패로 기록하지 않는다")
+    void onIgnored_HalfOpen_ShouldReleaseProbeWithoutRecordingOutcome() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", properties(Duration.ofMillis(20), 0.0, 0));
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(0L);
+        }
+        Thread.sleep(40);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        long windowCalls = breaker.snapshot().windowCalls();
+
+        breaker.onIgnored();
+        breaker.onIgnored();
+
+        // 성공으로 세지 않으므로 CLOSED로 전환되지 않고, 반환된 슬롯으로 다시 시험
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.snapshot().windowCalls()).isEqualTo(windowCalls);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess(0L);
+        breaker.onSuccess(0L);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 넘으면 재시도 없이 실패한다")
+    void execute_RetryBudgetExhausted_ShouldStopRetrying() {
+        // 요청 대비 재시도 0%, 윈도우당 최소 재시도 2회
+        ResiliencePolicy policy = new ResiliencePolicy("test", properties(Duration.ofMinutes(1), 0.0, 2, 100));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> policy.execute(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("upstream slow");
+            }, 3, Duration.ZERO, e -> true)).isInstanceOf(IllegalStateException.class);
+        }
+
+        // 최초 3회 + 허용된 재시도 2회
+        assertThat(calls.get()).isEqualTo(5);
+        assertThat(policy.getRetryBudget().snapshot().windowRetries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 후 성공하면 결과를 반환한다")
+    void execute_TransientThenSuccess_ShouldReturnResult() {
+        ResiliencePolicy policy = new ResiliencePolicy("test", properties(Duration.ofMinutes(1), 0.2, 10));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = policy.execute(() -> {
+            if (calls.incrementAndGet() < 2) {
+                throw new IllegalStateException("temporary");
+            }
+            return "ok";
+        }, 3, Duration.ZERO, e -> true);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private static java.util.function.Supplier<String> failing() {
+        return () -> {
+            throw new IllegalStateException("upstream error");
+        };
+    }
+
+    private static ResilienceProperties properties(Duration openDuration, double retryRatio, int minRetries) {
+        return properties(openDuration, retryRatio, minRetries, 4);
+    }
+
+    private static ResilienceProperties properties(Duration openDuration, double retryRatio, int minRetries,
+                                                   int minimumCalls) {
+        return new ResilienceProperties(50.0, minimumCalls, Duration.ofSeconds(10), Duration.ofSeconds(30), 10,
+                openDuration, 2, retryRatio, minRetries);
+    }
+}
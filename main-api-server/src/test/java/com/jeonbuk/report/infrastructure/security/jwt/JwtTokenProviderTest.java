@@ -0,0 +1,195 @@
+package com.jeonbuk.report.infrastructure.security.jwt;
+
+import com.jeonbuk.report.application.service.event.UserAccessChangedEvent;
+import com.jeonbuk.report.domain.entity.User;
+import com.jeonbuk.report.domain.repository.UserRepository;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import com.jeonbuk.report.infrastructure.security.AuthenticatedUser;
+import com.jeonbuk.report.infrastructure.security.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 클레임 기반 인증 (DB 조회 없는 경로, 권한 변경 시 사용자 정보 재조회) 테스트
+ */
+class JwtTokenProviderTest {
+
+    private UserRepository userRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private CustomUserDetailsService userDetailsService;
+    private JwtTokenProvider tokenProvider;
+    private User user;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        userDetailsService = newUserDetailsService();
+        userDetailsService.reloadAccessChanges();
+        tokenProvider = new JwtTokenProvider(userDetailsService);
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", "test-secret-key-for-jwt-token-provider-0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInSeconds", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshTokenValidityInSeconds", 3_600_000L);
+        tokenProvider.init();
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("jwt@example.com")
+                .name("JWT User")
+                .role(User.UserRole.MANAGER)
+                .isActive(true)
+                .build();
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 클레임만으로 사용자 ID와 역할을 담은 인증 정보를 만든다")
+    void getAuthentication_ShouldUseClaimsWithoutUserLookup() {
+        Claims claims = tokenProvider.parseClaims(tokenProvider.createToken(user));
+
+        assertThat(claims).isNotNull();
+        assertThat(tokenProvider.isAccessToken(claims)).isTrue();
+
+        Authentication authentication = tokenProvider.getAuthentication(claims);
+        assertThat(authentication.getPrincipal()).isInstanceOf(AuthenticatedUser.class);
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(user.getId());
+        assertThat(principal.getUsername()).isEqualTo(user.getEmail());
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_MANAGER");
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("위조되었거나 액세스 토큰이 아니면 인증하지 않는다")
+    void parseClaims_ShouldRejectTamperedAndNonAccessTokens() {
+        String token = tokenProvider.createToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(tokenProvider.parseClaims(tampered)).isNull();
+        assertThat(tokenProvider.parseClaims("not-a-jwt")).isNull();
+        assertThat(tokenProvider.isAccessToken(tokenProvider.parseClaims(tokenProvider.createRefreshToken(user.getEmail()))))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("jti가 없는 이전 토큰은 배포 전 블랙리스트 키와 같도록 토큰 문자열을 ID로 쓴다")
+    void getTokenId_ShouldUseRawTokenForLegacyTokens() {
+        String legacy = tokenProvider.createTempToken(user.getEmail());
+        Claims legacyClaims = tokenProvider.parseClaims(legacy);
+        String token = tokenProvider.createToken(user);
+        Claims claims = tokenProvider.parseClaims(token);
+
+        assertThat(legacyClaims.getId()).isNull();
+        assertThat(tokenProvider.getTokenId(legacyClaims, legacy)).isEqualTo(legacy);
+        assertThat(tokenProvider.getTokenId(claims, token)).isEqualTo(claims.getId()).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("권한 변경 전에 발급된 토큰은 사용자 정보를 다시 읽고, 비활성 사용자는 거부한다")
+    void getAuthentication_ShouldReloadUserAfterAccessChange() {
+        Claims claims = tokenProvider.parseClaims(tokenProvider.createToken(user));
+
+        user.setRole(User.UserRole.USER);
+        userDetailsService.onUserAccessChanged(new UserAccessChangedEvent(user.getEmail(), Instant.now()));
+
+        Authentication authentication = tokenProvider.getAuthentication(claims);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        // 재조회 결과는 캐시
+        tokenProvider.getAuthentication(claims);
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+
+        user.setIsActive(false);
+        userDetailsService.onUserAccessChanged(new UserAccessChangedEvent(user.getEmail(), Instant.now()));
+        assertThat(tokenProvider.getAuthentication(claims)).isNull();
+        verify(redisTemplate, times(2)).convertAndSend(eq("user-access-changes"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 권한 변경은 pub/sub 메시지로 반영한다")
+    void onMessage_ShouldApplyAccessChangeFromOtherInstance() {
+        Claims claims = tokenProvider.parseClaims(tokenProvider.createToken(user));
+        user.setIsActive(false);
+
+        String body = System.currentTimeMillis() + ":" + user.getEmail();
+        userDetailsService.onMessage(new DefaultMessage(
+                "user-access-changes".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenProvider.getAuthentication(claims)).isNull();
+    }
+
+    @Test
+    @DisplayName("재시작한 인스턴스는 DB에 저장된 권한 변경 시각으로 이전 토큰을 거부하고, 읽기 전에는 클레임을 믿지 않는다")
+    void reloadAccessChanges_ShouldRestoreChangesAfterRestart() {
+        Claims claims = tokenProvider.parseClaims(tokenProvider.createToken(user));
+        user.setIsActive(false);
+        when(userRepository.findAccessChangesSince(any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{user.getEmail(), LocalDateTime.now()}));
+
+        CustomUserDetailsService restarted = newUserDetailsService();
+        ReflectionTestUtils.setField(tokenProvider, "userDetailsService", restarted);
+        assertThat(restarted.isStale(user.getEmail(), claims.getIssuedAt())).isTrue();
+        assertThat(restarted.isStale("other@example.com", claims.getIssuedAt())).isTrue();
+
+        restarted.reloadAccessChanges();
+
+        assertThat(restarted.isStale("other@example.com", claims.getIssuedAt())).isFalse();
+        assertThat(tokenProvider.getAuthentication(claims)).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 캐시가 가득 차면 전체를 비우지 않고 가장 오래 전에 읽은 항목만 제거한다")
+    void loadUserByUsername_FullCache_ShouldEvictOldestEntriesOnly() throws InterruptedException {
+        CustomUserDetailsService service = newUserDetailsService(10);
+        for (int i = 0; i <= 10; i++) {
+            String email = "user" + i + "@example.com";
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(User.builder()
+                    .email(email).name("User " + i).role(User.UserRole.USER).isActive(true).build()));
+            service.loadUserByUsername(email);
+            Thread.sleep(2);
+        }
+
+        for (int i = 1; i <= 10; i++) {
+            service.loadUserByUsername("user" + i + "@example.com");
+            verify(userRepository, times(1)).findByEmail("user" + i + "@example.com");
+        }
+        service.loadUserByUsername("user0@example.com");
+        verify(userRepository, times(2)).findByEmail("user0@example.com");
+    }
+
+    private CustomUserDetailsService newUserDetailsService() {
+        return newUserDetailsService(100);
+    }
+
+    private CustomUserDetailsService newUserDetailsService(int maxEntries) {
+        return new CustomUserDetailsService(userRepository, redisTemplate, mock(RedisSubscriptions.class),
+                Duration.ofMinutes(1), maxEntries, 3_600_000L);
+    }
+}
@@ -0,0 +1,149 @@
+package com.jeonbuk.report.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonbuk.report.infrastructure.cache.RedisSubscriptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 노드 간 전달 (접속 현황 기반 사용자 전달, 토픽 전달, Redis 장애 시 로컬 전달) 테스트
+ */
+class ClusterMessageRelayTest {
+
+    private static final Map<String, Object> ALERT = Map.of("type", "ALERT", "title", "포트홀 신고 처리 완료");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node("node-a");
+        nodeB = new Node("node-b");
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게는 해당 노드 채널로만 발행하고, 받은 노드가 자기 세션에 전달한다")
+    void sendToUser_ShouldRelayToNodeHoldingUser() {
+        nodeB.sessionManager.addSession("kim", "session-1");
+        verify(nodeB.hashOperations).put("ws:presence:kim", "node-b", "1");
+        when(nodeA.hashOperations.keys("ws:presence:kim")).thenReturn(Set.of("node-b", "node-dead"));
+        when(nodeA.redisTemplate.hasKey("ws:node:node-b")).thenReturn(true);
+        when(nodeA.redisTemplate.hasKey("ws:node:node-dead")).thenReturn(false);
+
+        boolean sent = nodeA.relay.sendToUser("kim", "/queue/alerts", ALERT);
+
+        assertThat(sent).isTrue();
+        verify(nodeA.messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        // 생존 신호가 없는 노드의 접속 현황은 정리
+        verify(nodeA.hashOperations).delete("ws:presence:kim", "node-dead");
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(nodeA.redisTemplate).convertAndSend(eq("ws:relay:node-b"), envelope.capture());
+        assertThat(nodeA.messageCount("published", "user")).isEqualTo(1.0);
+
+        nodeB.relay.onMessage(message("ws:relay:node-b", envelope.getValue()), null);
+
+        verify(nodeB.messagingTemplate).convertAndSendToUser("kim", "/queue/alerts", ALERT);
+        assertThat(nodeB.messageCount("received", "user")).isEqualTo(1.0);
+        assertThat(nodeB.messageCount("delivered", "user")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토픽 메시지는 자기 노드에 바로 보내고 전체 채널로 발행하며, 자기가 발행한 메시지는 다시 전달하지 않는다")
+    void sendToTopic_ShouldDeliverLocallyAndBroadcastOnce() {
+        nodeA.relay.sendToTopic("/topic/system-alerts", ALERT);
+
+        verify(nodeA.messagingTemplate).convertAndSend("/topic/system-alerts", ALERT);
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(nodeA.redisTemplate).convertAndSend(eq("ws:relay:all"), envelope.capture());
+
+        nodeA.relay.onMessage(message("ws:relay:all", envelope.getValue()), null);
+        nodeB.relay.onMessage(message("ws:relay:all", envelope.getValue()), null);
+
+        assertThat(nodeA.messageCount("delivered", "topic")).isEqualTo(1.0);
+        assertThat(nodeA.messageCount("received", "topic")).isZero();
+        verify(nodeB.messagingTemplate).convertAndSend("/topic/system-alerts", ALERT);
+        assertThat(nodeB.messageCount("delivered", "topic")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에는 자기 노드 세션에만 전달하고, 복구 후 생존 신호 때 접속 현황을 다시 기록한다")
+    void sendToUser_ShouldFallBackToLocalDeliveryWhenRedisIsDown() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(nodeA.hashOperations).put(anyString(), any(), any());
+        when(nodeA.hashOperations.keys(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        nodeA.sessionManager.addSession("lee", "session-1");
+
+        assertThat(nodeA.relay.sendToUser("lee", "/queue/alerts", ALERT)).isTrue();
+        assertThat(nodeA.relay.sendToUser("park", "/queue/alerts", ALERT)).isFalse();
+        verify(nodeA.messagingTemplate).convertAndSendToUser("lee", "/queue/alerts", ALERT);
+        verify(nodeA.redisTemplate, never()).convertAndSend(anyString(), any());
+
+        HashOperations<String, Object, Object> recovered = mockHashOperations();
+        when(nodeA.redisTemplate.opsForHash()).thenReturn(recovered);
+        nodeA.sessionManager.heartbeat();
+
+        verify(recovered).put("ws:presence:lee", "node-a", "1");
+    }
+
+    private static DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HashOperations<String, Object, Object> mockHashOperations() {
+        return mock(HashOperations.class);
+    }
+
+    private class Node {
+
+        private final RedisTemplate<String, String> redisTemplate;
+        private final HashOperations<String, Object, Object> hashOperations = mockHashOperations();
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final WebSocketSessionManager sessionManager;
+        private final ClusterMessageRelay relay;
+
+        @SuppressWarnings("unchecked")
+        private Node(String nodeId) {
+            redisTemplate = mock(RedisTemplate.class);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            sessionManager = new WebSocketSessionManager(redisTemplate, true, nodeId, Duration.ofSeconds(30));
+            relay = new ClusterMessageRelay(messagingTemplate, sessionManager, redisTemplate,
+                    mock(RedisSubscriptions.class), objectMapper, meterRegistry);
+        }
+
+        private double messageCount(String direction, String kind) {
+            return meterRegistry.get("websocket.cluster.messages")
+                    .tag("node", sessionManager.getNodeId())
+                    .tag("direction", direction)
+                    .tag("kind", kind)
+                    .counter()
+                    .count();
+        }
+    }
+}